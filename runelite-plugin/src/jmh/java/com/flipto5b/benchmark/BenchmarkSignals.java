@@ -0,0 +1,44 @@
+package com.flipto5b.benchmark;
+
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.engine.SignalEngine;
+import com.flipto5b.engine.SignalEngine.SignalConfig;
+import com.flipto5b.engine.SignalEngine.WeightProfile;
+import com.flipto5b.model.MarketSignal;
+import okhttp3.OkHttpClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds MarketSignals from a fixture for benchmarks that consume signals.
+ */
+final class BenchmarkSignals {
+
+    private BenchmarkSignals() {
+    }
+
+    /**
+     * Score every valid fixture item, without the scan's score/elasticity filters.
+     */
+    static List<MarketSignal> fromFixture(MarketFixture fixture, int timeHorizonMinutes) {
+        SignalEngine engine = new SignalEngine(new OkHttpClient(), null, null);
+        SignalConfig config = SignalConfig.builder()
+                .timeHorizonMinutes(timeHorizonMinutes)
+                .riskTolerance(SignalConfig.RiskTolerance.MEDIUM)
+                .build();
+        WeightProfile weights = engine.calculateWeights(timeHorizonMinutes);
+
+        List<MarketSignal> signals = new ArrayList<>();
+        for (Map.Entry<Integer, WikiPrice> entry : fixture.getLatest().entrySet()) {
+            WikiPrice price = entry.getValue();
+            if (price.high <= price.low) {
+                continue;
+            }
+            signals.add(engine.calculateSignal(entry.getKey(), price,
+                    fixture.getVolumes().get(entry.getKey()), weights, config));
+        }
+        return signals;
+    }
+}
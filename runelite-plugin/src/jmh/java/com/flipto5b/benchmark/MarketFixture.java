@@ -0,0 +1,107 @@
+package com.flipto5b.benchmark;
+
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.engine.SignalEngine.VolumeData;
+import com.google.gson.JsonObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic market shaped like the wiki /latest and /24h feeds.
+ *
+ * <p>
+ * Prices are log-uniform from 10gp to 2b with a 0.5-6% spread, volumes are
+ * heavy-tailed, and ~10% of items have crossed or missing prices - the same
+ * mix the engine sees on a real snapshot. A fixed seed keeps runs comparable.
+ */
+public final class MarketFixture {
+
+    /** Roughly the number of tradeable items in /latest */
+    public static final int DEFAULT_ITEM_COUNT = 4_000;
+
+    private final Map<Integer, WikiPrice> latest = new LinkedHashMap<>();
+    private final Map<Integer, VolumeData> volumes = new LinkedHashMap<>();
+    private final String latestJson;
+    private final String volumeJson;
+
+    public MarketFixture(int itemCount, long seed) {
+        Random random = new Random(seed);
+        int now = (int) (System.currentTimeMillis() / 1000);
+
+        JsonObject latestData = new JsonObject();
+        JsonObject volumeData = new JsonObject();
+
+        for (int i = 0; i < itemCount; i++) {
+            // Sparse ids, like the real item table
+            int itemId = 2 + i * 7;
+
+            WikiPrice price = new WikiPrice();
+            int low = (int) Math.min(Integer.MAX_VALUE - 1, Math.pow(10, 1 + random.nextDouble() * 8.3));
+            double spread = 0.005 + random.nextDouble() * 0.055;
+            int high = (int) Math.min(Integer.MAX_VALUE, low * (1 + spread) + 1);
+            if (random.nextInt(10) == 0) {
+                // Bad data: crossed prices or a missing side
+                high = random.nextBoolean() ? low - 1 : 0;
+            }
+            price.low = low;
+            price.high = high;
+            price.lowTime = now - random.nextInt(3_600);
+            price.highTime = now - random.nextInt(3_600);
+            latest.put(itemId, price);
+
+            VolumeData vol = new VolumeData();
+            vol.highVolume = (int) Math.exp(random.nextDouble() * 12);
+            vol.lowVolume = (int) Math.exp(random.nextDouble() * 12);
+            vol.totalVolume = vol.highVolume + vol.lowVolume;
+            vol.avgVolume = vol.totalVolume;
+            volumes.put(itemId, vol);
+
+            JsonObject latestItem = new JsonObject();
+            latestItem.addProperty("high", price.high);
+            latestItem.addProperty("highTime", price.highTime);
+            latestItem.addProperty("low", price.low);
+            latestItem.addProperty("lowTime", price.lowTime);
+            latestData.add(String.valueOf(itemId), latestItem);
+
+            JsonObject volumeItem = new JsonObject();
+            volumeItem.addProperty("avgHighPrice", price.high);
+            volumeItem.addProperty("highPriceVolume", vol.highVolume);
+            volumeItem.addProperty("avgLowPrice", price.low);
+            volumeItem.addProperty("lowPriceVolume", vol.lowVolume);
+            volumeData.add(String.valueOf(itemId), volumeItem);
+        }
+
+        latestJson = wrap(latestData);
+        volumeJson = wrap(volumeData);
+    }
+
+    public MarketFixture() {
+        this(DEFAULT_ITEM_COUNT, 42L);
+    }
+
+    private static String wrap(JsonObject data) {
+        JsonObject root = new JsonObject();
+        root.add("data", data);
+        return root.toString();
+    }
+
+    public Map<Integer, WikiPrice> getLatest() {
+        return latest;
+    }
+
+    public Map<Integer, VolumeData> getVolumes() {
+        return volumes;
+    }
+
+    /** Body of /latest */
+    public String getLatestJson() {
+        return latestJson;
+    }
+
+    /** Body of /24h */
+    public String getVolumeJson() {
+        return volumeJson;
+    }
+}
@@ -0,0 +1,67 @@
+package com.flipto5b.benchmark;
+
+import com.flipto5b.engine.OpportunityManager;
+import com.flipto5b.engine.OpportunityManager.ActiveOffer;
+import com.flipto5b.engine.OpportunityManager.EvaluationResult;
+import com.flipto5b.model.MarketSignal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpportunityManager.evaluateBest with all 8 GE slots filled against N signals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpportunityManagerBenchmark {
+
+    private static final int GE_SLOTS = 8;
+
+    @Param({"10", "100", "1000"})
+    public int signalCount;
+
+    private final OpportunityManager opportunityManager = new OpportunityManager();
+    private List<ActiveOffer> offers;
+    private List<MarketSignal> signals;
+
+    @Setup
+    public void setup() {
+        List<MarketSignal> all = BenchmarkSignals.fromFixture(new MarketFixture(), 60);
+        all.sort((a, b) -> Double.compare(b.getOpportunityScore(), a.getOpportunityScore()));
+        signals = new ArrayList<>(all.subList(0, Math.min(signalCount, all.size())));
+
+        // Offers on mid-ranked items, old enough to pass the minimum hold time
+        offers = new ArrayList<>();
+        Instant createdAt = Instant.now().minusSeconds(45 * 60);
+        for (int slot = 0; slot < GE_SLOTS; slot++) {
+            MarketSignal held = all.get(all.size() / 2 + slot);
+            offers.add(ActiveOffer.builder()
+                    .itemId(held.getItemId())
+                    .itemName(held.getItemName())
+                    .buyPrice(held.getWikiLow())
+                    .sellPrice(held.getWikiHigh())
+                    .quantity(100)
+                    .quantityFilled(slot * 10)
+                    .isBuyOffer(slot % 2 == 0)
+                    .createdAt(createdAt)
+                    .slot(slot)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public EvaluationResult evaluateBest() {
+        return opportunityManager.evaluateBest(offers, signals);
+    }
+}
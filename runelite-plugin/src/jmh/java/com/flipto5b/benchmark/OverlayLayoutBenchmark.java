@@ -0,0 +1,99 @@
+package com.flipto5b.benchmark;
+
+import com.flipto5b.FlipTo5BConfig;
+import com.flipto5b.FlipTo5BPlugin;
+import com.flipto5b.GrandExchangeOverlay;
+import net.runelite.api.Client;
+import net.runelite.api.GrandExchangeOffer;
+import net.runelite.api.GrandExchangeOfferState;
+import net.runelite.client.game.ItemManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * One frame of the Exchange Viewer overlay with all 8 slots in use, drawn into
+ * an offscreen image. The client, config and item lookups are mocks so only
+ * the overlay's own layout and drawing is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OverlayLayoutBenchmark {
+
+    @Param({"FULL", "COMPACT"})
+    public FlipTo5BConfig.ExchangeViewerSize size;
+
+    private GrandExchangeOverlay overlay;
+    private BufferedImage canvas;
+    private Graphics2D graphics;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        GrandExchangeOffer[] offers = new GrandExchangeOffer[8];
+        for (int slot = 0; slot < offers.length; slot++) {
+            GrandExchangeOffer offer = mock(GrandExchangeOffer.class);
+            when(offer.getState()).thenReturn(slot % 2 == 0
+                    ? GrandExchangeOfferState.BUYING : GrandExchangeOfferState.SELLING);
+            when(offer.getItemId()).thenReturn(4151 + slot);
+            when(offer.getPrice()).thenReturn(1_500_000 + slot * 1_000);
+            when(offer.getTotalQuantity()).thenReturn(100);
+            when(offer.getQuantitySold()).thenReturn(slot * 12);
+            offers[slot] = offer;
+        }
+
+        Client client = mock(Client.class);
+        when(client.getGrandExchangeOffers()).thenReturn(offers);
+
+        FlipTo5BConfig config = mock(FlipTo5BConfig.class);
+        when(config.showGEOverlay()).thenReturn(true);
+        when(config.exchangeViewerSize()).thenReturn(size);
+        when(config.showGEItemNames()).thenReturn(true);
+        when(config.highlightSlotBorders()).thenReturn(true);
+        when(config.showOfferTimers()).thenReturn(true);
+        when(config.showCompetitivenessIndicators()).thenReturn(true);
+        when(config.showGEItemIcons()).thenReturn(false);
+
+        ItemManager itemManager = mock(ItemManager.class);
+
+        FlipTo5BPlugin plugin = mock(FlipTo5BPlugin.class);
+        when(plugin.getItemName(anyInt())).thenReturn("Abyssal whip");
+        when(plugin.getCompetitiveness(anyInt()))
+                .thenReturn(FlipTo5BPlugin.OfferCompetitiveness.COMPETITIVE);
+
+        Constructor<GrandExchangeOverlay> constructor = GrandExchangeOverlay.class.getDeclaredConstructor(
+                Client.class, FlipTo5BConfig.class, ItemManager.class, FlipTo5BPlugin.class);
+        constructor.setAccessible(true);
+        overlay = constructor.newInstance(client, config, itemManager, plugin);
+
+        canvas = new BufferedImage(400, 600, BufferedImage.TYPE_INT_ARGB);
+        graphics = canvas.createGraphics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public Dimension render() {
+        return overlay.render(graphics);
+    }
+}
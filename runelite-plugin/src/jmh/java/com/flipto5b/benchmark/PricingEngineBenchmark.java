@@ -0,0 +1,43 @@
+package com.flipto5b.benchmark;
+
+import com.flipto5b.engine.PricingEngine;
+import com.flipto5b.model.MarketSignal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PricingEngine.calculate for every signal a scan of the fixture produces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PricingEngineBenchmark {
+
+    private static final long USER_CASH = 50_000_000L;
+
+    private final PricingEngine pricingEngine = new PricingEngine();
+    private List<MarketSignal> signals;
+
+    @Setup
+    public void setup() {
+        signals = BenchmarkSignals.fromFixture(new MarketFixture(), 60);
+    }
+
+    @Benchmark
+    public void calculate(Blackhole blackhole) {
+        for (MarketSignal signal : signals) {
+            int support = (int) (signal.getWikiLow() * 0.97);
+            int resist = (int) (signal.getWikiHigh() * 1.03);
+            blackhole.consume(pricingEngine.calculate(signal, USER_CASH, 1, support, resist));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.flipto5b.benchmark;
+
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.engine.SignalEngine;
+import com.flipto5b.engine.SignalEngine.SignalConfig;
+import com.flipto5b.engine.SignalEngine.VolumeData;
+import com.flipto5b.engine.SignalEngine.WeightProfile;
+import com.flipto5b.model.MarketSignal;
+import com.google.gson.Gson;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SignalEngine over a 4k-item market.
+ *
+ * <p>
+ * {@code scan} includes HTTP body handling and JSON parsing (served from memory
+ * by an interceptor, no network); {@code calculateSignal} isolates the
+ * per-item scoring loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SignalEngineBenchmark {
+
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private MarketFixture fixture;
+    private SignalEngine engine;
+    private SignalConfig config;
+    private WeightProfile weights;
+
+    @Setup
+    public void setup() {
+        fixture = new MarketFixture();
+
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    String path = chain.request().url().encodedPath();
+                    String body = path.endsWith("/24h") ? fixture.getVolumeJson() : fixture.getLatestJson();
+                    return new Response.Builder()
+                            .request(chain.request())
+                            .protocol(Protocol.HTTP_1_1)
+                            .code(200)
+                            .message("OK")
+                            .body(ResponseBody.create(JSON, body))
+                            .build();
+                })
+                .build();
+
+        // No ItemManager: names fall back to "Item #id" and are cached after the first pass
+        engine = new SignalEngine(httpClient, new Gson(), null);
+        config = SignalConfig.builder()
+                .timeHorizonMinutes(60)
+                .riskTolerance(SignalConfig.RiskTolerance.MEDIUM)
+                .build();
+        weights = engine.calculateWeights(config.getTimeHorizonMinutes());
+    }
+
+    @Benchmark
+    public List<MarketSignal> scan() {
+        return engine.scan(config);
+    }
+
+    @Benchmark
+    public void calculateSignal(Blackhole blackhole) {
+        Map<Integer, VolumeData> volumes = fixture.getVolumes();
+        for (Map.Entry<Integer, WikiPrice> entry : fixture.getLatest().entrySet()) {
+            WikiPrice price = entry.getValue();
+            if (price.high <= price.low) {
+                continue;
+            }
+            blackhole.consume(engine.calculateSignal(
+                    entry.getKey(), price, volumes.get(entry.getKey()), weights, config));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.flipto5b.benchmark;
+
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a 4k-item /latest body the way FlipTo5BPlugin.fetchPrices does
+ * (string -> JsonObject tree -> typed map), against binding the typed map
+ * straight from the text.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WikiParseBenchmark {
+
+    private static final Type PRICE_MAP_TYPE = new TypeToken<Map<Integer, WikiPrice>>() {
+    }.getType();
+
+    private static final class LatestResponse {
+        Map<Integer, WikiPrice> data;
+    }
+
+    private final Gson gson = new Gson();
+    private String body;
+
+    @Setup
+    public void setup() {
+        body = new MarketFixture().getLatestJson();
+    }
+
+    @Benchmark
+    public Map<Integer, WikiPrice> viaJsonTree() {
+        JsonObject json = gson.fromJson(body, JsonObject.class);
+        return gson.fromJson(json.getAsJsonObject("data"), PRICE_MAP_TYPE);
+    }
+
+    @Benchmark
+    public Map<Integer, WikiPrice> direct() {
+        return gson.fromJson(body, LatestResponse.class).data;
+    }
+}
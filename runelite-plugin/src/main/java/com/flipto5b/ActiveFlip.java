@@ -1,7 +1,9 @@
 package com.flipto5b;
 
 import com.google.gson.annotations.SerializedName;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 
 /**
  * Represents an active flip (item bought but not yet sold)
@@ -44,5 +46,40 @@ public class ActiveFlip
 
 	@SerializedName("phase")
 	private String phase;  // "buy" or "sell"
+
+	// Buy times decoded once when set (0 if missing or unparseable)
+	@Setter(AccessLevel.NONE)
+	private transient long firstBuyTimeMillis;
+
+	@Setter(AccessLevel.NONE)
+	private transient long lastBuyTimeMillis;
+
+	public void setFirstBuyTime(String firstBuyTime)
+	{
+		this.firstBuyTime = firstBuyTime;
+		this.firstBuyTimeMillis = TimeUtils.parseIsoMillis(firstBuyTime);
+	}
+
+	public void setLastBuyTime(String lastBuyTime)
+	{
+		this.lastBuyTime = lastBuyTime;
+		this.lastBuyTimeMillis = TimeUtils.parseIsoMillis(lastBuyTime);
+	}
+
+	/**
+	 * Time of the most recent buy, falling back to the first buy (0 if unknown)
+	 */
+	public long getLastActivityMillis()
+	{
+		return lastBuyTimeMillis != 0 ? lastBuyTimeMillis : firstBuyTimeMillis;
+	}
+
+	/**
+	 * How long the items have been held since the last buy (-1 if unknown)
+	 */
+	public long getHoldMillis(long now)
+	{
+		return lastBuyTimeMillis != 0 ? now - lastBuyTimeMillis : -1;
+	}
 }
 
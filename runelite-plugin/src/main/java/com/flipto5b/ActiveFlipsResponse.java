@@ -19,5 +19,18 @@ public class ActiveFlipsResponse
 
 	@SerializedName("total_invested")
 	private int totalInvested;
+
+	/**
+	 * Sync cursor to send as {@code since} next time. Only present when the
+	 * API answered a {@code since} request with a delta.
+	 */
+	@SerializedName("cursor")
+	private String cursor;
+
+	/**
+	 * Items whose active flip closed since the cursor (deltas only)
+	 */
+	@SerializedName("removed_item_ids")
+	private List<Integer> removedItemIds;
 }
 
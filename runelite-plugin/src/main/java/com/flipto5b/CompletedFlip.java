@@ -1,7 +1,9 @@
 package com.flipto5b;
 
 import com.google.gson.annotations.SerializedName;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Setter;
 
 /**
  * Represents a completed flip (matched buy/sell pair)
@@ -56,5 +58,44 @@ public class CompletedFlip
 
 	@SerializedName("is_successful")
 	private boolean isSuccessful;
+
+	// Derived once when the source field is set, for the list renderer
+	@Setter(AccessLevel.NONE)
+	private transient long buyTimeMillis;
+
+	@Setter(AccessLevel.NONE)
+	private transient long sellTimeMillis;
+
+	@Setter(AccessLevel.NONE)
+	private transient String formattedNetProfit = "0";
+
+	@Setter(AccessLevel.NONE)
+	private transient String formattedDuration = "0m";
+
+	public void setBuyTime(String buyTime)
+	{
+		this.buyTime = buyTime;
+		this.buyTimeMillis = TimeUtils.parseIsoMillis(buyTime);
+	}
+
+	public void setSellTime(String sellTime)
+	{
+		this.sellTime = sellTime;
+		this.sellTimeMillis = TimeUtils.parseIsoMillis(sellTime);
+	}
+
+	public void setNetProfit(int netProfit)
+	{
+		this.netProfit = netProfit;
+		this.formattedNetProfit = GpUtils.formatGP(netProfit);
+	}
+
+	public void setFlipDurationSeconds(int flipDurationSeconds)
+	{
+		this.flipDurationSeconds = flipDurationSeconds;
+		int hours = flipDurationSeconds / 3600;
+		int minutes = (flipDurationSeconds % 3600) / 60;
+		this.formattedDuration = hours > 0 ? String.format("%dh %dm", hours, minutes) : String.format("%dm", minutes);
+	}
 }
 
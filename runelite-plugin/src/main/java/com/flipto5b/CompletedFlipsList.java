@@ -0,0 +1,198 @@
+package com.flipto5b;
+
+import net.runelite.client.game.ItemManager;
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.util.AsyncBufferedImage;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Virtualised list of completed flips.
+ *
+ * Uses a JList with a fixed row height and a single reusable cell renderer, so
+ * only the rows inside the viewport are ever painted and no per-row component
+ * tree exists. Memory and layout cost stay constant no matter how much flip
+ * history has been paged in.
+ */
+class CompletedFlipsList extends JList<CompletedFlip> {
+	// Card height (108) plus the 5px gap the old BoxLayout list used between cards
+	static final int ROW_HEIGHT = 113;
+
+	// Text colours and fonts come from FlipFinderPanel; these backgrounds are only used here
+	private static final Color COLOR_PROFIT_BG = new Color(40, 60, 40);
+	private static final Color COLOR_LOSS_BG = new Color(60, 40, 40);
+
+	private final FlipListModel model = new FlipListModel();
+
+	CompletedFlipsList(ItemManager itemManager) {
+		setModel(model);
+		setCellRenderer(new CompletedFlipRenderer(itemManager));
+		setFixedCellHeight(ROW_HEIGHT);
+		setBackground(ColorScheme.DARK_GRAY_COLOR);
+		setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		setFocusable(false);
+		setAlignmentX(Component.LEFT_ALIGNMENT);
+		setMaximumSize(new Dimension(Integer.MAX_VALUE, Integer.MAX_VALUE));
+		// Duration and GE tax are shown as a tooltip instead of expanding the row
+		ToolTipManager.sharedInstance().registerComponent(this);
+	}
+
+	/**
+	 * Replace the list content in one model update.
+	 */
+	void setFlips(List<CompletedFlip> flips) {
+		model.setAll(flips);
+	}
+
+	List<CompletedFlip> getFlips() {
+		return Collections.unmodifiableList(model.rows);
+	}
+
+	/**
+	 * Simple list model that swaps its backing list in one go, so a refresh
+	 * fires two interval events instead of one per row.
+	 */
+	private static final class FlipListModel extends AbstractListModel<CompletedFlip> {
+		private List<CompletedFlip> rows = new ArrayList<>();
+
+		void setAll(List<CompletedFlip> flips) {
+			int oldSize = rows.size();
+			rows = new ArrayList<>(flips);
+			if (oldSize > 0) {
+				fireIntervalRemoved(this, 0, oldSize - 1);
+			}
+			if (!rows.isEmpty()) {
+				fireIntervalAdded(this, 0, rows.size() - 1);
+			}
+		}
+
+		@Override
+		public int getSize() {
+			return rows.size();
+		}
+
+		@Override
+		public CompletedFlip getElementAt(int index) {
+			return rows.get(index);
+		}
+	}
+
+	/**
+	 * Renders every row with the same component tree, only swapping label text,
+	 * colours and the item icon.
+	 */
+	private static final class CompletedFlipRenderer implements ListCellRenderer<CompletedFlip> {
+		private final ItemManager itemManager;
+		// One icon per item, reused on every paint; each repaints the list once its image loads
+		private final Map<Integer, Icon> icons = new HashMap<>();
+
+		private final JPanel row = new JPanel(new BorderLayout());
+		private final JPanel card = new JPanel(new BorderLayout());
+		private final JPanel topPanel = new JPanel(new BorderLayout(5, 0));
+		private final JPanel detailsPanel = new JPanel(new GridLayout(3, 2, 15, 2));
+		private final JLabel iconLabel = new JLabel();
+		private final JLabel nameLabel = new JLabel();
+		private final JLabel qtyLabel = createLabel(FlipFinderPanel.COLOR_TEXT_GRAY, FlipFinderPanel.FONT_PLAIN_12);
+		private final JLabel buyPriceLabel = createLabel(FlipFinderPanel.COLOR_BUY_RED, FlipFinderPanel.FONT_PLAIN_12);
+		private final JLabel investedLabel = createLabel(FlipFinderPanel.COLOR_TEXT_GRAY, FlipFinderPanel.FONT_PLAIN_12);
+		private final JLabel sellPriceLabel = createLabel(FlipFinderPanel.COLOR_SELL_GREEN, FlipFinderPanel.FONT_PLAIN_12);
+		private final JLabel profitLabel = createLabel(FlipFinderPanel.COLOR_PROFIT_GREEN, FlipFinderPanel.FONT_BOLD_12);
+		private final JLabel roiLabel = createLabel(FlipFinderPanel.COLOR_PROFIT_GREEN, FlipFinderPanel.FONT_BOLD_12);
+
+		private CompletedFlipRenderer(ItemManager itemManager) {
+			this.itemManager = itemManager;
+
+			nameLabel.setForeground(Color.WHITE);
+			nameLabel.setFont(FlipFinderPanel.FONT_BOLD_13);
+			iconLabel.setPreferredSize(new Dimension(32, 32));
+
+			topPanel.add(iconLabel, BorderLayout.WEST);
+			topPanel.add(nameLabel, BorderLayout.CENTER);
+
+			detailsPanel.setBorder(new EmptyBorder(3, 0, 0, 0));
+			detailsPanel.add(qtyLabel);
+			detailsPanel.add(buyPriceLabel);
+			detailsPanel.add(investedLabel);
+			detailsPanel.add(sellPriceLabel);
+			detailsPanel.add(profitLabel);
+			detailsPanel.add(roiLabel);
+
+			card.setBorder(new EmptyBorder(8, 8, 8, 8));
+			card.add(topPanel, BorderLayout.NORTH);
+			card.add(detailsPanel, BorderLayout.CENTER);
+
+			row.setBackground(ColorScheme.DARK_GRAY_COLOR);
+			row.setBorder(new EmptyBorder(0, 0, ROW_HEIGHT - 108, 0));
+			row.add(card, BorderLayout.CENTER);
+		}
+
+		private static JLabel createLabel(Color color, Font font) {
+			JLabel label = new JLabel();
+			label.setForeground(color);
+			label.setFont(font);
+			return label;
+		}
+
+		@Override
+		public Component getListCellRendererComponent(JList<? extends CompletedFlip> list, CompletedFlip flip,
+				int index, boolean isSelected, boolean cellHasFocus) {
+			Color bg = flip.isSuccessful() ? COLOR_PROFIT_BG : COLOR_LOSS_BG;
+			if (isSelected) {
+				bg = bg.brighter();
+			}
+			card.setBackground(bg);
+			topPanel.setBackground(bg);
+			detailsPanel.setBackground(bg);
+
+			iconLabel.setIcon(getIcon(list, flip.getItemId()));
+			nameLabel.setText(flip.getItemName());
+
+			qtyLabel.setText(String.format("Qty: %d", flip.getQuantity()));
+			buyPriceLabel.setText(String.format("Buy: %,d", flip.getBuyPricePerItem()));
+			investedLabel.setText(String.format("Cost: %s", formatGP(flip.getBuyTotal())));
+			sellPriceLabel.setText(String.format("Sell: %,d", flip.getSellPricePerItem()));
+
+			Color profitColor = flip.isSuccessful() ? FlipFinderPanel.COLOR_PROFIT_GREEN : FlipFinderPanel.COLOR_LOSS_RED;
+			profitLabel.setText("Profit: " + flip.getFormattedNetProfit());
+			profitLabel.setForeground(profitColor);
+			roiLabel.setText(String.format("ROI: %.1f%%", flip.getRoiPercent()));
+			roiLabel.setForeground(profitColor);
+
+			row.setToolTipText(String.format("Duration: %s | GE Tax: %s", flip.getFormattedDuration(),
+					formatGP(flip.getGeTax())));
+
+			return row;
+		}
+
+		/**
+		 * The icon wraps ItemManager's image, which fills in place once it has
+		 * loaded, so it is created once per item and the list repaints when the
+		 * image arrives.
+		 */
+		private Icon getIcon(JList<?> list, int itemId) {
+			Icon icon = icons.get(itemId);
+			if (icon != null) {
+				return icon;
+			}
+			AsyncBufferedImage image = itemManager.getImage(itemId);
+			if (image == null) {
+				return null;
+			}
+			icon = new ImageIcon(image);
+			icons.put(itemId, icon);
+			image.onLoaded(list::repaint);
+			return icon;
+		}
+
+		private static String formatGP(int amount) {
+			return GpUtils.formatGP(amount);
+		}
+	}
+}
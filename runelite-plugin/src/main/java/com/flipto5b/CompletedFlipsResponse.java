@@ -16,5 +16,12 @@ public class CompletedFlipsResponse
 
 	@SerializedName("count")
 	private int count;
+
+	/**
+	 * Sync cursor to send as {@code since} next time. Only present when the
+	 * API answered a {@code since} request with a delta of newer flips.
+	 */
+	@SerializedName("cursor")
+	private String cursor;
 }
 
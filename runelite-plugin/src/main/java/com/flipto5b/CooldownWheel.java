@@ -0,0 +1,125 @@
+package com.flipto5b;
+
+import java.util.Arrays;
+
+/**
+ * Per-item alert cooldowns backed by a hashed timing wheel.
+ *
+ * - Deadlines live in a primitive {@link IntLongHashMap} (itemId -> expiry
+ *   millis), so a cooldown check is one probe with no boxing
+ * - Each armed item is also dropped into the wheel slot of its expiry tick;
+ *   expiry only sweeps the slots the clock has moved past since the last call
+ *   instead of scanning every tracked item
+ *
+ * Lookups compare against the exact deadline, so the wheel's tick size only
+ * decides how soon expired entries are purged, never whether an alert fires.
+ * All methods are synchronized; callers arrive from OkHttp and client threads.
+ */
+class CooldownWheel {
+	private static final long TICK_MS = 10_000;
+	private static final int WHEEL_SLOTS = 512;
+	private static final int INITIAL_CAPACITY = 256;
+	private static final long NO_DEADLINE = -1;
+
+	private final IntLongHashMap deadlines = new IntLongHashMap(INITIAL_CAPACITY);
+
+	// Wheel slots hold the item ids whose deadline falls in that tick (mod WHEEL_SLOTS)
+	private final int[][] slotItems = new int[WHEEL_SLOTS][];
+	private final int[] slotSizes = new int[WHEEL_SLOTS];
+	private long lastSweptTick = -1;
+
+	/**
+	 * Start a cooldown for the item unless one is already running.
+	 *
+	 * @return true if the item was not on cooldown (and now is)
+	 */
+	synchronized boolean tryAcquire(int itemId, long now, long cooldownMs) {
+		advance(now);
+		if (remainingMs(itemId, now) > 0) {
+			return false;
+		}
+		if (cooldownMs > 0) {
+			long deadline = now + cooldownMs;
+			deadlines.put(itemId, deadline);
+			addToSlot(slotOf(deadline), itemId);
+		}
+		return true;
+	}
+
+	/**
+	 * Milliseconds left on an item's cooldown, or 0 if it can alert.
+	 */
+	synchronized long getRemainingMs(int itemId, long now) {
+		return remainingMs(itemId, now);
+	}
+
+	synchronized int size() {
+		return deadlines.size();
+	}
+
+	synchronized void clear() {
+		deadlines.clear();
+		Arrays.fill(slotSizes, 0);
+		lastSweptTick = -1;
+	}
+
+	private long remainingMs(int itemId, long now) {
+		long deadline = deadlines.get(itemId, NO_DEADLINE);
+		return deadline == NO_DEADLINE ? 0 : Math.max(0, deadline - now);
+	}
+
+	// --- Wheel ---
+
+	private static int slotOf(long deadline) {
+		return (int) ((deadline / TICK_MS) % WHEEL_SLOTS);
+	}
+
+	private void addToSlot(int slot, int itemId) {
+		int[] items = slotItems[slot];
+		if (items == null) {
+			items = slotItems[slot] = new int[8];
+		} else if (slotSizes[slot] == items.length) {
+			items = slotItems[slot] = Arrays.copyOf(items, items.length * 2);
+		}
+		items[slotSizes[slot]++] = itemId;
+	}
+
+	/**
+	 * Sweep every fully elapsed tick since the last call. Deadlines in those
+	 * ticks are all in the past, so entries found there either expire or belong
+	 * to a later revolution of the wheel.
+	 */
+	private void advance(long now) {
+		long completedTick = now / TICK_MS - 1;
+		if (lastSweptTick < 0) {
+			lastSweptTick = completedTick;
+			return;
+		}
+
+		// After a gap longer than one revolution, one pass over each slot is enough
+		long from = Math.max(lastSweptTick + 1, completedTick - WHEEL_SLOTS + 1);
+		for (long tick = from; tick <= completedTick; tick++) {
+			sweepSlot((int) (tick % WHEEL_SLOTS), now);
+		}
+		lastSweptTick = Math.max(lastSweptTick, completedTick);
+	}
+
+	private void sweepSlot(int slot, long now) {
+		int[] items = slotItems[slot];
+		int kept = 0;
+		for (int i = 0; i < slotSizes[slot]; i++) {
+			int itemId = items[i];
+			long deadline = deadlines.get(itemId, NO_DEADLINE);
+			if (deadline == NO_DEADLINE) {
+				continue;
+			}
+			if (deadline <= now) {
+				deadlines.remove(itemId);
+			} else if (slotOf(deadline) == slot) {
+				// Future revolution; re-armed items live in their new slot instead
+				items[kept++] = itemId;
+			}
+		}
+		slotSizes[slot] = kept;
+	}
+}
@@ -8,18 +8,21 @@ import net.runelite.client.chat.ChatColorType;
 import net.runelite.client.chat.ChatMessageBuilder;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
+import okhttp3.Call;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Service for polling market dumps and posting chat alerts
+ * Service for receiving market dumps and posting chat alerts.
+ *
+ * Dumps arrive over a live stream when available; interval polling runs as a
+ * fallback whenever the stream is down. Both feed the same filtering pipeline.
  */
 @Slf4j
 @Singleton
@@ -30,12 +33,30 @@ public class DumpAlertService
 	private final FlipSmartApiClient apiClient;
 	private final ChatMessageManager chatMessageManager;
 
-	// Track when we last alerted for each item (itemId -> timestamp)
-	private final Map<Integer, Long> itemAlertCooldowns = new HashMap<>();
+	// Per-item alert cooldowns; O(1) checks and expiry, safe across threads
+	private final CooldownWheel itemAlertCooldowns = new CooldownWheel();
+
+	// Alerts posted in the current window (one poll interval), across polling,
+	// the stream and the local detector; guarded by 'this'
+	private long alertWindowStart;
+	private int alertsInWindow;
 
 	private ScheduledExecutorService executor;
 	private ScheduledFuture<?> pollingTask;
 
+	// Live stream state
+	private static final long STREAM_MIN_RECONNECT_MS = 2_000;
+	private static final long STREAM_MAX_RECONNECT_MS = 300_000;
+	private volatile Call streamCall;
+	private volatile boolean streamConnected;
+	private volatile boolean streamEnabled;
+	private volatile String lastStreamEventId;
+	private volatile long streamRetryHintMs = 0;
+	private int streamFailures = 0;
+	private ScheduledFuture<?> reconnectTask;
+	// Bumped on every disconnect so callbacks from a cancelled stream are ignored; guarded by 'this'
+	private int streamGeneration = 0;
+
 	@Inject
 	public DumpAlertService(
 		Client client,
@@ -64,7 +85,7 @@ public class DumpAlertService
 		// Stop any existing task
 		stop();
 
-		int intervalSeconds = Math.max(30, Math.min(300, config.dumpAlertInterval()));
+		int intervalSeconds = getPollIntervalSeconds();
 
 		log.info("Starting dump alert service with {}s interval", intervalSeconds);
 
@@ -84,6 +105,12 @@ public class DumpAlertService
 				log.error("Error checking for dumps", e);
 			}
 		}, 5, intervalSeconds, TimeUnit.SECONDS);
+
+		streamEnabled = config.dumpAlertLiveStream();
+		if (streamEnabled)
+		{
+			connectStream();
+		}
 	}
 
 	/**
@@ -91,6 +118,9 @@ public class DumpAlertService
 	 */
 	public void stop()
 	{
+		streamEnabled = false;
+		disconnectStream();
+
 		if (pollingTask != null)
 		{
 			log.info("Stopping dump alert service");
@@ -113,28 +143,166 @@ public class DumpAlertService
 		start();
 	}
 
+	private int getPollIntervalSeconds()
+	{
+		return Math.max(30, Math.min(300, config.dumpAlertInterval()));
+	}
+
+	/**
+	 * Open the live stream, resuming after the last event we saw
+	 */
+	private void connectStream()
+	{
+		final int generation;
+		synchronized (this)
+		{
+			if (!streamEnabled)
+			{
+				return;
+			}
+			generation = streamGeneration;
+		}
+
+		String sortBy = config.dumpAlertSortByProfit() ? "profit" : "recency";
+		apiClient.openDumpStreamAsync(sortBy, config.dumpAlertMinProfit(), lastStreamEventId,
+			new FlipSmartApiClient.DumpStreamListener()
+			{
+				@Override
+				public void onOpen()
+				{
+					synchronized (DumpAlertService.this)
+					{
+						if (generation != streamGeneration)
+						{
+							return;
+						}
+						streamFailures = 0;
+						streamConnected = true;
+					}
+					log.info("Dump alert stream connected");
+				}
+
+				@Override
+				public void onDump(String eventId, DumpEvent dump)
+				{
+					if (!isCurrentStream(generation))
+					{
+						return;
+					}
+					if (eventId != null)
+					{
+						lastStreamEventId = eventId;
+					}
+					processDumps(new DumpEvent[]{dump});
+				}
+
+				@Override
+				public void onRetryHint(long retryMs)
+				{
+					if (isCurrentStream(generation))
+					{
+						streamRetryHintMs = retryMs;
+					}
+				}
+
+				@Override
+				public void onClosed(String error)
+				{
+					synchronized (DumpAlertService.this)
+					{
+						if (generation != streamGeneration)
+						{
+							// A stream we already cancelled; its replacement reconnects itself
+							return;
+						}
+						streamConnected = false;
+						if (error != null)
+						{
+							log.debug("Dump alert stream closed: {}", error);
+						}
+						scheduleReconnect();
+					}
+				}
+			}).thenAccept(call ->
+		{
+			if (call == null)
+			{
+				return;
+			}
+			synchronized (this)
+			{
+				if (streamEnabled && generation == streamGeneration)
+				{
+					streamCall = call;
+					return;
+				}
+			}
+			// Stopped or restarted while the connection was being opened
+			call.cancel();
+		});
+	}
+
+	private synchronized boolean isCurrentStream(int generation)
+	{
+		return generation == streamGeneration;
+	}
+
+	/**
+	 * Reconnect with exponential backoff; polling covers alerts meanwhile
+	 */
+	private synchronized void scheduleReconnect()
+	{
+		if (!streamEnabled || executor == null || executor.isShutdown())
+		{
+			return;
+		}
+
+		long delayMs = Math.min(STREAM_MAX_RECONNECT_MS, STREAM_MIN_RECONNECT_MS << Math.min(streamFailures, 8));
+		delayMs = Math.max(delayMs, streamRetryHintMs);
+		streamFailures++;
+
+		log.debug("Reconnecting dump alert stream in {}ms (attempt {})", delayMs, streamFailures);
+		reconnectTask = executor.schedule(this::connectStream, delayMs, TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized void disconnectStream()
+	{
+		streamGeneration++;
+		streamFailures = 0;
+		streamRetryHintMs = 0;
+		if (reconnectTask != null)
+		{
+			reconnectTask.cancel(false);
+			reconnectTask = null;
+		}
+		Call call = streamCall;
+		streamCall = null;
+		if (call != null)
+		{
+			call.cancel();
+		}
+		streamConnected = false;
+	}
+
 	/**
-	 * Check for new dumps and post alerts
+	 * Poll for new dumps; skipped while the live stream is delivering them
 	 */
-	private void checkForDumps()
+	void checkForDumps()
 	{
 		if (!config.enableDumpAlerts() || client.getGameState() != GameState.LOGGED_IN)
 		{
 			return;
 		}
 
-		int minProfit = config.dumpAlertMinProfit();
-		int maxCount = Math.max(1, Math.min(50, config.dumpAlertMaxCount()));
-		int cooldownMinutes = Math.max(0, Math.min(1440, config.dumpAlertCooldownMinutes()));
-		long cooldownMs = cooldownMinutes * 60 * 1000L;
-		long currentTime = System.currentTimeMillis();
+		if (streamConnected)
+		{
+			log.debug("Dump alert stream connected, skipping poll");
+			return;
+		}
 
-		log.debug("Checking for dumps (minProfit: {}, maxCount: {}, cooldown: {}m)",
-			minProfit, maxCount, cooldownMinutes);
+		int minProfit = config.dumpAlertMinProfit();
 
-		// Cleanup expired cooldowns first
-		itemAlertCooldowns.entrySet().removeIf(entry ->
-			currentTime - entry.getValue() > cooldownMs);
+		log.debug("Checking for dumps (minProfit: {})", minProfit);
 
 		// Sort by profit or recency based on config
 		String sortBy = config.dumpAlertSortByProfit() ? "profit" : "recency";
@@ -152,73 +320,97 @@ public class DumpAlertService
 				}
 
 				log.debug("Received {} dumps from API", dumps.length);
+				processDumps(dumps);
+			},
+			error -> log.warn("Failed to fetch dumps: {}", error)
+		);
+	}
 
-				FlipTo5BConfig.PriceAlertType alertType = config.priceAlertType();
+	/**
+	 * Feed dumps found by the in-process detector through the same
+	 * type/cooldown filtering as API dumps.
+	 */
+	public void publishLocalDumps(List<DumpEvent> dumps)
+	{
+		if (dumps.isEmpty() || !config.dumpAlertLocalDetection())
+		{
+			return;
+		}
 
-				int alertCount = 0;
-				for (DumpEvent dump : dumps)
-				{
-					// Stop once we've alerted on the max count
-					if (alertCount >= maxCount)
-					{
-						break;
-					}
+		log.debug("Received {} dumps from local detector", dumps.size());
+		processDumps(dumps.toArray(new DumpEvent[0]));
+	}
 
-					// Filter by price change type based on config
-					String changeType = dump.getPriceChangeType();
-					boolean isDump = "dump".equalsIgnoreCase(changeType);
-					boolean isPump = "pump".equalsIgnoreCase(changeType);
+	/**
+	 * Filter dumps by alert type and cooldown, then post alerts.
+	 * Shared by polling and the live stream, which call it from OkHttp threads.
+	 * The max alert count applies per poll interval rather than per call, since
+	 * the stream delivers dumps one at a time.
+	 */
+	private synchronized void processDumps(DumpEvent[] dumps)
+	{
+		if (!config.enableDumpAlerts() || client.getGameState() != GameState.LOGGED_IN)
+		{
+			return;
+		}
 
-					// Skip if it doesn't match the configured alert type
-					if (alertType == FlipTo5BConfig.PriceAlertType.DUMPS_ONLY && !isDump)
-					{
-						log.debug("Skipping {} - is a pump but alerts set to dumps only", dump.getItemName());
-						continue;
-					}
-					if (alertType == FlipTo5BConfig.PriceAlertType.PUMPS_ONLY && !isPump)
-					{
-						log.debug("Skipping {} - is a dump but alerts set to pumps only", dump.getItemName());
-						continue;
-					}
+		int maxCount = Math.max(1, Math.min(50, config.dumpAlertMaxCount()));
+		int cooldownMinutes = Math.max(0, Math.min(1440, config.dumpAlertCooldownMinutes()));
+		long cooldownMs = cooldownMinutes * 60 * 1000L;
+		long currentTime = System.currentTimeMillis();
 
-					int itemId = dump.getItemId();
+		if (currentTime - alertWindowStart >= getPollIntervalSeconds() * 1000L)
+		{
+			alertWindowStart = currentTime;
+			alertsInWindow = 0;
+		}
 
-					// Check if item is on cooldown
-					if (itemAlertCooldowns.containsKey(itemId))
-					{
-						long lastAlertTime = itemAlertCooldowns.get(itemId);
-						long timeSinceAlert = currentTime - lastAlertTime;
+		FlipTo5BConfig.PriceAlertType alertType = config.priceAlertType();
 
-						if (timeSinceAlert < cooldownMs)
-						{
-							long minutesRemaining = (cooldownMs - timeSinceAlert) / 60000;
-							log.debug("Skipping {} - on cooldown for {} more minutes",
-								dump.getItemName(), minutesRemaining);
-							continue;
-						}
-					}
+		int alertCount = 0;
+		for (DumpEvent dump : dumps)
+		{
+			// Stop once we've alerted on the max count for this window
+			if (alertsInWindow >= maxCount)
+			{
+				log.debug("Alert limit of {} reached for this interval", maxCount);
+				break;
+			}
 
-					// Mark item as alerted with current timestamp
-					itemAlertCooldowns.put(itemId, currentTime);
+			// Filter by price change type based on config
+			String changeType = dump.getPriceChangeType();
+			boolean isDump = "dump".equalsIgnoreCase(changeType);
+			boolean isPump = "pump".equalsIgnoreCase(changeType);
 
-					// Post to game chat
-					postDumpAlert(dump);
-					alertCount++;
-				}
+			// Skip if it doesn't match the configured alert type
+			if (alertType == FlipTo5BConfig.PriceAlertType.DUMPS_ONLY && !isDump)
+			{
+				log.debug("Skipping {} - is a pump but alerts set to dumps only", dump.getItemName());
+				continue;
+			}
+			if (alertType == FlipTo5BConfig.PriceAlertType.PUMPS_ONLY && !isPump)
+			{
+				log.debug("Skipping {} - is a dump but alerts set to pumps only", dump.getItemName());
+				continue;
+			}
 
-				log.debug("Posted {} new dump alerts", alertCount);
+			int itemId = dump.getItemId();
 
-				// Cleanup if map gets too large (shouldn't happen often with cooldown cleanup)
-				if (itemAlertCooldowns.size() > 500)
-				{
-					log.debug("Cleaning up item cooldowns (size: {})", itemAlertCooldowns.size());
-					// Remove oldest entries
-					long cutoffTime = currentTime - cooldownMs;
-					itemAlertCooldowns.entrySet().removeIf(entry -> entry.getValue() < cutoffTime);
-				}
-			},
-			error -> log.warn("Failed to fetch dumps: {}", error)
-		);
+			// Skip if the item is on cooldown, otherwise start its cooldown
+			if (!itemAlertCooldowns.tryAcquire(itemId, currentTime, cooldownMs))
+			{
+				log.debug("Skipping {} - on cooldown for {} more minutes",
+					dump.getItemName(), itemAlertCooldowns.getRemainingMs(itemId, currentTime) / 60000);
+				continue;
+			}
+
+			// Post to game chat
+			postDumpAlert(dump);
+			alertCount++;
+			alertsInWindow++;
+		}
+
+		log.debug("Posted {} new dump alerts", alertCount);
 	}
 
 	/**
@@ -9,12 +9,12 @@ import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.Keybind;
 import net.runelite.client.input.KeyListener;
 
-import javax.inject.Inject;
 import java.awt.Canvas;
 import java.awt.KeyboardFocusManager;
 import java.awt.event.KeyEvent;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 /**
  * Key listener for the Flip Assist feature.
@@ -26,6 +26,7 @@ public class FlipAssistInputListener implements KeyListener {
 	private final ClientThread clientThread;
 	private final FlipTo5BConfig config;
 	private final FlipAssistOverlay flipAssistOverlay;
+	private final Supplier<ItemSearchIndex> searchIndex;
 
 	// GE Interface group IDs
 	private static final int GE_INTERFACE_GROUP = 465;
@@ -54,13 +55,17 @@ public class FlipAssistInputListener implements KeyListener {
 			{ 217, 0 }, { 217, 4 }, { 217, 5 }, { 217, 6 }
 	};
 
-	@Inject
+	/**
+	 * Built by the plugin, not injected: the search index it is handed is
+	 * rebuilt each time the wiki item mapping loads.
+	 */
 	public FlipAssistInputListener(Client client, ClientThread clientThread, FlipTo5BConfig config,
-			FlipAssistOverlay flipAssistOverlay) {
+			FlipAssistOverlay flipAssistOverlay, Supplier<ItemSearchIndex> searchIndex) {
 		this.client = client;
 		this.clientThread = clientThread;
 		this.config = config;
 		this.flipAssistOverlay = flipAssistOverlay;
+		this.searchIndex = searchIndex;
 	}
 
 	// Track the keyPressed event we're handling to consume its corresponding
@@ -113,6 +118,13 @@ public class FlipAssistInputListener implements KeyListener {
 				// Only auto-select if the search text matches the focused item
 				// This prevents the hotkey from interfering when user is manually typing
 				if (!isSearchTextMatchingFocusedItem(focusedFlip)) {
+					// A typo of the focused item: replace it with the exact name so the
+					// game's search can find it, and let the next press select it
+					if (isSearchTextMisspellingFocusedItem(focusedFlip)) {
+						handledKeyPressedEvent.set(e);
+						e.consume();
+						setInputText(focusedFlip.getItemName());
+					}
 					return;
 				}
 
@@ -175,12 +187,19 @@ public class FlipAssistInputListener implements KeyListener {
 	 * MUST be called on client thread.
 	 */
 	private void setInputValue(int value) {
-		String valueStr = String.valueOf(value);
-		client.setVarcStrValue(VARCLIENT_INPUT_TEXT, valueStr);
+		setInputText(String.valueOf(value));
+	}
+
+	/**
+	 * Set the current input field text and refresh the display.
+	 * MUST be called on client thread.
+	 */
+	private void setInputText(String text) {
+		client.setVarcStrValue(VARCLIENT_INPUT_TEXT, text);
 
 		// Run the script to rebuild/refresh the chatbox input display
 		// This makes the value visible in the input field
-		client.runScript(ScriptID.CHAT_TEXT_INPUT_REBUILD, valueStr);
+		client.runScript(ScriptID.CHAT_TEXT_INPUT_REBUILD, text);
 	}
 
 	/**
@@ -361,6 +380,17 @@ public class FlipAssistInputListener implements KeyListener {
 		return normalizedItem.equals(normalizedSearch) || normalizedItem.startsWith(normalizedSearch);
 	}
 
+	/**
+	 * Check if the search text is a misspelling of the focused item, i.e. the
+	 * item search index ranks the focused item first for it.
+	 * MUST be called on client thread.
+	 */
+	private boolean isSearchTextMisspellingFocusedItem(FocusedFlip focusedFlip) {
+		String searchText = client.getVarcStrValue(VARCLIENT_INPUT_TEXT);
+		return searchText != null && !searchText.isEmpty() && focusedFlip.getItemName() != null
+				&& searchIndex.get().bestMatch(searchText) == focusedFlip.getItemId();
+	}
+
 	/**
 	 * Check if there are GE search results displayed.
 	 * MUST be called on client thread.
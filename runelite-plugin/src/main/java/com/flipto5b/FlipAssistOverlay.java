@@ -1,5 +1,7 @@
 package com.flipto5b;
 
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
@@ -32,6 +34,7 @@ import java.text.DecimalFormat;
  */
 @Slf4j
 public class FlipAssistOverlay extends Overlay {
+	private static final LatencyHistogram RENDER_TIME = Metrics.histogram("overlay.flipAssist.render");
 	private static final DecimalFormat PRICE_FORMAT = new DecimalFormat("#,###");
 
 	// Color theme
@@ -206,6 +209,15 @@ public class FlipAssistOverlay extends Overlay {
 
 	@Override
 	public Dimension render(Graphics2D graphics) {
+		long start = System.nanoTime();
+		try {
+			return renderOverlay(graphics);
+		} finally {
+			RENDER_TIME.recordSince(start);
+		}
+	}
+
+	private Dimension renderOverlay(Graphics2D graphics) {
 		if (!config.enableFlipAssistant()) {
 			return null;
 		}
@@ -14,9 +14,6 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executors;
@@ -55,14 +52,14 @@ public class FlipFinderPanel extends PluginPanel {
 	private static final Color COLOR_FOCUSED_BORDER = new Color(0, 200, 220);
 	private static final Color COLOR_FOCUSED_BG = new Color(0, 60, 70);
 
-	// Common UI colors
-	private static final Color COLOR_TEXT_GRAY = new Color(200, 200, 200);
+	// Common UI colors, shared with CompletedFlipsList
+	static final Color COLOR_TEXT_GRAY = new Color(200, 200, 200);
 	private static final Color COLOR_TEXT_DIM_GRAY = new Color(180, 180, 180);
 	private static final Color COLOR_YELLOW = new Color(255, 255, 100);
-	private static final Color COLOR_PROFIT_GREEN = new Color(100, 255, 100);
-	private static final Color COLOR_LOSS_RED = new Color(255, 100, 100);
-	private static final Color COLOR_BUY_RED = new Color(255, 120, 120);
-	private static final Color COLOR_SELL_GREEN = new Color(120, 255, 120);
+	static final Color COLOR_PROFIT_GREEN = new Color(100, 255, 100);
+	static final Color COLOR_LOSS_RED = new Color(255, 100, 100);
+	static final Color COLOR_BUY_RED = new Color(255, 120, 120);
+	static final Color COLOR_SELL_GREEN = new Color(120, 255, 120);
 
 	// Pastel background colors for active flips (price comparison indicator)
 	// Very light/transparent so they don't conflict with text colors
@@ -77,10 +74,10 @@ public class FlipFinderPanel extends PluginPanel {
 	private static final String SUBSCRIBE_LINK = "https://flipsmart.net/dashboard";
 	private static final String SUBSCRIBE_MESSAGE = "Subscribe to Premium for all suggestions";
 
-	// Common fonts
-	private static final Font FONT_PLAIN_12 = new Font(FONT_ARIAL, Font.PLAIN, 12);
-	private static final Font FONT_BOLD_12 = new Font(FONT_ARIAL, Font.BOLD, 12);
-	private static final Font FONT_BOLD_13 = new Font(FONT_ARIAL, Font.BOLD, 13);
+	// Common fonts, shared with CompletedFlipsList
+	static final Font FONT_PLAIN_12 = new Font(FONT_ARIAL, Font.PLAIN, 12);
+	static final Font FONT_BOLD_12 = new Font(FONT_ARIAL, Font.BOLD, 12);
+	static final Font FONT_BOLD_13 = new Font(FONT_ARIAL, Font.BOLD, 13);
 	private static final Font FONT_BOLD_16 = new Font(FONT_ARIAL, Font.BOLD, 16);
 
 	// Time-based sell price thresholds (in minutes)
@@ -96,6 +93,8 @@ public class FlipFinderPanel extends PluginPanel {
 
 	private final transient FlipTo5BConfig config;
 	private final transient FlipSmartApiClient apiClient;
+	// Ranks recommendations per style locally from one cached candidate pool
+	private final transient RecommendationRanker recommendationRanker;
 	private final transient ItemManager itemManager;
 	private final transient ConfigManager configManager;
 	private final JPanel recommendedListContainer = new JPanel();
@@ -147,11 +146,31 @@ public class FlipFinderPanel extends PluginPanel {
 	// Key: itemId, Value: calculated sell price shown in the active flip panel
 	private final java.util.Map<Integer, Integer> displayedSellPrices = new java.util.concurrent.ConcurrentHashMap<>();
 
+	// Keyed card reconciliation so refreshes reuse unchanged cards instead of
+	// rebuilding every icon/label on each poll
+	private final transient KeyedCardList<FlipRecommendation> recommendationCards = new KeyedCardList<>(
+			recommendedListContainer, FlipRecommendation::getItemId, rec -> rec,
+			this::createRecommendationPanel, this::carryOverFocus);
+	private final transient KeyedCardList<Object> activeFlipCards = new KeyedCardList<>(
+			activeFlipsListContainer, this::getActiveRowKey, this::getActiveRowVersion,
+			this::createActiveRowPanel, this::carryOverFocus);
+
+	// Completed flip history is virtualised and paged in as the user scrolls
+	private static final int COMPLETED_FLIPS_PAGE_SIZE = 50;
+	private static final int COMPLETED_FLIPS_MAX = FlipMirror.MAX_COMPLETED;
+	// Start loading the next page when within this many pixels of the bottom
+	private static final int COMPLETED_FLIPS_PREFETCH_PX = CompletedFlipsList.ROW_HEIGHT * 3;
+	private transient CompletedFlipsList completedFlipsList;
+	private boolean completedFlipsHasMore = true;
+	private boolean loadingOlderCompletedFlips = false;
+	private String completedFlipsRsn;
+
 	public FlipFinderPanel(FlipTo5BConfig config, FlipSmartApiClient apiClient, ItemManager itemManager,
 			FlipTo5BPlugin plugin, ConfigManager configManager) {
 		super(false);
 		this.config = config;
 		this.apiClient = apiClient;
+		this.recommendationRanker = new RecommendationRanker(apiClient);
 		this.itemManager = itemManager;
 		this.plugin = plugin;
 		this.configManager = configManager;
@@ -443,6 +462,10 @@ public class FlipFinderPanel extends PluginPanel {
 		completedFlipsScrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
 		// Always show scrollbar so layout always accounts for it
 		completedFlipsScrollPane.setVerticalScrollBarPolicy(ScrollPaneConstants.VERTICAL_SCROLLBAR_ALWAYS);
+		completedFlipsScrollPane.getVerticalScrollBar().setUnitIncrement(16);
+		completedFlipsScrollPane.getVerticalScrollBar()
+				.addAdjustmentListener(e -> loadOlderCompletedFlipsIfNeeded());
+		completedFlipsList = new CompletedFlipsList(itemManager);
 
 		// Create tabbed pane with custom UI for full-width tabs
 		tabbedPane.setBackground(ColorScheme.DARKER_GRAY_COLOR);
@@ -863,8 +886,9 @@ public class FlipFinderPanel extends PluginPanel {
 	 * Handle logout button click
 	 */
 	private void handleLogout() {
-		// Clear API client authentication
+		// Clear API client authentication and the previous user's mirrored flips
 		apiClient.clearAuth();
+		plugin.getFlipMirror().clear();
 
 		// Clear password field but keep email
 		passwordField.setText("");
@@ -945,14 +969,15 @@ public class FlipFinderPanel extends PluginPanel {
 		Integer cashStack = getCashStack();
 		// Use the selected flip style from dropdown
 		FlipTo5BConfig.FlipStyle selectedStyle = (FlipTo5BConfig.FlipStyle) flipStyleDropdown.getSelectedItem();
-		String flipStyle = selectedStyle != null ? selectedStyle.getApiValue()
-				: FlipTo5BConfig.FlipStyle.BALANCED.getApiValue();
+		FlipTo5BConfig.FlipStyle flipStyle = selectedStyle != null ? selectedStyle
+				: FlipTo5BConfig.FlipStyle.BALANCED;
 		int limit = Math.max(1, Math.min(50, config.flipFinderLimit()));
 		// Only generate random seed for manual refresh to get variety in suggestions
 		// Auto-refresh keeps same items so user can focus on setting up flips
 		Integer randomSeed = shuffleSuggestions ? ThreadLocalRandom.current().nextInt() : null;
 
-		apiClient.getFlipRecommendationsAsync(cashStack, flipStyle, limit, randomSeed).thenAccept(response -> {
+		// Style changes and shuffles re-rank the cached pool rather than hitting the API
+		recommendationRanker.getRecommendationsAsync(cashStack, flipStyle, limit, randomSeed).thenAccept(response -> {
 			SwingUtilities.invokeLater(() -> {
 				refreshButton.setEnabled(true);
 
@@ -1012,99 +1037,24 @@ public class FlipFinderPanel extends PluginPanel {
 
 		// Pass current RSN to filter data for the logged-in account
 		String rsn = plugin.getCurrentRsnSafe().orElse(null);
-		apiClient.getActiveFlipsAsync(rsn).thenAccept(response -> {
+		FlipMirror mirror = plugin.getFlipMirror();
+
+		// Nothing shown yet (startup): show the mirrored flips while the sync runs
+		SwingUtilities.invokeLater(() -> {
+			ActiveFlipsResponse mirrored = currentActiveFlips.isEmpty() ? mirror.getActiveFlips(rsn) : null;
+			if (mirrored != null) {
+				showActiveFlips(mirrored, scrollPos);
+			}
+		});
+
+		mirror.syncActiveFlips(rsn).thenAccept(response -> {
 			SwingUtilities.invokeLater(() -> {
 				if (response == null) {
 					showErrorInActiveFlips("Failed to fetch active flips. Check your API settings.");
 					restoreScrollPosition(activeFlipsScrollPane, scrollPos);
 					return;
 				}
-
-				currentActiveFlips.clear();
-				if (response.getActiveFlips() != null) {
-					// Show flips that are either:
-					// 1. Currently in GE slots or collected items (thread-safe check)
-					// 2. Had activity in the last 7 days (covers client restart scenarios)
-					// We use a generous 7-day threshold because:
-					// - On client restart, GE tracking takes time to populate
-					// - collectedItemIds is session-only and resets on restart
-					// - The backend handles proper stale flip cleanup via /flips/cleanup
-					// Note: Using getActiveFlipItemIds() instead of WithInventory() to avoid thread
-					// issues
-					java.util.Set<Integer> activeItemIds = plugin.getActiveFlipItemIds();
-					java.time.Instant sevenDaysAgo = java.time.Instant.now().minus(java.time.Duration.ofDays(7));
-
-					for (ActiveFlip flip : response.getActiveFlips()) {
-						boolean inGeOrCollected = activeItemIds.contains(flip.getItemId());
-						boolean isRecent = false;
-
-						// Check if flip had activity in the last 7 days
-						// Use lastBuyTime if available (more accurate), fall back to firstBuyTime
-						String timeStr = flip.getLastBuyTime();
-						if (timeStr == null || timeStr.isEmpty()) {
-							timeStr = flip.getFirstBuyTime();
-						}
-
-						if (timeStr != null && !timeStr.isEmpty()) {
-							try {
-								java.time.Instant buyTime = java.time.Instant.parse(timeStr);
-								isRecent = buyTime.isAfter(sevenDaysAgo);
-							} catch (Exception e) {
-								// Can't parse, assume recent to be safe
-								isRecent = true;
-							}
-						} else {
-							// No timestamp, assume recent
-							isRecent = true;
-						}
-
-						if (inGeOrCollected || isRecent) {
-							currentActiveFlips.add(flip);
-							log.debug("Including flip: {} (inGE={}, recent={})",
-									flip.getItemName(), inGeOrCollected, isRecent);
-						} else {
-							log.debug("Filtering stale flip: {} (not in GE and older than 7 days)", flip.getItemName());
-						}
-					}
-					log.debug("Loaded {} active flips ({} from backend, {} filtered)",
-							currentActiveFlips.size(), response.getActiveFlips().size(),
-							response.getActiveFlips().size() - currentActiveFlips.size());
-				}
-
-				// Get pending orders from plugin
-				java.util.List<FlipTo5BPlugin.PendingOrder> pendingOrders = plugin.getPendingBuyOrders();
-
-				if (currentActiveFlips.isEmpty() && pendingOrders.isEmpty()) {
-					showNoActiveFlips();
-					restoreScrollPosition(activeFlipsScrollPane, scrollPos);
-					return;
-				}
-
-				// Update status label with active flips info
-				if (!currentActiveFlips.isEmpty()) {
-					// Update with filtered count
-					int itemCount = currentActiveFlips.size();
-					int invested = currentActiveFlips.stream()
-							.mapToInt(ActiveFlip::getTotalInvested)
-							.sum();
-					if (tabbedPane.getSelectedIndex() == 1) {
-						statusLabel.setText(String.format("%d active %s | %s invested",
-								itemCount,
-								itemCount == 1 ? "flip" : "flips",
-								formatGP(invested)));
-					}
-				} else if (!pendingOrders.isEmpty()) {
-					statusLabel.setText(String.format("%d pending %s",
-							pendingOrders.size(),
-							pendingOrders.size() == 1 ? "order" : "orders"));
-				}
-
-				// Display both active flips and pending orders
-				displayActiveFlipsAndPending(currentActiveFlips, pendingOrders);
-				restoreScrollPosition(activeFlipsScrollPane, scrollPos);
-
-				// Validate focus after refresh in case focused item is no longer active
-				validateFocus();
+				showActiveFlips(response, scrollPos);
 			});
 		}).exceptionally(throwable -> {
 			SwingUtilities.invokeLater(() -> {
@@ -1115,6 +1065,81 @@ public class FlipFinderPanel extends PluginPanel {
 		});
 	}
 
+	/**
+	 * Show active flips (from the mirror or a sync) along with pending orders
+	 */
+	private void showActiveFlips(ActiveFlipsResponse response, int scrollPos) {
+		currentActiveFlips.clear();
+		if (response.getActiveFlips() != null) {
+			// Show flips that are either:
+			// 1. Currently in GE slots or collected items (thread-safe check)
+			// 2. Had activity in the last 7 days (covers client restart scenarios)
+			// We use a generous 7-day threshold because:
+			// - On client restart, GE tracking takes time to populate
+			// - collectedItemIds is session-only and resets on restart
+			// - The backend handles proper stale flip cleanup via /flips/cleanup
+			// Note: Using getActiveFlipItemIds() instead of WithInventory() to avoid thread
+			// issues
+			java.util.Set<Integer> activeItemIds = plugin.getActiveFlipItemIds();
+			long sevenDaysAgo = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(7);
+
+			for (ActiveFlip flip : response.getActiveFlips()) {
+				boolean inGeOrCollected = activeItemIds.contains(flip.getItemId());
+
+				// Check if flip had activity in the last 7 days (last buy, else first buy;
+				// decoded when the response was parsed). No usable timestamp: assume recent
+				long lastActivity = flip.getLastActivityMillis();
+				boolean isRecent = lastActivity == 0 || lastActivity > sevenDaysAgo;
+
+				if (inGeOrCollected || isRecent) {
+					currentActiveFlips.add(flip);
+					log.debug("Including flip: {} (inGE={}, recent={})",
+							flip.getItemName(), inGeOrCollected, isRecent);
+				} else {
+					log.debug("Filtering stale flip: {} (not in GE and older than 7 days)", flip.getItemName());
+				}
+			}
+			log.debug("Loaded {} active flips ({} from backend, {} filtered)",
+					currentActiveFlips.size(), response.getActiveFlips().size(),
+					response.getActiveFlips().size() - currentActiveFlips.size());
+		}
+
+		// Get pending orders from plugin
+		java.util.List<FlipTo5BPlugin.PendingOrder> pendingOrders = plugin.getPendingBuyOrders();
+
+		if (currentActiveFlips.isEmpty() && pendingOrders.isEmpty()) {
+			showNoActiveFlips();
+			restoreScrollPosition(activeFlipsScrollPane, scrollPos);
+			return;
+		}
+
+		// Update status label with active flips info
+		if (!currentActiveFlips.isEmpty()) {
+			// Update with filtered count
+			int itemCount = currentActiveFlips.size();
+			int invested = currentActiveFlips.stream()
+					.mapToInt(ActiveFlip::getTotalInvested)
+					.sum();
+			if (tabbedPane.getSelectedIndex() == 1) {
+				statusLabel.setText(String.format("%d active %s | %s invested",
+						itemCount,
+						itemCount == 1 ? "flip" : "flips",
+						formatGP(invested)));
+			}
+		} else if (!pendingOrders.isEmpty()) {
+			statusLabel.setText(String.format("%d pending %s",
+					pendingOrders.size(),
+					pendingOrders.size() == 1 ? "order" : "orders"));
+		}
+
+		// Display both active flips and pending orders
+		displayActiveFlipsAndPending(currentActiveFlips, pendingOrders);
+		restoreScrollPosition(activeFlipsScrollPane, scrollPos);
+
+		// Validate focus after refresh in case focused item is no longer active
+		validateFocus();
+	}
+
 	/**
 	 * Update pending orders display (called when GE offers change)
 	 * 
@@ -1129,7 +1154,10 @@ public class FlipFinderPanel extends PluginPanel {
 	}
 
 	/**
-	 * Refresh completed flips
+	 * Refresh completed flips.
+	 * Only flips newer than the last sync are fetched; {@link FlipMirror} keeps
+	 * them in front of the history already loaded, so a refresh costs the same
+	 * regardless of history.
 	 */
 	private void refreshCompletedFlips() {
 		// Save scroll position before refresh
@@ -1137,46 +1165,111 @@ public class FlipFinderPanel extends PluginPanel {
 		// Don't clear container yet - keep showing old flips until new data arrives
 		// This prevents the UI flash when flips disappear and reappear
 
-		// Fetch last 50 completed flips for current RSN
 		String rsn = plugin.getCurrentRsnSafe().orElse(null);
-		apiClient.getCompletedFlipsAsync(50, rsn).thenAccept(response -> {
+		FlipMirror mirror = plugin.getFlipMirror();
+
+		// Nothing shown yet (startup): show the mirrored flips while the sync runs
+		SwingUtilities.invokeLater(() -> {
+			java.util.List<CompletedFlip> mirrored = currentCompletedFlips.isEmpty()
+					? mirror.getCompletedFlips(rsn)
+					: null;
+			if (mirrored != null) {
+				showCompletedFlips(rsn, mirrored, scrollPos);
+			}
+		});
+
+		mirror.syncCompletedFlips(rsn, COMPLETED_FLIPS_PAGE_SIZE).thenAccept(flips -> {
 			SwingUtilities.invokeLater(() -> {
-				if (response == null) {
+				if (flips == null) {
 					showErrorInCompletedFlips("Failed to fetch completed flips. Check your API settings.");
 					restoreScrollPosition(completedFlipsScrollPane, scrollPos);
 					return;
 				}
+				showCompletedFlips(rsn, flips, scrollPos);
+			});
+		}).exceptionally(throwable -> {
+			SwingUtilities.invokeLater(() -> {
+				showErrorInCompletedFlips(ERROR_PREFIX + throwable.getMessage());
+				restoreScrollPosition(completedFlipsScrollPane, scrollPos);
+			});
+			return null;
+		});
+	}
 
-				currentCompletedFlips.clear();
-				if (response.getFlips() != null) {
-					currentCompletedFlips.addAll(response.getFlips());
-				}
+	/**
+	 * Show an account's completed flips (from the mirror or a sync), newest first
+	 */
+	private void showCompletedFlips(String rsn, java.util.List<CompletedFlip> flips, int scrollPos) {
+		completedFlipsRsn = rsn;
+		currentCompletedFlips.clear();
+		currentCompletedFlips.addAll(flips);
+		completedFlipsHasMore = plugin.getFlipMirror().hasOlderCompletedFlips(rsn)
+				&& currentCompletedFlips.size() < COMPLETED_FLIPS_MAX;
 
-				if (currentCompletedFlips.isEmpty()) {
-					showNoCompletedFlips();
-					restoreScrollPosition(completedFlipsScrollPane, scrollPos);
+		if (currentCompletedFlips.isEmpty()) {
+			showNoCompletedFlips();
+			restoreScrollPosition(completedFlipsScrollPane, scrollPos);
+			return;
+		}
+
+		// Update status if on completed flips tab
+		if (tabbedPane.getSelectedIndex() == 2) {
+			int totalProfit = currentCompletedFlips.stream()
+					.mapToInt(CompletedFlip::getNetProfit)
+					.sum();
+			statusLabel.setText(String.format("%d completed | %s profit",
+					currentCompletedFlips.size(),
+					formatGP(totalProfit)));
+		}
+
+		populateCompletedFlips(currentCompletedFlips);
+		restoreScrollPosition(completedFlipsScrollPane, scrollPos);
+	}
+
+	/**
+	 * Page in older completed flips once the user scrolls near the end of the list.
+	 * The API only takes a limit, so the next page is fetched by asking for one
+	 * more page than is currently loaded.
+	 */
+	private void loadOlderCompletedFlipsIfNeeded() {
+		if (!completedFlipsHasMore || loadingOlderCompletedFlips || currentCompletedFlips.isEmpty()
+				|| completedFlipsList.getParent() == null) {
+			return;
+		}
+
+		JScrollBar scrollBar = completedFlipsScrollPane.getVerticalScrollBar();
+		int remaining = scrollBar.getMaximum() - (scrollBar.getValue() + scrollBar.getVisibleAmount());
+		if (remaining > COMPLETED_FLIPS_PREFETCH_PX) {
+			return;
+		}
+
+		final int limit = Math.min(COMPLETED_FLIPS_MAX, currentCompletedFlips.size() + COMPLETED_FLIPS_PAGE_SIZE);
+		if (limit <= currentCompletedFlips.size()) {
+			completedFlipsHasMore = false;
+			return;
+		}
+
+		loadingOlderCompletedFlips = true;
+		String rsn = completedFlipsRsn;
+		apiClient.getCompletedFlipsAsync(limit, rsn).whenComplete((response, throwable) -> {
+			SwingUtilities.invokeLater(() -> {
+				loadingOlderCompletedFlips = false;
+				if (throwable != null || response == null || response.getFlips() == null
+						|| !java.util.Objects.equals(rsn, completedFlipsRsn)) {
 					return;
 				}
 
-				// Update status if on completed flips tab
-				if (tabbedPane.getSelectedIndex() == 2) {
-					int totalProfit = currentCompletedFlips.stream()
-							.mapToInt(CompletedFlip::getNetProfit)
-							.sum();
-					statusLabel.setText(String.format("%d completed | %s profit",
-							currentCompletedFlips.size(),
-							formatGP(totalProfit)));
+				java.util.List<CompletedFlip> flips = response.getFlips();
+				plugin.getFlipMirror().storeCompletedPage(rsn, flips, limit);
+				completedFlipsHasMore = flips.size() >= limit && limit < COMPLETED_FLIPS_MAX;
+				if (flips.size() <= currentCompletedFlips.size()) {
+					return;
 				}
 
+				currentCompletedFlips.clear();
+				currentCompletedFlips.addAll(flips);
 				populateCompletedFlips(currentCompletedFlips);
-				restoreScrollPosition(completedFlipsScrollPane, scrollPos);
-			});
-		}).exceptionally(throwable -> {
-			SwingUtilities.invokeLater(() -> {
-				showErrorInCompletedFlips(ERROR_PREFIX + throwable.getMessage());
-				restoreScrollPosition(completedFlipsScrollPane, scrollPos);
 			});
-			return null;
 		});
 	}
 
@@ -1214,13 +1307,14 @@ public class FlipFinderPanel extends PluginPanel {
 	 * Populate the completed flips list
 	 */
 	private void populateCompletedFlips(java.util.List<CompletedFlip> flips) {
-		completedFlipsListContainer.removeAll();
-
-		for (CompletedFlip flip : flips) {
-			completedFlipsListContainer.add(createCompletedFlipPanel(flip));
-			completedFlipsListContainer.add(Box.createRigidArea(new Dimension(0, 5)));
+		// Error/empty states replace the list; put it back if needed
+		if (completedFlipsListContainer.getComponentCount() != 1
+				|| completedFlipsListContainer.getComponent(0) != completedFlipsList) {
+			completedFlipsListContainer.removeAll();
+			completedFlipsListContainer.add(completedFlipsList);
 		}
 
+		completedFlipsList.setFlips(flips);
 		completedFlipsListContainer.revalidate();
 		completedFlipsListContainer.repaint();
 	}
@@ -1232,29 +1326,77 @@ public class FlipFinderPanel extends PluginPanel {
 	 */
 	private void displayActiveFlipsAndPending(java.util.List<ActiveFlip> activeFlips,
 			java.util.List<FlipTo5BPlugin.PendingOrder> pendingOrders) {
-		activeFlipsListContainer.removeAll();
-
 		// Build a map of pending orders by itemId for smart deduplication
 		java.util.Map<Integer, java.util.List<FlipTo5BPlugin.PendingOrder>> pendingByItemId = buildPendingOrdersMap(
 				pendingOrders);
 
 		// First show pending orders (items currently in GE buy slots)
-		for (FlipTo5BPlugin.PendingOrder pending : pendingOrders) {
-			activeFlipsListContainer.add(createPendingOrderPanel(pending));
-			activeFlipsListContainer.add(Box.createRigidArea(new Dimension(0, 5)));
-		}
+		java.util.List<Object> rows = new java.util.ArrayList<>(pendingOrders);
 
 		// Then show active flips (items collected, waiting to sell)
 		// Skip active flips if pending orders already account for those items
 		for (ActiveFlip flip : activeFlips) {
 			if (shouldShowActiveFlip(flip, pendingByItemId)) {
-				activeFlipsListContainer.add(createActiveFlipPanel(flip));
-				activeFlipsListContainer.add(Box.createRigidArea(new Dimension(0, 5)));
+				rows.add(flip);
 			}
 		}
 
-		activeFlipsListContainer.revalidate();
-		activeFlipsListContainer.repaint();
+		// Warm the analysis cache for every card in one batched round-trip before
+		// the cards ask for their items individually
+		java.util.Set<Integer> itemIds = new java.util.LinkedHashSet<>();
+		for (FlipTo5BPlugin.PendingOrder pending : pendingOrders) {
+			itemIds.add(pending.itemId);
+		}
+		for (Object row : rows) {
+			if (row instanceof ActiveFlip) {
+				itemIds.add(((ActiveFlip) row).getItemId());
+			}
+		}
+		apiClient.getItemAnalysisBatchAsync(itemIds);
+
+		// Reused cards re-pull market data so time-based sell prices stay current
+		activeFlipCards.reconcile(rows, true);
+	}
+
+	/**
+	 * Reconciliation key for a row in the Active Flips tab.
+	 * Pending orders and active flips for the same item are kept apart.
+	 */
+	private Object getActiveRowKey(Object row) {
+		if (row instanceof FlipTo5BPlugin.PendingOrder) {
+			return "pending:" + ((FlipTo5BPlugin.PendingOrder) row).itemId;
+		}
+		return ((ActiveFlip) row).getItemId();
+	}
+
+	/**
+	 * Data version for a row in the Active Flips tab.
+	 * PendingOrder has no equals(), so compare its fields instead.
+	 */
+	private Object getActiveRowVersion(Object row) {
+		if (row instanceof FlipTo5BPlugin.PendingOrder) {
+			FlipTo5BPlugin.PendingOrder pending = (FlipTo5BPlugin.PendingOrder) row;
+			return java.util.Arrays.asList(pending.itemId, pending.itemName, pending.quantity,
+					pending.quantityFilled, pending.pricePerItem, pending.recommendedSellPrice);
+		}
+		return row;
+	}
+
+	private JPanel createActiveRowPanel(Object row) {
+		if (row instanceof FlipTo5BPlugin.PendingOrder) {
+			return createPendingOrderPanel((FlipTo5BPlugin.PendingOrder) row);
+		}
+		return createActiveFlipPanel((ActiveFlip) row);
+	}
+
+	/**
+	 * Keep the Flip Assist highlight when a focused card is rebuilt with new data
+	 */
+	private void carryOverFocus(JPanel oldCard, JPanel newCard) {
+		if (oldCard == currentFocusedPanel) {
+			currentFocusedPanel = newCard;
+			applyFocusedStyle(newCard);
+		}
 	}
 
 	/**
@@ -1438,15 +1580,7 @@ public class FlipFinderPanel extends PluginPanel {
 	 * Populate the list with recommendations
 	 */
 	private void populateRecommendations(List<FlipRecommendation> recommendations) {
-		recommendedListContainer.removeAll();
-
-		for (FlipRecommendation rec : recommendations) {
-			recommendedListContainer.add(createRecommendationPanel(rec));
-			recommendedListContainer.add(Box.createRigidArea(new Dimension(0, 5)));
-		}
-
-		recommendedListContainer.revalidate();
-		recommendedListContainer.repaint();
+		recommendationCards.reconcile(recommendations, false);
 	}
 
 	/**
@@ -1625,15 +1759,7 @@ public class FlipFinderPanel extends PluginPanel {
 	 * Format GP amount for display
 	 */
 	private String formatGP(int amount) {
-		int absAmount = Math.abs(amount);
-		String sign = amount < 0 ? "-" : "";
-
-		if (absAmount >= 1_000_000) {
-			return String.format("%s%.1fM", sign, absAmount / 1_000_000.0);
-		} else if (absAmount >= 1_000) {
-			return String.format("%s%.1fK", sign, absAmount / 1_000.0);
-		}
-		return String.valueOf(amount);
+		return GpUtils.formatGP(amount);
 	}
 
 	/**
@@ -2369,8 +2495,9 @@ public class FlipFinderPanel extends PluginPanel {
 		panel.add(topPanel, BorderLayout.NORTH);
 		panel.add(detailsPanel, BorderLayout.CENTER);
 
-		// Fetch current market data to populate all fields
-		apiClient.getItemAnalysisAsync(flip.getItemId()).thenAccept(analysis -> {
+		// Fetch current market data to populate all fields. Kept as a refresh hook so
+		// a reused card can update its labels in place on the next reconcile.
+		Runnable loadMarketData = () -> apiClient.getItemAnalysisAsync(flip.getItemId()).thenAccept(analysis -> {
 			SwingUtilities.invokeLater(() -> {
 				Integer currentMarketPrice = null;
 				Integer dailyVolume = null;
@@ -2485,6 +2612,8 @@ public class FlipFinderPanel extends PluginPanel {
 				updateRiskLabel(riskLabel, risk);
 			});
 		});
+		loadMarketData.run();
+		panel.putClientProperty(KeyedCardList.REFRESH_PROPERTY, loadMarketData);
 
 		// Store default background color as client property (will be overwritten if
 		// price indicator is applied)
@@ -2605,8 +2734,8 @@ public class FlipFinderPanel extends PluginPanel {
 		panel.add(topPanel, BorderLayout.NORTH);
 		panel.add(detailsPanel, BorderLayout.CENTER);
 
-		// Fetch market data to populate all fields
-		apiClient.getItemAnalysisAsync(pending.itemId).thenAccept(analysis -> {
+		// Fetch market data to populate all fields (re-run on reconcile for reused cards)
+		Runnable loadMarketData = () -> apiClient.getItemAnalysisAsync(pending.itemId).thenAccept(analysis -> {
 			SwingUtilities.invokeLater(() -> {
 				Integer buyLimit = null;
 				FlipAnalysis.Liquidity liquidity = null;
@@ -2666,6 +2795,8 @@ public class FlipFinderPanel extends PluginPanel {
 				updateRiskLabel(riskLabel, risk);
 			});
 		});
+		loadMarketData.run();
+		panel.putClientProperty(KeyedCardList.REFRESH_PROPERTY, loadMarketData);
 
 		// Add click listener for focus selection
 		panel.addMouseListener(new MouseAdapter() {
@@ -2700,144 +2831,6 @@ public class FlipFinderPanel extends PluginPanel {
 		return panel;
 	}
 
-	/**
-	 * Create a panel for a completed flip
-	 */
-	private JPanel createCompletedFlipPanel(CompletedFlip flip) {
-		// Color based on profit/loss
-		Color backgroundColor = flip.isSuccessful() ? new Color(40, 60, 40) : // Dark green for profit
-				new Color(60, 40, 40); // Dark red for loss
-		JPanel panel = createBaseItemPanel(backgroundColor, 110, false);
-
-		// Top section: Item icon and name
-		HeaderPanels header = createItemHeaderPanels(flip.getItemId(), flip.getItemName(), backgroundColor);
-		JPanel topPanel = header.topPanel;
-
-		// Details section with profit/loss info - use GridBagLayout for tighter column
-		// spacing
-		JPanel detailsPanel = new JPanel(new GridBagLayout());
-		detailsPanel.setBackground(backgroundColor);
-		detailsPanel.setBorder(new EmptyBorder(3, 0, 0, 0));
-
-		GridBagConstraints gbc = new GridBagConstraints();
-		gbc.anchor = GridBagConstraints.WEST;
-		gbc.insets = new Insets(1, 0, 1, 15); // 15px gap between columns
-
-		// Row 1: Quantity and Buy Price
-		JLabel qtyLabel = new JLabel(String.format(FORMAT_QTY, flip.getQuantity()));
-		qtyLabel.setForeground(COLOR_TEXT_GRAY);
-		qtyLabel.setFont(FONT_PLAIN_12);
-
-		JLabel buyPriceLabel = new JLabel(String.format("Buy: %s", formatGPExact(flip.getBuyPricePerItem())));
-		buyPriceLabel.setForeground(COLOR_BUY_RED);
-		buyPriceLabel.setFont(FONT_PLAIN_12);
-
-		// Row 2: Invested and Sell Price
-		JLabel investedLabel = new JLabel(String.format("Cost: %s", formatGP(flip.getBuyTotal())));
-		investedLabel.setForeground(COLOR_TEXT_GRAY);
-		investedLabel.setFont(FONT_PLAIN_12);
-
-		JLabel sellPriceLabel = new JLabel(String.format(FORMAT_SELL, formatGPExact(flip.getSellPricePerItem())));
-		sellPriceLabel.setForeground(COLOR_SELL_GREEN);
-		sellPriceLabel.setFont(FONT_PLAIN_12);
-
-		// Row 3: Net Profit and ROI
-		JLabel profitLabel = new JLabel(String.format("Profit: %s", formatGP(flip.getNetProfit())));
-		Color profitColor = flip.isSuccessful() ? COLOR_PROFIT_GREEN : // Bright green
-				COLOR_LOSS_RED; // Bright red
-		profitLabel.setForeground(profitColor);
-		profitLabel.setFont(FONT_BOLD_12);
-
-		JLabel roiLabel = new JLabel(String.format(FORMAT_ROI, flip.getRoiPercent()));
-		roiLabel.setForeground(profitColor);
-		roiLabel.setFont(FONT_BOLD_12);
-
-		// Add labels with GridBagLayout - columns stay compact
-		gbc.gridx = 0;
-		gbc.gridy = 0;
-		detailsPanel.add(qtyLabel, gbc);
-		gbc.gridx = 1;
-		gbc.gridy = 0;
-		gbc.insets = new Insets(1, 0, 1, 0);
-		detailsPanel.add(buyPriceLabel, gbc);
-		gbc.gridx = 0;
-		gbc.gridy = 1;
-		gbc.insets = new Insets(1, 0, 1, 15);
-		detailsPanel.add(investedLabel, gbc);
-		gbc.gridx = 1;
-		gbc.gridy = 1;
-		gbc.insets = new Insets(1, 0, 1, 0);
-		detailsPanel.add(sellPriceLabel, gbc);
-		gbc.gridx = 0;
-		gbc.gridy = 2;
-		gbc.insets = new Insets(1, 0, 1, 15);
-		detailsPanel.add(profitLabel, gbc);
-		gbc.gridx = 1;
-		gbc.gridy = 2;
-		gbc.insets = new Insets(1, 0, 1, 0);
-		detailsPanel.add(roiLabel, gbc);
-
-		// Add horizontal glue to prevent stretching
-		gbc.gridx = 2;
-		gbc.gridy = 0;
-		gbc.weightx = 1.0;
-		gbc.fill = GridBagConstraints.HORIZONTAL;
-		detailsPanel.add(Box.createHorizontalGlue(), gbc);
-
-		panel.add(topPanel, BorderLayout.NORTH);
-		panel.add(detailsPanel, BorderLayout.CENTER);
-
-		// Add click to show more details
-		panel.setCursor(new Cursor(Cursor.HAND_CURSOR));
-		panel.addMouseListener(new MouseAdapter() {
-			private boolean expanded = false;
-
-			@Override
-			public void mouseClicked(MouseEvent e) {
-				if (!expanded) {
-					// Add extra details
-					JPanel extraDetails = new JPanel();
-					extraDetails.setLayout(new BoxLayout(extraDetails, BoxLayout.Y_AXIS));
-					extraDetails.setBackground(backgroundColor);
-					extraDetails.setBorder(new EmptyBorder(5, 38, 0, 0));
-
-					// Duration
-					int hours = flip.getFlipDurationSeconds() / 3600;
-					int minutes = (flip.getFlipDurationSeconds() % 3600) / 60;
-					String duration = hours > 0 ? String.format("%dh %dm", hours, minutes)
-							: String.format("%dm", minutes);
-
-					JLabel durationLabel = new JLabel(String.format("Duration: %s", duration));
-					durationLabel.setForeground(COLOR_TEXT_DIM_GRAY);
-					durationLabel.setFont(FONT_PLAIN_12);
-
-					// GE Tax
-					JLabel taxLabel = new JLabel(String.format("GE Tax: %s", formatGP(flip.getGeTax())));
-					taxLabel.setForeground(COLOR_TEXT_DIM_GRAY);
-					taxLabel.setFont(FONT_PLAIN_12);
-
-					extraDetails.add(durationLabel);
-					extraDetails.add(Box.createRigidArea(new Dimension(0, 2)));
-					extraDetails.add(taxLabel);
-
-					panel.add(extraDetails, BorderLayout.SOUTH);
-					expanded = true;
-				} else {
-					// Remove extra details
-					if (panel.getComponentCount() > 2) {
-						panel.remove(2);
-						expanded = false;
-					}
-				}
-
-				panel.revalidate();
-				panel.repaint();
-			}
-		});
-
-		return panel;
-	}
-
 	/**
 	 * Dismiss an active flip (remove from tracking)
 	 */
@@ -2928,20 +2921,13 @@ public class FlipFinderPanel extends PluginPanel {
 	 * switch to loss-minimizing sell price.
 	 */
 	private boolean shouldUseLossMinimizingPrice(ActiveFlip flip, Integer dailyVolume) {
-		String buyTimeStr = flip.getLastBuyTime();
-		if (buyTimeStr == null || buyTimeStr.isEmpty()) {
+		long heldMillis = flip.getHoldMillis(System.currentTimeMillis());
+		if (heldMillis < 0) {
 			return false;
 		}
 
-		try {
-			Instant buyTime = Instant.parse(buyTimeStr);
-			Duration elapsed = Duration.between(buyTime, Instant.now());
-			int thresholdMinutes = getSellPriceThresholdMinutes(flip, dailyVolume);
-			return elapsed.toMinutes() >= thresholdMinutes;
-		} catch (DateTimeParseException e) {
-			log.debug("Failed to parse buy time: {}", buyTimeStr);
-			return false;
-		}
+		int thresholdMinutes = getSellPriceThresholdMinutes(flip, dailyVolume);
+		return heldMillis >= TimeUnit.MINUTES.toMillis(thresholdMinutes);
 	}
 
 	/**
@@ -0,0 +1,303 @@
+package com.flipto5b;
+
+import com.google.gson.Gson;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local mirror of each account's active and completed flips, kept in sync
+ * with the Flip Smart API by cursor and persisted as the {@code flip-mirror}
+ * record of the {@link StateStore}.
+ *
+ * - Each sync sends the cursor from the previous response as {@code since};
+ *   a response carrying a new cursor is a delta (changed active flips plus
+ *   {@code removed_item_ids}, or completed flips newer than the cursor)
+ * - A response without a cursor is a full list, so an API without delta
+ *   support just behaves like the old full refresh
+ * - The panels render the mirror straight away on startup and replace it
+ *   once the first sync lands
+ *
+ * Accounts are keyed by RSN ("" for all accounts). Up to
+ * {@value #PERSISTED_COMPLETED} completed flips per account are written;
+ * older ones are paged in again from the API when scrolled to.
+ *
+ * Format (version 1): account count, then per account its key, the two
+ * cursors, flags, and the flips as JSON strings (via the shared Gson's
+ * adapters, so DTO fields can change without a new version).
+ */
+@Slf4j
+class FlipMirror implements StateStore.Codec<Map<String, FlipMirror.Account>> {
+	private static final String RECORD_NAME = "flip-mirror";
+	/** Completed flips kept in memory per account (the panel's paging limit) */
+	static final int MAX_COMPLETED = 1000;
+	/** Completed flips written to disk per account */
+	private static final int PERSISTED_COMPLETED = 200;
+
+	static final class Account {
+		private String activeCursor;
+		private String completedCursor;
+		private boolean activeSynced;
+		private boolean completedSynced;
+		/** True once a full page came back short, i.e. nothing older exists */
+		private boolean completedHistoryComplete;
+		private final Map<Integer, ActiveFlip> active = new LinkedHashMap<>();
+		/** Newest first */
+		private List<CompletedFlip> completed = new ArrayList<>();
+	}
+
+	private final FlipSmartApiClient apiClient;
+	private final Gson gson;
+	private final StateStore.Record<Map<String, Account>> record;
+
+	FlipMirror(StateStore store, FlipSmartApiClient apiClient) {
+		this.apiClient = apiClient;
+		this.gson = apiClient.getGson();
+		this.record = store.open(RECORD_NAME, this, HashMap::new);
+	}
+
+	// ==================== Active flips ====================
+
+	/**
+	 * Active flips as last synced, or null if this account was never synced.
+	 */
+	synchronized ActiveFlipsResponse getActiveFlips(String rsn) {
+		Account account = record.get().get(key(rsn));
+		return account != null && account.activeSynced ? activeResponse(account) : null;
+	}
+
+	/**
+	 * Fetch changes since the last sync and apply them. Completes with the
+	 * updated mirror, or null if the request failed.
+	 */
+	CompletableFuture<ActiveFlipsResponse> syncActiveFlips(String rsn) {
+		String cursor;
+		synchronized (this) {
+			Account account = record.get().get(key(rsn));
+			cursor = account != null && account.activeSynced ? account.activeCursor : null;
+		}
+		return apiClient.getActiveFlipsSinceAsync(rsn, cursor)
+			.thenApply(response -> response != null ? applyActive(rsn, cursor, response) : null);
+	}
+
+	private synchronized ActiveFlipsResponse applyActive(String rsn, String sentCursor, ActiveFlipsResponse response) {
+		Account account = record.get().computeIfAbsent(key(rsn), k -> new Account());
+		boolean delta = sentCursor != null && response.getCursor() != null;
+		if (!delta) {
+			account.active.clear();
+		}
+		if (response.getActiveFlips() != null) {
+			for (ActiveFlip flip : response.getActiveFlips()) {
+				account.active.put(flip.getItemId(), flip);
+			}
+		}
+		if (delta && response.getRemovedItemIds() != null) {
+			for (Integer itemId : response.getRemovedItemIds()) {
+				account.active.remove(itemId);
+			}
+		}
+		account.activeCursor = response.getCursor();
+		account.activeSynced = true;
+		record.markDirty();
+		return activeResponse(account);
+	}
+
+	private static ActiveFlipsResponse activeResponse(Account account) {
+		List<ActiveFlip> flips = new ArrayList<>(account.active.values());
+		ActiveFlipsResponse response = new ActiveFlipsResponse();
+		response.setActiveFlips(flips);
+		response.setTotalItems(flips.size());
+		response.setTotalInvested(flips.stream().mapToInt(ActiveFlip::getTotalInvested).sum());
+		response.setCursor(account.activeCursor);
+		return response;
+	}
+
+	// ==================== Completed flips ====================
+
+	/**
+	 * Completed flips as last synced (newest first), or null if this account
+	 * was never synced.
+	 */
+	synchronized List<CompletedFlip> getCompletedFlips(String rsn) {
+		Account account = record.get().get(key(rsn));
+		return account != null && account.completedSynced ? new ArrayList<>(account.completed) : null;
+	}
+
+	/**
+	 * Whether older completed flips may exist beyond those mirrored.
+	 */
+	synchronized boolean hasOlderCompletedFlips(String rsn) {
+		Account account = record.get().get(key(rsn));
+		return account == null || !account.completedHistoryComplete;
+	}
+
+	/**
+	 * Fetch completed flips newer than the last sync and put them in front.
+	 * Completes with the updated list (newest first), or null if the request
+	 * failed.
+	 *
+	 * @param pageSize flips to ask for when the API returns a full page
+	 */
+	CompletableFuture<List<CompletedFlip>> syncCompletedFlips(String rsn, int pageSize) {
+		String cursor;
+		synchronized (this) {
+			Account account = record.get().get(key(rsn));
+			cursor = account != null && account.completedSynced ? account.completedCursor : null;
+		}
+		return apiClient.getCompletedFlipsSinceAsync(pageSize, rsn, cursor)
+			.thenApply(response -> response != null ? applyCompleted(rsn, cursor, pageSize, response) : null);
+	}
+
+	/**
+	 * Replace the mirror with a longer history page (scrolling back), fetched
+	 * with {@code limit}.
+	 */
+	synchronized void storeCompletedPage(String rsn, List<CompletedFlip> flips, int limit) {
+		Account account = record.get().computeIfAbsent(key(rsn), k -> new Account());
+		if (flips.size() > account.completed.size()) {
+			account.completed = new ArrayList<>(flips.subList(0, Math.min(flips.size(), MAX_COMPLETED)));
+		}
+		account.completedHistoryComplete = flips.size() < limit;
+		account.completedSynced = true;
+		record.markDirty();
+	}
+
+	private synchronized List<CompletedFlip> applyCompleted(String rsn, String sentCursor, int pageSize,
+		CompletedFlipsResponse response) {
+		Account account = record.get().computeIfAbsent(key(rsn), k -> new Account());
+		List<CompletedFlip> latest = response.getFlips() != null ? response.getFlips() : Collections.emptyList();
+		boolean delta = sentCursor != null && response.getCursor() != null;
+
+		Set<Integer> latestIds = new HashSet<>();
+		for (CompletedFlip flip : latest) {
+			latestIds.add(flip.getId());
+		}
+		boolean overlaps = false;
+		for (CompletedFlip flip : account.completed) {
+			if (latestIds.contains(flip.getId())) {
+				overlaps = true;
+				break;
+			}
+		}
+
+		if (!delta && latest.size() < pageSize) {
+			// Whole history fits in one page
+			account.completed = new ArrayList<>(latest);
+			account.completedHistoryComplete = true;
+		} else if (latest.size() >= pageSize && !overlaps) {
+			// A full page that doesn't reach what we had: flips in between are
+			// missing, so keep only this page and page older ones in on scroll
+			account.completed = new ArrayList<>(latest);
+			account.completedHistoryComplete = false;
+		} else {
+			// Newest flips in front of what we had, dropping rows that appear in both
+			List<CompletedFlip> merged = new ArrayList<>(latest);
+			for (CompletedFlip flip : account.completed) {
+				if (merged.size() >= MAX_COMPLETED) {
+					account.completedHistoryComplete = false;
+					break;
+				}
+				if (!latestIds.contains(flip.getId())) {
+					merged.add(flip);
+				}
+			}
+			account.completed = merged;
+		}
+		account.completedCursor = response.getCursor();
+		account.completedSynced = true;
+		record.markDirty();
+		return new ArrayList<>(account.completed);
+	}
+
+	/**
+	 * Forget every account (logout).
+	 */
+	synchronized void clear() {
+		record.set(new HashMap<>());
+	}
+
+	private static String key(String rsn) {
+		return rsn != null ? rsn : "";
+	}
+
+	// ==================== Codec ====================
+
+	@Override
+	public int version() {
+		return 1;
+	}
+
+	@Override
+	public synchronized void write(Map<String, Account> accounts, DataOutput out) throws IOException {
+		out.writeInt(accounts.size());
+		for (Map.Entry<String, Account> entry : accounts.entrySet()) {
+			Account account = entry.getValue();
+			int completedCount = Math.min(account.completed.size(), PERSISTED_COMPLETED);
+
+			out.writeUTF(entry.getKey());
+			writeNullableUTF(out, account.activeCursor);
+			writeNullableUTF(out, account.completedCursor);
+			out.writeBoolean(account.activeSynced);
+			out.writeBoolean(account.completedSynced);
+			out.writeBoolean(account.completedHistoryComplete && completedCount == account.completed.size());
+
+			out.writeInt(account.active.size());
+			for (ActiveFlip flip : account.active.values()) {
+				out.writeUTF(gson.toJson(flip, ActiveFlip.class));
+			}
+			out.writeInt(completedCount);
+			for (int i = 0; i < completedCount; i++) {
+				out.writeUTF(gson.toJson(account.completed.get(i), CompletedFlip.class));
+			}
+		}
+	}
+
+	@Override
+	public Map<String, Account> read(DataInput in, int version) throws IOException {
+		Map<String, Account> accounts = new HashMap<>();
+		int accountCount = in.readInt();
+		for (int i = 0; i < accountCount; i++) {
+			String key = in.readUTF();
+			Account account = new Account();
+			account.activeCursor = readNullableUTF(in);
+			account.completedCursor = readNullableUTF(in);
+			account.activeSynced = in.readBoolean();
+			account.completedSynced = in.readBoolean();
+			account.completedHistoryComplete = in.readBoolean();
+
+			int activeCount = in.readInt();
+			for (int j = 0; j < activeCount; j++) {
+				ActiveFlip flip = gson.fromJson(in.readUTF(), ActiveFlip.class);
+				account.active.put(flip.getItemId(), flip);
+			}
+			int completedCount = in.readInt();
+			for (int j = 0; j < completedCount; j++) {
+				account.completed.add(gson.fromJson(in.readUTF(), CompletedFlip.class));
+			}
+			accounts.put(key, account);
+		}
+		log.debug("Loaded flip mirror for {} accounts", accounts.size());
+		return accounts;
+	}
+
+	private static void writeNullableUTF(DataOutput out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readNullableUTF(DataInput in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+}
@@ -1,13 +1,20 @@
 package com.flipto5b;
 
+import com.flipto5b.metrics.Counter;
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
+import com.flipto5b.replay.RecordingInterceptor;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -22,32 +29,62 @@ public class FlipSmartApiClient {
 	private static final String ACCESS_TOKEN_KEY = "access_token";
 	private static final String JSON_KEY_ITEM_ID = "item_id";
 	private static final String JSON_KEY_IS_PREMIUM = "is_premium";
+	private static final LatencyHistogram API_REQUEST_TIME = Metrics.histogram("api.request");
+	private static final Counter API_ERRORS = Metrics.counter("api.errors");
 
 	private final OkHttpClient httpClient;
+	// Shared with the rest of the plugin, with streaming adapters for the hot DTOs
+	@Getter
 	private final Gson gson;
 	private final FlipTo5BConfig config;
 
-	// Cache to avoid spamming the API
-	private final Map<Integer, CachedAnalysis> analysisCache = new ConcurrentHashMap<>();
-	private static final long CACHE_DURATION_MS = 180_000; // 3 minute cache
-
-	// JWT token management
-	private volatile String jwtToken = null;
-	private volatile long tokenExpiry = 0;
+	// Response cache for GET endpoints to avoid spamming the API
+	private static final int RESPONSE_CACHE_MAX_ENTRIES = 512;
+	private static final String CACHE_ANALYSIS = "analysis:";
+	private static final String CACHE_RECOMMENDATIONS = "flip-finder:";
+	private static final String CACHE_ACTIVE_FLIPS = "active-flips:";
+	private static final String CACHE_COMPLETED_FLIPS = "completed-flips:";
+	private static final String CACHE_BANK_STATUS = "bank-status:";
+	// Fresh TTL / stale-while-revalidate window per endpoint
+	private static final ResponseCache.Policy ANALYSIS_POLICY = new ResponseCache.Policy(180_000, 600_000);
+	private static final ResponseCache.Policy RECOMMENDATIONS_POLICY = new ResponseCache.Policy(30_000, 120_000);
+	private static final ResponseCache.Policy ACTIVE_FLIPS_POLICY = new ResponseCache.Policy(10_000, 60_000);
+	private static final ResponseCache.Policy COMPLETED_FLIPS_POLICY = new ResponseCache.Policy(30_000, 300_000);
+	private static final ResponseCache.Policy BANK_STATUS_POLICY = new ResponseCache.Policy(60_000, 0);
+	// Concurrent identical requests share one HTTP call (also backs the response cache)
+	private final SingleFlight singleFlight = new SingleFlight();
+	private final ResponseCache responseCache = new ResponseCache(RESPONSE_CACHE_MAX_ENTRIES, singleFlight);
+
+	// Batch analysis: max ids per request, and how long to stop trying after a failed batch
+	private static final int ANALYSIS_BATCH_SIZE = 50;
+	static final long ANALYSIS_BATCH_BACKOFF_MS = 600_000;
+	// Package-private so tests can check and expire the backoff
+	volatile long analysisBatchDisabledUntil = 0;
+
+	// The dump stream's server sends a heartbeat at least this often; a stream
+	// silent for twice as long is treated as dead so polling can take over
+	private static final long DUMP_STREAM_HEARTBEAT_SECONDS = 30;
+	private static final long DUMP_STREAM_READ_TIMEOUT_SECONDS = 2 * DUMP_STREAM_HEARTBEAT_SECONDS;
+
+	// Long-lived client for the dump stream, created on first use
+	private volatile OkHttpClient streamingClient;
+
+	// JWT token, refreshed single-flight and ahead of expiry
+	private final TokenManager tokenManager;
 
 	// Premium status (updated on login)
 	private volatile boolean isPremium = false;
 
-	// Lock for authentication to prevent concurrent auth attempts
-	private final Object authLock = new Object();
-
 	@Inject
 	public FlipSmartApiClient(FlipTo5BConfig config, Gson gson, OkHttpClient okHttpClient) {
 		this.config = config;
+		this.tokenManager = new TokenManager(this::authenticateAsync);
 		// Use the injected Gson's builder to create a customized instance
-		this.gson = gson.newBuilder().create();
-		// Use the injected OkHttpClient directly as required by RuneLite
-		this.httpClient = okHttpClient;
+		this.gson = JsonAdapters.register(gson.newBuilder()).create();
+		// Derived from the injected OkHttpClient as required by RuneLite
+		// (and wrapped when recording for offline replay)
+		this.httpClient = RecordingInterceptor.wrap(PluginHttpClient.derive(okHttpClient));
+		Metrics.gauge("api.inflight", singleFlight::size);
 	}
 
 	/**
@@ -81,19 +118,23 @@ public class FlipSmartApiClient {
 	 * 
 	 * @param request         The request to execute
 	 * @param responseHandler Function to process successful response body and
-	 *                        return result
+	 *                        return result; it reads the body as a stream,
+	 *                        so bind it with {@code gson.fromJson(reader, ...)}
+	 *                        rather than buffering it
 	 * @param errorHandler    Consumer to handle errors
 	 * @param retryOnAuth     Whether to retry with re-authentication on 401
 	 * @param <T>             The return type
 	 * @return CompletableFuture with the result
 	 */
-	private <T> CompletableFuture<T> executeAsync(Request request, Function<String, T> responseHandler,
+	private <T> CompletableFuture<T> executeAsync(Request request, Function<Reader, T> responseHandler,
 			Consumer<String> errorHandler, boolean retryOnAuth) {
 		CompletableFuture<T> future = new CompletableFuture<>();
+		long start = System.nanoTime();
 
 		httpClient.newCall(request).enqueue(new Callback() {
 			@Override
 			public void onFailure(Call call, IOException e) {
+				API_ERRORS.increment();
 				log.debug("Request failed: {}", e.getMessage());
 				if (errorHandler != null) {
 					errorHandler.accept("Connection error: " + e.getMessage());
@@ -103,17 +144,18 @@ public class FlipSmartApiClient {
 
 			@Override
 			public void onResponse(Call call, Response response) throws IOException {
+				API_REQUEST_TIME.recordSince(start);
 				try (response) {
 					if (response.code() == 401 && retryOnAuth) {
-						// Token might have expired, try to re-authenticate
+						// Token might have expired: wait for the shared refresh and replay
 						log.debug("Received 401, attempting to re-authenticate");
-						jwtToken = null;
+						String rejected = bearerToken(request);
 
-						authenticateAsync().thenAccept(authSuccess -> {
-							if (authSuccess) {
+						tokenManager.onUnauthorized(rejected).thenAccept(token -> {
+							if (token != null) {
 								// Rebuild request with new token
 								Request retryRequest = request.newBuilder()
-										.header("Authorization", "Bearer " + jwtToken)
+										.header("Authorization", "Bearer " + token)
 										.build();
 
 								// Retry without auth retry to prevent infinite loop
@@ -127,6 +169,7 @@ public class FlipSmartApiClient {
 					}
 
 					if (!response.isSuccessful()) {
+						API_ERRORS.increment();
 						log.debug("Request returned error: {}", response.code());
 						if (errorHandler != null) {
 							errorHandler.accept("Error " + response.code());
@@ -136,10 +179,11 @@ public class FlipSmartApiClient {
 					}
 
 					okhttp3.ResponseBody responseBody = response.body();
-					String jsonData = responseBody != null ? responseBody.string() : "";
-					T result = responseHandler.apply(jsonData);
+					Reader body = responseBody != null ? responseBody.charStream() : new StringReader("");
+					T result = responseHandler.apply(body);
 					future.complete(result);
 				} catch (Exception e) {
+					API_ERRORS.increment();
 					log.debug("Error processing response: {}", e.getMessage());
 					future.complete(null);
 				}
@@ -153,15 +197,15 @@ public class FlipSmartApiClient {
 	 * Execute an authenticated request asynchronously
 	 */
 	private <T> CompletableFuture<T> executeAuthenticatedAsync(Request.Builder requestBuilder,
-			Function<String, T> responseHandler) {
-		return ensureAuthenticatedAsync().thenCompose(authenticated -> {
-			if (!authenticated) {
+			Function<Reader, T> responseHandler) {
+		return tokenManager.getToken().thenCompose(token -> {
+			if (token == null) {
 				log.debug("Failed to authenticate");
 				return CompletableFuture.completedFuture(null);
 			}
 
 			Request request = requestBuilder
-					.header("Authorization", "Bearer " + jwtToken)
+					.header("Authorization", "Bearer " + token)
 					.build();
 
 			return executeAsync(request, responseHandler, null, true);
@@ -169,7 +213,16 @@ public class FlipSmartApiClient {
 	}
 
 	/**
-	 * Authenticate with the API and obtain a JWT token via login (async)
+	 * Token sent with {@code request}, or null if it carries none
+	 */
+	private static String bearerToken(Request request) {
+		String header = request.header("Authorization");
+		return header != null && header.startsWith("Bearer ") ? header.substring("Bearer ".length()) : null;
+	}
+
+	/**
+	 * Authenticate with the API and obtain a JWT token via login (async).
+	 * Only {@link TokenManager} calls this, so concurrent refreshes share one login.
 	 */
 	private CompletableFuture<Boolean> authenticateAsync() {
 		return loginAsync(config.email(), config.password())
@@ -279,13 +332,9 @@ public class FlipSmartApiClient {
 		String jsonData = responseBody != null ? responseBody.string() : "";
 		JsonObject tokenResponse = gson.fromJson(jsonData, JsonObject.class);
 
-		synchronized (authLock) {
-			jwtToken = tokenResponse.get(ACCESS_TOKEN_KEY).getAsString();
-			tokenExpiry = System.currentTimeMillis() + (6 * 24 * 60 * 60 * 1000L);
-
-			if (tokenResponse.has(JSON_KEY_IS_PREMIUM)) {
-				setPremium(tokenResponse.get(JSON_KEY_IS_PREMIUM).getAsBoolean());
-			}
+		tokenManager.setToken(tokenResponse.get(ACCESS_TOKEN_KEY).getAsString());
+		if (tokenResponse.has(JSON_KEY_IS_PREMIUM)) {
+			setPremium(tokenResponse.get(JSON_KEY_IS_PREMIUM).getAsBoolean());
 		}
 	}
 
@@ -364,10 +413,7 @@ public class FlipSmartApiClient {
 					String jsonData = responseBody != null ? responseBody.string() : "";
 					JsonObject tokenResponse = gson.fromJson(jsonData, JsonObject.class);
 
-					synchronized (authLock) {
-						jwtToken = tokenResponse.get(ACCESS_TOKEN_KEY).getAsString();
-						tokenExpiry = System.currentTimeMillis() + (6 * 24 * 60 * 60 * 1000L);
-					}
+					tokenManager.setToken(tokenResponse.get(ACCESS_TOKEN_KEY).getAsString());
 
 					log.info("Successfully signed up and authenticated with API");
 					future.complete(new AuthResult(true, "Account created successfully!"));
@@ -398,7 +444,7 @@ public class FlipSmartApiClient {
 	 * Check if currently authenticated
 	 */
 	public boolean isAuthenticated() {
-		return jwtToken != null && System.currentTimeMillis() < tokenExpiry;
+		return tokenManager.isValid();
 	}
 
 	/**
@@ -419,11 +465,10 @@ public class FlipSmartApiClient {
 	 * Clear the current authentication token
 	 */
 	public void clearAuth() {
-		synchronized (authLock) {
-			jwtToken = null;
-			tokenExpiry = 0;
-			isPremium = false;
-		}
+		tokenManager.clear();
+		isPremium = false;
+		// Cached responses belong to the previous account
+		responseCache.clear();
 	}
 
 	/**
@@ -431,7 +476,8 @@ public class FlipSmartApiClient {
 	 * Call this when the player logs into the game.
 	 */
 	public CompletableFuture<Boolean> fetchEntitlementsAsync() {
-		if (!isAuthenticated()) {
+		String token = tokenManager.currentToken();
+		if (token == null) {
 			return CompletableFuture.completedFuture(false);
 		}
 
@@ -439,7 +485,7 @@ public class FlipSmartApiClient {
 
 		Request request = new Request.Builder()
 				.url(url)
-				.header("Authorization", "Bearer " + jwtToken)
+				.header("Authorization", "Bearer " + token)
 				.get()
 				.build();
 
@@ -685,11 +731,7 @@ public class FlipSmartApiClient {
 	 * @param token The JWT access token
 	 */
 	public void setAuthToken(String token) {
-		synchronized (authLock) {
-			this.jwtToken = token;
-			// JWT tokens from this API expire in 7 days, but we'll check earlier
-			this.tokenExpiry = System.currentTimeMillis() + (6 * 24 * 60 * 60 * 1000L);
-		}
+		tokenManager.setToken(token);
 		log.info("Successfully authenticated via Discord");
 	}
 
@@ -718,43 +760,135 @@ public class FlipSmartApiClient {
 	}
 
 	/**
-	 * Check if we have a valid JWT token, and refresh if needed (async)
+	 * Fetch item analysis from the API asynchronously
 	 */
-	private CompletableFuture<Boolean> ensureAuthenticatedAsync() {
-		// Check if we have a token and it's not expired
-		if (jwtToken != null && System.currentTimeMillis() < tokenExpiry) {
-			return CompletableFuture.completedFuture(true);
-		}
-
-		// Token is missing or expired, authenticate
-		return authenticateAsync();
+	public CompletableFuture<FlipAnalysis> getItemAnalysisAsync(int itemId) {
+		return responseCache.get(getAnalysisCacheKey(itemId), ANALYSIS_POLICY, () -> fetchItemAnalysis(itemId));
 	}
 
 	/**
-	 * Fetch item analysis from the API asynchronously
+	 * Fetch analysis for several items, sending the ones that aren't cached in
+	 * chunked batch requests instead of one request per item.
+	 * Each item's future completes on its own as soon as its chunk arrives, and
+	 * results land in the same cache getItemAnalysisAsync uses. Items missing
+	 * from a batch response (or a failed batch) fall back to a single request.
+	 * Items that already have a request in flight (single or batch) attach to
+	 * it and are left out of the new chunks.
+	 *
+	 * @param itemIds items to fetch
+	 * @return future per item id
 	 */
-	public CompletableFuture<FlipAnalysis> getItemAnalysisAsync(int itemId) {
-		// Check cache first
-		CachedAnalysis cached = analysisCache.get(itemId);
-		if (cached != null && !cached.isExpired()) {
-			return CompletableFuture.completedFuture(cached.getAnalysis());
+	public Map<Integer, CompletableFuture<FlipAnalysis>> getItemAnalysisBatchAsync(java.util.Collection<Integer> itemIds) {
+		java.util.Set<Integer> distinct = new java.util.LinkedHashSet<>(itemIds);
+		int missing = 0;
+		for (Integer itemId : distinct) {
+			if (!responseCache.isFresh(getAnalysisCacheKey(itemId))) {
+				missing++;
+			}
+		}
+		boolean batchEnabled = missing > 1 && System.currentTimeMillis() >= analysisBatchDisabledUntil;
+
+		// The cache only runs a loader for items with no request in flight, and
+		// registers its future before returning, so claiming an item here is
+		// what reserves it for this call's chunks
+		java.util.List<Integer> claimed = new java.util.ArrayList<>();
+		Map<Integer, CompletableFuture<Map<Integer, FlipAnalysis>>> chunkByItem = new java.util.HashMap<>();
+		Map<Integer, CompletableFuture<FlipAnalysis>> results = new java.util.LinkedHashMap<>();
+		for (Integer itemId : distinct) {
+			results.put(itemId, responseCache.get(getAnalysisCacheKey(itemId), ANALYSIS_POLICY, () -> {
+				if (!batchEnabled) {
+					return fetchItemAnalysis(itemId);
+				}
+				CompletableFuture<Map<Integer, FlipAnalysis>> chunkFuture = new CompletableFuture<>();
+				claimed.add(itemId);
+				chunkByItem.put(itemId, chunkFuture);
+				return chunkFuture.thenCompose(analyses -> {
+					FlipAnalysis analysis = analyses != null ? analyses.get(itemId) : null;
+					return analysis != null ? CompletableFuture.completedFuture(analysis) : fetchItemAnalysis(itemId);
+				});
+			}));
+		}
+
+		if (claimed.size() == 1) {
+			// Everything else was cached or in flight; one item goes out on its own
+			chunkByItem.get(claimed.get(0)).complete(null);
+			return results;
+		}
+
+		// Start one batch request per chunk of claimed ids
+		for (int i = 0; i < claimed.size(); i += ANALYSIS_BATCH_SIZE) {
+			java.util.List<Integer> chunk = claimed.subList(i, Math.min(claimed.size(), i + ANALYSIS_BATCH_SIZE));
+			java.util.List<CompletableFuture<Map<Integer, FlipAnalysis>>> waiting = new java.util.ArrayList<>();
+			for (Integer itemId : chunk) {
+				waiting.add(chunkByItem.get(itemId));
+			}
+			fetchItemAnalysisBatch(chunk).whenComplete((analyses, e) -> {
+				for (CompletableFuture<Map<Integer, FlipAnalysis>> future : waiting) {
+					future.complete(e == null ? analyses : null);
+				}
+			});
 		}
+		return results;
+	}
 
-		String apiUrl = getApiUrl();
-		String url = String.format("%s/analysis/%d?timeframe=1h", apiUrl, itemId);
+	/**
+	 * Batch response wrapper for the analysis endpoint
+	 */
+	public static class AnalysisBatchResponse {
+		public java.util.List<FlipAnalysis> analyses;
+	}
+
+	private CompletableFuture<Map<Integer, FlipAnalysis>> fetchItemAnalysisBatch(java.util.List<Integer> itemIds) {
+		JsonObject requestBody = new JsonObject();
+		com.google.gson.JsonArray ids = new com.google.gson.JsonArray();
+		for (Integer itemId : itemIds) {
+			ids.add(itemId);
+		}
+		requestBody.add("item_ids", ids);
+		requestBody.addProperty("timeframe", "1h");
 
 		Request.Builder requestBuilder = new Request.Builder()
-				.url(url)
-				.get();
+				.url(String.format("%s/analysis/batch", getApiUrl()))
+				.post(RequestBody.create(JSON, requestBody.toString()));
 
 		return executeAuthenticatedAsync(requestBuilder, jsonData -> {
-			FlipAnalysis analysis = gson.fromJson(jsonData, FlipAnalysis.class);
-			removedExpiredCacheEntries();
-			analysisCache.put(itemId, new CachedAnalysis(analysis));
-			return analysis;
+			AnalysisBatchResponse response = gson.fromJson(jsonData, AnalysisBatchResponse.class);
+			Map<Integer, FlipAnalysis> byItem = new java.util.HashMap<>();
+			if (response != null && response.analyses != null) {
+				for (FlipAnalysis analysis : response.analyses) {
+					if (analysis != null) {
+						byItem.put(analysis.getItemId(), analysis);
+					}
+				}
+			}
+			return byItem;
+		}).thenApply(byItem -> {
+			if (byItem == null) {
+				// Batch endpoint unavailable; use single requests for a while
+				log.debug("Analysis batch request failed, falling back to single requests");
+				analysisBatchDisabledUntil = System.currentTimeMillis() + ANALYSIS_BATCH_BACKOFF_MS;
+			}
+			return byItem;
 		});
 	}
 
+	private CompletableFuture<FlipAnalysis> fetchItemAnalysis(int itemId) {
+		Request.Builder requestBuilder = new Request.Builder()
+				.url(getAnalysisUrl(itemId))
+				.get();
+
+		return executeAuthenticatedAsync(requestBuilder,
+				jsonData -> gson.fromJson(jsonData, FlipAnalysis.class));
+	}
+
+	private String getAnalysisUrl(int itemId) {
+		return String.format("%s/analysis/%d?timeframe=1h", getApiUrl(), itemId);
+	}
+
+	private String getAnalysisCacheKey(int itemId) {
+		return CACHE_ANALYSIS + getAnalysisUrl(itemId);
+	}
+
 	/**
 	 * Fetch flip recommendations from the API asynchronously
 	 */
@@ -779,7 +913,17 @@ public class FlipSmartApiClient {
 				.url(url)
 				.get();
 
-		return executeAuthenticatedAsync(requestBuilder, jsonData -> gson.fromJson(jsonData, FlipFinderResponse.class));
+		// A random seed asks for a fresh shuffle, so never serve it from cache,
+		// but still collapse identical concurrent calls into one request
+		if (randomSeed != null) {
+			return singleFlight.execute(CACHE_RECOMMENDATIONS + url,
+					() -> executeAuthenticatedAsync(requestBuilder,
+							jsonData -> gson.fromJson(jsonData, FlipFinderResponse.class)));
+		}
+
+		return responseCache.get(CACHE_RECOMMENDATIONS + url, RECOMMENDATIONS_POLICY,
+				() -> executeAuthenticatedAsync(requestBuilder,
+						jsonData -> gson.fromJson(jsonData, FlipFinderResponse.class)));
 	}
 
 	/**
@@ -890,7 +1034,7 @@ public class FlipSmartApiClient {
 				.url(url)
 				.post(body);
 
-		return executeAuthenticatedAsync(requestBuilder, jsonData -> {
+		return writeFlipsAsync(requestBuilder, jsonData -> {
 			JsonObject responseObj = gson.fromJson(jsonData, JsonObject.class);
 			log.info("Transaction recorded for {}: {}", request.rsn, responseObj.get("message").getAsString());
 			return null;
@@ -937,8 +1081,40 @@ public class FlipSmartApiClient {
 				.url(url)
 				.get();
 
-		return executeAuthenticatedAsync(requestBuilder,
-				jsonData -> gson.fromJson(jsonData, ActiveFlipsResponse.class));
+		return responseCache.get(CACHE_ACTIVE_FLIPS + url, ACTIVE_FLIPS_POLICY,
+				() -> executeAuthenticatedAsync(requestBuilder,
+						jsonData -> gson.fromJson(jsonData, ActiveFlipsResponse.class)));
+	}
+
+	/**
+	 * Fetch the changes to active flips since a sync cursor. APIs without delta
+	 * support ignore {@code since} and return the full list without a cursor.
+	 * Not cached: {@link FlipMirror} keeps the result.
+	 *
+	 * @param rsn    Optional RSN to filter by
+	 * @param cursor Cursor from the previous response, or null for a full list
+	 */
+	public CompletableFuture<ActiveFlipsResponse> getActiveFlipsSinceAsync(String rsn, String cursor) {
+		HttpUrl baseUrl = HttpUrl.parse(getApiUrl() + "/transactions/active-flips");
+		if (baseUrl == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		HttpUrl.Builder url = baseUrl.newBuilder();
+		if (rsn != null && !rsn.isEmpty()) {
+			url.addQueryParameter("rsn", rsn);
+		}
+		if (cursor != null) {
+			url.addQueryParameter("since", cursor);
+		}
+		HttpUrl requestUrl = url.build();
+
+		Request.Builder requestBuilder = new Request.Builder()
+				.url(requestUrl)
+				.get();
+
+		return singleFlight.execute(CACHE_ACTIVE_FLIPS + requestUrl,
+				() -> executeAuthenticatedAsync(requestBuilder,
+						jsonData -> gson.fromJson(jsonData, ActiveFlipsResponse.class)));
 	}
 
 	/**
@@ -974,7 +1150,7 @@ public class FlipSmartApiClient {
 				.url(url)
 				.delete();
 
-		return executeAuthenticatedAsync(requestBuilder, jsonData -> {
+		return writeFlipsAsync(requestBuilder, jsonData -> {
 			log.info("Successfully dismissed active flip for item {}", itemId);
 			return true;
 		}).exceptionally(e -> {
@@ -1015,7 +1191,7 @@ public class FlipSmartApiClient {
 				.url(url)
 				.post(body);
 
-		return executeAuthenticatedAsync(requestBuilder, jsonData -> {
+		return writeFlipsAsync(requestBuilder, jsonData -> {
 			JsonObject responseObj = gson.fromJson(jsonData, JsonObject.class);
 			int itemsCleaned = responseObj.has("items_cleaned") ? responseObj.get("items_cleaned").getAsInt() : 0;
 			if (itemsCleaned > 0) {
@@ -1061,7 +1237,7 @@ public class FlipSmartApiClient {
 				.url(url)
 				.post(body);
 
-		return executeAuthenticatedAsync(requestBuilder, jsonData -> {
+		return writeFlipsAsync(requestBuilder, jsonData -> {
 			JsonObject responseObj = gson.fromJson(jsonData, JsonObject.class);
 			int previousQty = responseObj.has("previous_quantity") ? responseObj.get("previous_quantity").getAsInt()
 					: 0;
@@ -1093,7 +1269,7 @@ public class FlipSmartApiClient {
 				.url(url)
 				.post(RequestBody.create(JSON, ""));
 
-		return executeAuthenticatedAsync(requestBuilder, jsonData -> {
+		return writeFlipsAsync(requestBuilder, jsonData -> {
 			log.info("Marked active flip for item {} as selling", itemId);
 			return true;
 		}).exceptionally(e -> {
@@ -1121,8 +1297,43 @@ public class FlipSmartApiClient {
 				.url(url)
 				.get();
 
-		return executeAuthenticatedAsync(requestBuilder,
-				jsonData -> gson.fromJson(jsonData, CompletedFlipsResponse.class));
+		return responseCache.get(CACHE_COMPLETED_FLIPS + url, COMPLETED_FLIPS_POLICY,
+				() -> executeAuthenticatedAsync(requestBuilder,
+						jsonData -> gson.fromJson(jsonData, CompletedFlipsResponse.class)));
+	}
+
+	/**
+	 * Fetch completed flips newer than a sync cursor. APIs without delta
+	 * support ignore {@code since} and return the newest {@code limit} flips
+	 * without a cursor. Not cached: {@link FlipMirror} keeps the result.
+	 *
+	 * @param limit  Maximum number of flips to return
+	 * @param rsn    Optional RSN to filter by
+	 * @param cursor Cursor from the previous response, or null for the newest page
+	 */
+	public CompletableFuture<CompletedFlipsResponse> getCompletedFlipsSinceAsync(int limit, String rsn,
+			String cursor) {
+		HttpUrl baseUrl = HttpUrl.parse(getApiUrl() + "/flips/completed");
+		if (baseUrl == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		HttpUrl.Builder url = baseUrl.newBuilder()
+				.addQueryParameter("limit", String.valueOf(limit));
+		if (rsn != null && !rsn.isEmpty()) {
+			url.addQueryParameter("rsn", rsn);
+		}
+		if (cursor != null) {
+			url.addQueryParameter("since", cursor);
+		}
+		HttpUrl requestUrl = url.build();
+
+		Request.Builder requestBuilder = new Request.Builder()
+				.url(requestUrl)
+				.get();
+
+		return singleFlight.execute(CACHE_COMPLETED_FLIPS + requestUrl,
+				() -> executeAuthenticatedAsync(requestBuilder,
+						jsonData -> gson.fromJson(jsonData, CompletedFlipsResponse.class)));
 	}
 
 	/**
@@ -1153,8 +1364,8 @@ public class FlipSmartApiClient {
 	public void getDumpsAsync(String sortBy, int minProfit, int limit,
 			Consumer<DumpEvent[]> onSuccess,
 			Consumer<String> onError) {
-		ensureAuthenticatedAsync().thenAccept(authSuccess -> {
-			if (!authSuccess) {
+		tokenManager.getToken().thenAccept(token -> {
+			if (token == null) {
 				if (onError != null) {
 					onError.accept("Authentication required");
 				}
@@ -1182,7 +1393,7 @@ public class FlipSmartApiClient {
 
 			Request request = new Request.Builder()
 					.url(urlBuilder.build())
-					.header("Authorization", "Bearer " + jwtToken)
+					.header("Authorization", "Bearer " + token)
 					.get()
 					.build();
 
@@ -1209,45 +1420,181 @@ public class FlipSmartApiClient {
 	}
 
 	/**
-	 * Clear the analysis cache
+	 * Callbacks for the live dump/pump stream. All methods are called on OkHttp
+	 * threads.
 	 */
-	public void clearCache() {
-		analysisCache.clear();
+	public interface DumpStreamListener {
+		/**
+		 * Stream connected and is delivering events
+		 */
+		void onOpen();
+
+		/**
+		 * A dump/pump event arrived
+		 *
+		 * @param eventId stream event id, pass back as lastEventId to resume after a reconnect
+		 */
+		void onDump(String eventId, DumpEvent dump);
+
+		/**
+		 * Server suggested a reconnect delay
+		 */
+		void onRetryHint(long retryMs);
+
+		/**
+		 * Stream ended or failed to connect
+		 *
+		 * @param error null when the server closed the stream cleanly
+		 */
+		void onClosed(String error);
 	}
 
 	/**
-	 * Remove a specific item from the cache
+	 * Open the live dump/pump stream (Server-Sent Events on /dumps/stream).
+	 * Uses a derived client whose read timeout spans two server heartbeats,
+	 * so a half-open connection fails and is reported through
+	 * {@link DumpStreamListener#onClosed} instead of staying silent.
+	 *
+	 * @param sortBy      Sort order: "recency" or "profit"
+	 * @param minProfit   Minimum profit threshold (0 for all)
+	 * @param lastEventId Resume after this event id (null for a fresh stream)
+	 * @param listener    Stream callbacks
+	 * @return CompletableFuture with the open call (cancel it to close the
+	 *         stream), or null if authentication failed
 	 */
-	public void invalidateCache(int itemId) {
-		analysisCache.remove(itemId);
+	public CompletableFuture<Call> openDumpStreamAsync(String sortBy, int minProfit, String lastEventId,
+			DumpStreamListener listener) {
+		return tokenManager.getToken().thenApply(token -> {
+			if (token == null) {
+				listener.onClosed("Authentication required");
+				return null;
+			}
+
+			HttpUrl baseUrl = HttpUrl.parse(getApiUrl() + "/dumps/stream");
+			if (baseUrl == null) {
+				listener.onClosed("Invalid API URL");
+				return null;
+			}
+			HttpUrl.Builder urlBuilder = baseUrl.newBuilder();
+			if (sortBy != null && !sortBy.isEmpty()) {
+				urlBuilder.addQueryParameter("sort_by", sortBy);
+			}
+			if (minProfit > 0) {
+				urlBuilder.addQueryParameter("min_profit", String.valueOf(minProfit));
+			}
+
+			Request.Builder requestBuilder = new Request.Builder()
+					.url(urlBuilder.build())
+					.header("Authorization", "Bearer " + token)
+					.header("Accept", "text/event-stream")
+					.get();
+			if (lastEventId != null && !lastEventId.isEmpty()) {
+				requestBuilder.header("Last-Event-ID", lastEventId);
+			}
+
+			Call call = getStreamingClient().newCall(requestBuilder.build());
+			call.enqueue(new Callback() {
+				@Override
+				public void onFailure(Call call, IOException e) {
+					listener.onClosed("Connection error: " + e.getMessage());
+				}
+
+				@Override
+				public void onResponse(Call call, Response response) {
+					try (response) {
+						if (response.code() == 401) {
+							// Let the next reconnect re-authenticate
+							tokenManager.invalidate(token);
+						}
+						ResponseBody responseBody = response.body();
+						if (!response.isSuccessful() || responseBody == null) {
+							listener.onClosed("Error " + response.code());
+							return;
+						}
+
+						listener.onOpen();
+						ServerSentEventReader reader = new ServerSentEventReader(responseBody.source(),
+								new ServerSentEventReader.Handler() {
+									@Override
+									public void onEvent(String id, String type, String data) {
+										handleDumpStreamEvent(id, type, data, listener);
+									}
+
+									@Override
+									public void onRetry(long retryMs) {
+										listener.onRetryHint(retryMs);
+									}
+								});
+						while (reader.processNextEvent()) {
+							// Events are dispatched from inside the reader
+						}
+						listener.onClosed(null);
+					} catch (IOException e) {
+						listener.onClosed("Stream interrupted: " + e.getMessage());
+					}
+				}
+			});
+			return call;
+		});
+	}
+
+	private void handleDumpStreamEvent(String id, String type, String data, DumpStreamListener listener) {
+		if (!"dump".equals(type) && !"message".equals(type)) {
+			// heartbeat and other control events
+			return;
+		}
+		try {
+			DumpEvent dump = gson.fromJson(data, DumpEvent.class);
+			if (dump != null) {
+				listener.onDump(id, dump);
+			}
+		} catch (Exception e) {
+			log.debug("Ignoring malformed dump stream event {}: {}", id, e.getMessage());
+		}
+	}
+
+	private OkHttpClient getStreamingClient() {
+		OkHttpClient client = streamingClient;
+		if (client == null) {
+			// Shares the plugin's connection pool, not its dispatcher
+			client = PluginHttpClient.deriveStreaming(httpClient, DUMP_STREAM_READ_TIMEOUT_SECONDS);
+			streamingClient = client;
+		}
+		return client;
 	}
 
 	/**
-	 * Removes expired entries from the cache
+	 * Clear all cached API responses
 	 */
-	private void removedExpiredCacheEntries() {
-		analysisCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+	public void clearCache() {
+		responseCache.clear();
 	}
 
 	/**
-	 * Inner class to store cached analysis with timestamp
+	 * Remove a specific item's analysis from the cache
 	 */
-	private static class CachedAnalysis {
-		private final FlipAnalysis analysis;
-		private final long timestamp;
-
-		public CachedAnalysis(FlipAnalysis analysis) {
-			this.analysis = analysis;
-			this.timestamp = System.currentTimeMillis();
-		}
+	public void invalidateCache(int itemId) {
+		responseCache.invalidate(getAnalysisCacheKey(itemId));
+	}
 
-		public FlipAnalysis getAnalysis() {
-			return analysis;
-		}
+	/**
+	 * Send a request that changes flips server-side. The flip caches are
+	 * invalidated when it starts, so reads already in flight can't store
+	 * pre-write data, and again when it finishes, for reads that raced it.
+	 */
+	private <T> CompletableFuture<T> writeFlipsAsync(Request.Builder requestBuilder,
+			Function<Reader, T> responseHandler) {
+		invalidateFlipCaches();
+		return executeAuthenticatedAsync(requestBuilder, responseHandler)
+				.whenComplete((v, e) -> invalidateFlipCaches());
+	}
 
-		public boolean isExpired() {
-			return System.currentTimeMillis() - timestamp > CACHE_DURATION_MS;
-		}
+	/**
+	 * Drop cached active/completed flips after anything that changes them server-side
+	 */
+	private void invalidateFlipCaches() {
+		responseCache.invalidatePrefix(CACHE_ACTIVE_FLIPS);
+		responseCache.invalidatePrefix(CACHE_COMPLETED_FLIPS);
 	}
 
 	// ============================================================================
@@ -1283,8 +1630,9 @@ public class FlipSmartApiClient {
 				.url(url)
 				.get();
 
-		return executeAuthenticatedAsync(requestBuilder,
-				jsonData -> gson.fromJson(jsonData, BankSnapshotStatusResponse.class));
+		return responseCache.get(CACHE_BANK_STATUS + url, BANK_STATUS_POLICY,
+				() -> executeAuthenticatedAsync(requestBuilder,
+						jsonData -> gson.fromJson(jsonData, BankSnapshotStatusResponse.class)));
 	}
 
 	/**
@@ -1317,8 +1665,11 @@ public class FlipSmartApiClient {
 				.url(url)
 				.post(body);
 
+		// Invalidate on both ends, as for flip writes
+		responseCache.invalidatePrefix(CACHE_BANK_STATUS);
 		return executeAuthenticatedAsync(requestBuilder,
-				jsonData -> gson.fromJson(jsonData, BankSnapshotResponse.class));
+				jsonData -> gson.fromJson(jsonData, BankSnapshotResponse.class))
+				.whenComplete((v, e) -> responseCache.invalidatePrefix(CACHE_BANK_STATUS));
 	}
 
 	// ============================================================================
@@ -1381,24 +1732,29 @@ public class FlipSmartApiClient {
 				.header("User-Agent", "FlipSmart RuneLite Plugin - github.com/flipsmart")
 				.get()
 				.build();
+		long start = System.nanoTime();
 
 		httpClient.newCall(request).enqueue(new Callback() {
 			@Override
 			public void onFailure(Call call, IOException e) {
+				FlipTo5BPlugin.WikiLatest.FETCH_ERRORS.increment();
 				log.warn("Failed to fetch wiki prices: {}", e.getMessage());
 				wikiPriceFetchInProgress = false;
 			}
 
 			@Override
 			public void onResponse(Call call, Response response) throws IOException {
+				FlipTo5BPlugin.WikiLatest.FETCH_TIME.recordSince(start);
 				try (ResponseBody responseBody = response.body()) {
 					if (!response.isSuccessful() || responseBody == null) {
+						FlipTo5BPlugin.WikiLatest.FETCH_ERRORS.increment();
 						log.warn("Wiki price API returned error: {}", response.code());
 						return;
 					}
 
-					String json = responseBody.string();
-					parseWikiPriceResponse(json);
+					long parseStart = System.nanoTime();
+					parseWikiPriceResponse(responseBody.charStream());
+					FlipTo5BPlugin.WikiLatest.PARSE_TIME.recordSince(parseStart);
 					lastWikiPriceFetch = System.currentTimeMillis();
 				} finally {
 					wikiPriceFetchInProgress = false;
@@ -1410,20 +1766,20 @@ public class FlipSmartApiClient {
 	/**
 	 * Parse wiki price API response and update cache
 	 */
-	private void parseWikiPriceResponse(String json) {
-		JsonObject root = gson.fromJson(json, JsonObject.class);
-		JsonObject data = root.getAsJsonObject("data");
-
-		if (data == null) {
+	private void parseWikiPriceResponse(Reader json) {
+		Map<Integer, FlipTo5BPlugin.WikiPrice> latest = FlipTo5BPlugin.WikiLatest.parse(gson, json);
+		if (latest == null) {
 			return;
 		}
 
 		// Clear expired entries before adding new ones to prevent unbounded growth
 		removeExpiredWikiPriceEntries();
 
-		for (String key : data.keySet()) {
-			parseAndCacheItemPrice(key, data.getAsJsonObject(key));
-		}
+		latest.forEach((itemId, price) -> {
+			if (price != null && (price.high > 0 || price.low > 0)) {
+				wikiPriceCache.put(itemId, new WikiPrice(price.high, price.low));
+			}
+		});
 		log.debug("Updated wiki price cache with {} items", wikiPriceCache.size());
 	}
 
@@ -1434,33 +1790,6 @@ public class FlipSmartApiClient {
 		wikiPriceCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
 	}
 
-	/**
-	 * Parse and cache a single item's price data
-	 */
-	private void parseAndCacheItemPrice(String itemKey, JsonObject priceData) {
-		try {
-			int itemId = Integer.parseInt(itemKey);
-			int high = getJsonIntOrZero(priceData, "high");
-			int low = getJsonIntOrZero(priceData, "low");
-
-			if (high > 0 || low > 0) {
-				wikiPriceCache.put(itemId, new WikiPrice(high, low));
-			}
-		} catch (NumberFormatException ignored) {
-			// Skip non-numeric keys
-		}
-	}
-
-	/**
-	 * Safely get an int value from JSON, returning 0 if null or missing
-	 */
-	private int getJsonIntOrZero(JsonObject obj, String key) {
-		if (obj.has(key) && !obj.get(key).isJsonNull()) {
-			return obj.get(key).getAsInt();
-		}
-		return 0;
-	}
-
 	/**
 	 * Check if wiki prices need to be refreshed
 	 */
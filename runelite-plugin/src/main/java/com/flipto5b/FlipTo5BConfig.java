@@ -24,12 +24,12 @@ public interface FlipTo5BConfig extends Config {
 		return "https://kyyxqrocfrifjhcenwpe.supabase.co/functions/v1/ingest-runelite-data";
 	}
 
-	@ConfigItem(keyName = "favorites", name = "Favorite Items", description = "Stored favorite item IDs", hidden = true)
+	@ConfigItem(keyName = "favorites", name = "Favorite Items", description = "Legacy favorite item IDs, migrated to flipto5b/favorites.bin", hidden = true)
 	default String favorites() {
 		return "";
 	}
 
-	@ConfigItem(keyName = "limitData", name = "GE Limit Data", description = "Stored GE limit tracking data", hidden = true)
+	@ConfigItem(keyName = "limitData", name = "GE Limit Data", description = "Legacy GE limit data, migrated to flipto5b/ge-limits.bin", hidden = true)
 	default String limitData() {
 		return "{}";
 	}
@@ -139,7 +139,7 @@ public interface FlipTo5BConfig extends Config {
 		return 50000;
 	}
 
-	@ConfigItem(keyName = "dumpAlertMaxCount", name = "Max Alerts per Check", description = "Maximum number of alerts to show at once", section = dumpAlertsSection, position = 3)
+	@ConfigItem(keyName = "dumpAlertMaxCount", name = "Max Alerts per Check", description = "Maximum number of alerts to show per check interval, including live stream alerts", section = dumpAlertsSection, position = 3)
 	default int dumpAlertMaxCount() {
 		return 3;
 	}
@@ -159,6 +159,16 @@ public interface FlipTo5BConfig extends Config {
 		return PriceAlertType.BOTH;
 	}
 
+	@ConfigItem(keyName = "dumpAlertLiveStream", name = "Live Alert Stream", description = "Receive dump alerts as they happen over a live connection, polling only while it is down", section = dumpAlertsSection, position = 7)
+	default boolean dumpAlertLiveStream() {
+		return true;
+	}
+
+	@ConfigItem(keyName = "dumpAlertLocalDetection", name = "Local Detection", description = "Also detect dumps and pumps from the wiki price feed the plugin already downloads", section = dumpAlertsSection, position = 8)
+	default boolean dumpAlertLocalDetection() {
+		return true;
+	}
+
 	enum PriceAlertType {
 		DUMPS_ONLY("Dumps Only"),
 		PUMPS_ONLY("Pumps Only"),
@@ -221,8 +231,18 @@ public interface FlipTo5BConfig extends Config {
 		return true;
 	}
 
+	@ConfigItem(keyName = "undercutChatAlerts", name = "Undercut Chat Alerts", description = "Post a chat message when one of your offers is outbid or undercut", section = overlaySection, position = 9)
+	default boolean undercutChatAlerts() {
+		return true;
+	}
+
 	@ConfigItem(keyName = "showGEItemIcons", name = "Show Item Icons", description = "Render item icons in the overlay", section = overlaySection, position = 7)
 	default boolean showGEItemIcons() {
 		return true;
 	}
+
+	@ConfigItem(keyName = "showMetricsOverlay", name = "Show Metrics (Debug)", description = "Show fetch, scan, API and render timings. Type ::f5bmetrics to dump them to a file", section = overlaySection, position = 8)
+	default boolean showMetricsOverlay() {
+		return false;
+	}
 }
@@ -0,0 +1,100 @@
+package com.flipto5b;
+
+import com.flipto5b.model.GELimitTracker;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GE limit trackers by item id, persisted as the {@code ge-limits} record of
+ * the {@link StateStore}.
+ *
+ * A purchase marks the record dirty, so a burst of fills costs a single
+ * write-behind flush and the game thread never touches the disk. Events that
+ * have aged out of the 4-hour window are not written.
+ *
+ * Format (version 1): item count, then per item its id followed by
+ * {@link GELimitTracker#writeTo}.
+ */
+class GELimitStore implements StateStore.Codec<Map<Integer, GELimitTracker>> {
+	private static final String RECORD_NAME = "ge-limits";
+
+	private final StateStore.Record<Map<Integer, GELimitTracker>> record;
+
+	GELimitStore(StateStore store) {
+		this.record = store.open(RECORD_NAME, this, ConcurrentHashMap::new);
+	}
+
+	GELimitTracker get(int itemId) {
+		return record.get().get(itemId);
+	}
+
+	/**
+	 * Record a completed buy and schedule a write.
+	 */
+	void recordPurchase(int itemId, int qty, long nowMillis) {
+		// Record inside compute so a concurrent write can't drop the tracker as empty in between
+		record.get().compute(itemId, (id, tracker) -> {
+			GELimitTracker updated = tracker != null ? tracker : new GELimitTracker();
+			updated.recordPurchase(qty, nowMillis);
+			return updated;
+		});
+		record.markDirty();
+	}
+
+	/**
+	 * How many more of an item can be bought now under its GE limit.
+	 */
+	int getRemainingLimit(int itemId, int limit, long nowMillis) {
+		GELimitTracker tracker = get(itemId);
+		return tracker != null ? tracker.getRemainingLimit(limit, nowMillis) : limit;
+	}
+
+	/**
+	 * False until the first write, so older storage can be migrated.
+	 */
+	boolean isPersisted() {
+		return record.isLoaded();
+	}
+
+	// --- Codec ---
+
+	@Override
+	public int version() {
+		return 1;
+	}
+
+	@Override
+	public void write(Map<Integer, GELimitTracker> trackers, DataOutput out) throws IOException {
+		long now = System.currentTimeMillis();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream body = new DataOutputStream(bytes);
+		int count = 0;
+		for (Integer itemId : trackers.keySet()) {
+			GELimitTracker tracker = trackers.computeIfPresent(itemId, (id, t) -> t.isEmpty(now) ? null : t);
+			if (tracker == null) {
+				continue;
+			}
+			body.writeInt(itemId);
+			tracker.writeTo(body, now);
+			count++;
+		}
+		out.writeInt(count);
+		out.write(bytes.toByteArray());
+	}
+
+	@Override
+	public Map<Integer, GELimitTracker> read(DataInput in, int version) throws IOException {
+		Map<Integer, GELimitTracker> trackers = new ConcurrentHashMap<>();
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			int itemId = in.readInt();
+			trackers.put(itemId, GELimitTracker.readFrom(in));
+		}
+		return trackers;
+	}
+}
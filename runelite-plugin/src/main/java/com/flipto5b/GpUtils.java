@@ -0,0 +1,34 @@
+package com.flipto5b;
+
+/**
+ * Utility class for GP amount formatting shared across panels.
+ */
+public final class GpUtils
+{
+	private GpUtils()
+	{
+		// Utility class - prevent instantiation
+	}
+
+	/**
+	 * Format a GP amount in short form (e.g., "1.5M", "-12.3K", "950")
+	 *
+	 * @param amount The amount in GP, may be negative
+	 * @return Short formatted amount
+	 */
+	public static String formatGP(int amount)
+	{
+		int absAmount = Math.abs(amount);
+		String sign = amount < 0 ? "-" : "";
+
+		if (absAmount >= 1_000_000)
+		{
+			return String.format("%s%.1fM", sign, absAmount / 1_000_000.0);
+		}
+		else if (absAmount >= 1_000)
+		{
+			return String.format("%s%.1fK", sign, absAmount / 1_000.0);
+		}
+		return String.valueOf(amount);
+	}
+}
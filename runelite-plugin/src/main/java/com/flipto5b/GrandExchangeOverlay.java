@@ -1,5 +1,7 @@
 package com.flipto5b;
 
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
 import net.runelite.api.Client;
 import net.runelite.api.GrandExchangeOffer;
 import net.runelite.api.GrandExchangeOfferState;
@@ -26,6 +28,7 @@ import static net.runelite.client.ui.overlay.OverlayManager.OPTION_CONFIGURE;
  * Hidden when the player is at the Grand Exchange area, shown everywhere else.
  */
 public class GrandExchangeOverlay extends Overlay {
+	private static final LatencyHistogram RENDER_TIME = Metrics.histogram("overlay.ge.render");
 	private static final DecimalFormat PERCENTAGE_FORMAT = new DecimalFormat("0");
 	private static final DecimalFormat PRICE_FORMAT = new DecimalFormat("#,###");
 
@@ -109,6 +112,15 @@ public class GrandExchangeOverlay extends Overlay {
 
 	@Override
 	public Dimension render(Graphics2D graphics) {
+		long start = System.nanoTime();
+		try {
+			return renderOverlay(graphics);
+		} finally {
+			RENDER_TIME.recordSince(start);
+		}
+	}
+
+	private Dimension renderOverlay(Graphics2D graphics) {
 		if (!config.showGEOverlay()) {
 			return null;
 		}
@@ -272,7 +284,7 @@ public class GrandExchangeOverlay extends Overlay {
 					state == GrandExchangeOfferState.CANCELLED_BUY;
 
 			double percentage = totalQuantity > 0 ? (quantitySold * 100.0) / totalQuantity : 0;
-			String itemName = itemManager.getItemComposition(itemId).getName();
+			String itemName = getItemName(itemId);
 
 			// Determine status color based on offer state
 			Color statusColor = getStatusColor(state, isBuy);
@@ -299,9 +311,9 @@ public class GrandExchangeOverlay extends Overlay {
 				}
 			}
 
-			// Get tracked offer for timer and competitiveness
+			// Tracked offer for the timer; competitiveness is kept by the engine
 			FlipTo5BPlugin.TrackedOffer trackedOffer = plugin.getTrackedOffer(slot);
-			FlipTo5BPlugin.OfferCompetitiveness competitiveness = plugin.calculateCompetitiveness(trackedOffer);
+			FlipTo5BPlugin.OfferCompetitiveness competitiveness = plugin.getCompetitiveness(slot);
 
 			// Calculate slot bounds for border highlighting
 			int slotStartY = currentY - LINE_HEIGHT + 4;
@@ -454,7 +466,7 @@ public class GrandExchangeOverlay extends Overlay {
 					state == GrandExchangeOfferState.CANCELLED_BUY;
 
 			double percentage = totalQuantity > 0 ? (quantitySold * 100.0) / totalQuantity : 0;
-			String itemName = itemManager.getItemComposition(itemId).getName();
+			String itemName = getItemName(itemId);
 
 			// Truncate item name if too long
 			if (itemName.length() > MAX_ITEM_NAME_LENGTH) {
@@ -463,9 +475,9 @@ public class GrandExchangeOverlay extends Overlay {
 
 			Color statusColor = getStatusColor(state, isBuy);
 
-			// Get tracked offer for timer and competitiveness
+			// Tracked offer for the timer; competitiveness is kept by the engine
 			FlipTo5BPlugin.TrackedOffer trackedOffer = plugin.getTrackedOffer(slot);
-			FlipTo5BPlugin.OfferCompetitiveness competitiveness = plugin.calculateCompetitiveness(trackedOffer);
+			FlipTo5BPlugin.OfferCompetitiveness competitiveness = plugin.getCompetitiveness(slot);
 
 			// Draw compact icon
 			if (config.showGEItemIcons()) {
@@ -565,6 +577,15 @@ public class GrandExchangeOverlay extends Overlay {
 		graphics.setFont(originalFont);
 	}
 
+	/**
+	 * The item's name, or a placeholder when neither the mapping nor the item
+	 * composition has one.
+	 */
+	private String getItemName(int itemId) {
+		String name = plugin.getItemName(itemId);
+		return name != null ? name : "Item " + itemId;
+	}
+
 	/**
 	 * Get the status color for an offer state.
 	 */
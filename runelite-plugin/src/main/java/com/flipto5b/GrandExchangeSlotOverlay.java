@@ -1,5 +1,7 @@
 package com.flipto5b;
 
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GrandExchangeOffer;
@@ -19,6 +21,8 @@ import java.text.NumberFormat;
  */
 @Slf4j
 public class GrandExchangeSlotOverlay extends Overlay {
+	private static final LatencyHistogram RENDER_TIME = Metrics.histogram("overlay.geSlots.render");
+
 	// GE Interface constants
 	private static final int GE_INTERFACE_GROUP = 465;
 
@@ -61,6 +65,15 @@ public class GrandExchangeSlotOverlay extends Overlay {
 
 	@Override
 	public Dimension render(Graphics2D graphics) {
+		long start = System.nanoTime();
+		try {
+			return renderOverlay(graphics);
+		} finally {
+			RENDER_TIME.recordSince(start);
+		}
+	}
+
+	private Dimension renderOverlay(Graphics2D graphics) {
 		if (!isGEInterfaceOpen()) {
 			return null;
 		}
@@ -166,7 +179,7 @@ public class GrandExchangeSlotOverlay extends Overlay {
 		}
 
 		FlipTo5BPlugin.TrackedOffer trackedOffer = plugin.getTrackedOffer(slot);
-		FlipTo5BPlugin.OfferCompetitiveness competitiveness = plugin.calculateCompetitiveness(trackedOffer);
+		FlipTo5BPlugin.OfferCompetitiveness competitiveness = plugin.getCompetitiveness(slot);
 
 		renderSlotBorder(graphics, bounds, competitiveness);
 		renderSlotTimer(graphics, bounds, trackedOffer);
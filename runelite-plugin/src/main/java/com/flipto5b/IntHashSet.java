@@ -0,0 +1,90 @@
+package com.flipto5b;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Set of item ids on an {@link IntLongHashMap} (values unused), so a
+ * membership test is a hash and a probe with no boxing or string parsing.
+ *
+ * Not thread-safe; shared instances are treated as immutable and replaced
+ * with an updated {@link #copy()} instead.
+ */
+class IntHashSet {
+	/**
+	 * Stored form (version 1): member count, then the members in ascending order.
+	 */
+	static final StateStore.Codec<IntHashSet> CODEC = new StateStore.Codec<IntHashSet>() {
+		@Override
+		public int version() {
+			return 1;
+		}
+
+		@Override
+		public void write(IntHashSet set, DataOutput out) throws IOException {
+			int[] values = set.toSortedArray();
+			out.writeInt(values.length);
+			for (int value : values) {
+				out.writeInt(value);
+			}
+		}
+
+		@Override
+		public IntHashSet read(DataInput in, int version) throws IOException {
+			IntHashSet set = new IntHashSet();
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				set.add(in.readInt());
+			}
+			return set;
+		}
+	};
+
+	private final IntLongHashMap members;
+
+	IntHashSet() {
+		this(new IntLongHashMap());
+	}
+
+	private IntHashSet(IntLongHashMap members) {
+		this.members = members;
+	}
+
+	boolean contains(int key) {
+		return members.containsKey(key);
+	}
+
+	/**
+	 * @return true if the key was not already present
+	 */
+	boolean add(int key) {
+		return members.put(key, 0);
+	}
+
+	/**
+	 * @return true if the key was present
+	 */
+	boolean remove(int key) {
+		return members.remove(key);
+	}
+
+	int size() {
+		return members.size();
+	}
+
+	boolean isEmpty() {
+		return members.size() == 0;
+	}
+
+	IntHashSet copy() {
+		return new IntHashSet(members.copy());
+	}
+
+	/**
+	 * The members in ascending order.
+	 */
+	int[] toSortedArray() {
+		return members.sortedKeys();
+	}
+}
@@ -0,0 +1,166 @@
+package com.flipto5b;
+
+import java.util.Arrays;
+
+/**
+ * Map from int keys to long values in a primitive open-addressing table, so a
+ * lookup is a hash and a probe with no boxing.
+ *
+ * - Linear probing; capacity is a power of two, kept at most half full
+ * - Deletion shifts later entries of the probe chain back instead of leaving
+ *   tombstones, so lookups never slow down as entries come and go
+ * - {@link Integer#MIN_VALUE} marks empty slots and can't be used as a key
+ *
+ * Not thread-safe; callers synchronize or treat shared instances as
+ * immutable.
+ */
+class IntLongHashMap {
+	private static final int EMPTY_KEY = Integer.MIN_VALUE;
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int[] keys;
+	private long[] values;
+	private int size;
+
+	IntLongHashMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity initial table size; rounded up to a power of two
+	 */
+	IntLongHashMap(int capacity) {
+		allocate(Integer.highestOneBit(Math.max(2, capacity - 1)) << 1);
+	}
+
+	boolean containsKey(int key) {
+		return indexOf(key) >= 0;
+	}
+
+	/**
+	 * The key's value, or {@code missing} if it has none.
+	 */
+	long get(int key, long missing) {
+		int index = indexOf(key);
+		return index < 0 ? missing : values[index];
+	}
+
+	/**
+	 * @return true if the key was not already present
+	 */
+	boolean put(int key, long value) {
+		if (key == EMPTY_KEY) {
+			throw new IllegalArgumentException("Unsupported key " + key);
+		}
+		if ((size + 1) * 2 > keys.length) {
+			rehash(keys.length * 2);
+		}
+		int mask = keys.length - 1;
+		int i = hash(key) & mask;
+		while (keys[i] != EMPTY_KEY && keys[i] != key) {
+			i = (i + 1) & mask;
+		}
+		boolean added = keys[i] == EMPTY_KEY;
+		if (added) {
+			keys[i] = key;
+			size++;
+		}
+		values[i] = value;
+		return added;
+	}
+
+	/**
+	 * @return true if the key was present
+	 */
+	boolean remove(int key) {
+		int index = indexOf(key);
+		if (index < 0) {
+			return false;
+		}
+		removeAt(index);
+		return true;
+	}
+
+	int size() {
+		return size;
+	}
+
+	void clear() {
+		Arrays.fill(keys, EMPTY_KEY);
+		size = 0;
+	}
+
+	IntLongHashMap copy() {
+		IntLongHashMap copy = new IntLongHashMap(keys.length);
+		System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+		System.arraycopy(values, 0, copy.values, 0, values.length);
+		copy.size = size;
+		return copy;
+	}
+
+	/**
+	 * The keys in ascending order.
+	 */
+	int[] sortedKeys() {
+		int[] result = new int[size];
+		int n = 0;
+		for (int key : keys) {
+			if (key != EMPTY_KEY) {
+				result[n++] = key;
+			}
+		}
+		Arrays.sort(result);
+		return result;
+	}
+
+	private void allocate(int capacity) {
+		keys = new int[capacity];
+		values = new long[capacity];
+		Arrays.fill(keys, EMPTY_KEY);
+	}
+
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private int indexOf(int key) {
+		int mask = keys.length - 1;
+		for (int i = hash(key) & mask; keys[i] != EMPTY_KEY; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void removeAt(int index) {
+		int mask = keys.length - 1;
+		int hole = index;
+		int i = (hole + 1) & mask;
+		while (keys[i] != EMPTY_KEY) {
+			int home = hash(keys[i]) & mask;
+			// Move the entry back if the hole lies between its home slot and i (cyclically)
+			if (((i - home) & mask) >= ((i - hole) & mask)) {
+				keys[hole] = keys[i];
+				values[hole] = values[i];
+				hole = i;
+			}
+			i = (i + 1) & mask;
+		}
+		keys[hole] = EMPTY_KEY;
+		size--;
+	}
+
+	private void rehash(int capacity) {
+		int[] oldKeys = keys;
+		long[] oldValues = values;
+		allocate(capacity);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != EMPTY_KEY) {
+				put(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+}
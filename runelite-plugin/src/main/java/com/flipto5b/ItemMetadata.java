@@ -0,0 +1,323 @@
+package com.flipto5b;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Item names, GE buy limits, members flags and alch values from the wiki's
+ * {@code /mapping} endpoint, persisted as the {@code item-mapping} record of
+ * the {@link StateStore}.
+ *
+ * - Lookups index flat arrays by item id, so they are cheap and safe on any
+ *   thread; unlike item compositions they don't need the client thread
+ * - The mapping is fetched at most once a day, with the previous response's
+ *   ETag so an unchanged mapping costs a 304
+ * - Until the first fetch completes there is no data: lookups return null/0
+ *   and callers fall back to what they did before
+ *
+ * Format (version 1): fetch time, ETag, array size, item count, then per
+ * item its id, name, limit, members flag, high alch and low alch.
+ */
+@Slf4j
+public class ItemMetadata implements StateStore.Codec<ItemMetadata.Table> {
+	private static final String RECORD_NAME = "item-mapping";
+	private static final String MAPPING_URL = "https://prices.runescape.wiki/api/v1/osrs/mapping";
+	private static final String USER_AGENT = "FlipTo5B-Client/2.0";
+	/** The mapping only changes with game updates */
+	private static final long MAX_AGE_MS = 24 * 60 * 60 * 1000L;
+
+	/**
+	 * One immutable copy of the mapping, indexed by item id.
+	 */
+	static final class Table {
+		static final Table EMPTY = new Table(0, null, new String[0], new int[0], new boolean[0], new int[0], new int[0]);
+
+		private final long fetchedAt;
+		private final String etag;
+		private final String[] names;
+		private final int[] limits;
+		private final boolean[] members;
+		private final int[] highAlch;
+		private final int[] lowAlch;
+
+		private Table(long fetchedAt, String etag, String[] names, int[] limits, boolean[] members, int[] highAlch,
+			int[] lowAlch) {
+			this.fetchedAt = fetchedAt;
+			this.etag = etag;
+			this.names = names;
+			this.limits = limits;
+			this.members = members;
+			this.highAlch = highAlch;
+			this.lowAlch = lowAlch;
+		}
+
+		private Table refreshedAt(long now) {
+			return new Table(now, etag, names, limits, members, highAlch, lowAlch);
+		}
+
+		private boolean has(int itemId) {
+			return itemId >= 0 && itemId < names.length && names[itemId] != null;
+		}
+	}
+
+	private final OkHttpClient httpClient;
+	private final Gson gson;
+	private final StateStore.Record<Table> record;
+	private final AtomicBoolean fetching = new AtomicBoolean();
+	private volatile Runnable onChange;
+
+	ItemMetadata(StateStore store, OkHttpClient httpClient, Gson gson) {
+		this.httpClient = httpClient;
+		this.gson = gson;
+		this.record = store.open(RECORD_NAME, this, () -> Table.EMPTY);
+	}
+
+	// --- Lookups ---
+
+	/**
+	 * Item name, or null if the item isn't in the mapping (or it isn't loaded).
+	 */
+	public String getName(int itemId) {
+		Table table = record.get();
+		return table.has(itemId) ? table.names[itemId] : null;
+	}
+
+	/**
+	 * GE buy limit per 4 hours, or 0 if unknown.
+	 */
+	public int getBuyLimit(int itemId) {
+		Table table = record.get();
+		return table.has(itemId) ? table.limits[itemId] : 0;
+	}
+
+	public boolean isMembers(int itemId) {
+		Table table = record.get();
+		return table.has(itemId) && table.members[itemId];
+	}
+
+	public int getHighAlch(int itemId) {
+		Table table = record.get();
+		return table.has(itemId) ? table.highAlch[itemId] : 0;
+	}
+
+	public int getLowAlch(int itemId) {
+		Table table = record.get();
+		return table.has(itemId) ? table.lowAlch[itemId] : 0;
+	}
+
+	/**
+	 * Names indexed by item id (null where there is no item), for building
+	 * lookups on top of the mapping. Shared, so don't modify it.
+	 */
+	String[] getNamesById() {
+		return record.get().names;
+	}
+
+	/**
+	 * Run {@code listener} on the fetching thread whenever a new mapping is
+	 * fetched.
+	 */
+	void onChange(Runnable listener) {
+		this.onChange = listener;
+	}
+
+	/**
+	 * True once a mapping has been loaded from disk or the wiki.
+	 */
+	public boolean isLoaded() {
+		return record.get().names.length > 0;
+	}
+
+	// --- Fetching ---
+
+	/**
+	 * Fetch the mapping in the background if the stored copy is missing or
+	 * more than a day old.
+	 */
+	void refreshIfStale() {
+		Table current = record.get();
+		if (System.currentTimeMillis() - current.fetchedAt < MAX_AGE_MS || !fetching.compareAndSet(false, true)) {
+			return;
+		}
+
+		Request.Builder request = new Request.Builder().url(MAPPING_URL).header("User-Agent", USER_AGENT);
+		if (current.etag != null && current.names.length > 0) {
+			request.header("If-None-Match", current.etag);
+		}
+		httpClient.newCall(request.build()).enqueue(new Callback() {
+			@Override
+			public void onFailure(Call call, IOException e) {
+				fetching.set(false);
+				log.warn("Error fetching item mapping", e);
+			}
+
+			@Override
+			public void onResponse(Call call, Response response) {
+				try (Response r = response) {
+					long now = System.currentTimeMillis();
+					if (r.code() == 304) {
+						record.set(record.get().refreshedAt(now));
+						log.debug("Item mapping unchanged");
+						return;
+					}
+					ResponseBody body = r.body();
+					if (!r.isSuccessful() || body == null) {
+						log.warn("Item mapping request failed: {}", r.code());
+						return;
+					}
+					Table table = parse(body.charStream(), now, r.header("ETag"));
+					record.set(table);
+					log.debug("Fetched item mapping (ids up to {})", table.names.length - 1);
+					Runnable listener = onChange;
+					if (listener != null) {
+						listener.run();
+					}
+				} catch (IOException | RuntimeException e) {
+					log.warn("Failed to parse item mapping", e);
+				} finally {
+					fetching.set(false);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Stream the mapping array straight into the lookup arrays.
+	 */
+	private Table parse(Reader reader, long fetchedAt, String etag) throws IOException {
+		String[] names = new String[32768];
+		int[] limits = new int[names.length];
+		boolean[] members = new boolean[names.length];
+		int[] highAlch = new int[names.length];
+		int[] lowAlch = new int[names.length];
+		int maxId = -1;
+
+		try (JsonReader in = gson.newJsonReader(reader)) {
+			in.beginArray();
+			while (in.hasNext()) {
+				int id = -1;
+				String name = null;
+				int limit = 0;
+				boolean member = false;
+				int high = 0;
+				int low = 0;
+
+				in.beginObject();
+				while (in.hasNext()) {
+					String field = in.nextName();
+					if (in.peek() == JsonToken.NULL) {
+						in.nextNull();
+						continue;
+					}
+					switch (field) {
+						case "id": id = in.nextInt(); break;
+						case "name": name = in.nextString(); break;
+						case "limit": limit = in.nextInt(); break;
+						case "members": member = in.nextBoolean(); break;
+						case "highalch": high = in.nextInt(); break;
+						case "lowalch": low = in.nextInt(); break;
+						default: in.skipValue(); break;
+					}
+				}
+				in.endObject();
+
+				if (id < 0 || name == null) {
+					continue;
+				}
+				if (id >= names.length) {
+					int size = Math.max(id + 1, names.length * 2);
+					names = Arrays.copyOf(names, size);
+					limits = Arrays.copyOf(limits, size);
+					members = Arrays.copyOf(members, size);
+					highAlch = Arrays.copyOf(highAlch, size);
+					lowAlch = Arrays.copyOf(lowAlch, size);
+				}
+				names[id] = name;
+				limits[id] = limit;
+				members[id] = member;
+				highAlch[id] = high;
+				lowAlch[id] = low;
+				maxId = Math.max(maxId, id);
+			}
+			in.endArray();
+		}
+
+		int size = maxId + 1;
+		return new Table(fetchedAt, etag, Arrays.copyOf(names, size), Arrays.copyOf(limits, size),
+			Arrays.copyOf(members, size), Arrays.copyOf(highAlch, size), Arrays.copyOf(lowAlch, size));
+	}
+
+	// --- Codec ---
+
+	@Override
+	public int version() {
+		return 1;
+	}
+
+	@Override
+	public void write(Table table, DataOutput out) throws IOException {
+		int count = 0;
+		for (String name : table.names) {
+			if (name != null) {
+				count++;
+			}
+		}
+
+		out.writeLong(table.fetchedAt);
+		out.writeBoolean(table.etag != null);
+		if (table.etag != null) {
+			out.writeUTF(table.etag);
+		}
+		out.writeInt(table.names.length);
+		out.writeInt(count);
+		for (int id = 0; id < table.names.length; id++) {
+			if (table.names[id] == null) {
+				continue;
+			}
+			out.writeInt(id);
+			out.writeUTF(table.names[id]);
+			out.writeInt(table.limits[id]);
+			out.writeBoolean(table.members[id]);
+			out.writeInt(table.highAlch[id]);
+			out.writeInt(table.lowAlch[id]);
+		}
+	}
+
+	@Override
+	public Table read(DataInput in, int version) throws IOException {
+		long fetchedAt = in.readLong();
+		String etag = in.readBoolean() ? in.readUTF() : null;
+		int size = in.readInt();
+		int count = in.readInt();
+
+		String[] names = new String[size];
+		int[] limits = new int[size];
+		boolean[] members = new boolean[size];
+		int[] highAlch = new int[size];
+		int[] lowAlch = new int[size];
+		for (int i = 0; i < count; i++) {
+			int id = in.readInt();
+			names[id] = in.readUTF();
+			limits[id] = in.readInt();
+			members[id] = in.readBoolean();
+			highAlch[id] = in.readInt();
+			lowAlch[id] = in.readInt();
+		}
+		log.debug("Loaded item mapping for {} items", count);
+		return new Table(fetchedAt, etag, names, limits, members, highAlch, lowAlch);
+	}
+}
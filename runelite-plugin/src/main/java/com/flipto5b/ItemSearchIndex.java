@@ -0,0 +1,430 @@
+package com.flipto5b;
+
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Typo-tolerant search over the names in the {@link ItemMetadata} mapping
+ * (every tradeable item), built once and then read from any thread.
+ *
+ * Matches are ranked in tiers:
+ * - the whole name, then names starting with the query (binary search over
+ *   the sorted names)
+ * - names where every query word starts a word of the name, in any order
+ *   (binary search over the sorted word list)
+ * - names whose start is within a few edits of the query, found through a
+ *   trigram index and checked by edit distance
+ *
+ * Within a tier, closer and shorter names come first. Everything lives in
+ * sorted arrays: names, distinct words with their names' positions, and
+ * trigram postings packed into longs.
+ */
+public final class ItemSearchIndex {
+	public static final ItemSearchIndex EMPTY = new ItemSearchIndex(new int[0], new String[0], new String[0],
+		new int[1], new int[0], new long[0]);
+
+	/** Fuzzy candidates verified by edit distance per query */
+	private static final int MAX_FUZZY_CANDIDATES = 200;
+	private static final char BOUNDARY = '$';
+	/** Weight of the query's first trigram when ranking fuzzy candidates */
+	private static final int START_WEIGHT = 3;
+
+	private static final LatencyHistogram BUILD_TIME = Metrics.histogram("search.build");
+	private static final LatencyHistogram QUERY_TIME = Metrics.histogram("search.query");
+
+	/** Item ids and normalized names, sorted by name */
+	private final int[] ids;
+	private final String[] names;
+	/** Distinct words of all names, sorted, and the names containing each */
+	private final String[] words;
+	private final int[] wordStart;
+	private final int[] wordItems;
+	/** (trigram << 32 | name index), sorted */
+	private final long[] grams;
+
+	private ItemSearchIndex(int[] ids, String[] names, String[] words, int[] wordStart, int[] wordItems,
+		long[] grams) {
+		this.ids = ids;
+		this.names = names;
+		this.words = words;
+		this.wordStart = wordStart;
+		this.wordItems = wordItems;
+		this.grams = grams;
+	}
+
+	// --- Building ---
+
+	/**
+	 * Build from item names by id (null where an id has no item).
+	 */
+	static ItemSearchIndex build(String[] namesById) {
+		long start = System.nanoTime();
+
+		List<Integer> order = new ArrayList<>();
+		String[] normalized = new String[namesById.length];
+		for (int id = 0; id < namesById.length; id++) {
+			if (namesById[id] != null) {
+				normalized[id] = normalize(namesById[id]);
+				if (!normalized[id].isEmpty()) {
+					order.add(id);
+				}
+			}
+		}
+		order.sort((a, b) -> normalized[a].compareTo(normalized[b]));
+
+		int n = order.size();
+		int[] ids = new int[n];
+		String[] names = new String[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = order.get(i);
+			names[i] = normalized[ids[i]];
+		}
+
+		// Distinct words, then each word's names (CSR: wordStart[w]..wordStart[w + 1])
+		String[][] nameWords = new String[n][];
+		int wordCount = 0;
+		for (int i = 0; i < n; i++) {
+			nameWords[i] = names[i].split(" ");
+			wordCount += nameWords[i].length;
+		}
+		String[] words = new String[wordCount];
+		wordCount = 0;
+		for (String[] split : nameWords) {
+			for (String word : split) {
+				words[wordCount++] = word;
+			}
+		}
+		Arrays.sort(words);
+		int distinct = 0;
+		for (int i = 0; i < words.length; i++) {
+			if (distinct == 0 || !words[i].equals(words[distinct - 1])) {
+				words[distinct++] = words[i];
+			}
+		}
+		words = Arrays.copyOf(words, distinct);
+
+		int[] wordStart = new int[distinct + 1];
+		for (String[] split : nameWords) {
+			for (String word : split) {
+				wordStart[Arrays.binarySearch(words, word) + 1]++;
+			}
+		}
+		for (int w = 0; w < distinct; w++) {
+			wordStart[w + 1] += wordStart[w];
+		}
+		int[] wordItems = new int[wordCount];
+		int[] fill = Arrays.copyOf(wordStart, distinct);
+		for (int i = 0; i < n; i++) {
+			for (String word : nameWords[i]) {
+				wordItems[fill[Arrays.binarySearch(words, word)]++] = i;
+			}
+		}
+
+		// Trigrams, once per name
+		long[] grams = new long[0];
+		int gramCount = 0;
+		for (int i = 0; i < n; i++) {
+			int[] nameGrams = trigrams(names[i]);
+			if (gramCount + nameGrams.length > grams.length) {
+				grams = Arrays.copyOf(grams, Math.max(grams.length * 2, gramCount + nameGrams.length + 1024));
+			}
+			for (int gram : nameGrams) {
+				grams[gramCount++] = (long) gram << 32 | i;
+			}
+		}
+		grams = Arrays.copyOf(grams, gramCount);
+		Arrays.sort(grams);
+
+		BUILD_TIME.recordSince(start);
+		return new ItemSearchIndex(ids, names, words, wordStart, wordItems, grams);
+	}
+
+	// --- Queries ---
+
+	public int size() {
+		return ids.length;
+	}
+
+	/**
+	 * Item ids matching {@code query}, best first.
+	 */
+	public List<Integer> search(String query, int limit) {
+		String q = normalize(query);
+		if (q.isEmpty() || ids.length == 0 || limit <= 0) {
+			return Collections.emptyList();
+		}
+		long start = System.nanoTime();
+
+		Matches matches = new Matches(ids.length);
+		matchPrefix(q, matches);
+		matchWords(q, matches);
+		if (matches.count < limit) {
+			matchFuzzy(q, matches);
+		}
+
+		List<Integer> result = matches.ranked(limit);
+		QUERY_TIME.recordSince(start);
+		return result;
+	}
+
+	/**
+	 * The best matching item id, or -1 if nothing is close.
+	 */
+	public int bestMatch(String query) {
+		List<Integer> result = search(query, 1);
+		return result.isEmpty() ? -1 : result.get(0);
+	}
+
+	private void matchPrefix(String q, Matches matches) {
+		for (int i = lowerBound(names, q); i < names.length && names[i].startsWith(q); i++) {
+			matches.add(i, names[i].length() == q.length() ? 0 : 1, 0);
+		}
+	}
+
+	private void matchWords(String q, Matches matches) {
+		String[] queryWords = q.split(" ");
+		// Walk the longest query word's range: it is the narrowest
+		String first = queryWords[0];
+		for (String word : queryWords) {
+			if (word.length() > first.length()) {
+				first = word;
+			}
+		}
+		for (int w = lowerBound(words, first); w < words.length && words[w].startsWith(first); w++) {
+			for (int p = wordStart[w]; p < wordStart[w + 1]; p++) {
+				int item = wordItems[p];
+				if (!matches.contains(item) && allWordsMatch(queryWords, names[item])) {
+					matches.add(item, 2, 0);
+				}
+			}
+		}
+	}
+
+	private static boolean allWordsMatch(String[] queryWords, String name) {
+		String[] nameWords = name.split(" ");
+		for (String queryWord : queryWords) {
+			boolean found = false;
+			for (String nameWord : nameWords) {
+				if (nameWord.startsWith(queryWord)) {
+					found = true;
+					break;
+				}
+			}
+			if (!found) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void matchFuzzy(String q, Matches matches) {
+		int maxDistance = q.length() <= 4 ? 1 : q.length() <= 8 ? 2 : 3;
+		int[] queryGrams = trigrams(q);
+		// Each edit breaks at most three trigrams
+		int minShared = Math.max(1, queryGrams.length - 3 * maxDistance);
+
+		// Typos rarely hit the first letters, so sharing the start counts extra
+		int[] shared = new int[ids.length];
+		for (int gram : queryGrams) {
+			int weight = gram >>> 14 == BOUNDARY ? START_WEIGHT : 1;
+			long key = (long) gram << 32;
+			for (int i = lowerBound(grams, key); i < grams.length && grams[i] >>> 32 == gram; i++) {
+				shared[(int) grams[i]] += weight;
+			}
+		}
+
+		// Verify the names sharing the most trigrams first
+		int[] candidates = new int[ids.length];
+		int candidateCount = 0;
+		for (int i = 0; i < shared.length; i++) {
+			if (shared[i] >= minShared && !matches.contains(i)) {
+				candidates[candidateCount++] = i;
+			}
+		}
+		if (candidateCount > MAX_FUZZY_CANDIDATES) {
+			Integer[] boxed = new Integer[candidateCount];
+			for (int i = 0; i < candidateCount; i++) {
+				boxed[i] = candidates[i];
+			}
+			Arrays.sort(boxed, (a, b) -> Integer.compare(shared[b], shared[a]));
+			candidateCount = MAX_FUZZY_CANDIDATES;
+			for (int i = 0; i < candidateCount; i++) {
+				candidates[i] = boxed[i];
+			}
+		}
+
+		for (int c = 0; c < candidateCount; c++) {
+			int item = candidates[c];
+			int distance = prefixDistance(q, names[item], maxDistance);
+			if (distance <= maxDistance) {
+				matches.add(item, 3, distance);
+			}
+		}
+	}
+
+	/**
+	 * Edit distance (counting a swap of neighbours as one edit) between
+	 * {@code query} and the closest prefix of {@code name}, or {@code max + 1}
+	 * once it is known to exceed {@code max}.
+	 */
+	private static int prefixDistance(String query, String name, int max) {
+		int width = name.length() + 1;
+		int[] beforePrevious = new int[width];
+		int[] previous = new int[width];
+		int[] current = new int[width];
+		for (int j = 0; j < width; j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= query.length(); i++) {
+			current[0] = i;
+			int rowMin = i;
+			char qc = query.charAt(i - 1);
+			for (int j = 1; j < width; j++) {
+				char nc = name.charAt(j - 1);
+				int d = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + (qc == nc ? 0 : 1));
+				if (i > 1 && j > 1 && qc == name.charAt(j - 2) && query.charAt(i - 2) == nc) {
+					d = Math.min(d, beforePrevious[j - 2] + 1);
+				}
+				current[j] = d;
+				rowMin = Math.min(rowMin, d);
+			}
+			if (rowMin > max) {
+				return max + 1;
+			}
+			int[] recycled = beforePrevious;
+			beforePrevious = previous;
+			previous = current;
+			current = recycled;
+		}
+		int best = max + 1;
+		for (int d : previous) {
+			best = Math.min(best, d);
+		}
+		return best;
+	}
+
+	// --- Helpers ---
+
+	/**
+	 * Lower-case letters and digits, words separated by single spaces.
+	 */
+	static String normalize(String text) {
+		StringBuilder out = new StringBuilder(text.length());
+		boolean space = false;
+		for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+			if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+				if (space && out.length() > 0) {
+					out.append(' ');
+				}
+				out.append(c);
+				space = false;
+			} else if (c != '\'') {
+				space = true;
+			}
+		}
+		return out.toString();
+	}
+
+	/**
+	 * Distinct trigrams of a normalized string, anchored at its start. Characters
+	 * are 7-bit after normalizing, so a trigram packs into 21 bits.
+	 */
+	private static int[] trigrams(String text) {
+		String padded = BOUNDARY + text;
+		if (padded.length() < 3) {
+			padded = padded + ' ';
+		}
+		int[] result = new int[padded.length() - 2];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = (padded.charAt(i) & 0x7f) << 14 | (padded.charAt(i + 1) & 0x7f) << 7
+				| (padded.charAt(i + 2) & 0x7f);
+		}
+		Arrays.sort(result);
+		int distinct = 0;
+		for (int i = 0; i < result.length; i++) {
+			if (distinct == 0 || result[i] != result[distinct - 1]) {
+				result[distinct++] = result[i];
+			}
+		}
+		return Arrays.copyOf(result, distinct);
+	}
+
+	private static int lowerBound(String[] sorted, String key) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid].compareTo(key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static int lowerBound(long[] sorted, long key) {
+		int index = Arrays.binarySearch(sorted, key);
+		if (index < 0) {
+			return -index - 1;
+		}
+		while (index > 0 && sorted[index - 1] == key) {
+			index--;
+		}
+		return index;
+	}
+
+	/**
+	 * Matches collected by one query, at most one per name.
+	 */
+	private final class Matches {
+		private final boolean[] seen;
+		private int[] items = new int[16];
+		/** tier << 16 | distance << 8 | min(name length, 255), lower is better */
+		private int[] ranks = new int[16];
+		private int count;
+
+		private Matches(int size) {
+			this.seen = new boolean[size];
+		}
+
+		private boolean contains(int item) {
+			return seen[item];
+		}
+
+		private void add(int item, int tier, int distance) {
+			if (seen[item]) {
+				return;
+			}
+			seen[item] = true;
+			if (count == items.length) {
+				items = Arrays.copyOf(items, count * 2);
+				ranks = Arrays.copyOf(ranks, count * 2);
+			}
+			items[count] = item;
+			ranks[count] = tier << 16 | distance << 8 | Math.min(names[item].length(), 255);
+			count++;
+		}
+
+		private List<Integer> ranked(int limit) {
+			Integer[] order = new Integer[count];
+			for (int i = 0; i < count; i++) {
+				order[i] = i;
+			}
+			// Names are sorted, so equal ranks fall back to alphabetical order
+			Arrays.sort(order, (a, b) -> ranks[a] != ranks[b]
+				? Integer.compare(ranks[a], ranks[b])
+				: Integer.compare(items[a], items[b]));
+			List<Integer> result = new ArrayList<>(Math.min(limit, count));
+			for (int i = 0; i < count && i < limit; i++) {
+				result.add(ids[items[order[i]]]);
+			}
+			return result;
+		}
+	}
+}
@@ -0,0 +1,533 @@
+package com.flipto5b;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Hand-written streaming Gson adapters for the DTOs bound on every refresh
+ * (recommendations, active and completed flips, analyses, dumps and wiki prices).
+ *
+ * - Fields are dispatched with a switch on the JSON name and set through the
+ *   Lombok setters, so there is no reflective field access per value
+ * - Unknown fields are skipped, and JSON null leaves primitives at 0/false,
+ *   matching what reflective binding did
+ * - Field names must stay in sync with the {@code @SerializedName}s on the DTOs
+ *
+ * Registered once on the plugin's shared Gson by {@link FlipSmartApiClient};
+ * everything else uses that instance.
+ */
+final class JsonAdapters {
+	private JsonAdapters() {
+	}
+
+	static GsonBuilder register(GsonBuilder builder) {
+		return builder
+			.registerTypeAdapter(FlipRecommendation.class, new FlipRecommendationAdapter())
+			.registerTypeAdapter(ActiveFlip.class, new ActiveFlipAdapter())
+			.registerTypeAdapter(CompletedFlip.class, new CompletedFlipAdapter())
+			.registerTypeAdapter(FlipAnalysis.class, new FlipAnalysisAdapter())
+			.registerTypeAdapter(DumpEvent.class, new DumpEventAdapter())
+			.registerTypeAdapter(FlipTo5BPlugin.WikiPrice.class, new WikiPriceAdapter());
+	}
+
+	/**
+	 * Reads a JSON object field by field into a fresh instance.
+	 */
+	private abstract static class ObjectAdapter<T> extends TypeAdapter<T> {
+		abstract T create();
+
+		/** Read the value of {@code name} into {@code target}, skipping unknown names */
+		abstract void readField(JsonReader in, String name, T target) throws IOException;
+
+		abstract void writeFields(JsonWriter out, T value) throws IOException;
+
+		@Override
+		public T read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			T target = create();
+			in.beginObject();
+			while (in.hasNext()) {
+				readField(in, in.nextName(), target);
+			}
+			in.endObject();
+			return target;
+		}
+
+		@Override
+		public void write(JsonWriter out, T value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+			out.beginObject();
+			writeFields(out, value);
+			out.endObject();
+		}
+	}
+
+	// ==================== Value helpers ====================
+
+	private static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return true;
+		}
+		return false;
+	}
+
+	private static int readInt(JsonReader in) throws IOException {
+		return skipNull(in) ? 0 : in.nextInt();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		return skipNull(in) ? null : in.nextInt();
+	}
+
+	private static long readLong(JsonReader in) throws IOException {
+		return skipNull(in) ? 0 : in.nextLong();
+	}
+
+	private static double readDouble(JsonReader in) throws IOException {
+		return skipNull(in) ? 0 : in.nextDouble();
+	}
+
+	private static Double readDoubleObject(JsonReader in) throws IOException {
+		return skipNull(in) ? null : in.nextDouble();
+	}
+
+	private static boolean readBoolean(JsonReader in) throws IOException {
+		return !skipNull(in) && in.nextBoolean();
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		return skipNull(in) ? null : in.nextString();
+	}
+
+	// ==================== Adapters ====================
+
+	private static final class FlipRecommendationAdapter extends ObjectAdapter<FlipRecommendation> {
+		@Override
+		FlipRecommendation create() {
+			return new FlipRecommendation();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, FlipRecommendation r) throws IOException {
+			switch (name) {
+				case "item_id": r.setItemId(readInt(in)); break;
+				case "item_name": r.setItemName(readString(in)); break;
+				case "members": r.setMembers(readBoolean(in)); break;
+				case "buy_limit": r.setBuyLimit(readInteger(in)); break;
+				case "instant_buy_price": r.setInstantBuyPrice(readInt(in)); break;
+				case "instant_sell_price": r.setInstantSellPrice(readInt(in)); break;
+				case "recommended_buy_price": r.setRecommendedBuyPrice(readInt(in)); break;
+				case "recommended_sell_price": r.setRecommendedSellPrice(readInt(in)); break;
+				case "recommended_quantity": r.setRecommendedQuantity(readInt(in)); break;
+				case "margin": r.setMargin(readInt(in)); break;
+				case "roi_percent": r.setRoiPercent(readDouble(in)); break;
+				case "ge_tax": r.setGeTax(readInt(in)); break;
+				case "liquidity_score": r.setLiquidityScore(readDouble(in)); break;
+				case "liquidity_rating": r.setLiquidityRating(readString(in)); break;
+				case "volume_per_hour": r.setVolumePerHour(readDouble(in)); break;
+				case "risk_score": r.setRiskScore(readDouble(in)); break;
+				case "risk_rating": r.setRiskRating(readString(in)); break;
+				case "efficiency_score": r.setEfficiencyScore(readDouble(in)); break;
+				case "efficiency_rating": r.setEfficiencyRating(readString(in)); break;
+				case "quantity_affordable": r.setQuantityAffordable(readInteger(in)); break;
+				case "potential_profit": r.setPotentialProfit(readInt(in)); break;
+				case "total_cost": r.setTotalCost(readInt(in)); break;
+				case "buy_price": r.setBuyPrice(readInteger(in)); break;
+				case "sell_price": r.setSellPrice(readInteger(in)); break;
+				case "cost_per_flip": r.setCostPerFlip(readInteger(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, FlipRecommendation r) throws IOException {
+			out.name("item_id").value(r.getItemId());
+			out.name("item_name").value(r.getItemName());
+			out.name("members").value(r.isMembers());
+			out.name("buy_limit").value(r.getBuyLimit());
+			out.name("instant_buy_price").value(r.getInstantBuyPrice());
+			out.name("instant_sell_price").value(r.getInstantSellPrice());
+			out.name("recommended_buy_price").value(r.getRecommendedBuyPrice());
+			out.name("recommended_sell_price").value(r.getRecommendedSellPrice());
+			out.name("recommended_quantity").value(r.getRecommendedQuantity());
+			out.name("margin").value(r.getMargin());
+			out.name("roi_percent").value(r.getRoiPercent());
+			out.name("ge_tax").value(r.getGeTax());
+			out.name("liquidity_score").value(r.getLiquidityScore());
+			out.name("liquidity_rating").value(r.getLiquidityRating());
+			out.name("volume_per_hour").value(r.getVolumePerHour());
+			out.name("risk_score").value(r.getRiskScore());
+			out.name("risk_rating").value(r.getRiskRating());
+			out.name("efficiency_score").value(r.getEfficiencyScore());
+			out.name("efficiency_rating").value(r.getEfficiencyRating());
+			out.name("quantity_affordable").value(r.getQuantityAffordable());
+			out.name("potential_profit").value(r.getPotentialProfit());
+			out.name("total_cost").value(r.getTotalCost());
+			out.name("buy_price").value(r.getBuyPrice());
+			out.name("sell_price").value(r.getSellPrice());
+			out.name("cost_per_flip").value(r.getCostPerFlip());
+		}
+	}
+
+	private static final class ActiveFlipAdapter extends ObjectAdapter<ActiveFlip> {
+		@Override
+		ActiveFlip create() {
+			return new ActiveFlip();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, ActiveFlip f) throws IOException {
+			switch (name) {
+				case "item_id": f.setItemId(readInt(in)); break;
+				case "item_name": f.setItemName(readString(in)); break;
+				case "total_quantity": f.setTotalQuantity(readInt(in)); break;
+				case "original_quantity": f.setOriginalQuantity(readInt(in)); break;
+				case "average_buy_price": f.setAverageBuyPrice(readInt(in)); break;
+				case "total_invested": f.setTotalInvested(readInt(in)); break;
+				case "first_buy_time": f.setFirstBuyTime(readString(in)); break;
+				case "last_buy_time": f.setLastBuyTime(readString(in)); break;
+				case "transaction_count": f.setTransactionCount(readInt(in)); break;
+				case "recommended_sell_price": f.setRecommendedSellPrice(readInteger(in)); break;
+				case "order_quantity": f.setOrderQuantity(readInt(in)); break;
+				case "phase": f.setPhase(readString(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, ActiveFlip f) throws IOException {
+			out.name("item_id").value(f.getItemId());
+			out.name("item_name").value(f.getItemName());
+			out.name("total_quantity").value(f.getTotalQuantity());
+			out.name("original_quantity").value(f.getOriginalQuantity());
+			out.name("average_buy_price").value(f.getAverageBuyPrice());
+			out.name("total_invested").value(f.getTotalInvested());
+			out.name("first_buy_time").value(f.getFirstBuyTime());
+			out.name("last_buy_time").value(f.getLastBuyTime());
+			out.name("transaction_count").value(f.getTransactionCount());
+			out.name("recommended_sell_price").value(f.getRecommendedSellPrice());
+			out.name("order_quantity").value(f.getOrderQuantity());
+			out.name("phase").value(f.getPhase());
+		}
+	}
+
+	private static final class CompletedFlipAdapter extends ObjectAdapter<CompletedFlip> {
+		@Override
+		CompletedFlip create() {
+			return new CompletedFlip();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, CompletedFlip f) throws IOException {
+			switch (name) {
+				case "id": f.setId(readInt(in)); break;
+				case "item_id": f.setItemId(readInt(in)); break;
+				case "item_name": f.setItemName(readString(in)); break;
+				case "quantity": f.setQuantity(readInt(in)); break;
+				case "buy_price_per_item": f.setBuyPricePerItem(readInt(in)); break;
+				case "buy_total": f.setBuyTotal(readInt(in)); break;
+				case "buy_time": f.setBuyTime(readString(in)); break;
+				case "sell_price_per_item": f.setSellPricePerItem(readInt(in)); break;
+				case "sell_total": f.setSellTotal(readInt(in)); break;
+				case "sell_time": f.setSellTime(readString(in)); break;
+				case "gross_profit": f.setGrossProfit(readInt(in)); break;
+				case "ge_tax": f.setGeTax(readInt(in)); break;
+				case "net_profit": f.setNetProfit(readInt(in)); break;
+				case "roi_percent": f.setRoiPercent(readDouble(in)); break;
+				case "flip_duration_seconds": f.setFlipDurationSeconds(readInt(in)); break;
+				case "is_successful": f.setSuccessful(readBoolean(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, CompletedFlip f) throws IOException {
+			out.name("id").value(f.getId());
+			out.name("item_id").value(f.getItemId());
+			out.name("item_name").value(f.getItemName());
+			out.name("quantity").value(f.getQuantity());
+			out.name("buy_price_per_item").value(f.getBuyPricePerItem());
+			out.name("buy_total").value(f.getBuyTotal());
+			out.name("buy_time").value(f.getBuyTime());
+			out.name("sell_price_per_item").value(f.getSellPricePerItem());
+			out.name("sell_total").value(f.getSellTotal());
+			out.name("sell_time").value(f.getSellTime());
+			out.name("gross_profit").value(f.getGrossProfit());
+			out.name("ge_tax").value(f.getGeTax());
+			out.name("net_profit").value(f.getNetProfit());
+			out.name("roi_percent").value(f.getRoiPercent());
+			out.name("flip_duration_seconds").value(f.getFlipDurationSeconds());
+			out.name("is_successful").value(f.isSuccessful());
+		}
+	}
+
+	private static final class DumpEventAdapter extends ObjectAdapter<DumpEvent> {
+		@Override
+		DumpEvent create() {
+			return new DumpEvent();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, DumpEvent d) throws IOException {
+			switch (name) {
+				case "id": d.setId(readInt(in)); break;
+				case "item_id": d.setItemId(readInt(in)); break;
+				case "item_name": d.setItemName(readString(in)); break;
+				case "previous_price": d.setPreviousPrice(readInt(in)); break;
+				case "current_price": d.setCurrentPrice(readInt(in)); break;
+				case "price_drop_percent": d.setPriceDropPercent(readDouble(in)); break;
+				case "price_change_type": d.setPriceChangeType(readString(in)); break;
+				case "buy_price": d.setBuyPrice(readInt(in)); break;
+				case "sell_price": d.setSellPrice(readInt(in)); break;
+				case "margin": d.setMargin(readInt(in)); break;
+				case "price_1h_avg": d.setPrice1hAvg(readInteger(in)); break;
+				case "price_24h_avg": d.setPrice24hAvg(readInteger(in)); break;
+				case "volume_24h": d.setVolume24h(readInt(in)); break;
+				case "buy_limit": d.setBuyLimit(readInteger(in)); break;
+				case "estimated_profit": d.setEstimatedProfit(readInteger(in)); break;
+				case "dump_detected_at": d.setDumpDetectedAt(readString(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, DumpEvent d) throws IOException {
+			out.name("id").value(d.getId());
+			out.name("item_id").value(d.getItemId());
+			out.name("item_name").value(d.getItemName());
+			out.name("previous_price").value(d.getPreviousPrice());
+			out.name("current_price").value(d.getCurrentPrice());
+			out.name("price_drop_percent").value(d.getPriceDropPercent());
+			out.name("price_change_type").value(d.getPriceChangeType());
+			out.name("buy_price").value(d.getBuyPrice());
+			out.name("sell_price").value(d.getSellPrice());
+			out.name("margin").value(d.getMargin());
+			out.name("price_1h_avg").value(d.getPrice1hAvg());
+			out.name("price_24h_avg").value(d.getPrice24hAvg());
+			out.name("volume_24h").value(d.getVolume24h());
+			out.name("buy_limit").value(d.getBuyLimit());
+			out.name("estimated_profit").value(d.getEstimatedProfit());
+			out.name("dump_detected_at").value(d.getDumpDetectedAt());
+		}
+	}
+
+	private static final class WikiPriceAdapter extends ObjectAdapter<FlipTo5BPlugin.WikiPrice> {
+		@Override
+		FlipTo5BPlugin.WikiPrice create() {
+			return new FlipTo5BPlugin.WikiPrice();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, FlipTo5BPlugin.WikiPrice p) throws IOException {
+			switch (name) {
+				case "high": p.high = readInt(in); break;
+				case "highTime": p.highTime = readInt(in); break;
+				case "low": p.low = readInt(in); break;
+				case "lowTime": p.lowTime = readInt(in); break;
+				case "highVolume": p.highVolume = readLong(in); break;
+				case "lowVolume": p.lowVolume = readLong(in); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, FlipTo5BPlugin.WikiPrice p) throws IOException {
+			out.name("high").value(p.high);
+			out.name("highTime").value(p.highTime);
+			out.name("low").value(p.low);
+			out.name("lowTime").value(p.lowTime);
+			out.name("highVolume").value(p.highVolume);
+			out.name("lowVolume").value(p.lowVolume);
+		}
+	}
+
+	// ==================== FlipAnalysis ====================
+
+	private static final class FlipAnalysisAdapter extends ObjectAdapter<FlipAnalysis> {
+		private final CurrentPricesAdapter currentPrices = new CurrentPricesAdapter();
+		private final LiquidityAdapter liquidity = new LiquidityAdapter();
+		private final RiskAdapter risk = new RiskAdapter();
+		private final EfficiencyAdapter efficiency = new EfficiencyAdapter();
+		private final HistoricalDataAdapter historicalData = new HistoricalDataAdapter();
+
+		@Override
+		FlipAnalysis create() {
+			return new FlipAnalysis();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, FlipAnalysis a) throws IOException {
+			switch (name) {
+				case "item_id": a.setItemId(readInt(in)); break;
+				case "item_name": a.setItemName(readString(in)); break;
+				case "members": a.setMembers(readBoolean(in)); break;
+				case "buy_limit": a.setBuyLimit(readInteger(in)); break;
+				case "current_prices": a.setCurrentPrices(currentPrices.read(in)); break;
+				case "liquidity": a.setLiquidity(liquidity.read(in)); break;
+				case "risk": a.setRisk(risk.read(in)); break;
+				case "efficiency": a.setEfficiency(efficiency.read(in)); break;
+				case "historical_data": a.setHistoricalData(historicalData.read(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, FlipAnalysis a) throws IOException {
+			out.name("item_id").value(a.getItemId());
+			out.name("item_name").value(a.getItemName());
+			out.name("members").value(a.isMembers());
+			out.name("buy_limit").value(a.getBuyLimit());
+			out.name("current_prices");
+			currentPrices.write(out, a.getCurrentPrices());
+			out.name("liquidity");
+			liquidity.write(out, a.getLiquidity());
+			out.name("risk");
+			risk.write(out, a.getRisk());
+			out.name("efficiency");
+			efficiency.write(out, a.getEfficiency());
+			out.name("historical_data");
+			historicalData.write(out, a.getHistoricalData());
+		}
+	}
+
+	private static final class CurrentPricesAdapter extends ObjectAdapter<FlipAnalysis.CurrentPrices> {
+		@Override
+		FlipAnalysis.CurrentPrices create() {
+			return new FlipAnalysis.CurrentPrices();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, FlipAnalysis.CurrentPrices p) throws IOException {
+			switch (name) {
+				case "high": p.setHigh(readInteger(in)); break;
+				case "low": p.setLow(readInteger(in)); break;
+				case "gross_margin": p.setGrossMargin(readInteger(in)); break;
+				case "ge_tax": p.setGeTax(readInteger(in)); break;
+				case "net_margin": p.setNetMargin(readInteger(in)); break;
+				case "roi_percent": p.setRoiPercent(readDoubleObject(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, FlipAnalysis.CurrentPrices p) throws IOException {
+			out.name("high").value(p.getHigh());
+			out.name("low").value(p.getLow());
+			out.name("gross_margin").value(p.getGrossMargin());
+			out.name("ge_tax").value(p.getGeTax());
+			out.name("net_margin").value(p.getNetMargin());
+			out.name("roi_percent").value(p.getRoiPercent());
+		}
+	}
+
+	private static final class LiquidityAdapter extends ObjectAdapter<FlipAnalysis.Liquidity> {
+		@Override
+		FlipAnalysis.Liquidity create() {
+			return new FlipAnalysis.Liquidity();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, FlipAnalysis.Liquidity l) throws IOException {
+			switch (name) {
+				case "score": l.setScore(readDoubleObject(in)); break;
+				case "rating": l.setRating(readString(in)); break;
+				case "buys_per_hour": l.setBuysPerHour(readDoubleObject(in)); break;
+				case "sells_per_hour": l.setSellsPerHour(readDoubleObject(in)); break;
+				case "total_volume_per_hour": l.setTotalVolumePerHour(readDoubleObject(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, FlipAnalysis.Liquidity l) throws IOException {
+			out.name("score").value(l.getScore());
+			out.name("rating").value(l.getRating());
+			out.name("buys_per_hour").value(l.getBuysPerHour());
+			out.name("sells_per_hour").value(l.getSellsPerHour());
+			out.name("total_volume_per_hour").value(l.getTotalVolumePerHour());
+		}
+	}
+
+	private static final class RiskAdapter extends ObjectAdapter<FlipAnalysis.Risk> {
+		@Override
+		FlipAnalysis.Risk create() {
+			return new FlipAnalysis.Risk();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, FlipAnalysis.Risk r) throws IOException {
+			switch (name) {
+				case "score": r.setScore(readDoubleObject(in)); break;
+				case "rating": r.setRating(readString(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, FlipAnalysis.Risk r) throws IOException {
+			out.name("score").value(r.getScore());
+			out.name("rating").value(r.getRating());
+		}
+	}
+
+	private static final class EfficiencyAdapter extends ObjectAdapter<FlipAnalysis.Efficiency> {
+		@Override
+		FlipAnalysis.Efficiency create() {
+			return new FlipAnalysis.Efficiency();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, FlipAnalysis.Efficiency e) throws IOException {
+			switch (name) {
+				case "score": e.setScore(readDoubleObject(in)); break;
+				case "rating": e.setRating(readString(in)); break;
+				case "recommendation": e.setRecommendation(readString(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, FlipAnalysis.Efficiency e) throws IOException {
+			out.name("score").value(e.getScore());
+			out.name("rating").value(e.getRating());
+			out.name("recommendation").value(e.getRecommendation());
+		}
+	}
+
+	private static final class HistoricalDataAdapter extends ObjectAdapter<FlipAnalysis.HistoricalData> {
+		@Override
+		FlipAnalysis.HistoricalData create() {
+			return new FlipAnalysis.HistoricalData();
+		}
+
+		@Override
+		void readField(JsonReader in, String name, FlipAnalysis.HistoricalData h) throws IOException {
+			switch (name) {
+				case "timeframe": h.setTimeframe(readString(in)); break;
+				case "data_points": h.setDataPoints(readInteger(in)); break;
+				case "avg_price": h.setAvgPrice(readInteger(in)); break;
+				case "volatility": h.setVolatility(readInteger(in)); break;
+				default: in.skipValue();
+			}
+		}
+
+		@Override
+		void writeFields(JsonWriter out, FlipAnalysis.HistoricalData h) throws IOException {
+			out.name("timeframe").value(h.getTimeframe());
+			out.name("data_points").value(h.getDataPoints());
+			out.name("avg_price").value(h.getAvgPrice());
+			out.name("volatility").value(h.getVolatility());
+		}
+	}
+}
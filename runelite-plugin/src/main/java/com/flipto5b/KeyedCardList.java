@@ -0,0 +1,158 @@
+package com.flipto5b;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Keyed reconciliation of item cards inside a BoxLayout list container.
+ *
+ * Instead of removeAll() and rebuilding every card on each refresh, cards are
+ * cached by key together with the data version they were built from. On
+ * reconcile:
+ * - unchanged rows keep their existing component (optionally refreshed in place)
+ * - changed rows have only their own card rebuilt
+ * - rows that disappeared are dropped
+ * - components are moved into the new order without touching rows already in place
+ *
+ * Must only be used from the EDT.
+ */
+class KeyedCardList<T> {
+	/**
+	 * Client property holding a Runnable that re-pulls live data (market prices etc.)
+	 * into a reused card's labels without rebuilding it.
+	 */
+	static final String REFRESH_PROPERTY = "keyedCardRefresh";
+
+	private static final Dimension SPACER_SIZE = new Dimension(0, 5);
+
+	private final JPanel container;
+	private final Function<T, Object> keyFunction;
+	private final Function<T, Object> versionFunction;
+	private final Function<T, JPanel> cardFactory;
+	private final BiConsumer<JPanel, JPanel> onCardReplaced;
+	private Map<Object, Entry> entries = new HashMap<>();
+
+	private static final class Entry {
+		private final Object version;
+		private final JPanel card;
+		private final Component spacer;
+
+		private Entry(Object version, JPanel card) {
+			this.version = version;
+			this.card = card;
+			this.spacer = Box.createRigidArea(SPACER_SIZE);
+		}
+	}
+
+	/**
+	 * @param container       the list container the cards live in
+	 * @param keyFunction     stable identity of a row (e.g. item id)
+	 * @param versionFunction value compared with equals() to decide if a card is stale
+	 * @param cardFactory     builds a fresh card for a row
+	 * @param onCardReplaced  notified with (oldCard, newCard) when a stale card is rebuilt,
+	 *                        so callers can carry over state such as focus styling
+	 */
+	KeyedCardList(JPanel container, Function<T, Object> keyFunction, Function<T, Object> versionFunction,
+			Function<T, JPanel> cardFactory, BiConsumer<JPanel, JPanel> onCardReplaced) {
+		this.container = container;
+		this.keyFunction = keyFunction;
+		this.versionFunction = versionFunction;
+		this.cardFactory = cardFactory;
+		this.onCardReplaced = onCardReplaced;
+	}
+
+	/**
+	 * Bring the container in line with the given rows.
+	 *
+	 * @param rows            rows in display order; duplicate keys after the first are ignored
+	 * @param refreshUnchanged if true, run the REFRESH_PROPERTY hook of reused cards
+	 */
+	void reconcile(List<T> rows, boolean refreshUnchanged) {
+		Map<Object, Entry> next = new HashMap<>(rows.size() * 2);
+		List<Component> desired = new ArrayList<>(rows.size() * 2);
+
+		for (T row : rows) {
+			Object key = keyFunction.apply(row);
+			if (next.containsKey(key)) {
+				continue;
+			}
+
+			Object version = versionFunction.apply(row);
+			Entry entry = entries.get(key);
+			if (entry != null && Objects.equals(entry.version, version)) {
+				if (refreshUnchanged) {
+					Object refresh = entry.card.getClientProperty(REFRESH_PROPERTY);
+					if (refresh instanceof Runnable) {
+						((Runnable) refresh).run();
+					}
+				}
+			} else {
+				JPanel card = cardFactory.apply(row);
+				if (entry != null && onCardReplaced != null) {
+					onCardReplaced.accept(entry.card, card);
+				}
+				entry = new Entry(version, card);
+			}
+
+			next.put(key, entry);
+			desired.add(entry.card);
+			desired.add(entry.spacer);
+		}
+
+		entries = next;
+		applyOrder(desired);
+	}
+
+	/**
+	 * Forget all cached cards, e.g. after the container was taken over by an
+	 * error or empty-state panel for a long time.
+	 */
+	void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Find the card currently shown for a key.
+	 */
+	JPanel getCard(Object key) {
+		Entry entry = entries.get(key);
+		return entry != null ? entry.card : null;
+	}
+
+	/**
+	 * Move components into place in one forward pass, leaving any component
+	 * already at its index alone. This is not a minimal edit sequence: a card
+	 * moving up is a single edit, but moving one down re-adds each component
+	 * it passes. That is fine for lists of a few dozen rows.
+	 */
+	private void applyOrder(List<Component> desired) {
+		boolean changed = false;
+
+		for (int i = 0; i < desired.size(); i++) {
+			Component wanted = desired.get(i);
+			if (i < container.getComponentCount() && container.getComponent(i) == wanted) {
+				continue;
+			}
+			// Container.add() detaches the component from its old index first
+			container.add(wanted, i);
+			changed = true;
+		}
+
+		while (container.getComponentCount() > desired.size()) {
+			container.remove(container.getComponentCount() - 1);
+			changed = true;
+		}
+
+		if (changed) {
+			container.revalidate();
+			container.repaint();
+		}
+	}
+}
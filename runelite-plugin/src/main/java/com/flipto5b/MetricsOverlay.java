@@ -0,0 +1,98 @@
+package com.flipto5b;
+
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import net.runelite.client.ui.overlay.OverlayPanel;
+import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+
+/**
+ * Debug overlay listing the plugin's metrics: p50/p99 per timed section,
+ * then counters and gauges.
+ *
+ * Snapshots are refreshed once a second rather than every frame, so the
+ * overlay doesn't noticeably add to the render time it reports.
+ */
+public class MetricsOverlay extends OverlayPanel {
+	private static final long REFRESH_MS = 1_000;
+	private static final Color COLOR_HEADER = new Color(255, 185, 50);
+	private static final Color COLOR_SLOW = new Color(215, 75, 75);
+	/** Highlight sections whose p99 exceeds a 50 FPS frame */
+	private static final long SLOW_NANOS = 20_000_000;
+
+	private final FlipTo5BConfig config;
+
+	private long lastRefresh;
+	private List<LineComponent> lines = new ArrayList<>();
+
+	@Inject
+	private MetricsOverlay(FlipTo5BPlugin plugin, FlipTo5BConfig config) {
+		super(plugin);
+		this.config = config;
+		setPosition(OverlayPosition.TOP_LEFT);
+		panelComponent.setPreferredSize(new Dimension(260, 0));
+	}
+
+	@Override
+	public Dimension render(Graphics2D graphics) {
+		if (!config.showMetricsOverlay()) {
+			return null;
+		}
+
+		long now = System.currentTimeMillis();
+		if (now - lastRefresh >= REFRESH_MS) {
+			lines = buildLines();
+			lastRefresh = now;
+		}
+
+		panelComponent.getChildren().add(TitleComponent.builder().text("FlipTo5B Metrics").build());
+		panelComponent.getChildren().addAll(lines);
+		return super.render(graphics);
+	}
+
+	private static List<LineComponent> buildLines() {
+		List<LineComponent> lines = new ArrayList<>();
+		lines.add(header("latency", "p50 / p99 ms"));
+		for (LatencyHistogram.Snapshot snapshot : Metrics.histogramSnapshots()) {
+			if (snapshot.getCount() == 0) {
+				continue;
+			}
+			long p99 = snapshot.getPercentileNanos(99);
+			lines.add(LineComponent.builder()
+				.left(snapshot.getName())
+				.right(String.format("%.2f / %.2f", snapshot.getPercentileNanos(50) / 1e6, p99 / 1e6))
+				.rightColor(p99 > SLOW_NANOS ? COLOR_SLOW : Color.WHITE)
+				.build());
+		}
+
+		lines.add(header("counters", ""));
+		addValues(lines, Metrics.counterValues());
+		lines.add(header("gauges", ""));
+		addValues(lines, Metrics.gaugeValues());
+		return lines;
+	}
+
+	private static void addValues(List<LineComponent> lines, Map<String, Long> values) {
+		values.forEach((name, value) -> lines.add(LineComponent.builder()
+			.left(name)
+			.right(String.valueOf(value))
+			.build()));
+	}
+
+	private static LineComponent header(String left, String right) {
+		return LineComponent.builder()
+			.left(left)
+			.leftColor(COLOR_HEADER)
+			.right(right)
+			.rightColor(COLOR_HEADER)
+			.build();
+	}
+}
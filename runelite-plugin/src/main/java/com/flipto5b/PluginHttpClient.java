@@ -0,0 +1,78 @@
+package com.flipto5b;
+
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * The plugin's HTTP client profile, derived from RuneLite's injected client.
+ *
+ * - Own dispatcher and connection pool, shared by every client derived here,
+ *   so the plugin's bursts (analysis batches, wiki fetches, sync) neither queue
+ *   behind nor crowd out RuneLite's own traffic
+ * - HTTP/2 is OkHttp's default over TLS: the wiki, the API and Supabase all
+ *   negotiate it, so each host's requests multiplex over one connection
+ * - Compression is left to OkHttp, which asks for gzip and decodes it
+ *   transparently as long as callers don't set Accept-Encoding themselves
+ * - Long-lived streams get a dispatcher of their own, so an open stream never
+ *   holds one of the shared dispatcher's slots
+ *
+ * Derived clients keep the base client's interceptors, timeouts and proxy
+ * settings, so RuneLite's User-Agent and proxy configuration still apply.
+ */
+final class PluginHttpClient {
+	/** Three hosts, each multiplexed over one HTTP/2 connection, plus HTTP/1.1 slack */
+	private static final int MAX_IDLE_CONNECTIONS = 6;
+	private static final long KEEP_ALIVE_MINUTES = 5;
+	private static final int MAX_REQUESTS_PER_HOST = 8;
+	private static final int MAX_REQUESTS = 24;
+
+	private static final ConnectionPool CONNECTION_POOL = new ConnectionPool(MAX_IDLE_CONNECTIONS,
+		KEEP_ALIVE_MINUTES, TimeUnit.MINUTES);
+	private static final Dispatcher DISPATCHER = createDispatcher();
+	/** Runs only streams, which stay open for minutes; the pool is still shared */
+	private static final Dispatcher STREAM_DISPATCHER = new Dispatcher();
+
+	private PluginHttpClient() {
+	}
+
+	/**
+	 * Derive the plugin profile from {@code base}. Cheap: every derived client
+	 * shares the same pool and dispatcher.
+	 */
+	static OkHttpClient derive(OkHttpClient base) {
+		return base.newBuilder()
+			.connectionPool(CONNECTION_POOL)
+			.dispatcher(DISPATCHER)
+			.build();
+	}
+
+	/**
+	 * Derive a client for long-lived streams from {@code client}, a client
+	 * already derived here. Streams run on their own dispatcher: on the shared
+	 * one an open stream would hold a dispatcher thread and one of its
+	 * host's {@link #MAX_REQUESTS_PER_HOST} slots for as long as it lasts.
+	 */
+	static OkHttpClient deriveStreaming(OkHttpClient client, long readTimeoutSeconds) {
+		return client.newBuilder()
+			.dispatcher(STREAM_DISPATCHER)
+			.readTimeout(readTimeoutSeconds, TimeUnit.SECONDS)
+			.build();
+	}
+
+	/**
+	 * Close the pool's idle connections, for plugin shutdown. Calls still in
+	 * flight finish normally; their connections close once idle.
+	 */
+	static void evictAll() {
+		CONNECTION_POOL.evictAll();
+	}
+
+	private static Dispatcher createDispatcher() {
+		Dispatcher dispatcher = new Dispatcher();
+		dispatcher.setMaxRequests(MAX_REQUESTS);
+		dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+		return dispatcher;
+	}
+}
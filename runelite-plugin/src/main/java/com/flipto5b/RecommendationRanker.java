@@ -0,0 +1,142 @@
+package com.flipto5b;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ranks flip recommendations locally from one larger candidate pool, so
+ * switching flip style, changing the limit or shuffling doesn't cost a
+ * flip-finder round trip.
+ *
+ * - The pool is the flip-finder response for {@value #POOL_SIZE} balanced
+ *   candidates, served through the API client's response cache: once it is
+ *   stale the old pool is ranked immediately while one background request
+ *   replaces it
+ * - Each style weighs the scores the API already sends (efficiency,
+ *   liquidity, risk) plus potential profit relative to the pool's best
+ * - Shuffling reorders candidates within 10-point score tiers, so a shuffle
+ *   brings variety without promoting poor flips
+ *
+ * The pool is still keyed by cash stack, since quantities and potential
+ * profit are worked out server-side for a given cash stack. The subscription's
+ * recommendation limit caps the ranked list as it capped the server's.
+ */
+class RecommendationRanker {
+	static final int POOL_SIZE = 100;
+	private static final String POOL_STYLE = FlipTo5BConfig.FlipStyle.BALANCED.getApiValue();
+	/** Candidates within a tier this wide may swap places when shuffling */
+	private static final double SHUFFLE_TIER_WIDTH = 10;
+
+	private final FlipSmartApiClient apiClient;
+
+	RecommendationRanker(FlipSmartApiClient apiClient) {
+		this.apiClient = apiClient;
+	}
+
+	/**
+	 * Recommendations for a style, ranked from the cached pool.
+	 *
+	 * @param randomSeed shuffle within quality tiers with this seed, or null
+	 *                   for a stable order
+	 * @return the ranked response, or null if the pool couldn't be fetched
+	 */
+	CompletableFuture<FlipFinderResponse> getRecommendationsAsync(Integer cashStack,
+		FlipTo5BConfig.FlipStyle style, int limit, Integer randomSeed) {
+		return apiClient.getFlipRecommendationsAsync(cashStack, POOL_STYLE, POOL_SIZE, null)
+			.thenApply(pool -> pool != null ? rank(pool, style, limit, randomSeed) : null);
+	}
+
+	static FlipFinderResponse rank(FlipFinderResponse pool, FlipTo5BConfig.FlipStyle style, int limit,
+		Integer randomSeed) {
+		List<FlipRecommendation> candidates = pool.getRecommendations() != null
+			? pool.getRecommendations()
+			: Collections.emptyList();
+
+		double maxProfit = 1;
+		for (FlipRecommendation rec : candidates) {
+			maxProfit = Math.max(maxProfit, rec.getPotentialProfit());
+		}
+
+		List<Scored> scored = new ArrayList<>(candidates.size());
+		for (FlipRecommendation rec : candidates) {
+			scored.add(new Scored(rec, score(rec, style, maxProfit)));
+		}
+
+		if (randomSeed != null) {
+			// Random order within each tier, tiers still best first
+			Random random = new Random(randomSeed);
+			for (Scored s : scored) {
+				s.tier = Math.floor(s.score / SHUFFLE_TIER_WIDTH);
+				s.tiebreak = random.nextDouble();
+			}
+			scored.sort(Comparator.comparingDouble((Scored s) -> s.tier).reversed()
+				.thenComparingDouble(s -> s.tiebreak));
+		} else {
+			scored.sort(Comparator.comparingDouble((Scored s) -> s.score).reversed()
+				.thenComparingInt(s -> s.rec.getItemId()));
+		}
+
+		int count = Math.min(limit, scored.size());
+		FlipFinderResponse.Subscription subscription = pool.getSubscription();
+		if (subscription != null && subscription.getRecommendationLimit() != null) {
+			count = Math.min(count, subscription.getRecommendationLimit());
+		}
+
+		List<FlipRecommendation> ranked = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ranked.add(scored.get(i).rec);
+		}
+
+		FlipFinderResponse response = new FlipFinderResponse();
+		response.setFlipStyle(style.getApiValue());
+		response.setCashStack(pool.getCashStack());
+		response.setPerSlotBudget(pool.getPerSlotBudget());
+		response.setTotalItemsAnalyzed(pool.getTotalItemsAnalyzed());
+		response.setItemsMatchingCriteria(pool.getItemsMatchingCriteria());
+		response.setRecommendations(ranked);
+		if (subscription != null) {
+			FlipFinderResponse.Subscription ours = new FlipFinderResponse.Subscription();
+			ours.setTier(subscription.getTier());
+			ours.setRecommendationLimit(subscription.getRecommendationLimit());
+			ours.setRecommendationsReturned(count);
+			response.setSubscription(ours);
+		}
+		return response;
+	}
+
+	/**
+	 * Style-weighted score, roughly 0-100 (the API's scores are 0-100).
+	 */
+	static double score(FlipRecommendation rec, FlipTo5BConfig.FlipStyle style, double maxProfit) {
+		double profit = 100 * Math.max(0, rec.getPotentialProfit()) / maxProfit;
+		double safety = 100 - rec.getRiskScore();
+		switch (style) {
+			case CONSERVATIVE:
+				return 0.25 * rec.getEfficiencyScore() + 0.35 * rec.getLiquidityScore() + 0.30 * safety
+					+ 0.10 * profit;
+			case AGGRESSIVE:
+				return 0.30 * rec.getEfficiencyScore() + 0.10 * rec.getLiquidityScore() + 0.10 * safety
+					+ 0.50 * profit;
+			case BALANCED:
+			default:
+				return 0.35 * rec.getEfficiencyScore() + 0.25 * rec.getLiquidityScore() + 0.20 * safety
+					+ 0.20 * profit;
+		}
+	}
+
+	private static final class Scored {
+		private final FlipRecommendation rec;
+		private final double score;
+		private double tier;
+		private double tiebreak;
+
+		private Scored(FlipRecommendation rec, double score) {
+			this.rec = rec;
+			this.score = score;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package com.flipto5b;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Response cache for FlipSmartApiClient GET endpoints.
+ *
+ * - Per-endpoint freshness via {@link Policy} (fresh TTL + stale-while-revalidate window)
+ * - Bounded size with LRU eviction
+ * - Request coalescing via {@link SingleFlight}: concurrent misses for a key share one request
+ * - Stale-while-revalidate: a stale entry is returned immediately while one
+ *   background refresh replaces it
+ *
+ * Failed loads (null results) are never cached, so a stale value survives an
+ * API hiccup until its stale window runs out.
+ *
+ * Each {@link #invalidatePrefix}, {@link #invalidate} and {@link #clear}
+ * bumps a generation for the prefix, key or whole cache it drops. A load
+ * remembers the generation it started under and its result is dropped if the
+ * generation moved before it finished, so a read that raced a write can't
+ * store the pre-write response; loads under different generations don't
+ * share a request either.
+ */
+@Slf4j
+class ResponseCache {
+	/**
+	 * Freshness policy for one endpoint.
+	 */
+	static final class Policy {
+		final long ttlMs;
+		final long staleMs;
+
+		/**
+		 * @param ttlMs   how long a value is served without contacting the API
+		 * @param staleMs how long after that it may still be served while revalidating
+		 */
+		Policy(long ttlMs, long staleMs) {
+			this.ttlMs = ttlMs;
+			this.staleMs = staleMs;
+		}
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long storedAt;
+		private final Policy policy;
+
+		private Entry(Object value, Policy policy) {
+			this.value = value;
+			this.storedAt = System.currentTimeMillis();
+			this.policy = policy;
+		}
+
+		private boolean isFresh(long now) {
+			return now - storedAt <= policy.ttlMs;
+		}
+
+		private boolean isUsable(long now) {
+			return now - storedAt <= policy.ttlMs + policy.staleMs;
+		}
+	}
+
+	private final int maxEntries;
+	// Access-ordered LinkedHashMap gives LRU eviction; guarded by 'this'
+	private final LinkedHashMap<String, Entry> entries;
+	private final SingleFlight singleFlight;
+	// Invalidation count per prefix; guarded by 'this'
+	private final Map<String, Long> generations = new HashMap<>();
+
+	ResponseCache(int maxEntries, SingleFlight singleFlight) {
+		this.maxEntries = maxEntries;
+		this.singleFlight = singleFlight;
+		this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > ResponseCache.this.maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Get a value, loading it with {@code loader} if it is missing or expired.
+	 *
+	 * @param key    cache key; must identify the full request (endpoint, params, account)
+	 * @param policy freshness policy for this endpoint
+	 * @param loader starts the actual request; only invoked once per key at a time
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> get(String key, Policy policy, Supplier<CompletableFuture<T>> loader) {
+		long now = System.currentTimeMillis();
+		Entry entry;
+		synchronized (this) {
+			entry = entries.get(key);
+		}
+
+		if (entry != null && entry.isFresh(now)) {
+			return CompletableFuture.completedFuture((T) entry.value);
+		}
+
+		if (entry != null && entry.isUsable(now)) {
+			// Serve stale immediately, refresh in the background (coalesced)
+			log.debug("Serving stale {} while revalidating", key);
+			load(key, policy, loader);
+			return CompletableFuture.completedFuture((T) entry.value);
+		}
+
+		return load(key, policy, loader);
+	}
+
+	/**
+	 * Get a cached value without loading, or null if missing or past its stale window.
+	 */
+	@SuppressWarnings("unchecked")
+	synchronized <T> T peek(String key) {
+		Entry entry = entries.get(key);
+		return entry != null && entry.isUsable(System.currentTimeMillis()) ? (T) entry.value : null;
+	}
+
+	/**
+	 * Whether a key has a value that can be served without contacting the API.
+	 */
+	synchronized boolean isFresh(String key) {
+		Entry entry = entries.get(key);
+		return entry != null && entry.isFresh(System.currentTimeMillis());
+	}
+
+	/**
+	 * Store a value directly (e.g. from a batch response).
+	 */
+	synchronized void put(String key, Object value, Policy policy) {
+		if (value != null) {
+			entries.put(key, new Entry(value, policy));
+		}
+	}
+
+	/**
+	 * Store a value loaded under {@code generation}, unless the key has been
+	 * invalidated since.
+	 */
+	private synchronized void put(String key, Object value, Policy policy, long generation) {
+		if (generation(key) == generation) {
+			put(key, value, policy);
+		} else {
+			log.debug("Dropping {} loaded before an invalidation", key);
+		}
+	}
+
+	synchronized void invalidate(String key) {
+		// A key counts as a prefix of itself
+		generations.merge(key, 1L, Long::sum);
+		entries.remove(key);
+	}
+
+	/**
+	 * Drop every entry whose key starts with the given prefix.
+	 */
+	synchronized void invalidatePrefix(String prefix) {
+		generations.merge(prefix, 1L, Long::sum);
+		Iterator<String> it = entries.keySet().iterator();
+		while (it.hasNext()) {
+			if (it.next().startsWith(prefix)) {
+				it.remove();
+			}
+		}
+	}
+
+	synchronized void clear() {
+		// The empty prefix matches every key
+		generations.merge("", 1L, Long::sum);
+		entries.clear();
+	}
+
+	/**
+	 * Sum of the invalidation counts of every prefix of {@code key}; it only
+	 * grows, so any change means the key was invalidated.
+	 */
+	private synchronized long generation(String key) {
+		long generation = 0;
+		for (Map.Entry<String, Long> prefix : generations.entrySet()) {
+			if (key.startsWith(prefix.getKey())) {
+				generation += prefix.getValue();
+			}
+		}
+		return generation;
+	}
+
+	private <T> CompletableFuture<T> load(String key, Policy policy, Supplier<CompletableFuture<T>> loader) {
+		long generation = generation(key);
+		// Store before the shared future completes so attached callers see the new entry
+		return singleFlight.execute(key + "#" + generation, () -> loader.get().thenApply(value -> {
+			put(key, value, policy, generation);
+			return value;
+		}));
+	}
+}
@@ -0,0 +1,114 @@
+package com.flipto5b;
+
+import okio.BufferedSource;
+
+import java.io.IOException;
+
+/**
+ * Minimal text/event-stream parser on top of an OkHttp response source.
+ * RuneLite only ships OkHttp core (no okhttp-sse), so this covers the parts of
+ * the SSE format the dump stream uses: id, event, data (multi-line), retry and
+ * comment lines.
+ */
+class ServerSentEventReader {
+	interface Handler {
+		/**
+		 * @param id   last event id seen on the stream (may be null)
+		 * @param type event type, or "message" when not set
+		 * @param data event payload with multi-line data joined by '\n'
+		 */
+		void onEvent(String id, String type, String data);
+
+		/**
+		 * Server asked for a different reconnect delay.
+		 */
+		void onRetry(long retryMs);
+	}
+
+	private final BufferedSource source;
+	private final Handler handler;
+	private final StringBuilder data = new StringBuilder();
+	private String lastEventId;
+	private String eventType;
+
+	ServerSentEventReader(BufferedSource source, Handler handler) {
+		this.source = source;
+		this.handler = handler;
+	}
+
+	/**
+	 * Read until the next event has been dispatched.
+	 *
+	 * @return false once the stream has ended
+	 */
+	boolean processNextEvent() throws IOException {
+		String line;
+		while ((line = source.readUtf8Line()) != null) {
+			if (line.isEmpty()) {
+				if (dispatch()) {
+					return true;
+				}
+				continue;
+			}
+			processLine(line);
+		}
+		return false;
+	}
+
+	private void processLine(String line) {
+		if (line.startsWith(":")) {
+			// Comment / keep-alive
+			return;
+		}
+
+		int colon = line.indexOf(':');
+		String field = colon >= 0 ? line.substring(0, colon) : line;
+		String value = "";
+		if (colon >= 0) {
+			value = line.substring(colon + 1);
+			if (value.startsWith(" ")) {
+				value = value.substring(1);
+			}
+		}
+
+		switch (field) {
+			case "data":
+				data.append(value).append('\n');
+				break;
+			case "event":
+				eventType = value;
+				break;
+			case "id":
+				if (value.indexOf('\0') < 0) {
+					lastEventId = value;
+				}
+				break;
+			case "retry":
+				try {
+					handler.onRetry(Long.parseLong(value));
+				} catch (NumberFormatException e) {
+					// Ignore malformed retry hints
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	private boolean dispatch() {
+		if (data.length() == 0) {
+			eventType = null;
+			return false;
+		}
+
+		// Drop the trailing newline added after the last data line
+		data.setLength(data.length() - 1);
+		String type = eventType != null && !eventType.isEmpty() ? eventType : "message";
+		String payload = data.toString();
+		data.setLength(0);
+		eventType = null;
+
+		handler.onEvent(lastEventId, type, payload);
+		return true;
+	}
+}
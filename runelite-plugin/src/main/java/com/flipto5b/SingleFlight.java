@@ -0,0 +1,61 @@
+package com.flipto5b;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight registry: concurrent calls with the same key attach to one
+ * in-flight request instead of each firing their own.
+ *
+ * Every caller gets its own dependent copy of the shared future, so one caller
+ * completing or cancelling its copy can't affect the others. The key is
+ * released as soon as the request finishes; later calls start a new request.
+ */
+class SingleFlight {
+	private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * Run {@code request} unless a call with the same key is already in flight,
+	 * in which case attach to that call.
+	 *
+	 * @param key     request identity (method, URL and anything else that changes the response)
+	 * @param request starts the actual request
+	 */
+	@SuppressWarnings("unchecked")
+	<T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> request) {
+		CompletableFuture<T> created = new CompletableFuture<>();
+		CompletableFuture<?> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			return ((CompletableFuture<T>) existing).copy();
+		}
+
+		CompletableFuture<T> call;
+		try {
+			call = request.get();
+		} catch (RuntimeException e) {
+			inFlight.remove(key, created);
+			created.completeExceptionally(e);
+			return created.copy();
+		}
+
+		call.whenComplete((value, throwable) -> {
+			// Release the key before completing so dependents that re-request start fresh
+			inFlight.remove(key, created);
+			if (throwable != null) {
+				created.completeExceptionally(throwable);
+			} else {
+				created.complete(value);
+			}
+		});
+		return created.copy();
+	}
+
+	/**
+	 * Number of distinct requests currently in flight.
+	 */
+	int size() {
+		return inFlight.size();
+	}
+}
@@ -0,0 +1,175 @@
+package com.flipto5b;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plugin-owned persistent state in {@code RUNELITE_DIR/flipto5b/}, kept out of
+ * the RuneLite config profile (which re-serialises and writes the whole
+ * profile on every {@code setConfiguration}).
+ *
+ * - Each {@link Record} is one typed value in its own {@code <name>.bin} file,
+ *   written by a {@link Codec} under a version number so old files can still
+ *   be read after the format changes
+ * - Write-behind: changes only mark a record dirty; one flush a few seconds
+ *   later on the plugin executor writes every dirty record in a batch
+ * - {@link #close()} snapshots whatever is still dirty on shutdown
+ *
+ * Files are written to a temp file and moved into place, so a crash mid-write
+ * leaves the previous copy intact.
+ */
+@Slf4j
+class StateStore {
+	private static final int MAGIC = 0x46354253; // "F5BS"
+
+	/** Coalesce changes within this long into one batch of writes */
+	private static final long FLUSH_DELAY_SECONDS = 5;
+
+	/**
+	 * Binary format of one record type. {@link #read} is handed the version
+	 * the file was written with, which may be older than {@link #version()}.
+	 */
+	interface Codec<T> {
+		int version();
+
+		void write(T value, DataOutput out) throws IOException;
+
+		T read(DataInput in, int version) throws IOException;
+	}
+
+	/**
+	 * Handle to one stored value. Mutable values must be safe to write from
+	 * the executor thread while callers keep changing them (or be replaced via
+	 * {@link #set} instead of mutated).
+	 */
+	final class Record<T> {
+		private final String name;
+		private final Codec<T> codec;
+		private final boolean loaded;
+		private volatile T value;
+
+		private Record(String name, Codec<T> codec, T value, boolean loaded) {
+			this.name = name;
+			this.codec = codec;
+			this.value = value;
+			this.loaded = loaded;
+		}
+
+		T get() {
+			return value;
+		}
+
+		void set(T value) {
+			this.value = value;
+			markDirty();
+		}
+
+		/**
+		 * Schedule a write after mutating the value in place.
+		 */
+		void markDirty() {
+			dirty.add(this);
+			if (flushScheduled.compareAndSet(false, true)) {
+				executor.schedule(StateStore.this::flush, FLUSH_DELAY_SECONDS, TimeUnit.SECONDS);
+			}
+		}
+
+		/**
+		 * False when there was no file yet, so callers can migrate older
+		 * storage on first run.
+		 */
+		boolean isLoaded() {
+			return loaded;
+		}
+	}
+
+	private final Path directory;
+	private final ScheduledExecutorService executor;
+	private final Set<Record<?>> dirty = ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	StateStore(Path directory, ScheduledExecutorService executor) {
+		this.directory = directory;
+		this.executor = executor;
+	}
+
+	/**
+	 * Load a record from disk, or start from {@code defaultValue} if the file
+	 * is missing or unreadable.
+	 */
+	<T> Record<T> open(String name, Codec<T> codec, Supplier<T> defaultValue) {
+		Path file = fileOf(name);
+		try (InputStream stream = Files.newInputStream(file);
+			DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+			int version = in.readInt() == MAGIC ? in.readInt() : -1;
+			if (version < 1 || version > codec.version()) {
+				log.warn("Ignoring {} with unknown format version {}", file, version);
+				return new Record<>(name, codec, defaultValue.get(), true);
+			}
+			return new Record<>(name, codec, codec.read(in, version), true);
+		} catch (NoSuchFileException e) {
+			return new Record<>(name, codec, defaultValue.get(), false);
+		} catch (IOException | RuntimeException e) {
+			log.warn("Failed to load {}", file, e);
+			return new Record<>(name, codec, defaultValue.get(), true);
+		}
+	}
+
+	/**
+	 * Write every dirty record now, on the calling thread.
+	 */
+	synchronized void flush() {
+		flushScheduled.set(false);
+		for (Record<?> record : dirty) {
+			// Clear first so a change made during the write schedules another one
+			dirty.remove(record);
+			write(record);
+		}
+	}
+
+	/**
+	 * Snapshot on shutdown.
+	 */
+	void close() {
+		flush();
+	}
+
+	private <T> void write(Record<T> record) {
+		Path file = fileOf(record.name);
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		try {
+			Files.createDirectories(directory);
+			try (OutputStream stream = Files.newOutputStream(temp);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+				out.writeInt(MAGIC);
+				out.writeInt(record.codec.version());
+				record.codec.write(record.value, out);
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException | RuntimeException e) {
+			log.warn("Failed to save {}", file, e);
+		}
+	}
+
+	private Path fileOf(String name) {
+		return directory.resolve(name + ".bin");
+	}
+}
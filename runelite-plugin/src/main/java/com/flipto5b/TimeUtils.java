@@ -1,5 +1,9 @@
 package com.flipto5b;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
 /**
  * Utility class for time formatting operations shared across overlays.
  */
@@ -30,6 +34,36 @@ public final class TimeUtils
 		return String.format("%d:%02d", minutes, seconds);
 	}
 
+	/**
+	 * Parse an ISO-8601 timestamp from the API to epoch millis
+	 *
+	 * @param isoTime Timestamp with a zone, e.g. "2024-05-01T12:00:00Z" or "...+00:00"
+	 * @return Epoch millis, or 0 if the timestamp is missing or can't be parsed
+	 */
+	public static long parseIsoMillis(String isoTime)
+	{
+		if (isoTime == null || isoTime.isEmpty())
+		{
+			return 0;
+		}
+		try
+		{
+			return Instant.parse(isoTime).toEpochMilli();
+		}
+		catch (DateTimeParseException e)
+		{
+			// Instant.parse only takes 'Z' before Java 12
+		}
+		try
+		{
+			return OffsetDateTime.parse(isoTime).toInstant().toEpochMilli();
+		}
+		catch (DateTimeParseException e)
+		{
+			return 0;
+		}
+	}
+
 	/**
 	 * Format elapsed time in short form (e.g., "5m" or "2h")
 	 *
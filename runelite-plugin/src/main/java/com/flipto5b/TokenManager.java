@@ -0,0 +1,191 @@
+package com.flipto5b;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Owns the API access token and its renewal.
+ *
+ * - Refresh is single-flight: however many requests find the token missing or
+ *   rejected at once, one login runs and every waiter gets its result
+ * - Refresh-ahead: once a token is in the last part of its lifetime, callers
+ *   still get it immediately while a background login renews it, so the first
+ *   call after expiry doesn't stall on a login round trip
+ * - After a 401, a request waits for the shared refresh and is replayed with
+ *   the new token; a 401 for a token that has already been replaced doesn't
+ *   discard the newer one
+ * - After a failed login, further logins back off exponentially; until the
+ *   backoff ends callers without a token get null straight away, so bad
+ *   stored credentials don't turn every API call into a login attempt
+ *
+ * The expiry comes from the JWT's {@code exp} claim when it has one.
+ */
+@Slf4j
+class TokenManager {
+	/** Assumed lifetime when the token carries no expiry (the API issues 7-day tokens) */
+	static final long DEFAULT_LIFETIME_MS = 6 * 24 * 60 * 60 * 1000L;
+	/** Renew at most this long before expiry... */
+	private static final long MAX_REFRESH_AHEAD_MS = 12 * 60 * 60 * 1000L;
+	/** ...and no earlier than the last fifth of the token's lifetime */
+	private static final int REFRESH_AHEAD_DIVISOR = 5;
+	/** Wait after the first failed login, doubling per further failure up to the max */
+	private static final long LOGIN_BACKOFF_MIN_MS = 5_000;
+	private static final long LOGIN_BACKOFF_MAX_MS = 5 * 60 * 1000L;
+
+	private static final String REFRESH_KEY = "token-refresh";
+
+	private final Supplier<CompletableFuture<Boolean>> login;
+	private final SingleFlight singleFlight = new SingleFlight();
+
+	// Token, its expiry and when to start renewing, swapped together under the lock
+	private String token;
+	private long expiresAt;
+	private long refreshAt;
+	// Failed logins in a row and when the next may start, also under the lock
+	private int loginFailures;
+	private long loginBackoffUntil;
+
+	/**
+	 * @param login logs in with the stored credentials, calling {@link #setToken}
+	 *              on success; completes with whether it worked
+	 */
+	TokenManager(Supplier<CompletableFuture<Boolean>> login) {
+		this.login = login;
+	}
+
+	/**
+	 * A valid token, refreshing first if there is none. Completes with null if
+	 * login fails.
+	 */
+	CompletableFuture<String> getToken() {
+		long now = System.currentTimeMillis();
+		String current;
+		boolean renew;
+		long backoffLeft;
+		synchronized (this) {
+			current = token != null && now < expiresAt ? token : null;
+			renew = current != null && now >= refreshAt;
+			backoffLeft = loginBackoffUntil - now;
+		}
+		boolean backingOff = backoffLeft > 0;
+
+		if (current == null) {
+			if (backingOff) {
+				log.debug("Login failed recently, not retrying for {}ms", backoffLeft);
+				return CompletableFuture.completedFuture(null);
+			}
+			return refresh();
+		}
+		if (renew && !backingOff) {
+			log.debug("Token expires soon, renewing in the background");
+			refresh();
+		}
+		return CompletableFuture.completedFuture(current);
+	}
+
+	/**
+	 * A request using {@code rejectedToken} got a 401: drop that token (unless
+	 * it was already replaced) and wait for the shared refresh.
+	 */
+	CompletableFuture<String> onUnauthorized(String rejectedToken) {
+		invalidate(rejectedToken);
+		return getToken();
+	}
+
+	/**
+	 * Drop {@code rejectedToken} if it is still the current token, leaving the
+	 * refresh to the next caller.
+	 */
+	synchronized void invalidate(String rejectedToken) {
+		if (token != null && token.equals(rejectedToken)) {
+			token = null;
+			expiresAt = 0;
+		}
+	}
+
+	/**
+	 * Store a token from login, signup or device auth.
+	 */
+	void setToken(String newToken) {
+		long now = System.currentTimeMillis();
+		long expiry = readExpiry(newToken);
+		if (expiry <= now) {
+			expiry = now + DEFAULT_LIFETIME_MS;
+		}
+		long lifetime = expiry - now;
+		synchronized (this) {
+			token = newToken;
+			expiresAt = expiry;
+			refreshAt = expiry - Math.min(MAX_REFRESH_AHEAD_MS, lifetime / REFRESH_AHEAD_DIVISOR);
+			loginFailures = 0;
+			loginBackoffUntil = 0;
+		}
+	}
+
+	/**
+	 * Forget the token (logout or changed credentials), along with any login
+	 * backoff.
+	 */
+	synchronized void clear() {
+		token = null;
+		expiresAt = 0;
+		refreshAt = 0;
+		loginFailures = 0;
+		loginBackoffUntil = 0;
+	}
+
+	/**
+	 * The current token if it hasn't expired, without triggering a refresh.
+	 */
+	synchronized String currentToken() {
+		return token != null && System.currentTimeMillis() < expiresAt ? token : null;
+	}
+
+	boolean isValid() {
+		return currentToken() != null;
+	}
+
+	private CompletableFuture<String> refresh() {
+		return singleFlight.execute(REFRESH_KEY, () -> login.get()
+			.exceptionally(e -> {
+				log.debug("Token refresh failed: {}", e.getMessage());
+				return false;
+			})
+			.thenApply(success -> {
+				if (!success) {
+					onLoginFailed();
+					return null;
+				}
+				return currentToken();
+			}));
+	}
+
+	private synchronized void onLoginFailed() {
+		long backoff = Math.min(LOGIN_BACKOFF_MAX_MS, LOGIN_BACKOFF_MIN_MS << Math.min(loginFailures, 16));
+		loginFailures++;
+		loginBackoffUntil = System.currentTimeMillis() + backoff;
+		log.debug("Login failed {} time(s) in a row, backing off {}ms", loginFailures, backoff);
+	}
+
+	/**
+	 * Expiry from the JWT payload's {@code exp} claim, or 0 if it can't be read.
+	 */
+	private static long readExpiry(String jwt) {
+		try {
+			String[] parts = jwt.split("\\.");
+			if (parts.length < 2) {
+				return 0;
+			}
+			String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8);
+			JsonObject claims = JsonParser.parseString(payload).getAsJsonObject();
+			return claims.has("exp") ? claims.get("exp").getAsLong() * 1000 : 0;
+		} catch (RuntimeException e) {
+			return 0;
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.flipto5b.controller;
 
 import com.flipto5b.FlipTo5BConfig;
 import com.flipto5b.FlipTo5BPlugin;
+import com.flipto5b.engine.CompetitivenessEngine;
 
 import com.flipto5b.sync.SyncManager;
 import com.flipto5b.ui.FlipTo5BPanel;
@@ -15,6 +16,8 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 
@@ -22,8 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GrandExchangeOffer;
 import net.runelite.api.GrandExchangeOfferState;
-import net.runelite.api.ItemComposition;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.util.QuantityFormatter;
 
 @Slf4j
 public class TradeController {
@@ -38,6 +41,9 @@ public class TradeController {
     // Cache local history to avoid reading file constantly
     private final List<FlipTo5BPlugin.OfferData> tradeHistory = new ArrayList<>();
 
+    // Item names for open offers, so snapshots don't look up compositions every pulse
+    private final Map<Integer, String> itemNames = new ConcurrentHashMap<>();
+
     // Track limits
 
     @Inject
@@ -72,8 +78,7 @@ public class TradeController {
 
     private void handleCompletedTrade(GrandExchangeOffer offer, boolean isBuy) {
         int itemId = offer.getItemId();
-        ItemComposition itemComp = itemManager.getItemComposition(itemId);
-        String name = itemComp.getName();
+        String name = plugin.getItemName(itemId);
         int qty = offer.getQuantitySold();
         int price = offer.getSpent() / (qty > 0 ? qty : 1);
 
@@ -129,10 +134,8 @@ public class TradeController {
                     FlipTo5BPlugin.OfferData data = new FlipTo5BPlugin.OfferData();
                     data.slot = i;
                     data.itemId = o.getItemId();
-                    // Note: getItemComposition must be called on client thread, ensure this is
-                    // running there
-                    // or use previously cached name if possible. For now assuming client thread.
-                    data.itemName = itemManager.getItemComposition(o.getItemId()).getName();
+                    // Mapping name; falls back to the composition, so this must run on the client thread
+                    data.itemName = plugin.getItemName(o.getItemId());
                     data.price = o.getPrice();
                     data.quantity = o.getTotalQuantity();
                     data.quantityFilled = o.getQuantitySold();
@@ -145,51 +148,87 @@ public class TradeController {
         syncManager.synchronize(offerList);
     }
 
-    public List<FlipTo5BPanel.PanelOffer> getActiveOffers() {
+    /**
+     * Minimal copy of an open GE offer, captured on the client thread so the
+     * panel model can be built elsewhere.
+     */
+    public static final class OfferSnapshot {
+        private final int slot;
+        private final int itemId;
+        private final String itemName;
+        private final boolean buying;
+        private final int price;
+        private final int remaining;
+
+        private OfferSnapshot(int slot, int itemId, String itemName, boolean buying, int price, int remaining) {
+            this.slot = slot;
+            this.itemId = itemId;
+            this.itemName = itemName;
+            this.buying = buying;
+            this.price = price;
+            this.remaining = remaining;
+        }
+    }
+
+    /**
+     * Phase one, on the client thread: copy the open offers. Item names come
+     * from a cache, so the composition lookup only happens for new items.
+     */
+    public List<OfferSnapshot> snapshotActiveOffers() {
         GrandExchangeOffer[] offers = client.getGrandExchangeOffers();
         if (offers == null)
             return java.util.Collections.emptyList();
 
-        List<FlipTo5BPanel.PanelOffer> panelOffers = new ArrayList<>();
-        for (GrandExchangeOffer o : offers) {
+        List<OfferSnapshot> snapshot = new ArrayList<>();
+        for (int slot = 0; slot < offers.length; slot++) {
+            GrandExchangeOffer o = offers[slot];
             if (o == null)
                 continue;
             if (o.getState() == GrandExchangeOfferState.BUYING || o.getState() == GrandExchangeOfferState.SELLING) {
                 int itemId = o.getItemId();
-                String name = itemManager.getItemComposition(itemId).getName();
-                int qty = o.getTotalQuantity() - o.getQuantitySold();
-                int price = o.getPrice();
-                String status = o.getState() == GrandExchangeOfferState.BUYING ? "Buying" : "Selling";
-                Color color = o.getState() == GrandExchangeOfferState.BUYING ? Color.ORANGE : Color.YELLOW;
-
-                // We need icon, async. Pass null or handle in UI?
-                // UI expects AsyncBufferedImage.
-                net.runelite.client.util.AsyncBufferedImage icon = itemManager.getImage(itemId);
-
-                // Pricing check
-                FlipTo5BPlugin.WikiPrice wp = plugin.getWikiPrice(itemId);
-                if (wp != null) {
-                    if (o.getState() == GrandExchangeOfferState.BUYING) {
-                        if (price >= wp.high) {
-                            status = "Insta Buy";
-                            color = Color.GREEN;
-                        } else if (price >= wp.low) {
-                            status = "Compet.";
-                            color = Color.BLUE;
-                        }
-                    } else {
-                        if (price <= wp.low) {
-                            status = "Insta Sell";
-                            color = Color.GREEN;
-                        } else if (price <= wp.high) {
-                            status = "Compet.";
-                            color = Color.BLUE;
-                        }
-                    }
-                }
+                String name = itemNames.computeIfAbsent(itemId, plugin::getItemName);
+                snapshot.add(new OfferSnapshot(slot, itemId, name,
+                        o.getState() == GrandExchangeOfferState.BUYING, o.getPrice(),
+                        o.getTotalQuantity() - o.getQuantitySold()));
+            }
+        }
+        return snapshot;
+    }
 
-                panelOffers.add(new FlipTo5BPanel.PanelOffer(name, itemId, qty, price, status, color, icon));
+    /**
+     * Phase two, off the client thread: icons, competitiveness and status
+     * text for the panel.
+     */
+    public List<FlipTo5BPanel.PanelOffer> buildPanelOffers(List<OfferSnapshot> snapshot) {
+        List<FlipTo5BPanel.PanelOffer> panelOffers = new ArrayList<>(snapshot.size());
+        for (OfferSnapshot offer : snapshot) {
+            String status = offer.buying ? "Buying" : "Selling";
+            Color color = offer.buying ? Color.ORANGE : Color.YELLOW;
+
+            // Icons load asynchronously; the panel repaints when they arrive
+            net.runelite.client.util.AsyncBufferedImage icon = itemManager.getImage(offer.itemId);
+
+            // Pricing check, as last evaluated on an offer event or price snapshot
+            CompetitivenessEngine.Assessment assessment = plugin.getOfferAssessment(offer.slot);
+            switch (assessment.getStatus()) {
+                case INSTANT:
+                    status = offer.buying ? "Insta Buy" : "Insta Sell";
+                    color = Color.GREEN;
+                    break;
+                case COMPETITIVE:
+                    status = "Compet.";
+                    color = Color.BLUE;
+                    break;
+                case UNDERCUT:
+                    status = (offer.buying ? "Outbid -" : "Undercut -")
+                            + QuantityFormatter.quantityToStackSize(assessment.getUndercutBy());
+                    break;
+                default:
+                    break;
             }
+
+            panelOffers.add(new FlipTo5BPanel.PanelOffer(offer.itemName, offer.itemId, offer.remaining, offer.price,
+                    status, color, icon));
         }
         return panelOffers;
     }
@@ -0,0 +1,348 @@
+package com.flipto5b.engine;
+
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The "Undercut Watch" - Tracks how each open GE offer stands against the
+ * market and reports only when that changes.
+ *
+ * <h2>Core Logic:</h2>
+ * <ul>
+ * <li><b>Best Prices:</b> Per-item latest insta-buy (high) and insta-sell
+ * (low), advanced only when {@code highTime}/{@code lowTime} move</li>
+ * <li><b>Undercut:</b> a buy is outbid when the latest insta-sell went above
+ * it (someone bid more); a sell is undercut when the latest insta-buy went
+ * below it. The gap is the undercut amount</li>
+ * <li><b>Queue:</b> fills on the offer's side at exactly its price that did
+ * not reach the offer count as trades ahead of it; the average gap between
+ * those trades gives a rough time per fill</li>
+ * <li><b>Transitions:</b> a status change is returned once, so overlays and
+ * chat react to changes rather than re-deriving state every frame</li>
+ * </ul>
+ *
+ * <p>
+ * Work happens on GE offer events and price snapshots: a snapshot touches at
+ * most the eight items with open offers, and only those whose trade times
+ * moved. Overlays read the last {@link Assessment} per slot without locking.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+@Slf4j
+public class CompetitivenessEngine {
+
+    // =========================================================================
+    // CONSTANTS
+    // =========================================================================
+
+    /** EWMA smoothing factor for the time between trades */
+    private static final double INTERVAL_ALPHA = 0.3;
+
+    private static final LatencyHistogram EVALUATE_TIME = Metrics.histogram("offers.evaluate");
+
+    // =========================================================================
+    // DATA CLASSES
+    // =========================================================================
+
+    /**
+     * Where an offer stands against the latest trades.
+     */
+    public enum Status {
+        /** At or past the opposite side: fills as fast as the market trades */
+        INSTANT,
+        /** Level with the latest trades on its side */
+        COMPETITIVE,
+        /** Someone else's offer is filling ahead at a better price */
+        UNDERCUT,
+        /** Offer has completed */
+        FILLED,
+        /** No prices for the item yet */
+        UNKNOWN
+    }
+
+    /**
+     * Immutable view of one slot's standing, safe to read from any thread.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Assessment {
+        public static final Assessment UNKNOWN = new Assessment(Status.UNKNOWN, 0, 0, -1);
+
+        private final Status status;
+
+        /** GP between the offer and the price that beat it (0 unless undercut) */
+        private final int undercutBy;
+
+        /** Fills at the offer's price that went to others since it last filled */
+        private final int tradesAhead;
+
+        /** Average seconds between trades on the offer's side, or -1 if unknown */
+        private final int secondsPerTrade;
+    }
+
+    /**
+     * A slot whose status changed.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Transition {
+        private final int slot;
+        private final int itemId;
+        private final String itemName;
+        private final boolean buy;
+        private final Status previous;
+        private final Assessment current;
+    }
+
+    // =========================================================================
+    // STATE
+    // =========================================================================
+
+    /**
+     * Latest trades for one item and the pace of each side.
+     */
+    private static final class Market {
+        private int high;
+        private int highTime;
+        private int low;
+        private int lowTime;
+        /** EWMA of seconds between insta-buys / insta-sells, 0 until two are seen */
+        private double highInterval;
+        private double lowInterval;
+    }
+
+    /**
+     * One open GE slot.
+     */
+    private static final class Offer {
+        private int itemId;
+        private String itemName;
+        private boolean buy;
+        private int price;
+        private int quantityFilled;
+        private boolean complete;
+        private long placedAtSec;
+        private int tradesAhead;
+        private Assessment assessment = Assessment.UNKNOWN;
+    }
+
+    private final Map<Integer, Offer> offers = new HashMap<>();
+    private final Map<Integer, Market> markets = new HashMap<>();
+    private final Map<Integer, Assessment> published = new ConcurrentHashMap<>();
+
+    // =========================================================================
+    // EVENTS
+    // =========================================================================
+
+    /**
+     * Record a GE offer event for a slot and evaluate it against the latest
+     * known price.
+     *
+     * @param latest the item's latest price, or null if none is loaded yet
+     * @return the slot's transition, or null if its status didn't change
+     */
+    public synchronized Transition onOfferChanged(int slot, int itemId, String itemName, boolean buy, int price,
+            int quantityFilled, boolean complete, WikiPrice latest, long nowEpochSec) {
+        Offer offer = offers.get(slot);
+        if (offer == null || offer.itemId != itemId || offer.buy != buy || offer.price != price) {
+            // New or modified offer: it joins the back of the queue at its price
+            offer = new Offer();
+            offer.itemId = itemId;
+            offer.buy = buy;
+            offer.price = price;
+            offer.placedAtSec = nowEpochSec;
+            offers.put(slot, offer);
+        } else if (quantityFilled > offer.quantityFilled) {
+            // A fill means it reached the front
+            offer.tradesAhead = 0;
+        }
+        offer.itemName = itemName;
+        offer.quantityFilled = quantityFilled;
+        offer.complete = complete;
+
+        if (latest != null) {
+            observe(itemId, latest);
+        }
+        return evaluate(slot, offer);
+    }
+
+    /**
+     * Forget a slot (offer collected or cancelled).
+     */
+    public synchronized void removeOffer(int slot) {
+        Offer removed = offers.remove(slot);
+        published.remove(slot);
+        if (removed != null && offers.values().stream().noneMatch(o -> o.itemId == removed.itemId)) {
+            markets.remove(removed.itemId);
+        }
+    }
+
+    /**
+     * Process a price snapshot: re-evaluate offers whose item traded since the
+     * previous one.
+     *
+     * @return status changes (usually empty)
+     */
+    public synchronized List<Transition> onSnapshot(Map<Integer, WikiPrice> snapshot) {
+        if (offers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long start = System.nanoTime();
+        List<Transition> transitions = new ArrayList<>();
+
+        for (Offer offer : offers.values()) {
+            WikiPrice price = snapshot.get(offer.itemId);
+            if (price == null) {
+                continue;
+            }
+            Market market = markets.get(offer.itemId);
+            boolean sideTraded = market != null && (offer.buy
+                    ? price.lowTime != market.lowTime
+                    : price.highTime != market.highTime);
+            int tradedAt = offer.buy ? price.low : price.high;
+            int tradeTime = offer.buy ? price.lowTime : price.highTime;
+            if (sideTraded && tradedAt == offer.price && tradeTime >= offer.placedAtSec && !offer.complete) {
+                // Someone filled at our price and it wasn't us
+                offer.tradesAhead++;
+            }
+        }
+
+        Set<Integer> traded = new HashSet<>();
+        for (Offer offer : offers.values()) {
+            WikiPrice price = snapshot.get(offer.itemId);
+            if (price != null && !traded.contains(offer.itemId) && observe(offer.itemId, price)) {
+                traded.add(offer.itemId);
+            }
+        }
+
+        for (Map.Entry<Integer, Offer> entry : offers.entrySet()) {
+            Offer offer = entry.getValue();
+            if (!traded.contains(offer.itemId) && offer.assessment.getStatus() != Status.UNKNOWN) {
+                // Nothing traded since the last snapshot - standing unchanged
+                continue;
+            }
+            Transition transition = evaluate(entry.getKey(), offer);
+            if (transition != null) {
+                transitions.add(transition);
+            }
+        }
+
+        if (!transitions.isEmpty()) {
+            log.debug("Offer competitiveness changed for {} slots", transitions.size());
+        }
+        EVALUATE_TIME.recordSince(start);
+        return transitions;
+    }
+
+    /**
+     * The slot's last evaluated standing.
+     */
+    public Assessment getAssessment(int slot) {
+        return published.getOrDefault(slot, Assessment.UNKNOWN);
+    }
+
+    /**
+     * Forget all offers and prices.
+     */
+    public synchronized void reset() {
+        offers.clear();
+        markets.clear();
+        published.clear();
+    }
+
+    // =========================================================================
+    // EVALUATION
+    // =========================================================================
+
+    /**
+     * Advance the item's market from a price.
+     *
+     * @return true if either side traded since the last observation
+     */
+    private boolean observe(int itemId, WikiPrice price) {
+        Market market = markets.get(itemId);
+        if (market == null) {
+            market = new Market();
+            market.high = price.high;
+            market.highTime = price.highTime;
+            market.low = price.low;
+            market.lowTime = price.lowTime;
+            markets.put(itemId, market);
+            return true;
+        }
+
+        boolean changed = false;
+        if (price.highTime > market.highTime) {
+            market.highInterval = smooth(market.highInterval, price.highTime - market.highTime);
+            market.high = price.high;
+            market.highTime = price.highTime;
+            changed = true;
+        }
+        if (price.lowTime > market.lowTime) {
+            market.lowInterval = smooth(market.lowInterval, price.lowTime - market.lowTime);
+            market.low = price.low;
+            market.lowTime = price.lowTime;
+            changed = true;
+        }
+        return changed;
+    }
+
+    private static double smooth(double average, int sample) {
+        return average <= 0 ? sample : average + INTERVAL_ALPHA * (sample - average);
+    }
+
+    private Transition evaluate(int slot, Offer offer) {
+        Assessment next = assess(offer, markets.get(offer.itemId));
+        Status previous = offer.assessment.getStatus();
+        offer.assessment = next;
+        published.put(slot, next);
+        if (next.getStatus() == previous) {
+            return null;
+        }
+        return new Transition(slot, offer.itemId, offer.itemName, offer.buy, previous, next);
+    }
+
+    private static Assessment assess(Offer offer, Market market) {
+        if (offer.complete) {
+            return new Assessment(Status.FILLED, 0, 0, -1);
+        }
+        if (market == null || market.high <= 0 || market.low <= 0) {
+            return Assessment.UNKNOWN;
+        }
+
+        double interval = offer.buy ? market.lowInterval : market.highInterval;
+        int secondsPerTrade = interval > 0 ? (int) Math.round(interval) : -1;
+
+        if (offer.buy) {
+            if (offer.price >= market.high) {
+                return new Assessment(Status.INSTANT, 0, 0, secondsPerTrade);
+            }
+            if (offer.price >= market.low) {
+                return new Assessment(Status.COMPETITIVE, 0, offer.tradesAhead, secondsPerTrade);
+            }
+            return new Assessment(Status.UNDERCUT, market.low - offer.price, offer.tradesAhead, secondsPerTrade);
+        }
+
+        if (offer.price <= market.low) {
+            return new Assessment(Status.INSTANT, 0, 0, secondsPerTrade);
+        }
+        if (offer.price <= market.high) {
+            return new Assessment(Status.COMPETITIVE, 0, offer.tradesAhead, secondsPerTrade);
+        }
+        return new Assessment(Status.UNDERCUT, offer.price - market.high, offer.tradesAhead, secondsPerTrade);
+    }
+}
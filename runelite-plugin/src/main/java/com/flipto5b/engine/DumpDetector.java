@@ -0,0 +1,250 @@
+package com.flipto5b.engine;
+
+import com.flipto5b.DumpEvent;
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The "Dump Detector" - Finds dumps and pumps locally from the shared price feed.
+ *
+ * <h2>Core Logic:</h2>
+ * <ul>
+ * <li><b>Rolling Baseline:</b> Per-item EWMA of insta-sell (low) and insta-buy
+ * (high) prices, updated only when the item actually traded</li>
+ * <li><b>Dump:</b> low price falls at least N% under its baseline</li>
+ * <li><b>Pump:</b> high price rises at least N% over its baseline</li>
+ * <li><b>Volume Confirmation:</b> the moved side must have fresh trades this
+ * tick; when the feed carries volumes they must also meet a minimum</li>
+ * </ul>
+ *
+ * <p>
+ * Each snapshot costs one timestamp comparison per item plus baseline work for
+ * items that traded since the previous snapshot, so detection latency is a
+ * single price tick instead of the remote /dumps polling interval.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+@Slf4j
+public class DumpDetector {
+
+    // =========================================================================
+    // CONSTANTS
+    // =========================================================================
+
+    public static final String TYPE_DUMP = "dump";
+    public static final String TYPE_PUMP = "pump";
+
+    /** GE tax rate and cap used for the margin estimate */
+    private static final double GE_TAX_RATE = 0.02;
+    private static final int GE_TAX_CAP = 5_000_000;
+
+    private static final LatencyHistogram DETECT_TIME = Metrics.histogram("dumps.detect");
+
+    // =========================================================================
+    // CONFIGURATION
+    // =========================================================================
+
+    /**
+     * Detector configuration.
+     */
+    @Getter
+    @Builder
+    public static class DetectorConfig {
+        /** Minimum % move from baseline to report (matches the API's 5% dumps) */
+        @Builder.Default
+        private final double thresholdPercent = 5.0;
+
+        /** EWMA smoothing factor for baselines (higher = faster to adapt) */
+        @Builder.Default
+        private final double baselineAlpha = 0.1;
+
+        /** Traded ticks needed before a baseline is trusted */
+        @Builder.Default
+        private final int minSamples = 5;
+
+        /** Ignore items cheaper than this (noise on low-value items) */
+        @Builder.Default
+        private final int minPrice = 100;
+
+        /** Latest trade on the moved side must be at most this old */
+        @Builder.Default
+        private final int maxTradeAgeSeconds = 300;
+
+        /** Minimum trade volume when the feed carries volumes (0 = don't require) */
+        @Builder.Default
+        private final long minVolume = 0;
+    }
+
+    // =========================================================================
+    // STATE
+    // =========================================================================
+
+    /**
+     * Rolling per-item baseline.
+     */
+    private static final class Baseline {
+        private double low;
+        private double high;
+        private int lastLowTime;
+        private int lastHighTime;
+        private int samples;
+        /** Set while the item sits outside the threshold so one move is reported once */
+        private boolean inEvent;
+    }
+
+    private final DetectorConfig config;
+    private final Map<Integer, Baseline> baselines = new HashMap<>();
+    private int nextLocalId = -1;
+
+    // =========================================================================
+    // CONSTRUCTOR
+    // =========================================================================
+
+    public DumpDetector(DetectorConfig config) {
+        this.config = config;
+    }
+
+    public DumpDetector() {
+        this(DetectorConfig.builder().build());
+    }
+
+    // =========================================================================
+    // DETECTION
+    // =========================================================================
+
+    /**
+     * Process a full price snapshot and return newly detected dumps/pumps.
+     * Item names are left null; callers resolve them on the client thread.
+     *
+     * @param snapshot    itemId -> latest price from the wiki feed
+     * @param nowEpochSec current time in epoch seconds
+     * @return events detected on this tick (usually empty)
+     */
+    public synchronized List<DumpEvent> onSnapshot(Map<Integer, WikiPrice> snapshot, long nowEpochSec) {
+        long start = System.nanoTime();
+        List<DumpEvent> detected = new ArrayList<>();
+
+        for (Map.Entry<Integer, WikiPrice> entry : snapshot.entrySet()) {
+            WikiPrice price = entry.getValue();
+            if (price == null || price.low < config.getMinPrice() || price.high <= 0) {
+                continue;
+            }
+
+            Baseline baseline = baselines.get(entry.getKey());
+            if (baseline == null) {
+                baseline = new Baseline();
+                baseline.low = price.low;
+                baseline.high = price.high;
+                baseline.lastLowTime = price.lowTime;
+                baseline.lastHighTime = price.highTime;
+                baselines.put(entry.getKey(), baseline);
+                continue;
+            }
+
+            boolean lowTraded = price.lowTime != baseline.lastLowTime;
+            boolean highTraded = price.highTime != baseline.lastHighTime;
+            if (!lowTraded && !highTraded) {
+                // Nothing traded since the last tick - nothing to learn
+                continue;
+            }
+
+            DumpEvent event = evaluate(entry.getKey(), price, baseline, lowTraded, highTraded, nowEpochSec);
+            if (event != null) {
+                detected.add(event);
+            }
+
+            updateBaseline(baseline, price, lowTraded, highTraded);
+        }
+
+        if (!detected.isEmpty()) {
+            log.debug("Local dump detector found {} events", detected.size());
+        }
+        DETECT_TIME.recordSince(start);
+        return detected;
+    }
+
+    /**
+     * Forget all baselines (e.g. after a long gap in the feed).
+     */
+    public synchronized void reset() {
+        baselines.clear();
+    }
+
+    private DumpEvent evaluate(int itemId, WikiPrice price, Baseline baseline, boolean lowTraded,
+            boolean highTraded, long nowEpochSec) {
+        if (baseline.samples < config.getMinSamples()) {
+            return null;
+        }
+
+        double dropPercent = (baseline.low - price.low) / baseline.low * 100.0;
+        double risePercent = (price.high - baseline.high) / baseline.high * 100.0;
+
+        boolean isDump = lowTraded && dropPercent >= config.getThresholdPercent()
+                && isConfirmed(price.lowTime, price.lowVolume, nowEpochSec);
+        boolean isPump = !isDump && highTraded && risePercent >= config.getThresholdPercent()
+                && isConfirmed(price.highTime, price.highVolume, nowEpochSec);
+
+        if (!isDump && !isPump) {
+            // Back within half the threshold on both sides ends the event
+            double halfThreshold = config.getThresholdPercent() / 2;
+            if (dropPercent < halfThreshold && risePercent < halfThreshold) {
+                baseline.inEvent = false;
+            }
+            return null;
+        }
+
+        if (baseline.inEvent) {
+            return null;
+        }
+        baseline.inEvent = true;
+
+        DumpEvent event = new DumpEvent();
+        event.setId(nextLocalId--);
+        event.setItemId(itemId);
+        event.setPriceChangeType(isDump ? TYPE_DUMP : TYPE_PUMP);
+        event.setPreviousPrice((int) Math.round(isDump ? baseline.low : baseline.high));
+        event.setCurrentPrice(isDump ? price.low : price.high);
+        event.setPriceDropPercent(isDump ? dropPercent : risePercent);
+        event.setBuyPrice(price.low);
+        event.setSellPrice(price.high);
+        int tax = Math.min((int) (price.high * GE_TAX_RATE), GE_TAX_CAP);
+        event.setMargin(price.high - price.low - tax);
+        event.setDumpDetectedAt(Instant.ofEpochSecond(nowEpochSec).toString());
+        return event;
+    }
+
+    /**
+     * A move counts only if the moved side traded recently, and in enough
+     * volume when the feed reports volumes.
+     */
+    private boolean isConfirmed(int tradeTime, long volume, long nowEpochSec) {
+        if (nowEpochSec - tradeTime > config.getMaxTradeAgeSeconds()) {
+            return false;
+        }
+        return volume <= 0 || volume >= config.getMinVolume();
+    }
+
+    private void updateBaseline(Baseline baseline, WikiPrice price, boolean lowTraded, boolean highTraded) {
+        double alpha = config.getBaselineAlpha();
+        if (lowTraded) {
+            baseline.low = baseline.low + alpha * (price.low - baseline.low);
+            baseline.lastLowTime = price.lowTime;
+        }
+        if (highTraded) {
+            baseline.high = baseline.high + alpha * (price.high - baseline.high);
+            baseline.lastHighTime = price.highTime;
+        }
+        baseline.samples++;
+    }
+}
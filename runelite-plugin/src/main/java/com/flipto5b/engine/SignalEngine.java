@@ -1,20 +1,21 @@
 package com.flipto5b.engine;
 
+import com.flipto5b.FlipTo5BPlugin.WikiLatest;
 import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.ItemMetadata;
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
 import com.flipto5b.model.MarketSignal;
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.reflect.TypeToken;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import net.runelite.client.game.ItemManager;
 import okhttp3.*;
 
 import java.io.IOException;
-import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntUnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -47,19 +48,22 @@ public class SignalEngine {
     /** Maximum items to return in signal list */
     private static final int MAX_SIGNALS = 25;
 
+    /** Buy limit assumed for items missing from the mapping */
+    private static final int DEFAULT_BUY_LIMIT = 8;
+
+    private static final LatencyHistogram SCAN_TIME = Metrics.histogram("signal.scan");
+
     // =========================================================================
     // DEPENDENCIES
     // =========================================================================
 
     private final OkHttpClient httpClient;
     private final Gson gson;
-    private final ItemManager itemManager;
+    /** Item names and buy limits from the wiki mapping, or null offline */
+    private final ItemMetadata itemMetadata;
 
-    /** Cache of item buy limits (populated from wiki mapping) */
-    private final Map<Integer, Integer> buyLimitCache = new ConcurrentHashMap<>();
-
-    /** Cache of item names */
-    private final Map<Integer, String> itemNameCache = new ConcurrentHashMap<>();
+    /** Buy limits overriding the mapping's, or null to use the mapping */
+    private volatile IntUnaryOperator buyLimits;
 
     /** Historical average recovery times (mocked/estimated) */
     private final Map<Integer, Double> recoveryTimeCache = new ConcurrentHashMap<>();
@@ -125,10 +129,15 @@ public class SignalEngine {
     // CONSTRUCTOR
     // =========================================================================
 
-    public SignalEngine(OkHttpClient httpClient, Gson gson, ItemManager itemManager) {
+    /**
+     * @param itemMetadata item names and buy limits, or null (offline tools)
+     *                     to name items by id and use {@link #setBuyLimits}
+     *                     or the default limit
+     */
+    public SignalEngine(OkHttpClient httpClient, Gson gson, ItemMetadata itemMetadata) {
         this.httpClient = httpClient;
         this.gson = gson;
-        this.itemManager = itemManager;
+        this.itemMetadata = itemMetadata;
     }
 
     // =========================================================================
@@ -146,6 +155,15 @@ public class SignalEngine {
      * @return List of MarketSignals sorted by opportunity score
      */
     public List<MarketSignal> scan(SignalConfig config) {
+        long start = System.nanoTime();
+        try {
+            return scanItems(config);
+        } finally {
+            SCAN_TIME.recordSince(start);
+        }
+    }
+
+    private List<MarketSignal> scanItems(SignalConfig config) {
         log.info("SignalEngine: Starting scan with TimeHorizon={}m, Risk={}",
                 config.getTimeHorizonMinutes(), config.getRiskTolerance());
 
@@ -588,9 +606,14 @@ public class SignalEngine {
     }
 
     private double calculateBaselineDeviation(WikiPrice price, VolumeData volume) {
-        // In production, compare to 30-day average
-        // Simulated: assume current is baseline, return small random deviation
-        return (Math.random() - 0.5) * 10;
+        if (volume.baselinePrice > 0) {
+            // Real baseline supplied (e.g. by the backtester): % from the long-run mid price
+            double mid = (price.high + price.low) / 2.0;
+            return (mid - volume.baselinePrice) / volume.baselinePrice * 100;
+        }
+
+        // No baseline known: treat the current price as the baseline
+        return 0;
     }
 
     private double estimateRecoveryTime(int itemId, VolumeData volume, double spreadPct) {
@@ -630,14 +653,8 @@ public class SignalEngine {
                 return Collections.emptyMap();
             }
 
-            String body = responseBody.string();
-            JsonObject json = gson.fromJson(body, JsonObject.class);
-            JsonObject data = json.getAsJsonObject("data");
-
-            Type type = new TypeToken<Map<Integer, WikiPrice>>() {
-            }.getType();
-            Map<Integer, WikiPrice> result = gson.fromJson(data, type);
-            return result != null ? result : Collections.emptyMap();
+            Map<Integer, WikiPrice> latest = WikiLatest.parse(gson, responseBody.charStream());
+            return latest != null ? latest : Collections.emptyMap();
         }
     }
 
@@ -653,26 +670,24 @@ public class SignalEngine {
                 return Collections.emptyMap();
             }
 
-            String body = responseBody.string();
-            JsonObject json = gson.fromJson(body, JsonObject.class);
-            JsonObject data = json.getAsJsonObject("data");
-
-            Map<Integer, VolumeData> result = new HashMap<>();
-            for (String key : data.keySet()) {
-                try {
-                    int itemId = Integer.parseInt(key);
-                    JsonObject item = data.getAsJsonObject(key);
-
-                    VolumeData vol = new VolumeData();
-                    vol.highVolume = item.has("highPriceVolume") ? item.get("highPriceVolume").getAsInt() : 0;
-                    vol.lowVolume = item.has("lowPriceVolume") ? item.get("lowPriceVolume").getAsInt() : 0;
-                    vol.totalVolume = vol.highVolume + vol.lowVolume;
-                    vol.avgVolume = vol.totalVolume; // Simplified
+            DailyVolumes volumes = gson.fromJson(responseBody.charStream(), DailyVolumes.class);
+            if (volumes == null || volumes.data == null) {
+                return Collections.emptyMap();
+            }
 
-                    result.put(itemId, vol);
-                } catch (NumberFormatException ignored) {
+            Map<Integer, VolumeData> result = new HashMap<>(volumes.data.size() * 2);
+            volumes.data.forEach((itemId, item) -> {
+                if (item == null) {
+                    return;
                 }
-            }
+                VolumeData vol = new VolumeData();
+                vol.highVolume = item.highPriceVolume;
+                vol.lowVolume = item.lowPriceVolume;
+                vol.totalVolume = vol.highVolume + vol.lowVolume;
+                vol.avgVolume = vol.totalVolume; // Simplified
+
+                result.put(itemId, vol);
+            });
             return result;
         }
     }
@@ -681,32 +696,46 @@ public class SignalEngine {
     // UTILITY METHODS
     // =========================================================================
 
-    private String getItemName(int itemId) {
-        return itemNameCache.computeIfAbsent(itemId, id -> {
-            try {
-                return itemManager.getItemComposition(id).getName();
-            } catch (Exception e) {
-                return "Item #" + id;
-            }
-        });
+    /**
+     * Use these buy limits instead of the mapping's, e.g. a backtest's
+     * configured limits. Items the lookup returns 0 for get the default.
+     */
+    public void setBuyLimits(IntUnaryOperator limits) {
+        this.buyLimits = limits;
     }
 
-    private int getBuyLimit(int itemId) {
-        return buyLimitCache.getOrDefault(itemId, 8); // Default limit
+    private String getItemName(int itemId) {
+        String name = itemMetadata != null ? itemMetadata.getName(itemId) : null;
+        return name != null ? name : "Item #" + itemId;
     }
 
-    public void setBuyLimits(Map<Integer, Integer> limits) {
-        buyLimitCache.putAll(limits);
+    private int getBuyLimit(int itemId) {
+        IntUnaryOperator lookup = buyLimits;
+        int limit = lookup != null ? lookup.applyAsInt(itemId)
+                : itemMetadata != null ? itemMetadata.getBuyLimit(itemId) : 0;
+        return limit > 0 ? limit : DEFAULT_BUY_LIMIT;
     }
 
     // =========================================================================
     // HELPER CLASSES
     // =========================================================================
 
+    /** Body of the wiki /24h endpoint */
+    private static class DailyVolumes {
+        Map<Integer, DailyVolume> data;
+    }
+
+    private static class DailyVolume {
+        int highPriceVolume;
+        int lowPriceVolume;
+    }
+
     public static class VolumeData {
         public int highVolume;
         public int lowVolume;
         public int totalVolume;
         public int avgVolume;
+        /** Long-run average mid price; 0 when unknown (deviation is simulated) */
+        public double baselinePrice;
     }
 }
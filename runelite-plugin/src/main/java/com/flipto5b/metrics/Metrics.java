@@ -0,0 +1,143 @@
+package com.flipto5b.metrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Plugin-wide metrics registry: counters, gauges and latency histograms.
+ *
+ * <h2>Usage:</h2>
+ * <ul>
+ * <li>Look metrics up once and keep them in a static field, e.g.
+ * {@code private static final LatencyHistogram SCAN_TIME = Metrics.histogram("signal.scan");}</li>
+ * <li>Time a section with {@code long start = System.nanoTime(); ... SCAN_TIME.recordSince(start);}</li>
+ * <li>Gauges are sampled only when the overlay or a dump reads them;
+ * registering a gauge again under the same name replaces it</li>
+ * </ul>
+ *
+ * <p>
+ * The registry is static so engines and helpers created with {@code new}
+ * can record without the metrics being threaded through their constructors.
+ * Names are dotted, {@code area.what}; the overlay and dump sort by name.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+public final class Metrics {
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> GAUGES = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    public static LatencyHistogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    public static void gauge(String name, LongSupplier value) {
+        GAUGES.put(name, value);
+    }
+
+    public static void removeGauge(String name) {
+        GAUGES.remove(name);
+    }
+
+    /**
+     * Zero every counter and histogram (gauges are live values).
+     */
+    public static void reset() {
+        COUNTERS.values().forEach(Counter::reset);
+        HISTOGRAMS.values().forEach(LatencyHistogram::reset);
+    }
+
+    // =========================================================================
+    // READING
+    // =========================================================================
+
+    public static Map<String, Long> counterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        COUNTERS.forEach((name, counter) -> values.put(name, counter.get()));
+        return values;
+    }
+
+    /**
+     * Current gauge values by name; a gauge that throws reads as -1.
+     */
+    public static Map<String, Long> gaugeValues() {
+        Map<String, Long> values = new TreeMap<>();
+        GAUGES.forEach((name, gauge) -> {
+            long value;
+            try {
+                value = gauge.getAsLong();
+            } catch (RuntimeException e) {
+                value = -1;
+            }
+            values.put(name, value);
+        });
+        return values;
+    }
+
+    /**
+     * Histogram snapshots sorted by name.
+     */
+    public static List<LatencyHistogram.Snapshot> histogramSnapshots() {
+        List<LatencyHistogram.Snapshot> snapshots = new ArrayList<>(HISTOGRAMS.size());
+        for (LatencyHistogram histogram : HISTOGRAMS.values()) {
+            snapshots.add(histogram.snapshot());
+        }
+        snapshots.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    // =========================================================================
+    // DUMP
+    // =========================================================================
+
+    /**
+     * Write a plain-text report of every metric.
+     */
+    public static void writeReport(Writer writer) {
+        PrintWriter out = new PrintWriter(writer);
+        out.printf("FlipTo5B metrics at %s%n%n", Instant.now());
+
+        out.printf("%-32s %10s %10s %10s %10s %10s %10s%n",
+                "latency (ms)", "count", "mean", "p50", "p90", "p99", "max");
+        for (LatencyHistogram.Snapshot snapshot : histogramSnapshots()) {
+            out.printf("%-32s %10d %10.3f %10.3f %10.3f %10.3f %10.3f%n", snapshot.getName(), snapshot.getCount(),
+                    snapshot.getMeanNanos() / 1e6, snapshot.getPercentileNanos(50) / 1e6,
+                    snapshot.getPercentileNanos(90) / 1e6, snapshot.getPercentileNanos(99) / 1e6,
+                    snapshot.getMaxNanos() / 1e6);
+        }
+
+        out.printf("%n%-32s %10s%n", "counter", "value");
+        counterValues().forEach((name, value) -> out.printf("%-32s %10d%n", name, value));
+
+        out.printf("%n%-32s %10s%n", "gauge", "value");
+        gaugeValues().forEach((name, value) -> out.printf("%-32s %10d%n", name, value));
+        out.flush();
+    }
+
+    public static void dump(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writeReport(writer);
+        }
+    }
+}
@@ -1,45 +1,112 @@
 package com.flipto5b.model;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Rolling 4-hour GE buy limit for one item, kept as a ring of purchase
+ * events (timestamp, quantity).
+ *
+ * <p>
+ * Each purchase only counts against the limit for 4 hours after it was made,
+ * so the limit frees up piece by piece rather than all at once. Events are
+ * appended in time order and expired from the head with a running total, so
+ * "bought in the window at time t" is amortised O(1): every event is added
+ * and expired exactly once.
+ *
+ * <p>
+ * Queries must use non-decreasing times (expired events are dropped for
+ * good). Methods are synchronized; the game thread records purchases while
+ * the panel and allocator read.
+ */
 public class GELimitTracker {
-    private long nextRefreshMillis;
-    private int itemsBought;
 
-    // Default constructor for GSON
+    /** Length of the GE buy limit window */
+    public static final long WINDOW_MILLIS = Duration.ofHours(4).toMillis();
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+    private int boughtInWindow;
+
     public GELimitTracker() {
     }
 
     public void recordPurchase(int qty) {
-        long now = System.currentTimeMillis();
+        recordPurchase(qty, System.currentTimeMillis());
+    }
 
-        // If we are past the refresh time, or it's a fresh tracker (0), reset
-        if (nextRefreshMillis == 0 || now > nextRefreshMillis) {
-            // New window starts NOW.
-            // Reset itemsBought to just this purchase
-            nextRefreshMillis = now + Duration.ofHours(4).toMillis();
-            itemsBought = qty;
-        } else {
-            // Within window, just add
-            itemsBought += qty;
+    /**
+     * Add a purchase. Out-of-order timestamps (clock adjustments) are clamped
+     * to the newest event so the ring stays sorted.
+     */
+    public synchronized void recordPurchase(int qty, long nowMillis) {
+        if (qty <= 0) {
+            return;
+        }
+        expire(nowMillis);
+        if (size == timestamps.length) {
+            grow();
         }
+        long timestamp = size > 0 ? Math.max(nowMillis, timestamps[index(size - 1)]) : nowMillis;
+        int tail = index(size);
+        timestamps[tail] = timestamp;
+        quantities[tail] = qty;
+        size++;
+        boughtInWindow += qty;
+    }
+
+    /**
+     * Items bought in the 4 hours up to {@code nowMillis}.
+     */
+    public synchronized int getItemsBought(long nowMillis) {
+        expire(nowMillis);
+        return boughtInWindow;
     }
 
     public int getItemsBought() {
-        // If window expired, effectively 0 (until next buy resets it properly,
-        // but for display purposes we should show 0 if expired)
-        if (System.currentTimeMillis() > nextRefreshMillis) {
-            return 0;
-        }
-        return itemsBought;
+        return getItemsBought(System.currentTimeMillis());
+    }
+
+    /**
+     * How many more can be bought at {@code nowMillis} under {@code limit}.
+     */
+    public int getRemainingLimit(int limit, long nowMillis) {
+        return Math.max(0, limit - getItemsBought(nowMillis));
+    }
+
+    /**
+     * When the oldest purchase still in the window drops out, freeing part of
+     * the limit; 0 if nothing is in the window.
+     */
+    public synchronized long getNextResetTime(long nowMillis) {
+        expire(nowMillis);
+        return size > 0 ? timestamps[head] + WINDOW_MILLIS : 0;
+    }
+
+    public long getNextResetTime() {
+        return getNextResetTime(System.currentTimeMillis());
+    }
+
+    /**
+     * When the whole limit is free again (the newest purchase drops out); 0 if
+     * nothing is in the window.
+     */
+    public synchronized long getFullResetTime(long nowMillis) {
+        expire(nowMillis);
+        return size > 0 ? timestamps[index(size - 1)] + WINDOW_MILLIS : 0;
     }
 
     public long getRemainingMillis() {
         long now = System.currentTimeMillis();
-        if (now > nextRefreshMillis) {
-            return 0;
-        }
-        return nextRefreshMillis - now;
+        long next = getNextResetTime(now);
+        return next > now ? next - now : 0;
     }
 
     public String getRemainingTimeLabel() {
@@ -47,8 +114,8 @@ public class GELimitTracker {
         if (millis <= 0)
             return "Ready";
 
-        long hours = java.util.concurrent.TimeUnit.MILLISECONDS.toHours(millis);
-        long minutes = java.util.concurrent.TimeUnit.MILLISECONDS.toMinutes(millis) % 60;
+        long hours = TimeUnit.MILLISECONDS.toHours(millis);
+        long minutes = TimeUnit.MILLISECONDS.toMinutes(millis) % 60;
 
         if (hours > 0) {
             return String.format("%dh %dm", hours, minutes);
@@ -62,7 +129,72 @@ public class GELimitTracker {
         return getItemsBought();
     }
 
-    public long getNextResetTime() {
-        return nextRefreshMillis;
+    /**
+     * True once every purchase has left the window; such trackers need not be
+     * kept or persisted.
+     */
+    public synchronized boolean isEmpty(long nowMillis) {
+        expire(nowMillis);
+        return size == 0;
+    }
+
+    // =========================================================================
+    // PERSISTENCE
+    // =========================================================================
+
+    /**
+     * Write the events still in the window: count, then (timestamp, quantity)
+     * oldest first.
+     */
+    public synchronized void writeTo(DataOutput out, long nowMillis) throws IOException {
+        expire(nowMillis);
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(timestamps[index(i)]);
+            out.writeInt(quantities[index(i)]);
+        }
+    }
+
+    public static GELimitTracker readFrom(DataInput in) throws IOException {
+        GELimitTracker tracker = new GELimitTracker();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            long timestamp = in.readLong();
+            int qty = in.readInt();
+            tracker.recordPurchase(qty, timestamp);
+        }
+        return tracker;
+    }
+
+    // =========================================================================
+    // RING
+    // =========================================================================
+
+    private void expire(long nowMillis) {
+        long cutoff = nowMillis - WINDOW_MILLIS;
+        while (size > 0 && timestamps[head] <= cutoff) {
+            boughtInWindow -= quantities[head];
+            head = (head + 1) % timestamps.length;
+            size--;
+        }
+        if (size == 0) {
+            head = 0;
+        }
+    }
+
+    private int index(int offset) {
+        return (head + offset) % timestamps.length;
+    }
+
+    private void grow() {
+        long[] newTimestamps = new long[timestamps.length * 2];
+        int[] newQuantities = new int[quantities.length * 2];
+        for (int i = 0; i < size; i++) {
+            newTimestamps[i] = timestamps[index(i)];
+            newQuantities[i] = quantities[index(i)];
+        }
+        timestamps = newTimestamps;
+        quantities = newQuantities;
+        head = 0;
     }
 }
@@ -0,0 +1,143 @@
+package com.flipto5b.replay;
+
+import com.google.gson.Gson;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk format for recorded market traffic.
+ *
+ * <p>
+ * A recording is a gzipped JSON-lines file, one captured HTTP exchange per
+ * line:
+ * <pre>
+ * {"t":1718000000000,"method":"GET","url":"https://prices.runescape.wiki/api/v1/osrs/latest",
+ *  "code":200,"contentType":"application/json","body":"{...}"}
+ * </pre>
+ * The gzip stream is sync-flushed after every line, so a recording cut short
+ * by a client crash is still readable up to its last complete entry.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+@Slf4j
+public final class MarketRecording {
+
+    // =========================================================================
+    // CONSTANTS
+    // =========================================================================
+
+    public static final String FILE_SUFFIX = ".jsonl.gz";
+
+    private static final Gson GSON = new Gson();
+
+    private MarketRecording() {
+    }
+
+    // =========================================================================
+    // ENTRY
+    // =========================================================================
+
+    /**
+     * One recorded request/response pair.
+     */
+    @Getter
+    public static final class Entry {
+        /** Wall-clock time the response was received (epoch millis) */
+        private final long t;
+        private final String method;
+        private final String url;
+        private final int code;
+        private final String contentType;
+        private final String body;
+
+        public Entry(long t, String method, String url, int code, String contentType, String body) {
+            this.t = t;
+            this.method = method;
+            this.url = url;
+            this.code = code;
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+
+    // =========================================================================
+    // READ / WRITE
+    // =========================================================================
+
+    /**
+     * Read every complete entry of a recording, ordered by time.
+     */
+    public static List<Entry> read(Path file) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    entries.add(GSON.fromJson(line, Entry.class));
+                } catch (RuntimeException e) {
+                    // Last line of an interrupted recording
+                    log.debug("Skipping malformed recording line in {}", file);
+                }
+            }
+        } catch (EOFException e) {
+            // Recording was not closed cleanly; keep everything read so far
+            log.debug("Recording {} ends without a gzip trailer", file);
+        }
+
+        entries.sort((a, b) -> Long.compare(a.t, b.t));
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Appends entries to a new recording file. Thread-safe.
+     */
+    public static final class RecordingWriter implements Closeable {
+        private final Writer writer;
+        private boolean closed;
+
+        public RecordingWriter(Path file) throws IOException {
+            Files.createDirectories(file.getParent());
+            this.writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file), true), StandardCharsets.UTF_8));
+        }
+
+        public synchronized void write(Entry entry) throws IOException {
+            if (closed) {
+                return;
+            }
+            writer.write(GSON.toJson(entry));
+            writer.write('\n');
+            writer.flush();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                writer.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.flipto5b.replay;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Captures market and Flip Smart API responses into a {@link MarketRecording}.
+ *
+ * <h2>Usage:</h2>
+ * Start the client with {@code -Dflipto5b.record=<directory>}; every client
+ * passed through {@link #wrap(OkHttpClient)} then appends its JSON responses
+ * to {@code <directory>/recording-<startMillis>.jsonl.gz}. Without the
+ * property {@code wrap} returns the client unchanged.
+ *
+ * <p>
+ * Auth endpoints are never recorded so recordings don't hold credentials or
+ * tokens; {@code ReplayInterceptor} in src/test answers them itself. Streaming responses
+ * (text/event-stream) are passed through untouched.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+@Slf4j
+public class RecordingInterceptor implements Interceptor {
+
+    // =========================================================================
+    // CONSTANTS
+    // =========================================================================
+
+    public static final String RECORD_PROPERTY = "flipto5b.record";
+
+    /** Largest body kept per response (the full /latest is ~1MB) */
+    private static final long MAX_BODY_BYTES = 16L * 1024 * 1024;
+
+    /** Shared by every wrapped client so one session writes one file */
+    private static RecordingInterceptor shared;
+
+    // =========================================================================
+    // DEPENDENCIES
+    // =========================================================================
+
+    private final MarketRecording.RecordingWriter writer;
+
+    public RecordingInterceptor(Path file) throws IOException {
+        this.writer = new MarketRecording.RecordingWriter(file);
+        log.info("Recording market traffic to {}", file);
+    }
+
+    /**
+     * Add the session recorder to a client if recording is enabled.
+     */
+    public static OkHttpClient wrap(OkHttpClient client) {
+        RecordingInterceptor recorder = getShared();
+        if (recorder == null) {
+            return client;
+        }
+        return client.newBuilder().addInterceptor(recorder).build();
+    }
+
+    private static synchronized RecordingInterceptor getShared() {
+        String directory = System.getProperty(RECORD_PROPERTY);
+        if (directory == null || directory.isEmpty()) {
+            return null;
+        }
+        if (shared == null) {
+            Path file = Paths.get(directory, "recording-" + System.currentTimeMillis() + MarketRecording.FILE_SUFFIX);
+            try {
+                shared = new RecordingInterceptor(file);
+                Runtime.getRuntime().addShutdownHook(new Thread(shared::close));
+            } catch (IOException e) {
+                log.warn("Could not start market recording in {}", directory, e);
+                System.clearProperty(RECORD_PROPERTY);
+                return null;
+            }
+        }
+        return shared;
+    }
+
+    // =========================================================================
+    // INTERCEPTOR
+    // =========================================================================
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        Response response = chain.proceed(request);
+
+        if (!shouldRecord(request, response)) {
+            return response;
+        }
+
+        // peekBody buffers a copy, leaving the original stream for the caller
+        ResponseBody peeked = response.peekBody(MAX_BODY_BYTES);
+        MediaType contentType = peeked.contentType();
+        try {
+            writer.write(new MarketRecording.Entry(
+                    System.currentTimeMillis(),
+                    request.method(),
+                    request.url().toString(),
+                    response.code(),
+                    contentType != null ? contentType.toString() : null,
+                    peeked.string()));
+        } catch (IOException e) {
+            log.debug("Failed to record {}: {}", request.url(), e.getMessage());
+        }
+        return response;
+    }
+
+    private static boolean shouldRecord(Request request, Response response) {
+        if (request.url().encodedPath().contains("/auth/")) {
+            return false;
+        }
+        ResponseBody body = response.body();
+        MediaType contentType = body != null ? body.contentType() : null;
+        return contentType == null || !"event-stream".equals(contentType.subtype());
+    }
+
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.debug("Failed to close recording: {}", e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.flipto5b.sync;
 
+import com.flipto5b.metrics.Counter;
+import com.flipto5b.metrics.LatencyHistogram;
+import com.flipto5b.metrics.Metrics;
 import com.google.gson.Gson;
 import com.google.gson.annotations.SerializedName;
 import lombok.Builder;
@@ -38,6 +41,10 @@ public class SyncManager {
     private volatile long lastSyncTime = 0;
     private static final long SYNC_COOLDOWN_MS = 10000; // 10 second cooldown
 
+    private static final Counter SYNC_DROPPED = Metrics.counter("sync.dropped");
+    private static final Counter SYNC_FAILED = Metrics.counter("sync.failed");
+    private static final LatencyHistogram SYNC_TIME = Metrics.histogram("sync.request");
+
     @Getter
     @Builder
     public static class ActiveOfferRow {
@@ -91,11 +98,13 @@ public class SyncManager {
 
         // Prevent concurrent syncs and rate limit
         if (isSyncing) {
+            SYNC_DROPPED.increment();
             return;
         }
 
         long now = System.currentTimeMillis();
         if (now - lastSyncTime < SYNC_COOLDOWN_MS) {
+            SYNC_DROPPED.increment();
             return;
         }
 
@@ -135,8 +144,11 @@ public class SyncManager {
                         .header("Prefer", "resolution=merge-duplicates")
                         .build();
 
+                long start = System.nanoTime();
                 try (Response response = httpClient.newCall(request).execute()) {
+                    SYNC_TIME.recordSince(start);
                     if (!response.isSuccessful()) {
+                        SYNC_FAILED.increment();
                         ResponseBody body = response.body();
                         String errorBody = body != null ? body.string() : "No body";
                         log.warn("Sync failed: HTTP {} - {}", response.code(), errorBody);
@@ -145,6 +157,7 @@ public class SyncManager {
                     }
                 }
             } catch (Exception e) {
+                SYNC_FAILED.increment();
                 log.error("Sync error", e);
             } finally {
                 isSyncing = false;
@@ -207,10 +220,12 @@ public class SyncManager {
                     if (response.isSuccessful()) {
                         log.info("Trade logged successfully: {}", offer.itemName);
                     } else {
+                        SYNC_FAILED.increment();
                         log.warn("Failed to log trade: {}", response.code());
                     }
                 }
             } catch (Exception e) {
+                SYNC_FAILED.increment();
                 log.error("Error logging trade", e);
             }
         });
@@ -1,25 +1,37 @@
 package com.flipto5b.ui;
 
 import com.flipto5b.FlipTo5BPlugin;
+import com.flipto5b.ItemSearchIndex;
 import com.flipto5b.model.MarketSignal;
 import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Cursor;
 import java.awt.Dimension;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.components.IconTextField;
 
 public class FlippingPanel extends JPanel {
 
+    /** Matches listed under the search bar while typing */
+    private static final int MAX_SUGGESTIONS = 5;
+
     private final FlipTo5BPlugin plugin;
     private final ItemManager itemManager;
 
     private final JPanel cardsContainer = new JPanel();
     private final IconTextField searchBar = new IconTextField();
+    private final JPanel suggestionsPanel = new JPanel();
     private java.util.List<MarketSignal> lastSignals = new java.util.ArrayList<>();
 
     public FlippingPanel(FlipTo5BPlugin plugin, ItemManager itemManager) {
@@ -40,18 +52,49 @@ public class FlippingPanel extends JPanel {
         searchBar.setHoverBackgroundColor(ColorScheme.DARK_GRAY_HOVER_COLOR);
         searchBar.addActionListener(e -> {
             String query = searchBar.getText();
-            if (query != null && !query.isEmpty()) {
-                plugin.getExecutor().submit(() -> {
-                    var results = itemManager.search(query);
-                    if (!results.isEmpty()) {
-                        int itemId = results.get(0).getId();
-                        plugin.getClientThread().invokeLater(() -> addItemCard(itemId));
-                    }
-                });
+            if (query == null || query.isEmpty()) {
+                return;
+            }
+            ItemSearchIndex index = plugin.getSearchIndex();
+            if (index.size() > 0) {
+                // The index answers in microseconds, so search right here on the EDT
+                int itemId = index.bestMatch(query);
+                if (itemId >= 0) {
+                    openSearchResult(itemId);
+                }
+                return;
+            }
+            // Item mapping not loaded yet
+            plugin.getExecutor().submit(() -> {
+                var results = itemManager.search(query);
+                if (!results.isEmpty()) {
+                    int itemId = results.get(0).getId();
+                    plugin.getClientThread().invokeLater(() -> addItemCard(itemId));
+                }
+            });
+        });
+        searchBar.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                updateSuggestions();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                updateSuggestions();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                updateSuggestions();
             }
         });
 
+        suggestionsPanel.setLayout(new BoxLayout(suggestionsPanel, BoxLayout.Y_AXIS));
+        suggestionsPanel.setBackground(ColorScheme.DARK_GRAY_COLOR);
+
         searchPanel.add(searchBar, BorderLayout.CENTER);
+        searchPanel.add(suggestionsPanel, BorderLayout.SOUTH);
         add(searchPanel, BorderLayout.NORTH);
 
         // Cards Container
@@ -85,8 +128,48 @@ public class FlippingPanel extends JPanel {
         }
     }
 
+    /**
+     * Show the best matches for the search text as it is typed.
+     */
+    private void updateSuggestions() {
+        suggestionsPanel.removeAll();
+        String query = searchBar.getText();
+        if (query != null && !query.trim().isEmpty()) {
+            for (int itemId : plugin.getSearchIndex().search(query, MAX_SUGGESTIONS)) {
+                String name = plugin.getItemMetadata().getName(itemId);
+                JLabel suggestion = new JLabel(name != null ? name : "Item " + itemId);
+                suggestion.setForeground(Color.LIGHT_GRAY);
+                suggestion.setBorder(new EmptyBorder(3, 4, 3, 4));
+                suggestion.setCursor(new Cursor(Cursor.HAND_CURSOR));
+                suggestion.addMouseListener(new MouseAdapter() {
+                    @Override
+                    public void mouseClicked(MouseEvent e) {
+                        openSearchResult(itemId);
+                    }
+
+                    @Override
+                    public void mouseEntered(MouseEvent e) {
+                        suggestion.setForeground(Color.WHITE);
+                    }
+
+                    @Override
+                    public void mouseExited(MouseEvent e) {
+                        suggestion.setForeground(Color.LIGHT_GRAY);
+                    }
+                });
+                suggestionsPanel.add(suggestion);
+            }
+        }
+        suggestionsPanel.revalidate();
+        suggestionsPanel.repaint();
+    }
+
+    private void openSearchResult(int itemId) {
+        plugin.getClientThread().invokeLater(() -> addItemCard(itemId));
+    }
+
     public void addItemCard(int itemId) {
-        String rawName = itemManager.getItemComposition(itemId).getName();
+        String rawName = plugin.getItemName(itemId);
         final String name = rawName != null ? rawName : "Item " + itemId;
         final net.runelite.client.util.AsyncBufferedImage icon = itemManager.getImage(itemId);
 
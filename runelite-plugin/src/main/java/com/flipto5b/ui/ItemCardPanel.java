@@ -205,21 +205,20 @@ public class ItemCardPanel extends JPanel {
                     response.close();
                     return;
                 }
-                String body = responseBody.string();
-                com.google.gson.JsonObject json = new com.google.gson.Gson().fromJson(body,
-                        com.google.gson.JsonObject.class);
-                com.google.gson.JsonArray data = json.getAsJsonArray("data");
-                if (data == null || data.size() < 2)
+                FlipTo5BPlugin.Timeseries series;
+                try (response) {
+                    series = plugin.getPluginGson().fromJson(responseBody.charStream(), FlipTo5BPlugin.Timeseries.class);
+                }
+                if (series == null || series.data == null || series.data.size() < 2)
                     return;
 
                 java.util.List<Integer> prices = new java.util.ArrayList<>();
-                for (com.google.gson.JsonElement el : data) {
-                    com.google.gson.JsonObject obj = el.getAsJsonObject();
+                for (FlipTo5BPlugin.TimeseriesPoint point : series.data) {
                     int p = 0;
-                    if (!obj.get("avgHighPrice").isJsonNull()) {
-                        p = obj.get("avgHighPrice").getAsInt();
-                    } else if (!obj.get("avgLowPrice").isJsonNull()) {
-                        p = obj.get("avgLowPrice").getAsInt();
+                    if (point.avgHighPrice != null) {
+                        p = point.avgHighPrice;
+                    } else if (point.avgLowPrice != null) {
+                        p = point.avgLowPrice;
                     }
                     if (p > 0)
                         prices.add(p);
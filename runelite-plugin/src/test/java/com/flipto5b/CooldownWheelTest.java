@@ -0,0 +1,77 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class CooldownWheelTest {
+	private static final long MINUTE = 60_000;
+
+	private final CooldownWheel wheel = new CooldownWheel();
+
+	@Test
+	public void cooldownBlocksUntilItsDeadline() {
+		long now = 1_000_000_000L;
+
+		assertTrue(wheel.tryAcquire(4151, now, 5 * MINUTE));
+		assertFalse(wheel.tryAcquire(4151, now + 5 * MINUTE - 1, 5 * MINUTE));
+		assertEquals(1, wheel.getRemainingMs(4151, now + 5 * MINUTE - 1));
+		assertTrue(wheel.tryAcquire(4151, now + 5 * MINUTE, 5 * MINUTE));
+	}
+
+	@Test
+	public void zeroCooldownNeverBlocks() {
+		assertTrue(wheel.tryAcquire(4151, 0, 0));
+		assertTrue(wheel.tryAcquire(4151, 0, 0));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	public void expiredEntriesArePurgedAsTheClockAdvances() {
+		long now = 1_000_000_000L;
+		for (int itemId = 1; itemId <= 100; itemId++) {
+			wheel.tryAcquire(itemId, now, itemId * 1_000L);
+		}
+		assertEquals(100, wheel.size());
+
+		// Any call sweeps the ticks the clock has passed
+		wheel.tryAcquire(9999, now + 2 * MINUTE, 0);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	public void cooldownsLongerThanOneRevolutionSurviveSweeps() {
+		long now = 1_000_000_000L;
+		// 512 slots of 10s is about 85 minutes
+		long day = 24 * 60 * MINUTE;
+		wheel.tryAcquire(4151, now, day);
+
+		for (long t = now; t < now + day; t += 10 * MINUTE) {
+			wheel.tryAcquire(1, t, 0);
+			assertTrue(wheel.getRemainingMs(4151, t) > 0);
+		}
+		assertEquals(1, wheel.size());
+		assertTrue(wheel.tryAcquire(4151, now + day, MINUTE));
+	}
+
+	@Test
+	public void longGapSweepsEverySlotOnce() {
+		long now = 1_000_000_000L;
+		wheel.tryAcquire(1, now, MINUTE);
+		wheel.tryAcquire(2, now, 2 * MINUTE);
+
+		wheel.tryAcquire(3, now + 365 * 24 * 60 * MINUTE, 0);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	public void clearForgetsCooldowns() {
+		wheel.tryAcquire(4151, 0, MINUTE);
+		wheel.clear();
+
+		assertEquals(0, wheel.size());
+		assertTrue(wheel.tryAcquire(4151, 1, MINUTE));
+	}
+}
@@ -0,0 +1,299 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.Gson;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.chat.QueuedMessage;
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs the dump stream against a local stub API: events are parsed and
+ * posted, a dropped stream reconnects from the last event id, and polling
+ * only runs while the stream is down.
+ */
+public class DumpAlertServiceTest {
+	private StubApi api;
+	private FlipTo5BConfig config;
+	private ChatMessageManager chatMessageManager;
+	private DumpAlertService service;
+
+	@Before
+	public void setUp() throws IOException {
+		api = new StubApi();
+
+		config = mock(FlipTo5BConfig.class);
+		when(config.apiUrl()).thenReturn(api.url());
+		when(config.email()).thenReturn("flipper@example.com");
+		when(config.password()).thenReturn("hunter2");
+		when(config.enableDumpAlerts()).thenReturn(true);
+		when(config.dumpAlertLiveStream()).thenReturn(true);
+		when(config.dumpAlertInterval()).thenReturn(300);
+		when(config.dumpAlertMaxCount()).thenReturn(10);
+		when(config.priceAlertType()).thenReturn(FlipTo5BConfig.PriceAlertType.BOTH);
+
+		Client client = mock(Client.class);
+		when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+		chatMessageManager = mock(ChatMessageManager.class);
+
+		FlipSmartApiClient apiClient = new FlipSmartApiClient(config, new Gson(), new OkHttpClient());
+		service = new DumpAlertService(client, config, apiClient, chatMessageManager);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		service.stop();
+		api.close();
+	}
+
+	@Test
+	public void streamedDumpsArePostedAndResumeAfterTheConnectionDrops() throws InterruptedException {
+		api.queueStream(event(1, 4151) + event(2, 11802), null);
+		api.queueStream(event(3, 13576), new CountDownLatch(1));
+
+		service.start();
+
+		verify(chatMessageManager, timeout(10_000).times(3)).queue(any(QueuedMessage.class));
+		assertEquals("", api.takeStreamRequest());
+		assertEquals("2", api.takeStreamRequest());
+		assertEquals(0, api.pollCount());
+	}
+
+	@Test
+	public void pollingIsSkippedWhileTheStreamIsConnected() throws InterruptedException {
+		CountDownLatch drop = new CountDownLatch(1);
+		api.queueStream(event(1, 4151), drop);
+
+		service.start();
+		verify(chatMessageManager, timeout(5_000)).queue(any(QueuedMessage.class));
+
+		service.checkForDumps();
+		assertFalse(api.awaitPolls(1, 500));
+
+		// Once the stream drops, polling takes over until it reconnects
+		drop.countDown();
+		long deadline = System.currentTimeMillis() + 1_500;
+		boolean polled = false;
+		while (!polled && System.currentTimeMillis() < deadline) {
+			service.checkForDumps();
+			polled = api.awaitPolls(1, 100);
+		}
+		assertTrue(polled);
+	}
+
+	@Test
+	public void restartLeavesOnlyTheNewStream() throws InterruptedException {
+		api.queueStream(event(1, 4151), new CountDownLatch(1));
+		api.queueStream("", new CountDownLatch(1));
+
+		service.start();
+		verify(chatMessageManager, timeout(5_000)).queue(any(QueuedMessage.class));
+		assertEquals("", api.takeStreamRequest());
+
+		// The cancelled stream's late close must not schedule a second reconnect
+		service.restart();
+		assertEquals("1", api.takeStreamRequest());
+		Thread.sleep(3_000);
+		assertNull(api.pollStreamRequest());
+	}
+
+	@Test
+	public void burstOfStreamedDumpsIsCappedPerInterval() {
+		when(config.dumpAlertMaxCount()).thenReturn(2);
+		api.queueStream(event(1, 4151) + event(2, 11802) + event(3, 13576) + event(4, 11832) + event(5, 11834),
+			new CountDownLatch(1));
+
+		service.start();
+
+		verify(chatMessageManager, timeout(5_000).times(2)).queue(any(QueuedMessage.class));
+		verify(chatMessageManager, after(500).times(2)).queue(any(QueuedMessage.class));
+	}
+
+	private static String event(int id, int itemId) {
+		return "id: " + id + "\n"
+			+ "event: dump\n"
+			+ "data: {\"id\":" + id + ",\"item_id\":" + itemId + ",\"item_name\":\"Item " + itemId + "\","
+			+ "\"price_change_type\":\"dump\",\"price_drop_percent\":12.5}\n"
+			+ "\n";
+	}
+
+	/**
+	 * Just enough HTTP/1.1 for the login, polling and stream endpoints. Each
+	 * stream request takes the next queued script: its frames are written, then
+	 * the connection is held until the script's latch opens (closed at once
+	 * without a latch, held until shutdown with no script left).
+	 */
+	private static final class StubApi {
+		private final ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+		private final BlockingQueue<Object[]> streams = new LinkedBlockingQueue<>();
+		private final BlockingQueue<String> streamRequests = new LinkedBlockingQueue<>();
+		private final AtomicInteger polls = new AtomicInteger();
+		private final CountDownLatch shutdown = new CountDownLatch(1);
+
+		StubApi() throws IOException {
+			Thread acceptor = new Thread(this::acceptLoop, "stub-api");
+			acceptor.setDaemon(true);
+			acceptor.start();
+		}
+
+		String url() {
+			return "http://127.0.0.1:" + server.getLocalPort();
+		}
+
+		void queueStream(String frames, CountDownLatch closeWhen) {
+			streams.add(new Object[]{frames, closeWhen});
+		}
+
+		/**
+		 * Last-Event-ID of the next stream request ("" when none was sent).
+		 */
+		String takeStreamRequest() throws InterruptedException {
+			return streamRequests.poll(5, TimeUnit.SECONDS);
+		}
+
+		/**
+		 * Last-Event-ID of a stream request made since the last take, or null.
+		 */
+		String pollStreamRequest() {
+			return streamRequests.poll();
+		}
+
+		int pollCount() {
+			return polls.get();
+		}
+
+		boolean awaitPolls(int count, long timeoutMs) throws InterruptedException {
+			long deadline = System.currentTimeMillis() + timeoutMs;
+			while (polls.get() < count) {
+				if (System.currentTimeMillis() >= deadline) {
+					return false;
+				}
+				Thread.sleep(10);
+			}
+			return true;
+		}
+
+		void close() throws IOException {
+			shutdown.countDown();
+			server.close();
+			for (Socket socket : sockets) {
+				socket.close();
+			}
+		}
+
+		private void acceptLoop() {
+			while (!server.isClosed()) {
+				try {
+					Socket socket = server.accept();
+					sockets.add(socket);
+					Thread handler = new Thread(() -> handle(socket), "stub-api-conn");
+					handler.setDaemon(true);
+					handler.start();
+				} catch (IOException e) {
+					return;
+				}
+			}
+		}
+
+		private void handle(Socket socket) {
+			try (Socket s = socket) {
+				BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+				String requestLine = in.readLine();
+				if (requestLine == null) {
+					return;
+				}
+				Map<String, String> headers = new HashMap<>();
+				String line;
+				while ((line = in.readLine()) != null && !line.isEmpty()) {
+					int colon = line.indexOf(':');
+					headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+				}
+				int length = Integer.parseInt(headers.getOrDefault("content-length", "0"));
+				for (int i = 0; i < length; i++) {
+					in.read();
+				}
+
+				String path = requestLine.split(" ")[1];
+				path = path.contains("?") ? path.substring(0, path.indexOf('?')) : path;
+				OutputStream out = s.getOutputStream();
+				switch (path) {
+					case "/auth/login":
+						respond(out, "application/json", "{\"access_token\":\"test-token\",\"is_premium\":false}");
+						break;
+					case "/dumps":
+						polls.incrementAndGet();
+						respond(out, "application/json", "{\"dumps\":[],\"count\":0}");
+						break;
+					case "/dumps/stream":
+						streamRequests.add(headers.getOrDefault("last-event-id", ""));
+						stream(out);
+						break;
+					default:
+						out.write("HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\nConnection: close\r\n\r\n"
+							.getBytes(StandardCharsets.UTF_8));
+						break;
+				}
+				out.flush();
+			} catch (IOException | InterruptedException e) {
+				// Client hung up or the server is shutting down
+			}
+		}
+
+		private void stream(OutputStream out) throws IOException, InterruptedException {
+			out.write(("HTTP/1.1 200 OK\r\nContent-Type: text/event-stream\r\nConnection: close\r\n\r\n")
+				.getBytes(StandardCharsets.UTF_8));
+			Object[] script = streams.poll();
+			if (script == null) {
+				out.flush();
+				shutdown.await();
+				return;
+			}
+			out.write(((String) script[0]).getBytes(StandardCharsets.UTF_8));
+			out.flush();
+			CountDownLatch closeWhen = (CountDownLatch) script[1];
+			if (closeWhen != null) {
+				closeWhen.await();
+			}
+		}
+
+		private static void respond(OutputStream out, String contentType, String body) throws IOException {
+			byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+			out.write(("HTTP/1.1 200 OK\r\nContent-Type: " + contentType + "\r\nContent-Length: " + bytes.length
+				+ "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+			out.write(bytes);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Merging completed-flip pages into the mirror: deltas go in front, and a
+ * full page that doesn't reach the mirrored flips replaces them rather than
+ * leaving a silent gap.
+ */
+public class FlipMirrorTest {
+	private static final String RSN = "Zezima";
+	private static final int PAGE_SIZE = 5;
+
+	private ScheduledExecutorService executor;
+	private FlipSmartApiClient apiClient;
+	private FlipMirror mirror;
+
+	@Before
+	public void setUp() throws IOException {
+		Path directory = Files.createTempDirectory("flip-mirror");
+		executor = Executors.newSingleThreadScheduledExecutor();
+		apiClient = mock(FlipSmartApiClient.class);
+		when(apiClient.getGson()).thenReturn(new Gson());
+		mirror = new FlipMirror(new StateStore(directory, executor), apiClient);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void shortFirstPageIsTheWholeHistory() {
+		respond(null, 3, 2, 1);
+
+		assertEquals(Arrays.asList(3, 2, 1), ids(sync()));
+		assertFalse(mirror.hasOlderCompletedFlips(RSN));
+	}
+
+	@Test
+	public void deltaGoesInFrontOfMirroredFlips() {
+		respond("c1", 3, 2, 1);
+		sync();
+
+		respond("c2", 5, 4);
+		assertEquals(Arrays.asList(5, 4, 3, 2, 1), ids(sync()));
+		verify(apiClient).getCompletedFlipsSinceAsync(PAGE_SIZE, RSN, "c1");
+		assertFalse(mirror.hasOlderCompletedFlips(RSN));
+	}
+
+	@Test
+	public void fullDeltaPageReplacesTheMirrorInsteadOfLeavingAGap() {
+		respond("c1", 3, 2, 1);
+		sync();
+
+		respond("c2", 10, 9, 8, 7, 6);
+		assertEquals(Arrays.asList(10, 9, 8, 7, 6), ids(sync()));
+		assertTrue(mirror.hasOlderCompletedFlips(RSN));
+	}
+
+	@Test
+	public void fullPageOverlappingTheMirrorIsMerged() {
+		respond(null, 5, 4, 3, 2, 1);
+		sync();
+		assertTrue(mirror.hasOlderCompletedFlips(RSN));
+
+		respond(null, 6, 5, 4, 3, 2);
+		assertEquals(Arrays.asList(6, 5, 4, 3, 2, 1), ids(sync()));
+		assertTrue(mirror.hasOlderCompletedFlips(RSN));
+	}
+
+	private List<CompletedFlip> sync() {
+		return mirror.syncCompletedFlips(RSN, PAGE_SIZE).join();
+	}
+
+	private void respond(String cursor, int... flipIds) {
+		List<CompletedFlip> flips = new ArrayList<>();
+		for (int id : flipIds) {
+			CompletedFlip flip = new CompletedFlip();
+			flip.setId(id);
+			flips.add(flip);
+		}
+		CompletedFlipsResponse response = new CompletedFlipsResponse();
+		response.setFlips(flips);
+		response.setCount(flips.size());
+		response.setCursor(cursor);
+		when(apiClient.getCompletedFlipsSinceAsync(anyInt(), any(), any()))
+			.thenReturn(CompletableFuture.completedFuture(response));
+	}
+
+	private static List<Integer> ids(List<CompletedFlip> flips) {
+		List<Integer> ids = new ArrayList<>();
+		for (CompletedFlip flip : flips) {
+			ids.add(flip.getId());
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,185 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Batched item analysis against an interceptor standing in for the API:
+ * uncached items share one batch request, items the batch leaves out are
+ * fetched on their own, and a failed batch turns batching off for
+ * {@link FlipSmartApiClient#ANALYSIS_BATCH_BACKOFF_MS}.
+ */
+public class FlipSmartApiClientTest {
+	private static final Gson GSON = new Gson();
+
+	private final List<String> singleRequests = new CopyOnWriteArrayList<>();
+	private final List<List<Integer>> batchRequests = new CopyOnWriteArrayList<>();
+	/** Items the batch endpoint answers for; the rest are left out of its response */
+	private final Set<Integer> batchAnswers = ConcurrentHashMap.newKeySet();
+	private volatile int batchStatus = 200;
+	private FlipSmartApiClient apiClient;
+
+	@Before
+	public void setUp() {
+		FlipTo5BConfig config = new FlipTo5BConfig() {
+			@Override
+			public String apiUrl() {
+				return "http://api.test";
+			}
+
+			@Override
+			public String email() {
+				return "flipper@example.com";
+			}
+
+			@Override
+			public String password() {
+				return "hunter2";
+			}
+		};
+		OkHttpClient httpClient = new OkHttpClient.Builder()
+			.addInterceptor(chain -> answer(chain.request()))
+			.build();
+		apiClient = new FlipSmartApiClient(config, GSON, httpClient);
+	}
+
+	@Test
+	public void uncachedItemsShareOneBatchRequest() {
+		batchAnswers.addAll(Arrays.asList(1, 2, 3));
+
+		Map<Integer, CompletableFuture<FlipAnalysis>> results = apiClient.getItemAnalysisBatchAsync(Arrays.asList(1, 2, 3));
+
+		assertAnalysed(results, 1, 2, 3);
+		assertEquals(Arrays.asList(Arrays.asList(1, 2, 3)), batchRequests);
+		assertTrue(singleRequests.isEmpty());
+	}
+
+	@Test
+	public void cachedItemsAreLeftOutOfTheBatch() {
+		batchAnswers.addAll(Arrays.asList(2, 3));
+		assertNotNull(apiClient.getItemAnalysisAsync(1).join());
+		singleRequests.clear();
+
+		Map<Integer, CompletableFuture<FlipAnalysis>> results = apiClient.getItemAnalysisBatchAsync(Arrays.asList(1, 2, 3));
+
+		assertAnalysed(results, 1, 2, 3);
+		assertEquals(Arrays.asList(Arrays.asList(2, 3)), batchRequests);
+		assertTrue(singleRequests.isEmpty());
+	}
+
+	@Test
+	public void oneUncachedItemGoesOutOnItsOwn() {
+		assertNotNull(apiClient.getItemAnalysisAsync(1).join());
+		singleRequests.clear();
+
+		assertAnalysed(apiClient.getItemAnalysisBatchAsync(Arrays.asList(1, 2)), 1, 2);
+
+		assertTrue(batchRequests.isEmpty());
+		assertEquals(Arrays.asList("/analysis/2"), singleRequests);
+	}
+
+	@Test
+	public void itemsMissingFromTheBatchFallBackToSingleRequests() {
+		batchAnswers.addAll(Arrays.asList(1, 3));
+
+		assertAnalysed(apiClient.getItemAnalysisBatchAsync(Arrays.asList(1, 2, 3)), 1, 2, 3);
+
+		assertEquals(1, batchRequests.size());
+		assertEquals(Arrays.asList("/analysis/2"), singleRequests);
+		// A partial answer is not a failure
+		assertEquals(0, apiClient.analysisBatchDisabledUntil);
+	}
+
+	@Test
+	public void failedBatchFallsBackToSingleRequestsAndBacksOff() {
+		batchStatus = 500;
+		long before = System.currentTimeMillis();
+
+		assertAnalysed(apiClient.getItemAnalysisBatchAsync(Arrays.asList(1, 2, 3)), 1, 2, 3);
+		assertEquals(1, batchRequests.size());
+		assertEquals(3, singleRequests.size());
+		assertTrue(apiClient.analysisBatchDisabledUntil >= before + FlipSmartApiClient.ANALYSIS_BATCH_BACKOFF_MS);
+
+		// While backing off, nothing is batched
+		batchStatus = 200;
+		batchAnswers.addAll(Arrays.asList(4, 5, 6, 7, 8, 9));
+		assertAnalysed(apiClient.getItemAnalysisBatchAsync(Arrays.asList(4, 5, 6)), 4, 5, 6);
+		assertEquals(1, batchRequests.size());
+		assertEquals(6, singleRequests.size());
+
+		// Once the backoff runs out, batching resumes
+		apiClient.analysisBatchDisabledUntil = System.currentTimeMillis() - 1;
+		assertAnalysed(apiClient.getItemAnalysisBatchAsync(Arrays.asList(7, 8, 9)), 7, 8, 9);
+		assertEquals(Arrays.asList(7, 8, 9), batchRequests.get(1));
+		assertEquals(6, singleRequests.size());
+	}
+
+	private static void assertAnalysed(Map<Integer, CompletableFuture<FlipAnalysis>> results, Integer... itemIds) {
+		assertEquals(Arrays.asList(itemIds), new ArrayList<>(results.keySet()));
+		for (Integer itemId : itemIds) {
+			FlipAnalysis analysis = results.get(itemId).join();
+			assertNotNull("no analysis for " + itemId, analysis);
+			assertEquals(itemId.intValue(), analysis.getItemId());
+		}
+	}
+
+	private Response answer(Request request) throws IOException {
+		String path = request.url().encodedPath();
+		if (path.equals("/auth/login")) {
+			return respond(request, 200, "{\"access_token\":\"token\"}");
+		}
+		if (path.equals("/analysis/batch")) {
+			Buffer buffer = new Buffer();
+			request.body().writeTo(buffer);
+			List<Integer> ids = new ArrayList<>();
+			StringBuilder analyses = new StringBuilder();
+			for (JsonElement id : GSON.fromJson(buffer.readUtf8(), JsonObject.class).getAsJsonArray("item_ids")) {
+				ids.add(id.getAsInt());
+				if (batchAnswers.contains(id.getAsInt())) {
+					analyses.append(analyses.length() > 0 ? "," : "").append(analysis(id.getAsInt()));
+				}
+			}
+			batchRequests.add(ids);
+			return respond(request, batchStatus, "{\"analyses\":[" + analyses + "]}");
+		}
+		singleRequests.add(path);
+		return respond(request, 200, analysis(Integer.parseInt(path.substring("/analysis/".length()))));
+	}
+
+	private static String analysis(int itemId) {
+		return "{\"item_id\":" + itemId + ",\"item_name\":\"Item " + itemId + "\"}";
+	}
+
+	private static Response respond(Request request, int code, String json) {
+		return new Response.Builder()
+			.request(request)
+			.protocol(Protocol.HTTP_1_1)
+			.code(code)
+			.message("")
+			.body(ResponseBody.create(MediaType.parse("application/json"), json))
+			.build();
+	}
+}
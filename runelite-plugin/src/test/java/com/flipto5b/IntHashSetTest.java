@@ -0,0 +1,55 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+
+public class IntHashSetTest {
+	@Test
+	public void addContainsAndRemove() {
+		IntHashSet set = new IntHashSet();
+
+		assertTrue(set.add(4151));
+		assertFalse(set.add(4151));
+		assertTrue(set.contains(4151));
+		assertEquals(1, set.size());
+
+		assertTrue(set.remove(4151));
+		assertFalse(set.contains(4151));
+		assertTrue(set.isEmpty());
+	}
+
+	@Test
+	public void copyDoesNotShareMembers() {
+		IntHashSet set = new IntHashSet();
+		set.add(1);
+		IntHashSet copy = set.copy();
+		copy.add(2);
+
+		assertFalse(set.contains(2));
+		assertArrayEquals(new int[]{1, 2}, copy.toSortedArray());
+	}
+
+	@Test
+	public void codecRoundTripsMembers() throws IOException {
+		IntHashSet set = new IntHashSet();
+		for (int id : new int[]{11802, 4151, 13576, 2}) {
+			set.add(id);
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		IntHashSet.CODEC.write(set, new DataOutputStream(bytes));
+		IntHashSet read = IntHashSet.CODEC.read(
+			new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), IntHashSet.CODEC.version());
+
+		assertArrayEquals(new int[]{2, 4151, 11802, 13576}, read.toSortedArray());
+	}
+}
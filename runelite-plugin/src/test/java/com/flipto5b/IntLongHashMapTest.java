@@ -0,0 +1,97 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class IntLongHashMapTest {
+	@Test
+	public void putGetAndRemove() {
+		IntLongHashMap map = new IntLongHashMap();
+
+		assertTrue(map.put(4151, 10));
+		assertFalse(map.put(4151, 20));
+		assertEquals(20, map.get(4151, -1));
+		assertEquals(-1, map.get(11802, -1));
+		assertEquals(1, map.size());
+
+		assertTrue(map.remove(4151));
+		assertFalse(map.remove(4151));
+		assertFalse(map.containsKey(4151));
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	public void removalKeepsCollidingKeysReachable() {
+		// Enough keys to force rehashes and long probe chains
+		IntLongHashMap map = new IntLongHashMap(16);
+		for (int key = 0; key < 64 * 16; key += 16) {
+			map.put(key, key);
+		}
+		for (int key = 0; key < 64 * 16; key += 32) {
+			assertTrue(map.remove(key));
+		}
+		for (int key = 0; key < 64 * 16; key += 16) {
+			boolean removed = key % 32 == 0;
+			assertEquals(removed ? -1 : key, map.get(key, -1));
+		}
+	}
+
+	@Test
+	public void matchesHashMapUnderRandomOperations() {
+		IntLongHashMap map = new IntLongHashMap();
+		Map<Integer, Long> expected = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 20_000; i++) {
+			int key = random.nextInt(500) - 250;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key) != null, map.remove(key));
+			} else {
+				long value = random.nextLong();
+				assertEquals(!expected.containsKey(key), map.put(key, value));
+				expected.put(key, value);
+			}
+		}
+
+		assertEquals(expected.size(), map.size());
+		for (Map.Entry<Integer, Long> entry : expected.entrySet()) {
+			assertEquals((long) entry.getValue(), map.get(entry.getKey(), 0));
+		}
+	}
+
+	@Test
+	public void copyIsIndependent() {
+		IntLongHashMap map = new IntLongHashMap();
+		map.put(1, 1);
+		IntLongHashMap copy = map.copy();
+		copy.put(2, 2);
+		map.remove(1);
+
+		assertArrayEquals(new int[]{1, 2}, copy.sortedKeys());
+		assertEquals(0, map.size());
+	}
+
+	@Test
+	public void clearEmptiesTheMap() {
+		IntLongHashMap map = new IntLongHashMap();
+		map.put(1, 1);
+		map.put(2, 2);
+		map.clear();
+
+		assertEquals(0, map.size());
+		assertFalse(map.containsKey(1));
+		assertTrue(map.put(1, 3));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsTheEmptyMarker() {
+		new IntLongHashMap().put(Integer.MIN_VALUE, 0);
+	}
+}
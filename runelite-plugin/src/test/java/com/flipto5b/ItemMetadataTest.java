@@ -0,0 +1,233 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.gson.Gson;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.Dispatcher;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Fetching, persisting and reloading the wiki item mapping. Requests are
+ * answered by an interceptor and dispatched on the calling thread, so each
+ * refresh has finished when {@code refreshIfStale} returns.
+ */
+public class ItemMetadataTest {
+	private static final int STORE_MAGIC = 0x46354253;
+	private static final String MAPPING = "[{\"id\":4151,\"name\":\"Abyssal whip\",\"limit\":70,\"members\":true,"
+		+ "\"highalch\":72000,\"lowalch\":48000,\"examine\":\"A weapon from the abyss.\"},"
+		+ "{\"id\":2,\"name\":\"Cannonball\",\"limit\":11000,\"members\":true,\"highalch\":3,\"lowalch\":2,\"value\":null},"
+		+ "{\"id\":40000,\"name\":\"Future item\",\"limit\":null},"
+		+ "{\"id\":7,\"limit\":5}]";
+
+	private Path directory;
+	private ScheduledExecutorService executor;
+	private final List<Request> requests = new ArrayList<>();
+	private int responseCode = 200;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("item-metadata");
+		executor = Executors.newSingleThreadScheduledExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void nothingIsKnownBeforeTheFirstFetch() {
+		ItemMetadata metadata = open();
+
+		assertFalse(metadata.isLoaded());
+		assertNull(metadata.getName(4151));
+		assertEquals(0, metadata.getBuyLimit(4151));
+	}
+
+	@Test
+	public void fetchedMappingIsIndexedById() {
+		ItemMetadata metadata = open();
+		AtomicInteger changes = new AtomicInteger();
+		metadata.onChange(changes::incrementAndGet);
+
+		metadata.refreshIfStale();
+
+		assertEquals(1, requests.size());
+		assertNull(requests.get(0).header("If-None-Match"));
+		assertEquals(1, changes.get());
+		assertTrue(metadata.isLoaded());
+		assertEquals("Abyssal whip", metadata.getName(4151));
+		assertEquals(70, metadata.getBuyLimit(4151));
+		assertTrue(metadata.isMembers(4151));
+		assertEquals(72000, metadata.getHighAlch(4151));
+		assertEquals(48000, metadata.getLowAlch(4151));
+		assertEquals(0, metadata.getBuyLimit(40000));
+		assertEquals("Future item", metadata.getName(40000));
+		// No name, no entry
+		assertNull(metadata.getName(7));
+		assertEquals(0, metadata.getBuyLimit(7));
+	}
+
+	@Test
+	public void savedMappingIsReadBackWithoutRefetching() {
+		StateStore store = new StateStore(directory, executor);
+		new ItemMetadata(store, client(), new Gson()).refreshIfStale();
+		store.close();
+
+		ItemMetadata reloaded = open();
+		reloaded.refreshIfStale();
+
+		assertEquals(1, requests.size());
+		assertTrue(reloaded.isLoaded());
+		assertEquals("Cannonball", reloaded.getName(2));
+		assertEquals(11000, reloaded.getBuyLimit(2));
+		assertEquals("Future item", reloaded.getName(40000));
+	}
+
+	@Test
+	public void staleMappingIsRevalidatedWithItsETag() throws IOException {
+		writeStoredMapping(1, 0L, "\"v1\"");
+		ItemMetadata metadata = open();
+		assertEquals("Abyssal whip", metadata.getName(4151));
+
+		responseCode = 304;
+		metadata.refreshIfStale();
+		assertEquals(1, requests.size());
+		assertEquals("\"v1\"", requests.get(0).header("If-None-Match"));
+		assertEquals("Abyssal whip", metadata.getName(4151));
+
+		// The 304 counts as a fresh fetch
+		metadata.refreshIfStale();
+		assertEquals(1, requests.size());
+	}
+
+	@Test
+	public void mappingFromANewerFormatIsIgnored() throws IOException {
+		writeStoredMapping(2, System.currentTimeMillis(), null);
+
+		ItemMetadata metadata = open();
+		assertFalse(metadata.isLoaded());
+		assertNull(metadata.getName(4151));
+
+		metadata.refreshIfStale();
+		assertEquals(1, requests.size());
+		assertTrue(metadata.isLoaded());
+	}
+
+	@Test
+	public void failedFetchKeepsWhatWasThere() throws IOException {
+		writeStoredMapping(1, 0L, null);
+		ItemMetadata metadata = open();
+
+		responseCode = 500;
+		metadata.refreshIfStale();
+
+		assertEquals("Abyssal whip", metadata.getName(4151));
+		// Not marked fresh, so the next check tries again
+		metadata.refreshIfStale();
+		assertEquals(2, requests.size());
+	}
+
+	private ItemMetadata open() {
+		return new ItemMetadata(new StateStore(directory, executor), client(), new Gson());
+	}
+
+	private OkHttpClient client() {
+		return new OkHttpClient.Builder()
+			.dispatcher(new Dispatcher(new DirectExecutor()))
+			.addInterceptor(chain -> {
+				requests.add(chain.request());
+				return new Response.Builder()
+					.request(chain.request())
+					.protocol(Protocol.HTTP_1_1)
+					.code(responseCode)
+					.message("")
+					.header("ETag", "\"v2\"")
+					.body(ResponseBody.create(MediaType.parse("application/json"), responseCode == 200 ? MAPPING : ""))
+					.build();
+			})
+			.build();
+	}
+
+	/**
+	 * A stored record in format {@code version} holding the whip only.
+	 */
+	private void writeStoredMapping(int version, long fetchedAt, String etag) throws IOException {
+		try (OutputStream stream = Files.newOutputStream(directory.resolve("item-mapping.bin"));
+			DataOutputStream out = new DataOutputStream(stream)) {
+			out.writeInt(STORE_MAGIC);
+			out.writeInt(version);
+			out.writeLong(fetchedAt);
+			out.writeBoolean(etag != null);
+			if (etag != null) {
+				out.writeUTF(etag);
+			}
+			out.writeInt(4152);
+			out.writeInt(1);
+			out.writeInt(4151);
+			out.writeUTF("Abyssal whip");
+			out.writeInt(70);
+			out.writeBoolean(true);
+			out.writeInt(72000);
+			out.writeInt(48000);
+		}
+	}
+
+	/**
+	 * Runs dispatched calls on the calling thread.
+	 */
+	private static final class DirectExecutor extends AbstractExecutorService {
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+
+		@Override
+		public void shutdown() {
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return false;
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return false;
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class ItemSearchIndexTest {
+	private static final String[] NAMES = new String[12];
+
+	static {
+		NAMES[1] = "Abyssal whip";
+		NAMES[2] = "Abyssal dagger";
+		NAMES[3] = "Dragon dagger";
+		NAMES[4] = "Dragon dagger(p++)";
+		NAMES[5] = "Rune platebody";
+		NAMES[6] = "Shark";
+		NAMES[7] = "Cooked karambwan";
+		NAMES[8] = "Dragon bones";
+		NAMES[9] = "Ahrim's robetop";
+		NAMES[11] = "Sharks";
+	}
+
+	private final ItemSearchIndex index = ItemSearchIndex.build(NAMES);
+
+	@Test
+	public void indexesEveryNamedItem() {
+		assertEquals(10, index.size());
+	}
+
+	@Test
+	public void wholeNameComesBeforeLongerPrefixMatches() {
+		assertEquals(Arrays.asList(6, 11), index.search("shark", 10));
+		assertEquals(Arrays.asList(3, 4), index.search("dragon dag", 2));
+	}
+
+	@Test
+	public void fuzzyMatchesOnlyFillRemainingSlots() {
+		assertEquals(Arrays.asList(3, 4, 8), index.search("dragon dag", 10));
+	}
+
+	@Test
+	public void queryWordsMatchNameWordsInAnyOrder() {
+		List<Integer> results = index.search("dagger drag", 10);
+
+		assertTrue(results.containsAll(Arrays.asList(3, 4)));
+		assertEquals(1, index.bestMatch("whip"));
+	}
+
+	@Test
+	public void toleratesTypos() {
+		assertEquals(1, index.bestMatch("abysal whip"));
+		assertEquals(5, index.bestMatch("rune platbody"));
+		assertEquals(7, index.bestMatch("cooked karambwam"));
+	}
+
+	@Test
+	public void ignoresCaseAndPunctuation() {
+		assertEquals(9, index.bestMatch("AHRIMS ROBETOP"));
+		assertEquals(4, index.bestMatch("dragon dagger p++"));
+	}
+
+	@Test
+	public void returnsNothingForUnrelatedOrEmptyQueries() {
+		assertEquals(-1, index.bestMatch("xyzzyq"));
+		assertTrue(index.search("  ", 10).isEmpty());
+		assertTrue(ItemSearchIndex.EMPTY.search("shark", 10).isEmpty());
+	}
+
+	@Test
+	public void respectsTheLimit() {
+		assertEquals(1, index.search("dragon", 1).size());
+		assertEquals(3, index.search("dragon", 10).size());
+	}
+}
@@ -0,0 +1,119 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.Test;
+
+/**
+ * The streaming adapters must bind exactly what reflective binding of the
+ * {@code @SerializedName} fields did, and read back what they write.
+ */
+public class JsonAdaptersTest {
+	private static final Gson GSON = JsonAdapters.register(new GsonBuilder()).create();
+	private static final Gson REFLECTIVE = new Gson();
+
+	@Test
+	public void flipRecommendationMatchesReflectiveBinding() {
+		FlipRecommendation rec = assertSameAsReflective("{\"item_id\":4151,\"item_name\":\"Abyssal whip\","
+			+ "\"members\":true,\"buy_limit\":70,\"instant_buy_price\":1500000,\"instant_sell_price\":1450000,"
+			+ "\"recommended_buy_price\":1455000,\"recommended_sell_price\":1495000,\"recommended_quantity\":5,"
+			+ "\"margin\":25000,\"roi_percent\":1.7,\"ge_tax\":15000,\"liquidity_score\":82.5,"
+			+ "\"liquidity_rating\":\"High\",\"volume_per_hour\":340.0,\"risk_score\":12.0,\"risk_rating\":\"Low\","
+			+ "\"efficiency_score\":77.0,\"efficiency_rating\":\"Good\",\"quantity_affordable\":6,"
+			+ "\"potential_profit\":125000,\"total_cost\":7275000,\"buy_price\":1455000,\"sell_price\":1495000,"
+			+ "\"cost_per_flip\":1455000}", FlipRecommendation.class);
+
+		assertEquals(4151, rec.getItemId());
+		assertEquals(Integer.valueOf(70), rec.getBuyLimit());
+	}
+
+	@Test
+	public void activeFlipMatchesReflectiveBinding() {
+		assertSameAsReflective("{\"item_id\":11802,\"item_name\":\"Armadyl godsword\",\"total_quantity\":2,"
+			+ "\"original_quantity\":3,\"average_buy_price\":9800000,\"total_invested\":19600000,"
+			+ "\"first_buy_time\":\"2026-01-02T03:04:05Z\",\"last_buy_time\":\"2026-01-02T04:05:06Z\","
+			+ "\"transaction_count\":2,\"recommended_sell_price\":10100000,\"order_quantity\":3,\"phase\":\"sell\"}",
+			ActiveFlip.class);
+	}
+
+	@Test
+	public void completedFlipMatchesReflectiveBinding() {
+		CompletedFlip flip = assertSameAsReflective("{\"id\":17,\"item_id\":385,\"item_name\":\"Shark\","
+			+ "\"quantity\":500,\"buy_price_per_item\":900,\"buy_total\":450000,\"buy_time\":\"2026-01-02T03:04:05Z\","
+			+ "\"sell_price_per_item\":950,\"sell_total\":475000,\"sell_time\":\"2026-01-02T05:04:05Z\","
+			+ "\"gross_profit\":25000,\"ge_tax\":9500,\"net_profit\":15500,\"roi_percent\":3.4,"
+			+ "\"flip_duration_seconds\":7200,\"is_successful\":true}", CompletedFlip.class);
+
+		assertEquals(17, flip.getId());
+		assertEquals(15500, flip.getNetProfit());
+	}
+
+	@Test
+	public void dumpEventMatchesReflectiveBinding() {
+		assertSameAsReflective("{\"id\":3,\"item_id\":2,\"item_name\":\"Cannonball\",\"previous_price\":200,"
+			+ "\"current_price\":170,\"price_drop_percent\":15.0,\"price_change_type\":\"dump\",\"buy_price\":170,"
+			+ "\"sell_price\":195,\"margin\":25,\"price_1h_avg\":198,\"price_24h_avg\":201,\"volume_24h\":900000,"
+			+ "\"buy_limit\":11000,\"estimated_profit\":250000,\"dump_detected_at\":\"2026-01-02T03:04:05Z\"}",
+			DumpEvent.class);
+	}
+
+	@Test
+	public void flipAnalysisMatchesReflectiveBindingIncludingNestedObjects() {
+		FlipAnalysis analysis = assertSameAsReflective("{\"item_id\":4151,\"item_name\":\"Abyssal whip\","
+			+ "\"members\":true,\"buy_limit\":70,"
+			+ "\"current_prices\":{\"high\":1500000,\"low\":1450000,\"gross_margin\":50000,\"ge_tax\":15000,"
+			+ "\"net_margin\":35000,\"roi_percent\":2.4},"
+			+ "\"liquidity\":{\"score\":80.0,\"rating\":\"High\",\"buys_per_hour\":150.0,\"sells_per_hour\":170.0,"
+			+ "\"total_volume_per_hour\":320.0},"
+			+ "\"risk\":{\"score\":10.0,\"rating\":\"Low\"},"
+			+ "\"efficiency\":{\"score\":70.0,\"rating\":\"Good\",\"recommendation\":\"Flip\"},"
+			+ "\"historical_data\":{\"timeframe\":\"24h\",\"data_points\":288,\"avg_price\":1475000,\"volatility\":3}}",
+			FlipAnalysis.class);
+
+		assertEquals(Integer.valueOf(35000), analysis.getCurrentPrices().getNetMargin());
+		assertEquals("24h", analysis.getHistoricalData().getTimeframe());
+	}
+
+	@Test
+	public void nullsAndUnknownFieldsMatchReflectiveBinding() {
+		FlipRecommendation rec = assertSameAsReflective("{\"item_id\":null,\"item_name\":null,\"buy_limit\":null,"
+			+ "\"unknown\":{\"nested\":[1,2,3]},\"margin\":12,\"quantity_affordable\":null}", FlipRecommendation.class);
+
+		assertEquals(0, rec.getItemId());
+		assertNull(rec.getBuyLimit());
+		assertEquals(12, rec.getMargin());
+
+		FlipAnalysis analysis = assertSameAsReflective("{\"item_id\":1,\"current_prices\":null}", FlipAnalysis.class);
+		assertNull(analysis.getCurrentPrices());
+	}
+
+	@Test
+	public void wikiPriceMatchesReflectiveBinding() {
+		String json = "{\"high\":1500000,\"highTime\":1700000000,\"low\":1450000,\"lowTime\":1700000060,"
+			+ "\"highVolume\":1234,\"lowVolume\":5678,\"extra\":true}";
+		FlipTo5BPlugin.WikiPrice expected = REFLECTIVE.fromJson(json, FlipTo5BPlugin.WikiPrice.class);
+		FlipTo5BPlugin.WikiPrice actual = GSON.fromJson(json, FlipTo5BPlugin.WikiPrice.class);
+		assertSameWikiPrice(expected, actual);
+		assertSameWikiPrice(actual, GSON.fromJson(GSON.toJson(actual), FlipTo5BPlugin.WikiPrice.class));
+	}
+
+	private static <T> T assertSameAsReflective(String json, Class<T> type) {
+		T expected = REFLECTIVE.fromJson(json, type);
+		T actual = GSON.fromJson(json, type);
+		assertEquals(expected, actual);
+		assertEquals(actual, GSON.fromJson(GSON.toJson(actual, type), type));
+		return actual;
+	}
+
+	private static void assertSameWikiPrice(FlipTo5BPlugin.WikiPrice expected, FlipTo5BPlugin.WikiPrice actual) {
+		assertEquals(expected.high, actual.high);
+		assertEquals(expected.highTime, actual.highTime);
+		assertEquals(expected.low, actual.low);
+		assertEquals(expected.lowTime, actual.lowTime);
+		assertEquals(expected.highVolume, actual.highVolume);
+		assertEquals(expected.lowVolume, actual.lowVolume);
+	}
+}
@@ -0,0 +1,166 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.swing.JPanel;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Reconciliation runs on the calling thread here; nothing is shown, so the
+ * EDT rule doesn't matter.
+ */
+public class KeyedCardListTest {
+	private JPanel container;
+	private KeyedCardList<Row> list;
+	private final List<String> built = new ArrayList<>();
+	private final List<JPanel[]> replaced = new ArrayList<>();
+
+	@Before
+	public void setUp() {
+		container = new JPanel();
+		list = new KeyedCardList<>(container, row -> row.key, row -> row.version, row -> {
+			built.add(row.key);
+			JPanel card = new JPanel();
+			card.setName(row.key);
+			return card;
+		}, (oldCard, newCard) -> replaced.add(new JPanel[]{oldCard, newCard}));
+	}
+
+	@Test
+	public void cardsAreBuiltOnceAndShownInOrderWithSpacers() {
+		list.reconcile(rows("a:1", "b:1", "c:1"), false);
+
+		assertEquals(Arrays.asList("a", "b", "c"), built);
+		assertEquals(Arrays.asList("a", "b", "c"), shownKeys());
+		assertEquals(6, container.getComponentCount());
+	}
+
+	@Test
+	public void unchangedRowsKeepTheirCards() {
+		list.reconcile(rows("a:1", "b:1"), false);
+		JPanel a = list.getCard("a");
+		built.clear();
+
+		list.reconcile(rows("a:1", "b:1"), false);
+
+		assertEquals(0, built.size());
+		assertSame(a, list.getCard("a"));
+	}
+
+	@Test
+	public void onlyTheChangedRowIsRebuilt() {
+		list.reconcile(rows("a:1", "b:1"), false);
+		JPanel oldB = list.getCard("b");
+		built.clear();
+
+		list.reconcile(rows("a:1", "b:2"), false);
+
+		assertEquals(Arrays.asList("b"), built);
+		assertNotSame(oldB, list.getCard("b"));
+		assertEquals(1, replaced.size());
+		assertSame(oldB, replaced.get(0)[0]);
+		assertSame(list.getCard("b"), replaced.get(0)[1]);
+		assertEquals(Arrays.asList("a", "b"), shownKeys());
+	}
+
+	@Test
+	public void reorderMovesExistingCards() {
+		list.reconcile(rows("a:1", "b:1", "c:1"), false);
+		JPanel c = list.getCard("c");
+		built.clear();
+
+		list.reconcile(rows("c:1", "a:1", "b:1"), false);
+		assertEquals(Arrays.asList("c", "a", "b"), shownKeys());
+		list.reconcile(rows("a:1", "b:1", "c:1"), false);
+		assertEquals(Arrays.asList("a", "b", "c"), shownKeys());
+
+		assertEquals(0, built.size());
+		assertSame(c, list.getCard("c"));
+		assertEquals(6, container.getComponentCount());
+	}
+
+	@Test
+	public void removedRowsLeaveTheContainer() {
+		list.reconcile(rows("a:1", "b:1", "c:1"), false);
+
+		list.reconcile(rows("c:1"), false);
+
+		assertEquals(Arrays.asList("c"), shownKeys());
+		assertEquals(2, container.getComponentCount());
+		assertNull(list.getCard("a"));
+	}
+
+	@Test
+	public void duplicateKeysAfterTheFirstAreIgnored() {
+		list.reconcile(rows("a:1", "b:1", "a:2"), false);
+
+		assertEquals(Arrays.asList("a", "b"), built);
+		assertEquals(Arrays.asList("a", "b"), shownKeys());
+	}
+
+	@Test
+	public void reusedCardsAreRefreshedOnlyWhenAsked() {
+		list.reconcile(rows("a:1", "b:1"), false);
+		AtomicInteger refreshes = new AtomicInteger();
+		list.getCard("a").putClientProperty(KeyedCardList.REFRESH_PROPERTY, (Runnable) refreshes::incrementAndGet);
+
+		list.reconcile(rows("a:1", "b:1"), false);
+		assertEquals(0, refreshes.get());
+
+		list.reconcile(rows("a:1", "b:1"), true);
+		assertEquals(1, refreshes.get());
+	}
+
+	@Test
+	public void clearForcesARebuild() {
+		list.reconcile(rows("a:1"), false);
+		built.clear();
+
+		list.clear();
+		list.reconcile(rows("a:1"), false);
+
+		assertEquals(Arrays.asList("a"), built);
+		assertEquals(2, container.getComponentCount());
+	}
+
+	private List<String> shownKeys() {
+		List<String> keys = new ArrayList<>();
+		for (Component component : container.getComponents()) {
+			if (component instanceof JPanel) {
+				keys.add(component.getName());
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Rows written as "key:version".
+	 */
+	private static List<Row> rows(String... specs) {
+		List<Row> rows = new ArrayList<>();
+		for (String spec : specs) {
+			String[] parts = spec.split(":");
+			rows.add(new Row(parts[0], parts[1]));
+		}
+		return rows;
+	}
+
+	private static final class Row {
+		private final String key;
+		private final String version;
+
+		private Row(String key, String version) {
+			this.key = key;
+			this.version = version;
+		}
+	}
+}
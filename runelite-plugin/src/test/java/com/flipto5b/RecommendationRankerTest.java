@@ -0,0 +1,124 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class RecommendationRankerTest {
+	/** High liquidity, low risk, little profit */
+	private static final FlipRecommendation SAFE = rec(1, 50, 90, 10, 10_000);
+	/** Ten times the profit, but thin and risky */
+	private static final FlipRecommendation GREEDY = rec(2, 50, 20, 60, 100_000);
+
+	@Test
+	public void eachStyleFavoursItsOwnKindOfFlip() {
+		FlipFinderResponse pool = pool(GREEDY, SAFE);
+
+		assertEquals(Arrays.asList(1, 2), ids(rank(pool, FlipTo5BConfig.FlipStyle.CONSERVATIVE, 10)));
+		assertEquals(Arrays.asList(1, 2), ids(rank(pool, FlipTo5BConfig.FlipStyle.BALANCED, 10)));
+		assertEquals(Arrays.asList(2, 1), ids(rank(pool, FlipTo5BConfig.FlipStyle.AGGRESSIVE, 10)));
+	}
+
+	@Test
+	public void rankedResponseCarriesTheStyleAndPoolDetails() {
+		FlipFinderResponse pool = pool(SAFE, GREEDY);
+		pool.setCashStack(5_000_000);
+		pool.setTotalItemsAnalyzed(3_000);
+
+		FlipFinderResponse ranked = rank(pool, FlipTo5BConfig.FlipStyle.AGGRESSIVE, 10);
+
+		assertEquals("aggressive", ranked.getFlipStyle());
+		assertEquals(Integer.valueOf(5_000_000), ranked.getCashStack());
+		assertEquals(3_000, ranked.getTotalItemsAnalyzed());
+	}
+
+	@Test
+	public void equalScoresAreOrderedByItemId() {
+		FlipFinderResponse pool = pool(rec(30, 60, 60, 20, 0), rec(10, 60, 60, 20, 0), rec(20, 60, 60, 20, 0));
+
+		assertEquals(Arrays.asList(10, 20, 30), ids(rank(pool, FlipTo5BConfig.FlipStyle.BALANCED, 10)));
+	}
+
+	@Test
+	public void subscriptionLimitCapsTheRequestedLimit() {
+		FlipFinderResponse pool = pool(rec(1, 90, 50, 20, 0), rec(2, 80, 50, 20, 0), rec(3, 70, 50, 20, 0),
+			rec(4, 60, 50, 20, 0));
+		FlipFinderResponse.Subscription subscription = new FlipFinderResponse.Subscription();
+		subscription.setTier("free");
+		subscription.setRecommendationLimit(2);
+		pool.setSubscription(subscription);
+
+		FlipFinderResponse capped = rank(pool, FlipTo5BConfig.FlipStyle.BALANCED, 3);
+		assertEquals(Arrays.asList(1, 2), ids(capped));
+		assertEquals("free", capped.getSubscription().getTier());
+		assertEquals(Integer.valueOf(2), capped.getSubscription().getRecommendationLimit());
+		assertEquals(2, capped.getSubscription().getRecommendationsReturned());
+
+		// A lower requested limit still wins
+		FlipFinderResponse one = rank(pool, FlipTo5BConfig.FlipStyle.BALANCED, 1);
+		assertEquals(Arrays.asList(1), ids(one));
+		assertEquals(1, one.getSubscription().getRecommendationsReturned());
+	}
+
+	@Test
+	public void missingRecommendationsRankToAnEmptyList() {
+		FlipFinderResponse ranked = rank(new FlipFinderResponse(), FlipTo5BConfig.FlipStyle.BALANCED, 10);
+
+		assertTrue(ranked.getRecommendations().isEmpty());
+	}
+
+	@Test
+	public void shuffleIsStableForASeedAndKeepsTiersInOrder() {
+		// With no profit, liquidity or safety, the balanced score is 0.35 x efficiency:
+		// items 1-4 land in the 30-40 tier and items 5-8 in the 10-20 tier
+		FlipFinderResponse pool = pool(rec(1, 100, 0, 100, 0), rec(2, 95, 0, 100, 0), rec(3, 90, 0, 100, 0),
+			rec(4, 87, 0, 100, 0), rec(5, 45, 0, 100, 0), rec(6, 40, 0, 100, 0), rec(7, 35, 0, 100, 0),
+			rec(8, 30, 0, 100, 0));
+		Set<Integer> topTier = new HashSet<>(Arrays.asList(1, 2, 3, 4));
+
+		Set<List<Integer>> orders = new HashSet<>();
+		for (int seed = 0; seed < 20; seed++) {
+			List<Integer> order = ids(RecommendationRanker.rank(pool, FlipTo5BConfig.FlipStyle.BALANCED, 10, seed));
+			assertEquals(order, ids(RecommendationRanker.rank(pool, FlipTo5BConfig.FlipStyle.BALANCED, 10, seed)));
+			assertEquals(topTier, new HashSet<>(order.subList(0, 4)));
+			orders.add(order);
+		}
+		assertNotEquals(1, orders.size());
+	}
+
+	private static FlipFinderResponse rank(FlipFinderResponse pool, FlipTo5BConfig.FlipStyle style, int limit) {
+		return RecommendationRanker.rank(pool, style, limit, null);
+	}
+
+	private static FlipFinderResponse pool(FlipRecommendation... recs) {
+		FlipFinderResponse pool = new FlipFinderResponse();
+		pool.setRecommendations(new ArrayList<>(Arrays.asList(recs)));
+		return pool;
+	}
+
+	private static FlipRecommendation rec(int itemId, double efficiency, double liquidity, double risk,
+		int potentialProfit) {
+		FlipRecommendation rec = new FlipRecommendation();
+		rec.setItemId(itemId);
+		rec.setEfficiencyScore(efficiency);
+		rec.setLiquidityScore(liquidity);
+		rec.setRiskScore(risk);
+		rec.setPotentialProfit(potentialProfit);
+		return rec;
+	}
+
+	private static List<Integer> ids(FlipFinderResponse response) {
+		List<Integer> ids = new ArrayList<>();
+		for (FlipRecommendation rec : response.getRecommendations()) {
+			ids.add(rec.getItemId());
+		}
+		return ids;
+	}
+}
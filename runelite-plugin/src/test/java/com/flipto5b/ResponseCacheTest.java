@@ -0,0 +1,143 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class ResponseCacheTest {
+	private static final ResponseCache.Policy LONG = new ResponseCache.Policy(60_000, 60_000);
+
+	private final ResponseCache cache = new ResponseCache(2, new SingleFlight());
+
+	@Test
+	public void concurrentMissesShareOneLoad() {
+		AtomicInteger loads = new AtomicInteger();
+		CompletableFuture<String> response = new CompletableFuture<>();
+
+		CompletableFuture<String> first = cache.get("a", LONG, () -> {
+			loads.incrementAndGet();
+			return response;
+		});
+		CompletableFuture<String> second = cache.get("a", LONG, () -> {
+			loads.incrementAndGet();
+			return response;
+		});
+		response.complete("value");
+
+		assertEquals(1, loads.get());
+		assertEquals("value", first.join());
+		assertEquals("value", second.join());
+	}
+
+	@Test
+	public void freshValueIsServedWithoutLoading() {
+		cache.get("a", LONG, () -> CompletableFuture.completedFuture("value")).join();
+
+		String value = cache.<String>get("a", LONG, () -> {
+			throw new AssertionError("loaded a fresh key");
+		}).join();
+
+		assertEquals("value", value);
+		assertTrue(cache.isFresh("a"));
+	}
+
+	@Test
+	public void failedLoadsAreNotCached() {
+		assertNull(cache.get("a", LONG, () -> CompletableFuture.completedFuture(null)).join());
+		assertNull(cache.peek("a"));
+	}
+
+	@Test
+	public void staleValueIsServedWhileRevalidating() throws InterruptedException {
+		ResponseCache.Policy expired = new ResponseCache.Policy(0, 60_000);
+		cache.get("a", expired, () -> CompletableFuture.completedFuture("old")).join();
+		Thread.sleep(5);
+
+		CompletableFuture<String> refresh = new CompletableFuture<>();
+		assertEquals("old", cache.get("a", expired, () -> refresh).join());
+
+		refresh.complete("new");
+		assertEquals("new", cache.peek("a"));
+	}
+
+	@Test
+	public void leastRecentlyUsedEntryIsEvicted() {
+		cache.put("a", "1", LONG);
+		cache.put("b", "2", LONG);
+		cache.peek("a");
+		cache.put("c", "3", LONG);
+
+		assertEquals("1", cache.peek("a"));
+		assertNull(cache.peek("b"));
+		assertEquals("3", cache.peek("c"));
+	}
+
+	@Test
+	public void invalidatePrefixDropsMatchingKeys() {
+		cache.put("flips:1", "1", LONG);
+		cache.put("items:1", "2", LONG);
+
+		cache.invalidatePrefix("flips:");
+
+		assertNull(cache.peek("flips:1"));
+		assertEquals("2", cache.peek("items:1"));
+	}
+
+	@Test
+	public void loadThatRacedAnInvalidationIsNotStored() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		CompletableFuture<String> read = cache.get("flips:1", LONG, () -> response);
+
+		cache.invalidatePrefix("flips:");
+		response.complete("before write");
+
+		assertEquals("before write", read.join());
+		assertNull(cache.peek("flips:1"));
+	}
+
+	@Test
+	public void loadAfterAnInvalidationDoesNotJoinAnOlderRequest() {
+		CompletableFuture<String> before = new CompletableFuture<>();
+		CompletableFuture<String> after = new CompletableFuture<>();
+		cache.get("flips:1", LONG, () -> before);
+
+		cache.invalidatePrefix("flips:");
+		CompletableFuture<String> read = cache.get("flips:1", LONG, () -> after);
+		before.complete("before write");
+		after.complete("after write");
+
+		assertEquals("after write", read.join());
+		assertSame("after write", cache.peek("flips:1"));
+	}
+
+	@Test
+	public void loadThatRacedAClearIsNotStored() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		CompletableFuture<String> read = cache.get("flips:1", LONG, () -> response);
+
+		cache.clear();
+		response.complete("previous account");
+
+		assertEquals("previous account", read.join());
+		assertNull(cache.peek("flips:1"));
+	}
+
+	@Test
+	public void loadThatRacedAKeyInvalidationIsNotStored() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		CompletableFuture<String> read = cache.get("analysis:1", LONG, () -> response);
+		cache.put("analysis:2", "2", LONG);
+
+		cache.invalidate("analysis:1");
+		response.complete("before write");
+
+		assertEquals("before write", read.join());
+		assertNull(cache.peek("analysis:1"));
+		assertEquals("2", cache.peek("analysis:2"));
+	}
+}
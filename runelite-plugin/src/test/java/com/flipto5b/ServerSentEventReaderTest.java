@@ -0,0 +1,77 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import okio.Buffer;
+import org.junit.Test;
+
+public class ServerSentEventReaderTest {
+	private final List<String[]> events = new ArrayList<>();
+	private final List<Long> retries = new ArrayList<>();
+
+	@Test
+	public void parsesIdTypeAndMultiLineData() throws IOException {
+		ServerSentEventReader reader = reader("id: 7\nevent: dump\ndata: {\"a\":1,\ndata: \"b\":2}\n\n");
+
+		assertTrue(reader.processNextEvent());
+		assertEquals(1, events.size());
+		assertArrayEquals(new String[]{"7", "dump", "{\"a\":1,\n\"b\":2}"}, events.get(0));
+	}
+
+	@Test
+	public void typeDefaultsToMessageAndIdCarriesOver() throws IOException {
+		ServerSentEventReader reader = reader("id: 1\ndata: first\n\ndata:second\n\n");
+
+		assertTrue(reader.processNextEvent());
+		assertTrue(reader.processNextEvent());
+		assertArrayEquals(new String[]{"1", "message", "first"}, events.get(0));
+		assertArrayEquals(new String[]{"1", "message", "second"}, events.get(1));
+	}
+
+	@Test
+	public void skipsCommentsAndEventsWithoutData() throws IOException {
+		ServerSentEventReader reader = reader(": keep-alive\n\nevent: heartbeat\n\ndata: payload\n\n");
+
+		assertTrue(reader.processNextEvent());
+		assertEquals(1, events.size());
+		assertArrayEquals(new String[]{null, "message", "payload"}, events.get(0));
+	}
+
+	@Test
+	public void reportsRetryHintsAndIgnoresMalformedOnes() throws IOException {
+		ServerSentEventReader reader = reader("retry: 5000\nretry: soon\ndata: x\n\n");
+
+		assertTrue(reader.processNextEvent());
+		assertEquals(1, retries.size());
+		assertEquals(5000L, (long) retries.get(0));
+	}
+
+	@Test
+	public void returnsFalseAtEndOfStream() throws IOException {
+		ServerSentEventReader reader = reader("data: last\n\ndata: unterminated\n");
+
+		assertTrue(reader.processNextEvent());
+		assertFalse(reader.processNextEvent());
+		assertEquals(1, events.size());
+	}
+
+	private ServerSentEventReader reader(String stream) {
+		return new ServerSentEventReader(new Buffer().writeUtf8(stream), new ServerSentEventReader.Handler() {
+			@Override
+			public void onEvent(String id, String type, String data) {
+				events.add(new String[]{id, type, data});
+			}
+
+			@Override
+			public void onRetry(long retryMs) {
+				retries.add(retryMs);
+			}
+		});
+	}
+}
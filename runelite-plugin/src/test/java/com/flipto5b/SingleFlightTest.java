@@ -0,0 +1,89 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class SingleFlightTest {
+	private final SingleFlight singleFlight = new SingleFlight();
+
+	@Test
+	public void concurrentCallsShareOneRequest() {
+		AtomicInteger requests = new AtomicInteger();
+		CompletableFuture<String> response = new CompletableFuture<>();
+
+		CompletableFuture<String> first = singleFlight.execute("key", () -> {
+			requests.incrementAndGet();
+			return response;
+		});
+		CompletableFuture<String> second = singleFlight.execute("key", () -> {
+			requests.incrementAndGet();
+			return response;
+		});
+		assertEquals(1, singleFlight.size());
+
+		response.complete("value");
+		assertEquals(1, requests.get());
+		assertEquals("value", first.join());
+		assertEquals("value", second.join());
+	}
+
+	@Test
+	public void keyIsReleasedOnceTheRequestFinishes() {
+		singleFlight.execute("key", () -> CompletableFuture.completedFuture("first")).join();
+		assertEquals(0, singleFlight.size());
+
+		String value = singleFlight.execute("key", () -> CompletableFuture.completedFuture("second")).join();
+		assertEquals("second", value);
+	}
+
+	@Test
+	public void cancellingOneCallerDoesNotAffectOthers() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		CompletableFuture<String> first = singleFlight.execute("key", () -> response);
+		CompletableFuture<String> second = singleFlight.execute("key", () -> response);
+
+		first.cancel(true);
+		response.complete("value");
+
+		assertTrue(first.isCancelled());
+		assertEquals("value", second.join());
+	}
+
+	@Test
+	public void failuresReachEveryCallerAndReleaseTheKey() {
+		CompletableFuture<String> response = new CompletableFuture<>();
+		CompletableFuture<String> first = singleFlight.execute("key", () -> response);
+		CompletableFuture<String> second = singleFlight.execute("key", () -> response);
+
+		response.completeExceptionally(new IllegalStateException("boom"));
+
+		assertFailed(first);
+		assertFailed(second);
+		assertEquals(0, singleFlight.size());
+	}
+
+	@Test
+	public void requestThatThrowsReleasesTheKey() {
+		CompletableFuture<String> call = singleFlight.execute("key", () -> {
+			throw new IllegalStateException("boom");
+		});
+
+		assertFailed(call);
+		assertEquals(0, singleFlight.size());
+	}
+
+	private static void assertFailed(CompletableFuture<?> future) {
+		try {
+			future.join();
+			fail("expected the call to fail");
+		} catch (CompletionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+}
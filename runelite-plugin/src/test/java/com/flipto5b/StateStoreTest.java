@@ -0,0 +1,148 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StateStoreTest {
+	private Path directory;
+	private RecordingExecutor executor;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("state-store");
+		executor = new RecordingExecutor();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void missingFileStartsFromTheDefault() {
+		StateStore.Record<String> record = new StateStore(directory, executor).open("notes", new TextCodec(1), () -> "default");
+
+		assertEquals("default", record.get());
+		assertFalse(record.isLoaded());
+	}
+
+	@Test
+	public void closedRecordIsReadBack() {
+		StateStore store = new StateStore(directory, executor);
+		store.open("notes", new TextCodec(1), () -> "default").set("saved");
+		store.close();
+
+		StateStore.Record<String> reopened = new StateStore(directory, executor).open("notes", new TextCodec(1), () -> "default");
+		assertEquals("saved", reopened.get());
+		assertTrue(reopened.isLoaded());
+	}
+
+	@Test
+	public void changesAreBatchedIntoOneScheduledFlush() {
+		StateStore store = new StateStore(directory, executor);
+		StateStore.Record<String> first = store.open("first", new TextCodec(1), () -> "");
+		StateStore.Record<String> second = store.open("second", new TextCodec(1), () -> "");
+
+		first.set("a");
+		second.set("b");
+		first.set("c");
+		assertEquals(1, executor.scheduled.size());
+		assertFalse(Files.exists(directory.resolve("first.bin")));
+
+		executor.scheduled.get(0).run();
+		assertTrue(Files.exists(directory.resolve("first.bin")));
+		assertTrue(Files.exists(directory.resolve("second.bin")));
+
+		// The flush re-arms scheduling for the next change
+		first.set("d");
+		assertEquals(2, executor.scheduled.size());
+	}
+
+	@Test
+	public void olderVersionIsHandedToTheCodec() {
+		StateStore store = new StateStore(directory, executor);
+		store.open("notes", new TextCodec(1), () -> "").set("old");
+		store.close();
+
+		StateStore.Record<String> upgraded = new StateStore(directory, executor).open("notes", new TextCodec(2), () -> "");
+		assertEquals("old@v1", upgraded.get());
+	}
+
+	@Test
+	public void newerVersionFallsBackToTheDefault() {
+		StateStore store = new StateStore(directory, executor);
+		store.open("notes", new TextCodec(2), () -> "").set("new");
+		store.close();
+
+		StateStore.Record<String> downgraded = new StateStore(directory, executor).open("notes", new TextCodec(1), () -> "default");
+		assertEquals("default", downgraded.get());
+		assertTrue(downgraded.isLoaded());
+	}
+
+	@Test
+	public void corruptFileFallsBackToTheDefault() throws IOException {
+		Files.write(directory.resolve("notes.bin"), new byte[]{0x46, 0x35});
+
+		StateStore.Record<String> record = new StateStore(directory, executor).open("notes", new TextCodec(1), () -> "default");
+		assertEquals("default", record.get());
+	}
+
+	/**
+	 * Stores a string; reading an older version tags it with that version.
+	 */
+	private static final class TextCodec implements StateStore.Codec<String> {
+		private final int version;
+
+		private TextCodec(int version) {
+			this.version = version;
+		}
+
+		@Override
+		public int version() {
+			return version;
+		}
+
+		@Override
+		public void write(String value, DataOutput out) throws IOException {
+			out.writeUTF(value);
+		}
+
+		@Override
+		public String read(DataInput in, int version) throws IOException {
+			String value = in.readUTF();
+			return version < this.version ? value + "@v" + version : value;
+		}
+	}
+
+	/**
+	 * Keeps scheduled tasks for the test to run instead of running them.
+	 */
+	private static final class RecordingExecutor extends ScheduledThreadPoolExecutor {
+		private final List<Runnable> scheduled = new ArrayList<>();
+
+		private RecordingExecutor() {
+			super(1);
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+			scheduled.add(command);
+			return null;
+		}
+	}
+}
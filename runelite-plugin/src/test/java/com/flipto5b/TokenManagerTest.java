@@ -0,0 +1,108 @@
+package com.flipto5b;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class TokenManagerTest {
+	private final AtomicInteger logins = new AtomicInteger();
+	private CompletableFuture<Boolean> nextLogin = new CompletableFuture<>();
+	private String issuedToken = "token-1";
+	private final TokenManager tokens = new TokenManager(() -> {
+		logins.incrementAndGet();
+		return nextLogin.thenApply(success -> {
+			if (success) {
+				this.tokens.setToken(issuedToken);
+			}
+			return success;
+		});
+	});
+
+	@Test
+	public void concurrentCallersShareOneLogin() {
+		CompletableFuture<String> first = tokens.getToken();
+		CompletableFuture<String> second = tokens.getToken();
+		nextLogin.complete(true);
+
+		assertEquals(1, logins.get());
+		assertEquals("token-1", first.join());
+		assertEquals("token-1", second.join());
+	}
+
+	@Test
+	public void validTokenIsReturnedWithoutLogin() {
+		tokens.setToken(jwtExpiringIn(24 * 60 * 60));
+
+		assertTrue(tokens.isValid());
+		tokens.getToken().join();
+		assertEquals(0, logins.get());
+	}
+
+	@Test
+	public void failedLoginBacksOffInsteadOfRetrying() {
+		nextLogin.complete(false);
+
+		assertNull(tokens.getToken().join());
+		assertNull(tokens.getToken().join());
+		assertNull(tokens.getToken().join());
+		assertEquals(1, logins.get());
+	}
+
+	@Test
+	public void newTokenEndsTheBackoff() {
+		nextLogin.complete(false);
+		assertNull(tokens.getToken().join());
+
+		tokens.setToken("token-2");
+
+		assertEquals("token-2", tokens.getToken().join());
+		assertEquals(1, logins.get());
+	}
+
+	@Test
+	public void clearEndsTheBackoff() {
+		nextLogin.complete(false);
+		assertNull(tokens.getToken().join());
+
+		tokens.clear();
+		nextLogin = CompletableFuture.completedFuture(true);
+
+		assertEquals("token-1", tokens.getToken().join());
+		assertEquals(2, logins.get());
+	}
+
+	@Test
+	public void rejectionOfAReplacedTokenKeepsTheNewOne() {
+		tokens.setToken("old");
+		tokens.setToken("new");
+
+		tokens.invalidate("old");
+		assertEquals("new", tokens.currentToken());
+
+		tokens.invalidate("new");
+		assertFalse(tokens.isValid());
+	}
+
+	@Test
+	public void pastJwtExpiryFallsBackToDefaultLifetime() {
+		tokens.setToken(jwtExpiringIn(-60));
+
+		// Clock skew shouldn't make a fresh token look dead on arrival
+		assertTrue(tokens.isValid());
+	}
+
+	private static String jwtExpiringIn(long seconds) {
+		long exp = System.currentTimeMillis() / 1000 + seconds;
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+		String payload = encoder.encodeToString(("{\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8));
+		return header + "." + payload + ".";
+	}
+}
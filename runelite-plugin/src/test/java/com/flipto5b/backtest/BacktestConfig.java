@@ -0,0 +1,76 @@
+package com.flipto5b.backtest;
+
+import com.flipto5b.engine.SignalEngine.SignalConfig;
+import com.flipto5b.engine.SignalEngine.WeightProfile;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Strategy and simulation settings for one backtest run.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+@Getter
+@Builder(toBuilder = true)
+public class BacktestConfig {
+
+    /** Signal settings (time horizon, risk tolerance, min score) */
+    private final SignalConfig signalConfig;
+
+    /** Weight override; null uses SignalEngine.calculateWeights for the horizon */
+    private final WeightProfile weights;
+
+    /** PricingEngine risk level: 0 = Low, 1 = Medium, 2 = High */
+    @Builder.Default
+    private final int riskLevel = 1;
+
+    /** Starting GP */
+    @Builder.Default
+    private final long startingCash = 50_000_000L;
+
+    /** Concurrent flips (GE slots) */
+    @Builder.Default
+    private final int geSlots = 8;
+
+    /** Share of a bucket's traded volume our offer can take */
+    @Builder.Default
+    private final double fillParticipation = 0.2;
+
+    /** Cancel an unfilled buy after this many buckets */
+    @Builder.Default
+    private final int buyTimeoutBuckets = 12;
+
+    /** Dump unsold items at the insta-sell price after this many buckets */
+    @Builder.Default
+    private final int sellTimeoutBuckets = 48;
+
+    /** Window for the baseline-deviation mid price (7 days) */
+    @Builder.Default
+    private final int baselineBuckets = 7 * 288;
+
+    /** Minimum 24h volume for an item to be considered (matches the live scan) */
+    @Builder.Default
+    private final int minVolume24h = 100;
+
+    /**
+     * Replace a not-yet-filled buy when a new entry's expected gp/min is this
+     * many times better (defaults to OpportunityManager's 1.5x cancel threshold)
+     */
+    @Builder.Default
+    private final double opportunityThreshold = 1.5;
+
+    /** GE buy limits by item id; items without one use {@link #defaultBuyLimit} */
+    @Builder.Default
+    private final Map<Integer, Integer> buyLimits = Collections.emptyMap();
+
+    @Builder.Default
+    private final int defaultBuyLimit = 100;
+
+    int getBuyLimit(int itemId) {
+        return buyLimits.getOrDefault(itemId, defaultBuyLimit);
+    }
+}
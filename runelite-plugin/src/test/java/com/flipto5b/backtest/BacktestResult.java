@@ -0,0 +1,50 @@
+package com.flipto5b.backtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of one backtest run.
+ */
+@Getter
+@Builder
+public class BacktestResult {
+    /** Net GP after tax over the whole run */
+    private final long totalProfit;
+
+    /** Net GP per simulated hour */
+    private final double gpPerHour;
+
+    /** Largest peak-to-trough fall in realised equity, in GP */
+    private final long maxDrawdown;
+
+    /** Share of slot-time with a flip in progress (0.0 to 1.0) */
+    private final double slotUtilisation;
+
+    /** Flips taken by the portfolio */
+    private final int trades;
+
+    /** Flips with positive net profit */
+    private final int winningTrades;
+
+    /** Candidate flips skipped for lack of a free slot or cash */
+    private final int skippedTrades;
+
+    /** Unfilled buys cancelled for a better opportunity */
+    private final int cancelledTrades;
+
+    /** Simulated hours */
+    private final double hours;
+
+    public double getWinRate() {
+        return trades > 0 ? (double) winningTrades / trades : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,.0f gp/h | profit %,d | drawdown %,d | slots %.0f%%"
+                + " | %d trades (%.0f%% win, %d skipped, %d cancelled)",
+                gpPerHour, totalProfit, maxDrawdown, slotUtilisation * 100, trades, getWinRate() * 100,
+                skippedTrades, cancelledTrades);
+    }
+}
@@ -0,0 +1,164 @@
+package com.flipto5b.backtest;
+
+import com.flipto5b.engine.SignalEngine.SignalConfig;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line entry point for a single backtest.
+ *
+ * <pre>
+ * ./gradlew backtest -PbacktestArgs="history/ --download-days=30 --horizon=60 --risk=MEDIUM"
+ * </pre>
+ *
+ * <ul>
+ * <li>{@code <dir>}: directory of wiki /5m responses (one {@code <timestamp>.json} each)</li>
+ * <li>{@code --download-days=N}: first fetch any missing buckets of the last N days</li>
+ * <li>{@code --limits=mapping.json}: wiki /mapping response for real GE buy limits</li>
+ * <li>{@code --horizon}, {@code --risk}, {@code --min-score}, {@code --cash}, {@code --threads}</li>
+ * </ul>
+ */
+public final class BacktestRunner {
+
+    static final String USER_AGENT = "FlipTo5B Backtester";
+    private static final String FIVE_MINUTE_URL = "https://prices.runescape.wiki/api/v1/osrs/5m?timestamp=";
+
+    private BacktestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: BacktestRunner <snapshot-dir> [--download-days=N] [--limits=mapping.json]"
+                    + " [--horizon=60] [--risk=LOW|MEDIUM|HIGH] [--min-score=30] [--cash=50000000] [--threads=N]");
+            System.exit(2);
+        }
+
+        Path directory = Paths.get(args[0]);
+        Map<String, String> options = parseOptions(Arrays.copyOfRange(args, 1, args.length));
+
+        if (options.containsKey("download-days")) {
+            downloadHistory(directory, Integer.parseInt(options.get("download-days")));
+        }
+
+        long loadStart = System.nanoTime();
+        PriceHistory history = PriceHistory.load(directory);
+        System.out.printf("History: %d items, %.1f days, loaded in %dms%n", history.getItems().size(),
+                history.getHours() / 24, (System.nanoTime() - loadStart) / 1_000_000);
+
+        BacktestConfig config = baseConfig(options);
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            long runStart = System.nanoTime();
+            BacktestResult result = new Backtester(history, pool).run(config);
+            System.out.printf("Backtest finished in %dms on %d threads%n",
+                    (System.nanoTime() - runStart) / 1_000_000, threads);
+            System.out.println(result);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(eq > 0 ? arg.substring(2, eq) : arg.substring(2), eq > 0 ? arg.substring(eq + 1) : "true");
+        }
+        return options;
+    }
+
+    /**
+     * Strategy settings shared by the single run and the parameter sweep.
+     */
+    static BacktestConfig baseConfig(Map<String, String> options) throws IOException {
+        SignalConfig signalConfig = SignalConfig.builder()
+                .timeHorizonMinutes(Integer.parseInt(options.getOrDefault("horizon", "60")))
+                .riskTolerance(SignalConfig.RiskTolerance.valueOf(options.getOrDefault("risk", "MEDIUM")))
+                .minScore(Double.parseDouble(options.getOrDefault("min-score", "30")))
+                .build();
+
+        BacktestConfig.BacktestConfigBuilder builder = BacktestConfig.builder()
+                .signalConfig(signalConfig)
+                .startingCash(Long.parseLong(options.getOrDefault("cash", "50000000")));
+        if (options.containsKey("limits")) {
+            builder.buyLimits(readBuyLimits(Paths.get(options.get("limits"))));
+        }
+        return builder.build();
+    }
+
+    private static Map<Integer, Integer> readBuyLimits(Path mappingFile) throws IOException {
+        Map<Integer, Integer> limits = new HashMap<>();
+        try (Reader reader = Files.newBufferedReader(mappingFile)) {
+            JsonArray mapping = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : mapping) {
+                JsonObject item = element.getAsJsonObject();
+                if (item.has("limit")) {
+                    limits.put(item.get("id").getAsInt(), item.get("limit").getAsInt());
+                }
+            }
+        }
+        return limits;
+    }
+
+    /**
+     * Fetch every 5m bucket of the last {@code days} days that isn't on disk yet.
+     */
+    private static void downloadHistory(Path directory, int days) throws IOException, InterruptedException {
+        Files.createDirectories(directory);
+        OkHttpClient client = new OkHttpClient();
+        long latestBucket = (System.currentTimeMillis() / 1000 / PriceHistory.BUCKET_SECONDS - 1)
+                * PriceHistory.BUCKET_SECONDS;
+        long buckets = days * 288L;
+        int fetched = 0;
+
+        for (long i = 0; i < buckets; i++) {
+            long timestamp = latestBucket - i * PriceHistory.BUCKET_SECONDS;
+            Path file = directory.resolve(timestamp + ".json");
+            if (Files.exists(file)) {
+                continue;
+            }
+
+            Request request = new Request.Builder()
+                    .url(FIVE_MINUTE_URL + timestamp)
+                    .header("User-Agent", USER_AGENT)
+                    .build();
+            try (Response response = client.newCall(request).execute()) {
+                ResponseBody body = response.body();
+                if (!response.isSuccessful() || body == null) {
+                    System.err.printf("Bucket %d: HTTP %d%n", timestamp, response.code());
+                    continue;
+                }
+                Files.write(file, body.bytes());
+            }
+
+            if (++fetched % 100 == 0) {
+                System.out.printf("Downloaded %d buckets%n", fetched);
+            }
+            // Be polite to the wiki API
+            Thread.sleep(100);
+        }
+        System.out.printf("Downloaded %d new buckets into %s%n", fetched, directory);
+    }
+}
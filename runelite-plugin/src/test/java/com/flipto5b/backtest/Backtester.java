@@ -0,0 +1,106 @@
+package com.flipto5b.backtest;
+
+import com.flipto5b.engine.PricingEngine;
+import com.flipto5b.engine.SignalEngine;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Replays a {@link PriceHistory} through SignalEngine and PricingEngine.
+ *
+ * <h2>Pipeline:</h2>
+ * <ul>
+ * <li><b>Per item (parallel):</b> {@link ItemSimulator} turns each item's
+ * series into candidate flips with simulated fills</li>
+ * <li><b>Portfolio (sequential):</b> {@link PortfolioSimulator} merges them
+ * under the GE slot and cash constraints into gp/hour, drawdown and slot
+ * utilisation</li>
+ * </ul>
+ *
+ * <p>
+ * The history is read-only, so one instance can be shared by concurrent runs.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+@Slf4j
+public class Backtester {
+
+    private static final Comparator<SimulatedTrade> ENTRY_ORDER = Comparator
+            .comparingInt(SimulatedTrade::getEntryBucket)
+            .thenComparing(Comparator.comparingDouble(SimulatedTrade::getRank).reversed());
+
+    /** Only used to satisfy SignalEngine's constructor; scoring makes no requests */
+    private static final OkHttpClient OFFLINE_CLIENT = new OkHttpClient();
+
+    private final PriceHistory history;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param history shared price history
+     * @param pool    pool the per-item simulations run in
+     */
+    public Backtester(PriceHistory history, ForkJoinPool pool) {
+        this.history = history;
+        this.pool = pool;
+    }
+
+    public Backtester(PriceHistory history) {
+        this(history, ForkJoinPool.commonPool());
+    }
+
+    public BacktestResult run(BacktestConfig config) {
+        return run(config, 1.0, true);
+    }
+
+    /**
+     * @param config          strategy to test
+     * @param historyFraction share of the history to simulate, from the start
+     *                        (the parameter sweep scores cheap prefixes first)
+     * @param parallelItems   simulate items in the pool; false runs on the
+     *                        calling thread, for callers that already run
+     *                        many backtests concurrently
+     */
+    public BacktestResult run(BacktestConfig config, double historyFraction, boolean parallelItems) {
+        long start = System.nanoTime();
+        int endBucket = (int) Math.ceil(history.getBucketCount() * Math.min(1.0, Math.max(0.0, historyFraction)));
+        List<SimulatedTrade> candidates = simulateItems(config, endBucket, parallelItems);
+        candidates.sort(ENTRY_ORDER);
+        BacktestResult result = PortfolioSimulator.run(candidates, endBucket, config);
+        log.debug("Backtest of {} items, {} candidates took {}ms", history.getItems().size(),
+                candidates.size(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    private List<SimulatedTrade> simulateItems(BacktestConfig config, int endBucket, boolean parallelItems) {
+        // Fresh engines per run: SignalEngine caches per-item estimates
+        SignalEngine signalEngine = new SignalEngine(OFFLINE_CLIENT, null, null);
+        signalEngine.setBuyLimits(config::getBuyLimit);
+        ItemSimulator simulator = new ItemSimulator(signalEngine, new PricingEngine(), config);
+        if (!parallelItems) {
+            List<SimulatedTrade> trades = new ArrayList<>();
+            for (PriceHistory.ItemSeries series : history.getItems()) {
+                trades.addAll(simulator.simulate(series, endBucket));
+            }
+            return trades;
+        }
+        try {
+            return pool.submit(() -> history.getItems().parallelStream()
+                    .flatMap(series -> simulator.simulate(series, endBucket).stream())
+                    .collect(Collectors.toCollection(ArrayList::new)))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Backtest interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Backtest failed", e.getCause());
+        }
+    }
+}
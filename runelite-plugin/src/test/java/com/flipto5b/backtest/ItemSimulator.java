@@ -0,0 +1,248 @@
+package com.flipto5b.backtest;
+
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.engine.PricingEngine;
+import com.flipto5b.engine.PricingEngine.PriceRecommendation;
+import com.flipto5b.engine.SignalEngine;
+import com.flipto5b.engine.SignalEngine.SignalConfig;
+import com.flipto5b.engine.SignalEngine.VolumeData;
+import com.flipto5b.engine.SignalEngine.WeightProfile;
+import com.flipto5b.model.MarketSignal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Simulates flipping one item through its history, independent of every
+ * other item.
+ *
+ * <h2>Per trade bucket:</h2>
+ * <ul>
+ * <li><b>Flat:</b> score the bucket with SignalEngine (prices and rolling
+ * volumes known at that time only); on BUY/ACCUMULATE, size and price the
+ * flip with PricingEngine and place a buy</li>
+ * <li><b>Buying:</b> fill against insta-sell volume while avgLow is at or
+ * under our price, capped by participation and the rolling 4h buy limit,
+ * which counts each fill from the bucket it happened in</li>
+ * <li><b>Selling:</b> fill against insta-buy volume while avgHigh is at or
+ * over our price; after the timeout dump the rest at avgLow</li>
+ * </ul>
+ *
+ * <p>
+ * Capital and GE slots are ignored here - {@link PortfolioSimulator} applies
+ * them afterwards - so items can be simulated in parallel.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+final class ItemSimulator {
+
+    // =========================================================================
+    // CONSTANTS
+    // =========================================================================
+
+    private static final int DAY_BUCKETS = 288;
+    private static final int LIMIT_WINDOW_BUCKETS = 48; // 4 hours
+
+    // =========================================================================
+    // DEPENDENCIES
+    // =========================================================================
+
+    private final SignalEngine signalEngine;
+    private final PricingEngine pricingEngine;
+    private final BacktestConfig config;
+    private final SignalConfig signalConfig;
+    private final WeightProfile weights;
+    private final int horizonBuckets;
+
+    ItemSimulator(SignalEngine signalEngine, PricingEngine pricingEngine, BacktestConfig config) {
+        this.signalEngine = signalEngine;
+        this.pricingEngine = pricingEngine;
+        this.config = config;
+        this.signalConfig = config.getSignalConfig();
+        this.weights = config.getWeights() != null
+                ? config.getWeights()
+                : signalEngine.calculateWeights(signalConfig.getTimeHorizonMinutes());
+        this.horizonBuckets = Math.max(1, signalConfig.getTimeHorizonMinutes() / 5);
+    }
+
+    // =========================================================================
+    // SIMULATION
+    // =========================================================================
+
+    /**
+     * @param endBucket simulate buckets before this one only (for partial-history runs)
+     */
+    List<SimulatedTrade> simulate(PriceHistory.ItemSeries series, int endBucket) {
+        List<SimulatedTrade> trades = new ArrayList<>();
+        int itemId = series.getItemId();
+        int buyLimit = config.getBuyLimit(itemId);
+        Deque<int[]> recentBuys = new ArrayDeque<>(); // {bucket, qty}
+
+        // Open position state
+        boolean buying = false;
+        boolean selling = false;
+        int entryBucket = 0;
+        int firstFillBucket = 0;
+        int sellStartBucket = 0;
+        int buyAt = 0;
+        int sellAt = 0;
+        int target = 0;
+        int bought = 0;
+        int sold = 0;
+        long proceeds = 0;
+        double rank = 0;
+        double expectedRate = 0;
+        int lastLow = 0;
+        int lastRow = -1;
+
+        for (int row = 0; row < series.size() && series.bucket[row] < endBucket; row++) {
+            lastRow = row;
+            int bucket = series.bucket[row];
+            int avgHigh = series.avgHigh[row];
+            int avgLow = series.avgLow[row];
+            if (avgLow > 0) {
+                lastLow = avgLow;
+            }
+
+            if (buying) {
+                boolean timedOut = bucket - entryBucket > config.getBuyTimeoutBuckets();
+                if (!timedOut && avgLow > 0 && avgLow <= buyAt) {
+                    int filled = Math.min(target - bought, take(series.lowVolume[row]));
+                    if (filled > 0) {
+                        if (bought == 0) {
+                            firstFillBucket = bucket;
+                        }
+                        // The GE counts units against the limit as they fill
+                        recentBuys.addLast(new int[]{bucket, filled});
+                        bought += filled;
+                    }
+                }
+                if (bought == target || timedOut) {
+                    buying = false;
+                    if (bought > 0) {
+                        selling = true;
+                        sellStartBucket = bucket;
+                    }
+                }
+                continue;
+            }
+
+            if (selling) {
+                if (bucket - sellStartBucket > config.getSellTimeoutBuckets()) {
+                    // Give up: dump the rest at the insta-sell price
+                    int dumpPrice = avgLow > 0 ? avgLow : lastLow;
+                    proceeds += (long) (sold < bought ? bought - sold : 0)
+                            * (dumpPrice - PricingEngine.calculateTax(dumpPrice));
+                    sold = bought;
+                } else if (avgHigh > 0 && avgHigh >= sellAt) {
+                    int filled = Math.min(bought - sold, take(series.highVolume[row]));
+                    proceeds += (long) filled * (sellAt - PricingEngine.calculateTax(sellAt));
+                    sold += filled;
+                }
+                if (sold == bought) {
+                    trades.add(new SimulatedTrade(itemId, entryBucket, firstFillBucket, bucket, bought, buyAt,
+                            proceeds - (long) buyAt * bought, rank, expectedRate));
+                    selling = false;
+                }
+                continue;
+            }
+
+            // Flat: look for an entry
+            if (avgHigh <= 0 || avgLow <= 0 || avgHigh <= avgLow) {
+                continue;
+            }
+
+            while (!recentBuys.isEmpty() && bucket - recentBuys.peekFirst()[0] >= LIMIT_WINDOW_BUCKETS) {
+                recentBuys.removeFirst();
+            }
+            int limitLeft = buyLimit;
+            for (int[] buy : recentBuys) {
+                limitLeft -= buy[1];
+            }
+            if (limitLeft <= 0) {
+                continue;
+            }
+
+            MarketSignal signal = scoreBucket(series, row);
+            if (signal == null) {
+                continue;
+            }
+
+            int support = series.minLowOver(row, horizonBuckets);
+            int resist = series.maxHighOver(row, horizonBuckets);
+            PriceRecommendation rec = pricingEngine.calculate(signal, config.getStartingCash(),
+                    config.getRiskLevel(), support, resist);
+            if (rec.getNetProfit() <= 0) {
+                continue;
+            }
+
+            buying = true;
+            entryBucket = bucket;
+            buyAt = rec.getBuyAt();
+            sellAt = rec.getSellAt();
+            target = Math.min(rec.getQuantity(), limitLeft);
+            bought = 0;
+            sold = 0;
+            proceeds = 0;
+            rank = signal.getOpportunityScore() * signal.getConfidence();
+            // Same rate estimate OpportunityManager uses for a new opportunity
+            expectedRate = (double) rec.getNetProfit() * target / Math.max(1, rec.getQuantity())
+                    / Math.max(1.0, signal.getAvgRecoveryTime());
+        }
+
+        // History ended mid-flip: close out at the last known insta-sell price
+        if (selling || (buying && bought > 0)) {
+            int lastBucket = series.bucket[lastRow];
+            proceeds += (long) (bought - sold) * (lastLow - PricingEngine.calculateTax(lastLow));
+            trades.add(new SimulatedTrade(itemId, entryBucket, firstFillBucket, lastBucket, bought, buyAt,
+                    proceeds - (long) buyAt * bought, rank, expectedRate));
+        }
+        return trades;
+    }
+
+    /**
+     * Score one bucket with the same filters as the live scan, or null.
+     */
+    private MarketSignal scoreBucket(PriceHistory.ItemSeries series, int row) {
+        VolumeData volume = new VolumeData();
+        volume.highVolume = (int) Math.min(Integer.MAX_VALUE, series.highVolumeOver(row, DAY_BUCKETS));
+        volume.lowVolume = (int) Math.min(Integer.MAX_VALUE, series.lowVolumeOver(row, DAY_BUCKETS));
+        volume.totalVolume = (int) Math.min(Integer.MAX_VALUE, (long) volume.highVolume + volume.lowVolume);
+        if (volume.totalVolume < config.getMinVolume24h()) {
+            return null;
+        }
+        long baselineVolume = series.highVolumeOver(row, config.getBaselineBuckets())
+                + series.lowVolumeOver(row, config.getBaselineBuckets());
+        volume.avgVolume = (int) Math.min(Integer.MAX_VALUE,
+                baselineVolume * DAY_BUCKETS / Math.max(DAY_BUCKETS, config.getBaselineBuckets()));
+        volume.baselinePrice = series.averageMidOver(row, config.getBaselineBuckets());
+
+        WikiPrice price = new WikiPrice();
+        price.high = series.avgHigh[row];
+        price.low = series.avgLow[row];
+
+        MarketSignal signal = signalEngine.calculateSignal(series.getItemId(), price, volume, weights, signalConfig);
+        MarketSignal.SignalAction action = signal.getAction();
+        if (action != MarketSignal.SignalAction.BUY && action != MarketSignal.SignalAction.ACCUMULATE) {
+            return null;
+        }
+        if (signal.getOpportunityScore() < signalConfig.getMinScore()
+                || !signalEngine.passesElasticityCheck(signal, signalConfig.getTimeHorizonMinutes())) {
+            return null;
+        }
+        return signal;
+    }
+
+    /**
+     * Units our offer gets from a bucket's volume; at least one if anything traded.
+     */
+    private int take(int bucketVolume) {
+        if (bucketVolume <= 0) {
+            return 0;
+        }
+        return Math.max(1, (int) (bucketVolume * config.getFillParticipation()));
+    }
+}
@@ -0,0 +1,183 @@
+package com.flipto5b.backtest;
+
+import com.flipto5b.engine.SignalEngine.SignalConfig;
+import com.flipto5b.engine.SignalEngine.WeightProfile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The strategy parameters a sweep varies, and how a sampled point maps onto
+ * a {@link BacktestConfig}.
+ *
+ * <p>
+ * Written as {@code name=min:max:steps} pairs separated by commas, e.g.
+ * {@code spread=0:0.4:5,rsi=0.05:0.25:3,threshold=1.2:2.0:5}. Names are the
+ * eight {@link WeightProfile} weights ({@code spread}, {@code orderBook},
+ * {@code volumeSurge}, {@code baselineDeviation}, {@code volumeConsistency},
+ * {@code trendStrength}, {@code rsi}, {@code riskPenalty}) plus
+ * {@code threshold} (opportunity cancel threshold) and {@code minScore}.
+ * Weights left out keep their value from SignalEngine.calculateWeights for
+ * the horizon.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+final class ParameterSpace {
+
+    /** Refuse grids that would take days to run; use random sampling instead */
+    static final int MAX_GRID_POINTS = 100_000;
+
+    static final String DEFAULT_SPEC = "spread=0:0.4:5,orderBook=0:0.4:5,volumeSurge=0:0.4:5,"
+            + "baselineDeviation=0:0.4:5,volumeConsistency=0:0.4:5,trendStrength=0:0.4:5,"
+            + "rsi=0:0.3:4,riskPenalty=0:0.3:4,threshold=1.2:2.0:5,minScore=20:50:4";
+
+    private static final List<String> NAMES = Collections.unmodifiableList(Arrays.asList(
+            "spread", "orderBook", "volumeSurge", "baselineDeviation", "volumeConsistency",
+            "trendStrength", "rsi", "riskPenalty", "threshold", "minScore"));
+
+    /**
+     * One swept parameter: {@code steps} evenly spaced values from min to max.
+     */
+    static final class Dimension {
+        final String name;
+        final double min;
+        final double max;
+        final int steps;
+
+        Dimension(String name, double min, double max, int steps) {
+            this.name = name;
+            this.min = min;
+            this.max = max;
+            this.steps = steps;
+        }
+
+        double value(int step) {
+            return steps == 1 ? min : min + (max - min) * step / (steps - 1);
+        }
+    }
+
+    private final List<Dimension> dimensions;
+
+    private ParameterSpace(List<Dimension> dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    static ParameterSpace parse(String spec) {
+        List<Dimension> dimensions = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] nameAndRange = part.trim().split("=");
+            String[] range = nameAndRange.length == 2 ? nameAndRange[1].split(":") : new String[0];
+            if (range.length != 3 || !NAMES.contains(nameAndRange[0])) {
+                throw new IllegalArgumentException("Bad parameter '" + part + "', expected one of " + NAMES
+                        + " as name=min:max:steps");
+            }
+            int steps = Integer.parseInt(range[2]);
+            if (steps < 1) {
+                throw new IllegalArgumentException("Parameter " + nameAndRange[0] + " needs at least one step");
+            }
+            dimensions.add(new Dimension(nameAndRange[0], Double.parseDouble(range[0]),
+                    Double.parseDouble(range[1]), steps));
+        }
+        return new ParameterSpace(dimensions);
+    }
+
+    long gridSize() {
+        long size = 1;
+        for (Dimension dimension : dimensions) {
+            size = Math.multiplyExact(size, dimension.steps);
+        }
+        return size;
+    }
+
+    List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (Dimension dimension : dimensions) {
+            names.add(dimension.name);
+        }
+        return names;
+    }
+
+    /**
+     * Every combination of every dimension's steps.
+     */
+    List<Map<String, Double>> grid() {
+        long size = gridSize();
+        if (size > MAX_GRID_POINTS) {
+            throw new IllegalArgumentException(String.format(
+                    "Grid has %,d points (max %,d); narrow it or use --samples", size, MAX_GRID_POINTS));
+        }
+        List<Map<String, Double>> points = new ArrayList<>((int) size);
+        int[] step = new int[dimensions.size()];
+        for (long n = 0; n < size; n++) {
+            Map<String, Double> point = new LinkedHashMap<>();
+            for (int d = 0; d < dimensions.size(); d++) {
+                point.put(dimensions.get(d).name, dimensions.get(d).value(step[d]));
+            }
+            points.add(point);
+            // Odometer increment
+            for (int d = 0; d < step.length && ++step[d] == dimensions.get(d).steps; d++) {
+                step[d] = 0;
+            }
+        }
+        return points;
+    }
+
+    /**
+     * {@code count} points drawn uniformly from each dimension's range
+     * (continuous, ignoring steps), reproducible for a seed.
+     */
+    List<Map<String, Double>> random(int count, long seed) {
+        Random random = new Random(seed);
+        List<Map<String, Double>> points = new ArrayList<>(count);
+        for (int n = 0; n < count; n++) {
+            Map<String, Double> point = new LinkedHashMap<>();
+            for (Dimension dimension : dimensions) {
+                point.put(dimension.name, dimension.min + (dimension.max - dimension.min) * random.nextDouble());
+            }
+            points.add(point);
+        }
+        return points;
+    }
+
+    /**
+     * The base config with a sampled point applied.
+     *
+     * @param baseWeights weights for parameters the point doesn't set
+     */
+    static BacktestConfig apply(BacktestConfig base, WeightProfile baseWeights, Map<String, Double> point) {
+        WeightProfile weights = WeightProfile.builder()
+                .spreadWeight(point.getOrDefault("spread", baseWeights.getSpreadWeight()))
+                .orderBookWeight(point.getOrDefault("orderBook", baseWeights.getOrderBookWeight()))
+                .volumeSurgeWeight(point.getOrDefault("volumeSurge", baseWeights.getVolumeSurgeWeight()))
+                .baselineDeviationWeight(point.getOrDefault("baselineDeviation",
+                        baseWeights.getBaselineDeviationWeight()))
+                .volumeConsistencyWeight(point.getOrDefault("volumeConsistency",
+                        baseWeights.getVolumeConsistencyWeight()))
+                .trendStrengthWeight(point.getOrDefault("trendStrength", baseWeights.getTrendStrengthWeight()))
+                .rsiWeight(point.getOrDefault("rsi", baseWeights.getRsiWeight()))
+                .riskPenaltyWeight(point.getOrDefault("riskPenalty", baseWeights.getRiskPenaltyWeight()))
+                .build();
+
+        SignalConfig signalConfig = base.getSignalConfig();
+        if (point.containsKey("minScore")) {
+            signalConfig = SignalConfig.builder()
+                    .timeHorizonMinutes(signalConfig.getTimeHorizonMinutes())
+                    .riskTolerance(signalConfig.getRiskTolerance())
+                    .minScore(point.get("minScore"))
+                    .maxResults(signalConfig.getMaxResults())
+                    .build();
+        }
+
+        return base.toBuilder()
+                .weights(weights)
+                .signalConfig(signalConfig)
+                .opportunityThreshold(point.getOrDefault("threshold", base.getOpportunityThreshold()))
+                .build();
+    }
+}
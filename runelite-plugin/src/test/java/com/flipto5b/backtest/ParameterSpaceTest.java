@@ -0,0 +1,81 @@
+package com.flipto5b.backtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.flipto5b.engine.SignalEngine.SignalConfig;
+import com.flipto5b.engine.SignalEngine.WeightProfile;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Test;
+
+public class ParameterSpaceTest {
+
+    @Test
+    public void gridCoversEveryCombination() {
+        ParameterSpace space = ParameterSpace.parse("spread=0:1:3,threshold=1:2:2");
+
+        List<Map<String, Double>> grid = space.grid();
+
+        assertEquals(6, space.gridSize());
+        assertEquals(Arrays.asList("spread", "threshold"), space.names());
+        Set<String> distinct = new HashSet<>();
+        for (Map<String, Double> point : grid) {
+            distinct.add(point.get("spread") + "/" + point.get("threshold"));
+        }
+        assertEquals(new HashSet<>(Arrays.asList("0.0/1.0", "0.5/1.0", "1.0/1.0", "0.0/2.0", "0.5/2.0", "1.0/2.0")),
+                distinct);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownParameterIsRejected() {
+        ParameterSpace.parse("spred=0:1:3");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void oversizedGridIsRejected() {
+        ParameterSpace.parse(ParameterSpace.DEFAULT_SPEC).grid();
+    }
+
+    @Test
+    public void randomSamplesAreReproducibleAndInRange() {
+        ParameterSpace space = ParameterSpace.parse("rsi=0.1:0.3:3,minScore=20:50:4");
+
+        List<Map<String, Double>> first = space.random(50, 7);
+        assertEquals(first, space.random(50, 7));
+        for (Map<String, Double> point : first) {
+            assertTrue(point.get("rsi") >= 0.1 && point.get("rsi") <= 0.3);
+            assertTrue(point.get("minScore") >= 20 && point.get("minScore") <= 50);
+        }
+    }
+
+    @Test
+    public void applyOverridesOnlyTheSampledParameters() {
+        WeightProfile baseWeights = WeightProfile.builder()
+                .spreadWeight(0.1).orderBookWeight(0.2).volumeSurgeWeight(0.3).baselineDeviationWeight(0.4)
+                .volumeConsistencyWeight(0.5).trendStrengthWeight(0.6).rsiWeight(0.7).riskPenaltyWeight(0.8)
+                .build();
+        BacktestConfig base = BacktestConfig.builder()
+                .signalConfig(SignalConfig.builder()
+                        .timeHorizonMinutes(60)
+                        .riskTolerance(SignalConfig.RiskTolerance.MEDIUM)
+                        .build())
+                .opportunityThreshold(1.5)
+                .build();
+
+        Map<String, Double> point = new HashMap<>();
+        point.put("spread", 0.9);
+        point.put("minScore", 42.0);
+        BacktestConfig applied = ParameterSpace.apply(base, baseWeights, point);
+
+        assertEquals(0.9, applied.getWeights().getSpreadWeight(), 1e-9);
+        assertEquals(0.2, applied.getWeights().getOrderBookWeight(), 1e-9);
+        assertEquals(42.0, applied.getSignalConfig().getMinScore(), 1e-9);
+        assertEquals(60, applied.getSignalConfig().getTimeHorizonMinutes());
+        assertEquals(1.5, applied.getOpportunityThreshold(), 1e-9);
+    }
+}
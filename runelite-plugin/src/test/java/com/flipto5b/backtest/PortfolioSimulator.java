@@ -0,0 +1,139 @@
+package com.flipto5b.backtest;
+
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Applies GE slots and cash to the per-item candidate flips.
+ *
+ * <p>
+ * Candidates are taken in entry order (best rank first within a bucket)
+ * whenever a slot is free and the buy is affordable; a flip holds its slot
+ * and capital until its last unit sells, when the proceeds return to cash.
+ * When all slots are busy, a candidate whose expected gp/min beats a
+ * not-yet-filled buy by the opportunity threshold replaces it, as
+ * OpportunityManager would advise live; the cancelled buy returns its
+ * capital. Other candidates that don't fit are skipped. Per-item simulation assumed earlier
+ * candidates of the same item were taken, so a skip slightly changes that
+ * item's later buy-limit usage - close enough for comparing strategies.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+final class PortfolioSimulator {
+
+    private PortfolioSimulator() {
+    }
+
+    /**
+     * @param candidates  candidate flips sorted by entry bucket, then rank descending
+     * @param bucketCount simulated buckets, for gp/hour and slot utilisation
+     */
+    static BacktestResult run(List<SimulatedTrade> candidates, int bucketCount, BacktestConfig config) {
+        PriorityQueue<SimulatedTrade> open = new PriorityQueue<>(
+                (a, b) -> Integer.compare(a.getExitBucket(), b.getExitBucket()));
+        long cash = config.getStartingCash();
+        long equityPeak = cash;
+        long maxDrawdown = 0;
+        long profit = 0;
+        long busySlotBuckets = 0;
+        int taken = 0;
+        int winners = 0;
+        int skipped = 0;
+        int cancelled = 0;
+
+        for (SimulatedTrade trade : candidates) {
+            // Settle flips that finished before this entry
+            while (!open.isEmpty() && open.peek().getExitBucket() <= trade.getEntryBucket()) {
+                SimulatedTrade done = open.poll();
+                cash += done.getCapital() + done.getProfit();
+                profit += done.getProfit();
+                long equity = cash + openCapital(open);
+                equityPeak = Math.max(equityPeak, equity);
+                maxDrawdown = Math.max(maxDrawdown, equityPeak - equity);
+            }
+
+            if (open.size() >= config.getGeSlots()) {
+                SimulatedTrade worst = replaceableBuy(open, trade, config.getOpportunityThreshold());
+                if (worst == null || trade.getCapital() > cash + worst.getCapital()) {
+                    skipped++;
+                    continue;
+                }
+                // Cancel the unfilled buy: capital back, slot-time and stats undone
+                open.remove(worst);
+                cash += worst.getCapital();
+                taken--;
+                if (worst.getProfit() > 0) {
+                    winners--;
+                }
+                busySlotBuckets -= Math.max(1, worst.getExitBucket() - worst.getEntryBucket());
+                busySlotBuckets += Math.max(1, trade.getEntryBucket() - worst.getEntryBucket());
+                cancelled++;
+            } else if (trade.getCapital() > cash) {
+                skipped++;
+                continue;
+            }
+
+            cash -= trade.getCapital();
+            open.add(trade);
+            taken++;
+            if (trade.getProfit() > 0) {
+                winners++;
+            }
+            busySlotBuckets += Math.max(1, trade.getExitBucket() - trade.getEntryBucket());
+        }
+
+        // Settle whatever is still open at the end
+        while (!open.isEmpty()) {
+            SimulatedTrade done = open.poll();
+            cash += done.getCapital() + done.getProfit();
+            profit += done.getProfit();
+            long equity = cash + openCapital(open);
+            equityPeak = Math.max(equityPeak, equity);
+            maxDrawdown = Math.max(maxDrawdown, equityPeak - equity);
+        }
+
+        bucketCount = Math.max(1, bucketCount);
+        double hours = bucketCount * (double) PriceHistory.BUCKET_SECONDS / 3600;
+        return BacktestResult.builder()
+                .totalProfit(profit)
+                .gpPerHour(hours > 0 ? profit / hours : 0)
+                .maxDrawdown(maxDrawdown)
+                .slotUtilisation(Math.min(1.0, (double) busySlotBuckets / ((long) bucketCount * config.getGeSlots())))
+                .trades(taken)
+                .winningTrades(winners)
+                .skippedTrades(skipped)
+                .cancelledTrades(cancelled)
+                .hours(hours)
+                .build();
+    }
+
+    /**
+     * The open flip with the lowest expected rate that still has nothing
+     * filled when {@code candidate} enters, if the candidate beats it by
+     * {@code threshold}; otherwise null.
+     */
+    private static SimulatedTrade replaceableBuy(PriorityQueue<SimulatedTrade> open, SimulatedTrade candidate,
+            double threshold) {
+        SimulatedTrade worst = null;
+        for (SimulatedTrade held : open) {
+            if (held.getFirstFillBucket() > candidate.getEntryBucket()
+                    && (worst == null || held.getExpectedRate() < worst.getExpectedRate())) {
+                worst = held;
+            }
+        }
+        if (worst == null || worst.getExpectedRate() <= 0
+                || candidate.getExpectedRate() < worst.getExpectedRate() * threshold) {
+            return null;
+        }
+        return worst;
+    }
+
+    private static long openCapital(PriorityQueue<SimulatedTrade> open) {
+        long capital = 0;
+        for (SimulatedTrade trade : open) {
+            capital += trade.getCapital();
+        }
+        return capital;
+    }
+}
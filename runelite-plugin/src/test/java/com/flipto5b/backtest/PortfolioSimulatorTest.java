@@ -0,0 +1,81 @@
+package com.flipto5b.backtest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+public class PortfolioSimulatorTest {
+
+    private static final BacktestConfig ONE_SLOT = BacktestConfig.builder()
+            .geSlots(1)
+            .startingCash(1_000)
+            .opportunityThreshold(2.0)
+            .build();
+
+    @Test
+    public void filledFlipHoldsItsSlot() {
+        SimulatedTrade first = trade(0, 0, 10, 50, 1.0);
+        SimulatedTrade second = trade(1, 1, 5, 80, 5.0);
+
+        BacktestResult result = PortfolioSimulator.run(Arrays.asList(first, second), 12, ONE_SLOT);
+
+        assertEquals(1, result.getTrades());
+        assertEquals(1, result.getSkippedTrades());
+        assertEquals(50, result.getTotalProfit());
+    }
+
+    @Test
+    public void capitalAndProfitReturnWhenAFlipExits() {
+        SimulatedTrade first = trade(0, 0, 10, 50, 1.0);
+        SimulatedTrade second = trade(10, 10, 20, 70, 1.0);
+
+        BacktestResult result = PortfolioSimulator.run(Arrays.asList(first, second), 24, ONE_SLOT);
+
+        assertEquals(2, result.getTrades());
+        assertEquals(120, result.getTotalProfit());
+        assertEquals(0, result.getSkippedTrades());
+    }
+
+    @Test
+    public void unfilledBuyIsReplacedByAMuchBetterEntry() {
+        SimulatedTrade slow = trade(0, 5, 10, 50, 1.0);
+        SimulatedTrade fast = trade(1, 1, 4, 80, 3.0);
+
+        BacktestResult result = PortfolioSimulator.run(Arrays.asList(slow, fast), 12, ONE_SLOT);
+
+        assertEquals(1, result.getTrades());
+        assertEquals(1, result.getCancelledTrades());
+        assertEquals(80, result.getTotalProfit());
+    }
+
+    @Test
+    public void entryBelowTheThresholdIsSkipped() {
+        SimulatedTrade slow = trade(0, 5, 10, 50, 1.0);
+        SimulatedTrade slightlyFaster = trade(1, 1, 4, 80, 1.5);
+
+        BacktestResult result = PortfolioSimulator.run(Arrays.asList(slow, slightlyFaster), 12, ONE_SLOT);
+
+        assertEquals(0, result.getCancelledTrades());
+        assertEquals(1, result.getSkippedTrades());
+        assertEquals(50, result.getTotalProfit());
+    }
+
+    @Test
+    public void lossesShowUpAsDrawdown() {
+        SimulatedTrade loser = trade(0, 0, 5, -200, 1.0);
+
+        BacktestResult result = PortfolioSimulator.run(Arrays.asList(loser), 12, ONE_SLOT);
+
+        assertEquals(200, result.getMaxDrawdown());
+        assertEquals(0, result.getWinningTrades());
+        assertEquals(1, result.getHours(), 1e-9);
+    }
+
+    /**
+     * A flip of 10 units at 100 gp, using all of {@link #ONE_SLOT}'s cash.
+     */
+    private static SimulatedTrade trade(int entry, int firstFill, int exit, long profit, double expectedRate) {
+        return new SimulatedTrade(4151, entry, firstFill, exit, 10, 100, profit, 1.0, expectedRate);
+    }
+}
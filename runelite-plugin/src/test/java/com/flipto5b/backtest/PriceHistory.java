@@ -0,0 +1,374 @@
+package com.flipto5b.backtest;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar in-memory history of wiki 5-minute buckets.
+ *
+ * <h2>Layout:</h2>
+ * <ul>
+ * <li>One {@link ItemSeries} per item, holding parallel int columns (bucket,
+ * avgHigh, avgLow, highVolume, lowVolume) for the buckets the item traded in
+ * only - quiet items cost next to nothing</li>
+ * <li>Prefix sums over volume and mid price make rolling 24h volume and
+ * long-run baselines O(log n) lookups</li>
+ * <li>Immutable once built, so any number of simulations can share it</li>
+ * </ul>
+ *
+ * <p>
+ * Built from a directory of raw /5m responses, or loaded from the binary cache
+ * written by {@link #writeTo(Path)}, which skips JSON decoding entirely.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+@Slf4j
+public final class PriceHistory {
+
+    // =========================================================================
+    // CONSTANTS
+    // =========================================================================
+
+    public static final int BUCKET_SECONDS = 300;
+
+    private static final int BINARY_MAGIC = 0x46354248; // "F5BH"
+    private static final int BINARY_VERSION = 1;
+
+    // =========================================================================
+    // ITEM SERIES
+    // =========================================================================
+
+    /**
+     * Trade buckets for one item, sorted by bucket index. A price of 0 means
+     * nothing traded on that side in the bucket.
+     */
+    public static final class ItemSeries {
+        @Getter
+        private final int itemId;
+        final int[] bucket;
+        final int[] avgHigh;
+        final int[] avgLow;
+        final int[] highVolume;
+        final int[] lowVolume;
+
+        // prefix[i] = sum over rows [0, i)
+        private final long[] highVolumePrefix;
+        private final long[] lowVolumePrefix;
+        private final double[] midPrefix;
+        private final int[] midCountPrefix;
+
+        ItemSeries(int itemId, int[] bucket, int[] avgHigh, int[] avgLow, int[] highVolume, int[] lowVolume) {
+            this.itemId = itemId;
+            this.bucket = bucket;
+            this.avgHigh = avgHigh;
+            this.avgLow = avgLow;
+            this.highVolume = highVolume;
+            this.lowVolume = lowVolume;
+
+            int n = bucket.length;
+            highVolumePrefix = new long[n + 1];
+            lowVolumePrefix = new long[n + 1];
+            midPrefix = new double[n + 1];
+            midCountPrefix = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                highVolumePrefix[i + 1] = highVolumePrefix[i] + highVolume[i];
+                lowVolumePrefix[i + 1] = lowVolumePrefix[i] + lowVolume[i];
+                boolean hasMid = avgHigh[i] > 0 && avgLow[i] > 0;
+                midPrefix[i + 1] = midPrefix[i] + (hasMid ? (avgHigh[i] + (double) avgLow[i]) / 2 : 0);
+                midCountPrefix[i + 1] = midCountPrefix[i] + (hasMid ? 1 : 0);
+            }
+        }
+
+        public int size() {
+            return bucket.length;
+        }
+
+        /**
+         * Index of the first row at or after the given bucket.
+         */
+        int firstRowAtOrAfter(int fromBucket) {
+            int index = Arrays.binarySearch(bucket, fromBucket);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        /** High-side volume in buckets (row of bucket - window, row] */
+        long highVolumeOver(int row, int windowBuckets) {
+            int from = firstRowAtOrAfter(bucket[row] - windowBuckets + 1);
+            return highVolumePrefix[row + 1] - highVolumePrefix[from];
+        }
+
+        /** Low-side volume in buckets (row of bucket - window, row] */
+        long lowVolumeOver(int row, int windowBuckets) {
+            int from = firstRowAtOrAfter(bucket[row] - windowBuckets + 1);
+            return lowVolumePrefix[row + 1] - lowVolumePrefix[from];
+        }
+
+        /** Average mid price over the window, or 0 if no two-sided trades */
+        double averageMidOver(int row, int windowBuckets) {
+            int from = firstRowAtOrAfter(bucket[row] - windowBuckets + 1);
+            int count = midCountPrefix[row + 1] - midCountPrefix[from];
+            return count > 0 ? (midPrefix[row + 1] - midPrefix[from]) / count : 0;
+        }
+
+        /** Lowest avgLow over the window (support), or 0 */
+        int minLowOver(int row, int windowBuckets) {
+            int from = firstRowAtOrAfter(bucket[row] - windowBuckets + 1);
+            int min = 0;
+            for (int i = from; i <= row; i++) {
+                if (avgLow[i] > 0 && (min == 0 || avgLow[i] < min)) {
+                    min = avgLow[i];
+                }
+            }
+            return min;
+        }
+
+        /** Highest avgHigh over the window (resistance), or 0 */
+        int maxHighOver(int row, int windowBuckets) {
+            int from = firstRowAtOrAfter(bucket[row] - windowBuckets + 1);
+            int max = 0;
+            for (int i = from; i <= row; i++) {
+                max = Math.max(max, avgHigh[i]);
+            }
+            return max;
+        }
+    }
+
+    // =========================================================================
+    // STATE
+    // =========================================================================
+
+    /** Epoch seconds of bucket 0 */
+    @Getter
+    private final long startEpochSec;
+
+    /** Number of 5m buckets covered */
+    @Getter
+    private final int bucketCount;
+
+    private final List<ItemSeries> items;
+
+    private PriceHistory(long startEpochSec, int bucketCount, List<ItemSeries> items) {
+        this.startEpochSec = startEpochSec;
+        this.bucketCount = bucketCount;
+        this.items = Collections.unmodifiableList(items);
+    }
+
+    public List<ItemSeries> getItems() {
+        return items;
+    }
+
+    public double getHours() {
+        return bucketCount * (double) BUCKET_SECONDS / 3600;
+    }
+
+    // =========================================================================
+    // BUILDING FROM /5m SNAPSHOTS
+    // =========================================================================
+
+    /**
+     * Accumulates /5m snapshots in any order.
+     */
+    public static final class Builder {
+        private static final class Rows {
+            private int size;
+            private int[][] columns = new int[5][16];
+
+            private void add(int bucket, int avgHigh, int avgLow, int highVolume, int lowVolume) {
+                if (size == columns[0].length) {
+                    for (int c = 0; c < columns.length; c++) {
+                        columns[c] = Arrays.copyOf(columns[c], size * 2);
+                    }
+                }
+                columns[0][size] = bucket;
+                columns[1][size] = avgHigh;
+                columns[2][size] = avgLow;
+                columns[3][size] = highVolume;
+                columns[4][size] = lowVolume;
+                size++;
+            }
+        }
+
+        private final Map<Integer, Rows> rowsByItem = new HashMap<>();
+        private final Map<Long, Boolean> seenTimestamps = new HashMap<>();
+        private long minEpochSec = Long.MAX_VALUE;
+        private long maxEpochSec = Long.MIN_VALUE;
+
+        /**
+         * Add one /5m response body ({"data":{...},"timestamp":...}).
+         */
+        public Builder addSnapshot(JsonObject snapshot) {
+            long timestamp = snapshot.get("timestamp").getAsLong();
+            if (seenTimestamps.put(timestamp, Boolean.TRUE) != null) {
+                return this;
+            }
+            minEpochSec = Math.min(minEpochSec, timestamp);
+            maxEpochSec = Math.max(maxEpochSec, timestamp);
+
+            for (Map.Entry<String, JsonElement> entry : snapshot.getAsJsonObject("data").entrySet()) {
+                JsonObject item = entry.getValue().getAsJsonObject();
+                int highVolume = intOrZero(item, "highPriceVolume");
+                int lowVolume = intOrZero(item, "lowPriceVolume");
+                if (highVolume == 0 && lowVolume == 0) {
+                    continue;
+                }
+                rowsByItem.computeIfAbsent(Integer.parseInt(entry.getKey()), id -> new Rows())
+                        // Bucket index is relative; rebased in build()
+                        .add((int) (timestamp / BUCKET_SECONDS),
+                                intOrZero(item, "avgHighPrice"), intOrZero(item, "avgLowPrice"),
+                                highVolume, lowVolume);
+            }
+            return this;
+        }
+
+        private static int intOrZero(JsonObject item, String key) {
+            JsonElement value = item.get(key);
+            return value == null || value.isJsonNull() ? 0 : value.getAsInt();
+        }
+
+        public PriceHistory build() {
+            if (rowsByItem.isEmpty()) {
+                return new PriceHistory(0, 0, Collections.emptyList());
+            }
+
+            int firstBucket = (int) (minEpochSec / BUCKET_SECONDS);
+            int bucketCount = (int) (maxEpochSec / BUCKET_SECONDS) - firstBucket + 1;
+
+            List<ItemSeries> items = new ArrayList<>(rowsByItem.size());
+            for (Map.Entry<Integer, Rows> entry : rowsByItem.entrySet()) {
+                Rows rows = entry.getValue();
+                Integer[] order = new Integer[rows.size];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                int[] buckets = rows.columns[0];
+                Arrays.sort(order, (a, b) -> Integer.compare(buckets[a], buckets[b]));
+
+                int[][] sorted = new int[5][rows.size];
+                for (int i = 0; i < order.length; i++) {
+                    for (int c = 0; c < 5; c++) {
+                        sorted[c][i] = rows.columns[c][order[i]];
+                    }
+                    sorted[0][i] -= firstBucket;
+                }
+                items.add(new ItemSeries(entry.getKey(), sorted[0], sorted[1], sorted[2], sorted[3], sorted[4]));
+            }
+            items.sort((a, b) -> Integer.compare(a.itemId, b.itemId));
+            return new PriceHistory((long) firstBucket * BUCKET_SECONDS, bucketCount, items);
+        }
+    }
+
+    /**
+     * Build from every *.json /5m response in a directory.
+     */
+    public static PriceHistory fromSnapshotDirectory(Path directory) throws IOException {
+        Builder builder = new Builder();
+        int files = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : stream) {
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    builder.addSnapshot(JsonParser.parseReader(reader).getAsJsonObject());
+                    files++;
+                } catch (RuntimeException e) {
+                    log.warn("Skipping unreadable snapshot {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        PriceHistory history = builder.build();
+        log.info("Loaded {} snapshots: {} items over {} buckets", files, history.items.size(), history.bucketCount);
+        return history;
+    }
+
+    // =========================================================================
+    // BINARY CACHE
+    // =========================================================================
+
+    public void writeTo(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(BINARY_MAGIC);
+            out.writeInt(BINARY_VERSION);
+            out.writeLong(startEpochSec);
+            out.writeInt(bucketCount);
+            out.writeInt(items.size());
+            for (ItemSeries series : items) {
+                out.writeInt(series.itemId);
+                out.writeInt(series.size());
+                for (int[] column : new int[][]{series.bucket, series.avgHigh, series.avgLow,
+                        series.highVolume, series.lowVolume}) {
+                    for (int value : column) {
+                        out.writeInt(value);
+                    }
+                }
+            }
+        }
+    }
+
+    public static PriceHistory readFrom(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != BINARY_MAGIC || in.readInt() != BINARY_VERSION) {
+                throw new IOException("Not a price history file: " + file);
+            }
+            long startEpochSec = in.readLong();
+            int bucketCount = in.readInt();
+            int itemCount = in.readInt();
+            List<ItemSeries> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                int itemId = in.readInt();
+                int size = in.readInt();
+                int[][] columns = new int[5][size];
+                for (int[] column : columns) {
+                    for (int j = 0; j < size; j++) {
+                        column[j] = in.readInt();
+                    }
+                }
+                items.add(new ItemSeries(itemId, columns[0], columns[1], columns[2], columns[3], columns[4]));
+            }
+            return new PriceHistory(startEpochSec, bucketCount, items);
+        }
+    }
+
+    /**
+     * Load a directory of snapshots through a binary cache file next to it,
+     * rebuilding the cache when a snapshot is newer than it.
+     */
+    public static PriceHistory load(Path snapshotDirectory) throws IOException {
+        Path cache = snapshotDirectory.resolve("history.bin");
+        if (Files.exists(cache)) {
+            long cacheTime = Files.getLastModifiedTime(cache).toMillis();
+            boolean stale = false;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(snapshotDirectory, "*.json")) {
+                for (Path file : stream) {
+                    if (Files.getLastModifiedTime(file).toMillis() > cacheTime) {
+                        stale = true;
+                        break;
+                    }
+                }
+            }
+            if (!stale) {
+                return readFrom(cache);
+            }
+        }
+        PriceHistory history = fromSnapshotDirectory(snapshotDirectory);
+        history.writeTo(cache);
+        return history;
+    }
+}
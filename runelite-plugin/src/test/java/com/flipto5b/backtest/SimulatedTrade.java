@@ -0,0 +1,42 @@
+package com.flipto5b.backtest;
+
+import lombok.Getter;
+
+/**
+ * One simulated flip of a single item, from placing the buy offer to the
+ * last unit sold.
+ */
+@Getter
+public final class SimulatedTrade {
+    private final int itemId;
+    /** Bucket the buy offer was placed */
+    private final int entryBucket;
+    /** Bucket the first unit was bought; before it the offer can be cancelled for free */
+    private final int firstFillBucket;
+    /** Bucket the last unit sold (the GE slot is busy until then) */
+    private final int exitBucket;
+    private final int quantity;
+    private final int buyPrice;
+    /** GP tied up: buy price x quantity filled */
+    private final long capital;
+    /** Net of GE tax, including any forced dump at timeout */
+    private final long profit;
+    /** Signal score * confidence at entry, used to rank competing entries */
+    private final double rank;
+    /** Expected gp/min at entry (PricingEngine profit over recovery time), known without hindsight */
+    private final double expectedRate;
+
+    SimulatedTrade(int itemId, int entryBucket, int firstFillBucket, int exitBucket, int quantity, int buyPrice,
+            long profit, double rank, double expectedRate) {
+        this.itemId = itemId;
+        this.entryBucket = entryBucket;
+        this.firstFillBucket = firstFillBucket;
+        this.exitBucket = exitBucket;
+        this.quantity = quantity;
+        this.buyPrice = buyPrice;
+        this.capital = (long) buyPrice * quantity;
+        this.profit = profit;
+        this.rank = rank;
+        this.expectedRate = expectedRate;
+    }
+}
@@ -0,0 +1,199 @@
+package com.flipto5b.backtest;
+
+import com.flipto5b.engine.SignalEngine;
+import com.flipto5b.engine.SignalEngine.WeightProfile;
+import okhttp3.OkHttpClient;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Parameter sweep over signal weights, opportunity threshold and min score,
+ * on top of the {@link Backtester}.
+ *
+ * <pre>
+ * ./gradlew sweep -PsweepArgs="history/ --samples=300 --horizon=60 --out=sweep.csv"
+ * ./gradlew sweep -PsweepArgs="history/ --space=spread=0:0.4:5,threshold=1.2:2:5"
+ * </pre>
+ *
+ * <h2>How it runs:</h2>
+ * <ul>
+ * <li>The history is decoded once (reusing the {@code history.bin} cache)
+ * and shared read-only by every run</li>
+ * <li>Configs run concurrently on {@code --threads} workers; each backtest
+ * is single-threaded so there is no nested parallelism</li>
+ * <li>Successive halving: every config is first scored on the first quarter
+ * of the history, then half, then all of it. After each partial rung,
+ * configs that lost money are dropped and only the better half continues</li>
+ * </ul>
+ *
+ * <p>
+ * Options: {@code --space=<spec>} (see {@link ParameterSpace}; grid search
+ * unless {@code --samples} is given), {@code --samples=N} and
+ * {@code --seed=S} for random search, {@code --threads}, {@code --out}
+ * (CSV, default {@code sweep.csv}), plus the {@link BacktestRunner} strategy
+ * options ({@code --horizon}, {@code --risk}, {@code --min-score},
+ * {@code --cash}, {@code --limits}).
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+public final class SweepRunner {
+
+    /** History fractions each surviving config is scored on */
+    private static final double[] RUNGS = {0.25, 0.5, 1.0};
+
+    /** Random samples when neither --space nor --samples is given */
+    private static final int DEFAULT_SAMPLES = 200;
+
+    /**
+     * One sampled config and the furthest rung it reached.
+     */
+    private static final class Candidate {
+        final Map<String, Double> point;
+        final BacktestConfig config;
+        BacktestResult result;
+        int rung = -1;
+
+        Candidate(Map<String, Double> point, BacktestConfig config) {
+            this.point = point;
+            this.config = config;
+        }
+    }
+
+    private SweepRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: SweepRunner <snapshot-dir> [--space=name=min:max:steps,...]"
+                    + " [--samples=N] [--seed=S] [--threads=N] [--out=sweep.csv] [backtest options]");
+            System.exit(2);
+        }
+
+        Path directory = Paths.get(args[0]);
+        Map<String, String> options = BacktestRunner.parseOptions(Arrays.copyOfRange(args, 1, args.length));
+
+        long loadStart = System.nanoTime();
+        PriceHistory history = PriceHistory.load(directory);
+        System.out.printf("History: %d items, %.1f days, loaded in %dms%n", history.getItems().size(),
+                history.getHours() / 24, (System.nanoTime() - loadStart) / 1_000_000);
+
+        BacktestConfig base = BacktestRunner.baseConfig(options);
+        WeightProfile baseWeights = new SignalEngine(new OkHttpClient(), null, null)
+                .calculateWeights(base.getSignalConfig().getTimeHorizonMinutes());
+
+        ParameterSpace space = ParameterSpace.parse(options.getOrDefault("space", ParameterSpace.DEFAULT_SPEC));
+        List<Map<String, Double>> points;
+        if (options.containsKey("samples") || !options.containsKey("space")) {
+            int samples = Integer.parseInt(options.getOrDefault("samples", String.valueOf(DEFAULT_SAMPLES)));
+            points = space.random(samples, Long.parseLong(options.getOrDefault("seed", "1")));
+        } else {
+            points = space.grid();
+        }
+
+        List<Candidate> candidates = new ArrayList<>(points.size());
+        for (Map<String, Double> point : points) {
+            candidates.add(new Candidate(point, ParameterSpace.apply(base, baseWeights, point)));
+        }
+
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long sweepStart = System.nanoTime();
+        try {
+            sweep(candidates, new Backtester(history), executor);
+        } finally {
+            executor.shutdown();
+        }
+        System.out.printf("Sweep of %d configs finished in %ds on %d threads%n", candidates.size(),
+                (System.nanoTime() - sweepStart) / 1_000_000_000, threads);
+
+        candidates.removeIf(candidate -> candidate.result == null);
+        candidates.sort(Comparator.<Candidate>comparingInt(candidate -> candidate.rung).reversed()
+                .thenComparing(Comparator.<Candidate>comparingDouble(
+                        candidate -> candidate.result.getGpPerHour()).reversed()));
+
+        Path out = Paths.get(options.getOrDefault("out", "sweep.csv"));
+        writeCsv(out, candidates, space.names());
+        System.out.printf("Wrote %d ranked configs to %s%n", candidates.size(), out);
+        for (int i = 0; i < Math.min(5, candidates.size()); i++) {
+            Candidate candidate = candidates.get(i);
+            System.out.printf("#%d %s%n   %s%n", i + 1, candidate.point, candidate.result);
+        }
+    }
+
+    /**
+     * Score the candidates rung by rung, pruning between rungs.
+     */
+    private static void sweep(List<Candidate> candidates, Backtester backtester, ExecutorService executor)
+            throws InterruptedException {
+        List<Candidate> alive = new ArrayList<>(candidates);
+        for (int rung = 0; rung < RUNGS.length && !alive.isEmpty(); rung++) {
+            double fraction = RUNGS[rung];
+            long start = System.nanoTime();
+
+            List<Future<BacktestResult>> futures = new ArrayList<>(alive.size());
+            for (Candidate candidate : alive) {
+                futures.add(executor.submit(() -> backtester.run(candidate.config, fraction, false)));
+            }
+            for (int i = 0; i < alive.size(); i++) {
+                try {
+                    alive.get(i).result = futures.get(i).get();
+                    alive.get(i).rung = rung;
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Backtest of " + alive.get(i).point + " failed", e.getCause());
+                }
+            }
+
+            System.out.printf("Rung %d (%.0f%% of history): %d configs in %dms%n", rung + 1, fraction * 100,
+                    alive.size(), (System.nanoTime() - start) / 1_000_000);
+
+            if (rung < RUNGS.length - 1) {
+                alive.removeIf(candidate -> candidate.result.getTotalProfit() < 0);
+                alive.sort(Comparator.<Candidate>comparingDouble(
+                        candidate -> candidate.result.getGpPerHour()).reversed());
+                int keep = (alive.size() + 1) / 2;
+                alive = new ArrayList<>(alive.subList(0, keep));
+            }
+        }
+    }
+
+    private static void writeCsv(Path out, List<Candidate> ranked, List<String> names) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out))) {
+            writer.print("rank,rung,gp_per_hour,profit,max_drawdown,slot_utilisation,trades,win_rate,"
+                    + "skipped,cancelled");
+            for (String name : names) {
+                writer.print(',');
+                writer.print(name);
+            }
+            writer.println();
+
+            int rank = 1;
+            for (Candidate candidate : ranked) {
+                BacktestResult result = candidate.result;
+                writer.printf(Locale.ROOT, "%d,%d,%.0f,%d,%d,%.3f,%d,%.3f,%d,%d", rank++, candidate.rung + 1,
+                        result.getGpPerHour(), result.getTotalProfit(), result.getMaxDrawdown(),
+                        result.getSlotUtilisation(), result.getTrades(), result.getWinRate(),
+                        result.getSkippedTrades(), result.getCancelledTrades());
+                for (String name : names) {
+                    writer.printf(Locale.ROOT, ",%.4f", candidate.point.get(name));
+                }
+                writer.println();
+            }
+        }
+    }
+}
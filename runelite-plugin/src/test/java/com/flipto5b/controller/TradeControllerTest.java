@@ -0,0 +1,111 @@
+package com.flipto5b.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flipto5b.FlipTo5BConfig;
+import com.flipto5b.FlipTo5BPlugin;
+import com.flipto5b.engine.CompetitivenessEngine.Assessment;
+import com.flipto5b.engine.CompetitivenessEngine.Status;
+import com.flipto5b.ui.FlipTo5BPanel.PanelOffer;
+import com.google.gson.Gson;
+import java.awt.Color;
+import java.util.List;
+import net.runelite.api.Client;
+import net.runelite.api.GrandExchangeOffer;
+import net.runelite.api.GrandExchangeOfferState;
+import net.runelite.client.game.ItemManager;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Panel offers are built in two phases: a snapshot of the open offers on the
+ * client thread, then the panel model off it.
+ */
+public class TradeControllerTest {
+
+    private Client client;
+    private FlipTo5BPlugin plugin;
+    private TradeController controller;
+
+    @Before
+    public void setUp() {
+        client = mock(Client.class);
+        plugin = mock(FlipTo5BPlugin.class);
+        when(plugin.getItemName(4151)).thenReturn("Abyssal whip");
+        when(plugin.getItemName(11802)).thenReturn("Armadyl godsword");
+        when(plugin.getOfferAssessment(anyInt())).thenReturn(Assessment.UNKNOWN);
+        controller = new TradeController(client, mock(FlipTo5BConfig.class), mock(ItemManager.class), null,
+                new Gson(), plugin);
+    }
+
+    @Test
+    public void onlyOpenOffersAreSnapshotted() {
+        when(client.getGrandExchangeOffers()).thenReturn(new GrandExchangeOffer[]{
+                offer(GrandExchangeOfferState.BUYING, 4151, 1_500_000, 10, 4),
+                null,
+                offer(GrandExchangeOfferState.BOUGHT, 2, 200, 100, 100),
+                offer(GrandExchangeOfferState.SELLING, 11802, 10_000_000, 1, 0),
+                offer(GrandExchangeOfferState.EMPTY, 0, 0, 0, 0)
+        });
+
+        List<PanelOffer> offers = controller.buildPanelOffers(controller.snapshotActiveOffers());
+
+        assertEquals(2, offers.size());
+        PanelOffer whip = offers.get(0);
+        assertEquals("Abyssal whip", whip.name);
+        assertEquals(4151, whip.itemId);
+        assertEquals(6, whip.qty);
+        assertEquals(1_500_000, whip.price);
+        assertEquals("Buying", whip.status);
+        assertEquals(Color.ORANGE, whip.color);
+        assertEquals("Armadyl godsword", offers.get(1).name);
+        assertEquals("Selling", offers.get(1).status);
+    }
+
+    @Test
+    public void itemNamesAreLookedUpOncePerItem() {
+        when(client.getGrandExchangeOffers()).thenReturn(new GrandExchangeOffer[]{
+                offer(GrandExchangeOfferState.BUYING, 4151, 1_500_000, 10, 0),
+                offer(GrandExchangeOfferState.SELLING, 4151, 1_600_000, 5, 0)
+        });
+
+        controller.snapshotActiveOffers();
+        controller.snapshotActiveOffers();
+
+        verify(plugin, times(1)).getItemName(4151);
+    }
+
+    @Test
+    public void panelStatusFollowsTheCompetitivenessAssessment() {
+        when(client.getGrandExchangeOffers()).thenReturn(new GrandExchangeOffer[]{
+                offer(GrandExchangeOfferState.BUYING, 4151, 1_500_000, 10, 0),
+                offer(GrandExchangeOfferState.SELLING, 11802, 10_000_000, 1, 0)
+        });
+        when(plugin.getOfferAssessment(0)).thenReturn(new Assessment(Status.INSTANT, 0, 0, -1));
+        when(plugin.getOfferAssessment(1)).thenReturn(new Assessment(Status.UNDERCUT, 50_000, 2, 30));
+
+        List<PanelOffer> offers = controller.buildPanelOffers(controller.snapshotActiveOffers());
+
+        assertEquals("Insta Buy", offers.get(0).status);
+        assertEquals(Color.GREEN, offers.get(0).color);
+        assertTrue(offers.get(1).status.startsWith("Undercut -"));
+        assertEquals(Color.YELLOW, offers.get(1).color);
+    }
+
+    private static GrandExchangeOffer offer(GrandExchangeOfferState state, int itemId, int price, int total,
+            int sold) {
+        GrandExchangeOffer offer = mock(GrandExchangeOffer.class);
+        when(offer.getState()).thenReturn(state);
+        when(offer.getItemId()).thenReturn(itemId);
+        when(offer.getPrice()).thenReturn(price);
+        when(offer.getTotalQuantity()).thenReturn(total);
+        when(offer.getQuantitySold()).thenReturn(sold);
+        return offer;
+    }
+}
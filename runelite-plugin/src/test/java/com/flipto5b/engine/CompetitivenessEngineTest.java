@@ -0,0 +1,148 @@
+package com.flipto5b.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.engine.CompetitivenessEngine.Assessment;
+import com.flipto5b.engine.CompetitivenessEngine.Status;
+import com.flipto5b.engine.CompetitivenessEngine.Transition;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class CompetitivenessEngineTest {
+
+    private static final int SLOT = 0;
+    private static final int ITEM = 4151;
+    private static final long NOW = 1_000;
+
+    private final CompetitivenessEngine engine = new CompetitivenessEngine();
+
+    // =========================================================================
+    // SCORING
+    // =========================================================================
+
+    @Test
+    public void buyStandingFollowsTheLatestTrades() {
+        assertEquals(Status.INSTANT, buyAt(110, price(110, 1000, 100, 1000)).getStatus());
+        assertEquals(Status.COMPETITIVE, buyAt(100, price(110, 1000, 100, 1000)).getStatus());
+
+        Assessment undercut = buyAt(95, price(110, 1000, 100, 1000));
+        assertEquals(Status.UNDERCUT, undercut.getStatus());
+        assertEquals(5, undercut.getUndercutBy());
+    }
+
+    @Test
+    public void sellStandingFollowsTheLatestTrades() {
+        assertEquals(Status.INSTANT, sellAt(100, price(110, 1000, 100, 1000)).getStatus());
+        assertEquals(Status.COMPETITIVE, sellAt(110, price(110, 1000, 100, 1000)).getStatus());
+
+        Assessment undercut = sellAt(118, price(110, 1000, 100, 1000));
+        assertEquals(Status.UNDERCUT, undercut.getStatus());
+        assertEquals(8, undercut.getUndercutBy());
+    }
+
+    @Test
+    public void completedOfferIsFilledAndUnpricedOfferUnknown() {
+        engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", true, 100, 10, true, price(110, 1000, 100, 1000), NOW);
+        assertEquals(Status.FILLED, engine.getAssessment(SLOT).getStatus());
+
+        assertNull(engine.onOfferChanged(1, ITEM + 1, "Shark", true, 900, 0, false, null, NOW));
+        assertEquals(Status.UNKNOWN, engine.getAssessment(1).getStatus());
+    }
+
+    @Test
+    public void fillsAtTheOfferPriceCountAsTradesAhead() {
+        engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", true, 100, 0, false, price(110, 1000, 100, 1000), NOW);
+
+        engine.onSnapshot(snapshot(price(110, 1000, 100, 1010)));
+        Assessment queued = engine.getAssessment(SLOT);
+        assertEquals(1, queued.getTradesAhead());
+        assertEquals(10, queued.getSecondsPerTrade());
+
+        // Our own fill means we reached the front of the queue
+        engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", true, 100, 5, false, null, NOW + 20);
+        assertEquals(0, engine.getAssessment(SLOT).getTradesAhead());
+    }
+
+    // =========================================================================
+    // TRANSITIONS
+    // =========================================================================
+
+    @Test
+    public void statusChangeIsAnnouncedOnce() {
+        Transition placed = engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", true, 100, 0, false,
+                price(110, 1000, 100, 1000), NOW);
+        assertEquals(Status.UNKNOWN, placed.getPrevious());
+        assertEquals(Status.COMPETITIVE, placed.getCurrent().getStatus());
+
+        // Someone bid above us
+        Map<Integer, WikiPrice> outbid = snapshot(price(110, 1000, 105, 1010));
+        List<Transition> transitions = engine.onSnapshot(outbid);
+        assertEquals(1, transitions.size());
+        Transition transition = transitions.get(0);
+        assertEquals(SLOT, transition.getSlot());
+        assertEquals("Abyssal whip", transition.getItemName());
+        assertEquals(Status.COMPETITIVE, transition.getPrevious());
+        assertEquals(Status.UNDERCUT, transition.getCurrent().getStatus());
+
+        // Same snapshot again, then a further trade that keeps us undercut
+        assertTrue(engine.onSnapshot(outbid).isEmpty());
+        assertTrue(engine.onSnapshot(snapshot(price(110, 1000, 106, 1020))).isEmpty());
+        assertEquals(6, engine.getAssessment(SLOT).getUndercutBy());
+    }
+
+    @Test
+    public void firstPriceForAnUnpricedOfferIsAnnounced() {
+        engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", false, 110, 0, false, null, NOW);
+
+        List<Transition> transitions = engine.onSnapshot(snapshot(price(110, 1000, 100, 1000)));
+        assertEquals(1, transitions.size());
+        assertEquals(Status.COMPETITIVE, transitions.get(0).getCurrent().getStatus());
+    }
+
+    @Test
+    public void snapshotsIgnoreItemsWithoutOffers() {
+        assertTrue(engine.onSnapshot(snapshot(price(110, 1000, 100, 1000))).isEmpty());
+
+        engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", true, 100, 0, false, price(110, 1000, 100, 1000), NOW);
+        WikiPrice other = price(50, 2000, 40, 2000);
+        assertTrue(engine.onSnapshot(Collections.singletonMap(ITEM + 1, other)).isEmpty());
+    }
+
+    @Test
+    public void removedOfferIsForgotten() {
+        engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", true, 100, 0, false, price(110, 1000, 100, 1000), NOW);
+        engine.removeOffer(SLOT);
+
+        assertEquals(Status.UNKNOWN, engine.getAssessment(SLOT).getStatus());
+    }
+
+    private Assessment buyAt(int offerPrice, WikiPrice latest) {
+        engine.reset();
+        engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", true, offerPrice, 0, false, latest, NOW);
+        return engine.getAssessment(SLOT);
+    }
+
+    private Assessment sellAt(int offerPrice, WikiPrice latest) {
+        engine.reset();
+        engine.onOfferChanged(SLOT, ITEM, "Abyssal whip", false, offerPrice, 0, false, latest, NOW);
+        return engine.getAssessment(SLOT);
+    }
+
+    private static Map<Integer, WikiPrice> snapshot(WikiPrice price) {
+        return Collections.singletonMap(ITEM, price);
+    }
+
+    private static WikiPrice price(int high, int highTime, int low, int lowTime) {
+        WikiPrice price = new WikiPrice();
+        price.high = high;
+        price.highTime = highTime;
+        price.low = low;
+        price.lowTime = lowTime;
+        return price;
+    }
+}
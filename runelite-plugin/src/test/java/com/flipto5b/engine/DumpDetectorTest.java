@@ -0,0 +1,152 @@
+package com.flipto5b.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.flipto5b.DumpEvent;
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+public class DumpDetectorTest {
+
+    private static final int ITEM = 4151;
+    private static final long T0 = 1_700_000_000L;
+
+    /** Seconds since T0 of the latest snapshot; each trade() moves it on by one */
+    private int tick;
+
+    @Test
+    public void nothingIsReportedBeforeTheBaselineWarmsUp() {
+        DumpDetector detector = new DumpDetector();
+        assertTrue(trade(detector, 1000, 1100).isEmpty());
+
+        // Five traded ticks are needed; a crash during the fifth is not trusted yet
+        for (int i = 0; i < 4; i++) {
+            assertTrue(trade(detector, 1000, 1100).isEmpty());
+        }
+        assertTrue(trade(detector, 500, 1100).isEmpty());
+    }
+
+    @Test
+    public void ticksWithoutTradesDoNotCountTowardsWarmUp() {
+        DumpDetector detector = new DumpDetector();
+        trade(detector, 1000, 1100);
+        for (int i = 0; i < 4; i++) {
+            trade(detector, 1000, 1100);
+        }
+
+        // Same trade times as the last tick: nothing to learn, nothing sampled
+        WikiPrice unchanged = price(1000, 1100, tick);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(detector.onSnapshot(Collections.singletonMap(ITEM, unchanged), T0 + tick).isEmpty());
+        }
+        assertTrue(trade(detector, 500, 1100).isEmpty());
+    }
+
+    @Test
+    public void dropPastTheThresholdIsADump() {
+        DumpDetector detector = warmedUp();
+
+        List<DumpEvent> events = trade(detector, 940, 1100);
+
+        assertEquals(1, events.size());
+        DumpEvent dump = events.get(0);
+        assertEquals(DumpDetector.TYPE_DUMP, dump.getPriceChangeType());
+        assertEquals(ITEM, dump.getItemId());
+        assertEquals(1000, dump.getPreviousPrice());
+        assertEquals(940, dump.getCurrentPrice());
+        assertEquals(6.0, dump.getPriceDropPercent(), 1e-9);
+        // 1100 - 940 - 2% tax on 1100
+        assertEquals(138, dump.getMargin());
+        assertTrue(dump.getId() < 0);
+    }
+
+    @Test
+    public void dropUnderTheThresholdIsIgnored() {
+        assertTrue(trade(warmedUp(), 960, 1100).isEmpty());
+    }
+
+    @Test
+    public void riseFromTheBaselineIsAPump() {
+        List<DumpEvent> events = trade(warmedUp(), 1000, 1200);
+
+        assertEquals(1, events.size());
+        assertEquals(DumpDetector.TYPE_PUMP, events.get(0).getPriceChangeType());
+        assertEquals(1100, events.get(0).getPreviousPrice());
+        assertEquals(1200, events.get(0).getCurrentPrice());
+    }
+
+    @Test
+    public void oneMoveIsReportedOnceUntilThePriceRecovers() {
+        DumpDetector detector = warmedUp();
+
+        assertEquals(1, trade(detector, 900, 1100).size());
+        assertTrue(trade(detector, 900, 1100).isEmpty());
+
+        // Back within half the threshold re-arms the item
+        assertTrue(trade(detector, 1000, 1100).isEmpty());
+        assertEquals(1, trade(detector, 900, 1100).size());
+    }
+
+    @Test
+    public void staleTradesDoNotConfirmAMove() {
+        DumpDetector detector = warmedUp();
+        tick++;
+        WikiPrice price = price(900, 1100, tick);
+
+        int maxAge = DumpDetector.DetectorConfig.builder().build().getMaxTradeAgeSeconds();
+        long tooLate = T0 + tick + maxAge + 1;
+        assertTrue(detector.onSnapshot(Collections.singletonMap(ITEM, price), tooLate).isEmpty());
+    }
+
+    @Test
+    public void cheapItemsAreIgnored() {
+        DumpDetector detector = new DumpDetector();
+        for (int i = 0; i < 6; i++) {
+            trade(detector, 90, 100);
+        }
+        assertTrue(trade(detector, 50, 100).isEmpty());
+    }
+
+    @Test
+    public void thresholdComesFromTheConfig() {
+        DumpDetector detector = new DumpDetector(DumpDetector.DetectorConfig.builder()
+                .thresholdPercent(3.0)
+                .build());
+        for (int i = 0; i < 6; i++) {
+            trade(detector, 1000, 1100);
+        }
+
+        assertEquals(1, trade(detector, 960, 1100).size());
+    }
+
+    /**
+     * A detector whose baseline has settled at 1000 low / 1100 high.
+     */
+    private DumpDetector warmedUp() {
+        DumpDetector detector = new DumpDetector();
+        for (int i = 0; i < 6; i++) {
+            trade(detector, 1000, 1100);
+        }
+        return detector;
+    }
+
+    /**
+     * Feed one snapshot in which both sides of the item traded just now.
+     */
+    private List<DumpEvent> trade(DumpDetector detector, int low, int high) {
+        tick++;
+        return detector.onSnapshot(Collections.singletonMap(ITEM, price(low, high, tick)), T0 + tick);
+    }
+
+    private static WikiPrice price(int low, int high, int tick) {
+        WikiPrice price = new WikiPrice();
+        price.low = low;
+        price.high = high;
+        price.lowTime = (int) (T0 + tick);
+        price.highTime = (int) (T0 + tick);
+        return price;
+    }
+}
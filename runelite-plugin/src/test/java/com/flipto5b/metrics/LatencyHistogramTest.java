@@ -0,0 +1,76 @@
+package com.flipto5b.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    /** Largest value the histogram tracks (2^41 - 1 ns, about 18 minutes) */
+    private static final long MAX_VALUE = (1L << 41) - 1;
+
+    @Test
+    public void smallValuesGetTheirOwnBucket() {
+        for (int value = 0; value < 16; value++) {
+            assertEquals(value, LatencyHistogram.bucketOf(value));
+            assertEquals(value, LatencyHistogram.lowerBound(value));
+        }
+    }
+
+    @Test
+    public void bucketsAreContiguousAndAtMostOneSixteenthWide() {
+        int last = LatencyHistogram.bucketOf(MAX_VALUE);
+        for (int bucket = 0; bucket < last; bucket++) {
+            long low = LatencyHistogram.lowerBound(bucket);
+            long next = LatencyHistogram.lowerBound(bucket + 1);
+            assertEquals(bucket, LatencyHistogram.bucketOf(low));
+            assertEquals(bucket, LatencyHistogram.bucketOf(next - 1));
+            assertTrue("bucket " + bucket + " too wide", low < 16 || (next - low) * 16 <= low);
+        }
+    }
+
+    @Test
+    public void outOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(MAX_VALUE, snapshot.getMaxNanos());
+        assertEquals(0, snapshot.getPercentileNanos(50));
+    }
+
+    @Test
+    public void percentilesLandWithinTheBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000_000);
+        }
+        histogram.record(50_000_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertWithin(1_000_000, snapshot.getPercentileNanos(50));
+        assertWithin(1_000_000, snapshot.getPercentileNanos(99));
+        assertWithin(50_000_000, snapshot.getPercentileNanos(100));
+        assertTrue(snapshot.getPercentileNanos(100) <= snapshot.getMaxNanos());
+        assertEquals((99 * 1_000_000.0 + 50_000_000) / 100, snapshot.getMeanNanos(), 0.001);
+    }
+
+    @Test
+    public void resetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        histogram.record(1234);
+        histogram.reset();
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMaxNanos());
+        assertEquals(0, snapshot.getPercentileNanos(99));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue("expected ~" + expected + " but was " + actual, Math.abs(actual - expected) * 16 <= expected);
+    }
+}
@@ -0,0 +1,96 @@
+package com.flipto5b.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.Test;
+
+public class GELimitTrackerTest {
+
+    private static final long T0 = 1_700_000_000_000L;
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    @Test
+    public void purchasesLeaveTheWindowOneByOne() {
+        GELimitTracker tracker = new GELimitTracker();
+        tracker.recordPurchase(100, T0);
+        tracker.recordPurchase(50, T0 + HOUR);
+
+        assertEquals(150, tracker.getItemsBought(T0 + HOUR));
+        assertEquals(50, tracker.getItemsBought(T0 + 4 * HOUR));
+        assertEquals(0, tracker.getItemsBought(T0 + 5 * HOUR));
+        assertTrue(tracker.isEmpty(T0 + 5 * HOUR));
+    }
+
+    @Test
+    public void remainingLimitNeverGoesNegative() {
+        GELimitTracker tracker = new GELimitTracker();
+        tracker.recordPurchase(80, T0);
+
+        assertEquals(20, tracker.getRemainingLimit(100, T0));
+        tracker.recordPurchase(40, T0);
+        assertEquals(0, tracker.getRemainingLimit(100, T0));
+    }
+
+    @Test
+    public void resetTimesFollowOldestAndNewestPurchase() {
+        GELimitTracker tracker = new GELimitTracker();
+        assertEquals(0, tracker.getNextResetTime(T0));
+
+        tracker.recordPurchase(1, T0);
+        tracker.recordPurchase(1, T0 + HOUR);
+        assertEquals(T0 + GELimitTracker.WINDOW_MILLIS, tracker.getNextResetTime(T0 + HOUR));
+        assertEquals(T0 + HOUR + GELimitTracker.WINDOW_MILLIS, tracker.getFullResetTime(T0 + HOUR));
+    }
+
+    @Test
+    public void ringGrowsAndWrapsWithoutLosingEvents() {
+        GELimitTracker tracker = new GELimitTracker();
+        // Expire the head while adding so the ring wraps before it grows
+        for (int i = 0; i < 40; i++) {
+            tracker.recordPurchase(1, T0 + i * HOUR / 4);
+        }
+        // Purchases from the last 4 hours: 16 of them, at quarter-hour steps
+        assertEquals(16, tracker.getItemsBought(T0 + 39 * HOUR / 4));
+    }
+
+    @Test
+    public void outOfOrderPurchaseIsClampedToTheNewest() {
+        GELimitTracker tracker = new GELimitTracker();
+        tracker.recordPurchase(10, T0 + HOUR);
+        tracker.recordPurchase(5, T0);
+
+        assertEquals(15, tracker.getItemsBought(T0 + 4 * HOUR + HOUR / 2));
+        assertEquals(0, tracker.getItemsBought(T0 + 5 * HOUR));
+    }
+
+    @Test
+    public void ignoresNonPositiveQuantities() {
+        GELimitTracker tracker = new GELimitTracker();
+        tracker.recordPurchase(0, T0);
+        tracker.recordPurchase(-5, T0);
+
+        assertTrue(tracker.isEmpty(T0));
+    }
+
+    @Test
+    public void writesOnlyEventsStillInTheWindow() throws IOException {
+        GELimitTracker tracker = new GELimitTracker();
+        tracker.recordPurchase(7, T0);
+        tracker.recordPurchase(3, T0 + 2 * HOUR);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        tracker.writeTo(new DataOutputStream(bytes), T0 + 5 * HOUR);
+        GELimitTracker read = GELimitTracker.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(3, read.getItemsBought(T0 + 5 * HOUR));
+        assertFalse(read.isEmpty(T0 + 5 * HOUR));
+        assertEquals(T0 + 2 * HOUR + GELimitTracker.WINDOW_MILLIS, read.getFullResetTime(T0 + 5 * HOUR));
+    }
+}
@@ -0,0 +1,53 @@
+package com.flipto5b.replay;
+
+/**
+ * Virtual clock for replaying a recording faster than real time.
+ *
+ * <p>
+ * Virtual time starts at the recording's first timestamp and advances at
+ * {@code speed} times wall-clock speed. Thread-safe.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+public class ReplayClock {
+
+    public static final double MIN_SPEED = 1.0;
+    public static final double MAX_SPEED = 1000.0;
+
+    private final long virtualStartMillis;
+    private final long wallStartNanos;
+    private final double speed;
+
+    /**
+     * @param virtualStartMillis epoch millis the replay starts at
+     * @param speed              replay speed, 1x to 1000x
+     */
+    public ReplayClock(long virtualStartMillis, double speed) {
+        if (speed < MIN_SPEED || speed > MAX_SPEED) {
+            throw new IllegalArgumentException("Replay speed must be between 1x and 1000x, got " + speed);
+        }
+        this.virtualStartMillis = virtualStartMillis;
+        this.wallStartNanos = System.nanoTime();
+        this.speed = speed;
+    }
+
+    /**
+     * Current virtual time in epoch millis.
+     */
+    public long millis() {
+        long wallElapsedNanos = System.nanoTime() - wallStartNanos;
+        return virtualStartMillis + (long) (wallElapsedNanos / 1_000_000.0 * speed);
+    }
+
+    /**
+     * Wall-clock millis until the given virtual time (negative if it has passed).
+     */
+    public long wallMillisUntil(long virtualMillis) {
+        return (long) ((virtualMillis - millis()) / speed);
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+}
@@ -0,0 +1,181 @@
+package com.flipto5b.replay;
+
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves a {@link MarketRecording} in place of the network.
+ *
+ * <h2>Matching:</h2>
+ * <ul>
+ * <li>A request gets the newest recorded response for the same method and URL
+ * at or before the current {@link ReplayClock} time; before the first
+ * recording of that URL it gets the earliest one</li>
+ * <li>If the exact URL was never recorded (query params differ), the same
+ * method and path is used instead</li>
+ * <li>Auth endpoints get a synthetic token, unrecorded writes get an empty
+ * 200, anything else a 404</li>
+ * </ul>
+ *
+ * <p>
+ * No request ever leaves the process, so the full plugin pipeline can be run
+ * offline and deterministically.
+ *
+ * @author FlipTo5B Team
+ * @version 1.0
+ */
+@Slf4j
+public class ReplayInterceptor implements Interceptor {
+
+    // =========================================================================
+    // CONSTANTS
+    // =========================================================================
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final String REPLAY_TOKEN_BODY = "{\"access_token\":\"replay\",\"is_premium\":true}";
+
+    // =========================================================================
+    // STATE
+    // =========================================================================
+
+    /**
+     * Recorded responses for one request key, in time order.
+     */
+    private static final class Timeline {
+        private final List<MarketRecording.Entry> entries = new ArrayList<>();
+        private long[] times;
+
+        private MarketRecording.Entry at(long virtualMillis) {
+            int lo = 0;
+            int hi = times.length - 1;
+            int found = 0;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (times[mid] <= virtualMillis) {
+                    found = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return entries.get(found);
+        }
+    }
+
+    private final ReplayClock clock;
+    private final Map<String, Timeline> byUrl = new HashMap<>();
+    private final Map<String, Timeline> byPath = new HashMap<>();
+
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong missed = new AtomicLong();
+
+    // =========================================================================
+    // CONSTRUCTOR
+    // =========================================================================
+
+    public ReplayInterceptor(List<MarketRecording.Entry> recording, ReplayClock clock) {
+        this.clock = clock;
+        for (MarketRecording.Entry entry : recording) {
+            HttpUrl url = HttpUrl.parse(entry.getUrl());
+            if (url == null) {
+                continue;
+            }
+            byUrl.computeIfAbsent(urlKey(entry.getMethod(), url), k -> new Timeline()).entries.add(entry);
+            byPath.computeIfAbsent(pathKey(entry.getMethod(), url), k -> new Timeline()).entries.add(entry);
+        }
+        index(byUrl);
+        index(byPath);
+        log.info("Replay loaded {} responses for {} distinct requests", recording.size(), byUrl.size());
+    }
+
+    /**
+     * A client with every request answered from the recording.
+     */
+    public OkHttpClient wrap(OkHttpClient client) {
+        return client.newBuilder().addInterceptor(this).build();
+    }
+
+    private static void index(Map<String, Timeline> timelines) {
+        for (Timeline timeline : timelines.values()) {
+            timeline.times = new long[timeline.entries.size()];
+            for (int i = 0; i < timeline.times.length; i++) {
+                timeline.times[i] = timeline.entries.get(i).getT();
+            }
+        }
+    }
+
+    private static String urlKey(String method, HttpUrl url) {
+        return method + ' ' + url.host() + url.encodedPath() + '?' + url.encodedQuery();
+    }
+
+    private static String pathKey(String method, HttpUrl url) {
+        return method + ' ' + url.host() + url.encodedPath();
+    }
+
+    // =========================================================================
+    // INTERCEPTOR
+    // =========================================================================
+
+    @Override
+    public Response intercept(Chain chain) {
+        Request request = chain.request();
+        HttpUrl url = request.url();
+
+        if (url.encodedPath().contains("/auth/")) {
+            return respond(request, 200, JSON, REPLAY_TOKEN_BODY);
+        }
+
+        Timeline timeline = byUrl.get(urlKey(request.method(), url));
+        if (timeline == null) {
+            timeline = byPath.get(pathKey(request.method(), url));
+        }
+
+        if (timeline == null) {
+            missed.incrementAndGet();
+            if (!"GET".equals(request.method())) {
+                // Writes (transactions, dismissals, sync) succeed without a recording
+                return respond(request, 200, JSON, "{}");
+            }
+            log.debug("No recording for {}", url);
+            return respond(request, 404, JSON, "{\"error\":\"not recorded\"}");
+        }
+
+        served.incrementAndGet();
+        MarketRecording.Entry entry = timeline.at(clock.millis());
+        MediaType contentType = entry.getContentType() != null ? MediaType.parse(entry.getContentType()) : JSON;
+        return respond(request, entry.getCode(), contentType, entry.getBody());
+    }
+
+    private static Response respond(Request request, int code, MediaType contentType, String body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message(code == 200 ? "OK" : "Replay")
+                .body(ResponseBody.create(contentType, body != null ? body : ""))
+                .build();
+    }
+
+    /** Requests answered from the recording */
+    public long getServedCount() {
+        return served.get();
+    }
+
+    /** Requests with no matching recording */
+    public long getMissedCount() {
+        return missed.get();
+    }
+}
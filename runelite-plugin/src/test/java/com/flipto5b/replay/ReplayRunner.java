@@ -0,0 +1,239 @@
+package com.flipto5b.replay;
+
+import com.flipto5b.DumpAlertService;
+import com.flipto5b.DumpEvent;
+import com.flipto5b.FlipSmartApiClient;
+import com.flipto5b.FlipTo5BConfig;
+import com.flipto5b.FlipTo5BPlugin.WikiLatest;
+import com.flipto5b.FlipTo5BPlugin.WikiPrice;
+import com.flipto5b.engine.DumpDetector;
+import com.flipto5b.engine.SignalEngine;
+import com.flipto5b.engine.SignalEngine.SignalConfig;
+import com.google.gson.Gson;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.client.chat.ChatMessageManager;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Headless load test: replays a recorded market through the plugin pipeline.
+ *
+ * <p>
+ * Every virtual minute (the plugin's price refresh interval) it runs the same
+ * stages the live plugin does, against responses served by
+ * {@link ReplayInterceptor}:
+ * <ul>
+ * <li><b>prices:</b> fetch and parse /latest</li>
+ * <li><b>alerts:</b> local dump detection and DumpAlertService filtering</li>
+ * <li><b>scoring:</b> a full SignalEngine scan (/latest + /24h)</li>
+ * <li><b>sync:</b> active flips, flip finder and one transaction write</li>
+ * </ul>
+ * and reports per-stage latency percentiles, throughput and how far the
+ * pipeline fell behind the replay clock.
+ *
+ * <pre>
+ * ./gradlew replay -PreplayArgs="recording.jsonl.gz --speed=100 --no-cache"
+ * </pre>
+ *
+ * <p>
+ * The API client's response cache runs on wall-clock time, so at high speeds
+ * it absorbs most sync calls; {@code --no-cache} clears it every tick to
+ * measure the full request path.
+ */
+public final class ReplayRunner {
+
+    private static final long TICK_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final String WIKI_LATEST_URL = "https://prices.runescape.wiki/api/v1/osrs/latest";
+    private static final String REPLAY_RSN = "replay";
+
+    /**
+     * Latency samples for one stage.
+     */
+    private static final class Stage {
+        private final String name;
+        private final List<Long> nanos = new ArrayList<>();
+
+        private Stage(String name) {
+            this.name = name;
+        }
+
+        private long percentileMicros(List<Long> sorted, double p) {
+            int index = (int) Math.min(sorted.size() - 1, Math.ceil(p * sorted.size()) - 1);
+            return sorted.get(Math.max(0, index)) / 1_000;
+        }
+
+        private String summary() {
+            if (nanos.isEmpty()) {
+                return String.format("%-8s no samples", name);
+            }
+            List<Long> sorted = new ArrayList<>(nanos);
+            Collections.sort(sorted);
+            return String.format("%-8s n=%-6d p50=%8dus p95=%8dus p99=%8dus max=%8dus",
+                    name, sorted.size(), percentileMicros(sorted, 0.50), percentileMicros(sorted, 0.95),
+                    percentileMicros(sorted, 0.99), sorted.get(sorted.size() - 1) / 1_000);
+        }
+    }
+
+    private ReplayRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayRunner <recording.jsonl.gz> [--speed=1..1000] [--ticks=N] [--no-cache]");
+            System.exit(2);
+        }
+
+        Path file = Paths.get(args[0]);
+        double speed = 60;
+        int maxTicks = Integer.MAX_VALUE;
+        boolean noCache = false;
+        for (String arg : Arrays.copyOfRange(args, 1, args.length)) {
+            if (arg.startsWith("--speed=")) {
+                speed = Double.parseDouble(arg.substring("--speed=".length()));
+            } else if (arg.startsWith("--ticks=")) {
+                maxTicks = Integer.parseInt(arg.substring("--ticks=".length()));
+            } else if ("--no-cache".equals(arg)) {
+                noCache = true;
+            } else {
+                throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        List<MarketRecording.Entry> recording = MarketRecording.read(file);
+        if (recording.isEmpty()) {
+            System.err.println("Recording " + file + " is empty");
+            System.exit(1);
+        }
+        long start = recording.get(0).getT();
+        long end = recording.get(recording.size() - 1).getT();
+
+        ReplayClock clock = new ReplayClock(start, speed);
+        ReplayInterceptor replay = new ReplayInterceptor(recording, clock);
+        OkHttpClient httpClient = replay.wrap(new OkHttpClient());
+        Gson gson = new Gson();
+
+        // --- Plugin components with the RuneLite client mocked out ---
+        FlipTo5BConfig config = mock(FlipTo5BConfig.class);
+        when(config.email()).thenReturn("replay@localhost");
+        when(config.password()).thenReturn("replay");
+        when(config.enableDumpAlerts()).thenReturn(true);
+        when(config.dumpAlertLocalDetection()).thenReturn(true);
+        when(config.dumpAlertMaxCount()).thenReturn(10);
+        when(config.dumpAlertCooldownMinutes()).thenReturn(30);
+        when(config.priceAlertType()).thenReturn(FlipTo5BConfig.PriceAlertType.BOTH);
+
+        Client client = mock(Client.class);
+        when(client.getGameState()).thenReturn(GameState.LOGGED_IN);
+
+        AtomicInteger alertsPosted = new AtomicInteger();
+        ChatMessageManager chatMessageManager = mock(ChatMessageManager.class);
+        doAnswer(invocation -> {
+            alertsPosted.incrementAndGet();
+            return null;
+        }).when(chatMessageManager).queue(any());
+
+        FlipSmartApiClient apiClient = new FlipSmartApiClient(config, gson, httpClient);
+        DumpAlertService dumpAlertService = new DumpAlertService(client, config, apiClient, chatMessageManager);
+        DumpDetector dumpDetector = new DumpDetector();
+        SignalEngine signalEngine = new SignalEngine(httpClient, apiClient.getGson(), null);
+        SignalConfig signalConfig = SignalConfig.builder()
+                .timeHorizonMinutes(60)
+                .riskTolerance(SignalConfig.RiskTolerance.MEDIUM)
+                .build();
+
+        Map<String, Stage> stages = new LinkedHashMap<>();
+        for (String name : new String[]{"prices", "alerts", "scoring", "sync", "tick"}) {
+            stages.put(name, new Stage(name));
+        }
+
+        System.out.printf("Replaying %d responses, %d virtual minutes at %.0fx%n",
+                recording.size(), (end - start) / TICK_MILLIS + 1, speed);
+
+        long wallStart = System.nanoTime();
+        long maxLagMillis = 0;
+        int ticks = 0;
+        int signalsScored = 0;
+
+        for (long tick = start; tick <= end && ticks < maxTicks; tick += TICK_MILLIS, ticks++) {
+            long waitMillis = clock.wallMillisUntil(tick);
+            if (waitMillis > 0) {
+                Thread.sleep(waitMillis);
+            } else {
+                maxLagMillis = Math.max(maxLagMillis, -waitMillis);
+            }
+            if (noCache) {
+                apiClient.clearCache();
+            }
+
+            long tickStart = System.nanoTime();
+
+            long t0 = System.nanoTime();
+            Map<Integer, WikiPrice> prices = fetchLatest(httpClient, apiClient.getGson());
+            stages.get("prices").nanos.add(System.nanoTime() - t0);
+
+            t0 = System.nanoTime();
+            List<DumpEvent> dumps = dumpDetector.onSnapshot(prices, clock.millis() / 1000);
+            for (DumpEvent dump : dumps) {
+                dump.setItemName("Item #" + dump.getItemId());
+            }
+            dumpAlertService.publishLocalDumps(dumps);
+            stages.get("alerts").nanos.add(System.nanoTime() - t0);
+
+            t0 = System.nanoTime();
+            signalsScored += signalEngine.scan(signalConfig).size();
+            stages.get("scoring").nanos.add(System.nanoTime() - t0);
+
+            t0 = System.nanoTime();
+            apiClient.getActiveFlipsAsync(REPLAY_RSN).get();
+            apiClient.getFlipRecommendationsAsync(null, "balanced", 10, null).get();
+            apiClient.recordTransactionAsync(4151, "Abyssal whip", "BUY", 1, 1_500_000, REPLAY_RSN).get();
+            stages.get("sync").nanos.add(System.nanoTime() - t0);
+
+            stages.get("tick").nanos.add(System.nanoTime() - tickStart);
+        }
+
+        double wallSeconds = (System.nanoTime() - wallStart) / 1e9;
+        System.out.printf("%d ticks in %.1fs wall (%.1f ticks/s), %d signals, %d dump alerts%n",
+                ticks, wallSeconds, ticks / wallSeconds, signalsScored, alertsPosted.get());
+        System.out.printf("Replay served %d responses, %d unmatched, max lag behind clock %dms%n",
+                replay.getServedCount(), replay.getMissedCount(), maxLagMillis);
+        for (Stage stage : stages.values()) {
+            System.out.println(stage.summary());
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Fetch /latest through the replay and bind it with the plugin's adapters.
+     */
+    private static Map<Integer, WikiPrice> fetchLatest(OkHttpClient httpClient, Gson gson) throws Exception {
+        Request request = new Request.Builder().url(WIKI_LATEST_URL).build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            ResponseBody body = response.body();
+            if (!response.isSuccessful() || body == null) {
+                return Collections.emptyMap();
+            }
+            Map<Integer, WikiPrice> parsed = WikiLatest.parse(gson, body.charStream());
+            return parsed != null ? parsed : Collections.emptyMap();
+        }
+    }
+}